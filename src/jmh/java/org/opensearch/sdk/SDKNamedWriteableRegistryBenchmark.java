@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.search.SearchModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the construction of a {@link SDKNamedWriteableRegistry}, which happens at startup and whenever the environment settings
+ * change, compared to the full {@link SearchModule} scan that every registry construction used to perform.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SDKNamedWriteableRegistryBenchmark {
+
+    /**
+     * The named registry categories of the extension: all core entries, or only the query builders.
+     */
+    @Param({ "all", "query" })
+    public String categories;
+
+    private ExtensionsRunner runner;
+
+    @Setup
+    public void setUp() throws IOException {
+        ExtensionSettings extensionSettings = new ExtensionSettings("benchmark", "127.0.0.1", "4532", "127.0.0.1", "9200");
+        if ("query".equals(categories)) {
+            extensionSettings.setNamedRegistryCategories(Set.of(QueryBuilder.class.getName()));
+        }
+        runner = new ExtensionsRunner(new BaseExtension(extensionSettings) {
+        }) {
+            @Override
+            public Settings getEnvironmentSettings() {
+                return Settings.EMPTY;
+            }
+        };
+    }
+
+    @Benchmark
+    public NamedWriteableRegistry createRegistry() {
+        return new SDKNamedWriteableRegistry(runner).getRegistry();
+    }
+
+    @Benchmark
+    public NamedWriteableRegistry updateRegistry() {
+        SDKNamedWriteableRegistry registry = runner.getNamedWriteableRegistry();
+        registry.updateNamedWriteableRegistry(runner);
+        return registry.getRegistry();
+    }
+
+    @Benchmark
+    public List<NamedWriteableRegistry.Entry> scanSearchModule() {
+        return new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedWriteables();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.action;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.sdk.SDKBigArrays;
+import org.opensearch.sdk.sample.helloworld.HelloWorldExtension;
+import org.opensearch.sdk.sample.helloworld.transport.SampleAction;
+import org.opensearch.sdk.sample.helloworld.transport.SampleRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the instantiation of an action request from its serialized bytes with the readers cached by
+ * {@link ActionRequestReaderRegistry}, compared to resolving the request class and its constructor by reflection on every request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActionRequestReaderRegistryBenchmark {
+
+    private static final String REQUEST_CLASS = SampleRequest.class.getName();
+    private static final String ACTION_CLASS = SampleAction.class.getName();
+
+    private ActionRequestReaderRegistry registry;
+    private byte[] requestBytes;
+    private int requestId;
+
+    @Setup
+    public void setUp() throws IOException {
+        registry = new ActionRequestReaderRegistry(new SDKActionModule(new HelloWorldExtension()).getActions());
+        requestBytes = SDKBigArrays.NON_RECYCLING.toBytes(new SampleRequest("world"));
+        requestId = registry.getRequestId(ACTION_CLASS);
+    }
+
+    @Benchmark
+    public ActionRequest readByClassName() throws Exception {
+        try (StreamInput in = StreamInput.wrap(requestBytes)) {
+            return registry.getReader(REQUEST_CLASS).read(in);
+        }
+    }
+
+    @Benchmark
+    public ActionRequest readByRequestId() throws Exception {
+        try (StreamInput in = StreamInput.wrap(requestBytes)) {
+            return registry.getReader(ACTION_CLASS, requestId).read(in);
+        }
+    }
+
+    @Benchmark
+    public ActionRequest readByReflection() throws Exception {
+        try (StreamInput in = StreamInput.wrap(requestBytes)) {
+            return Class.forName(REQUEST_CLASS).asSubclass(ActionRequest.class).getConstructor(StreamInput.class).newInstance(in);
+        }
+    }
+}
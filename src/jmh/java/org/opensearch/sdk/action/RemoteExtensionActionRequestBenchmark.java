@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.action;
+
+import com.google.protobuf.ByteString;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.sdk.SDKBigArrays;
+import org.opensearch.sdk.sample.helloworld.transport.SampleAction;
+import org.opensearch.sdk.sample.helloworld.transport.SampleRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization of a {@link RemoteExtensionActionRequest} with unpooled and pooled buffers, its deserialization, and the
+ * encoding and decoding of its {@link RemoteExtensionActionFrame}. Run with the GC profiler to compare the allocation rate of the
+ * pooled and unpooled buffers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RemoteExtensionActionRequestBenchmark {
+
+    // Any id negotiated with the receiver, the frame size does not depend on its value
+    private static final int REQUEST_ID = 0;
+
+    @Param({ "64", "16384", "1048576" })
+    public int payloadSize;
+
+    private SDKBigArrays sdkBigArrays;
+    private RemoteExtensionActionRequest request;
+    private byte[] serializedRequest;
+    private ByteString frame;
+
+    @Setup
+    public void setUp() throws IOException {
+        sdkBigArrays = new SDKBigArrays(new PageCacheRecycler(Settings.EMPTY));
+        byte[] payload = new byte[payloadSize];
+        new Random(0).nextBytes(payload);
+        request = new RemoteExtensionActionRequest(SampleAction.class.getName(), SampleRequest.class.getName(), payload);
+        serializedRequest = sdkBigArrays.toBytes(request);
+        frame = RemoteExtensionActionFrame.encode(request, REQUEST_ID);
+    }
+
+    @Benchmark
+    public byte[] serializeUnpooled() throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            request.writeTo(out);
+            return BytesReference.toBytes(out.bytes());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializePooled() throws IOException {
+        return sdkBigArrays.toBytes(request);
+    }
+
+    @Benchmark
+    public RemoteExtensionActionRequest deserialize() throws IOException {
+        try (StreamInput in = StreamInput.wrap(serializedRequest)) {
+            return new RemoteExtensionActionRequest(in);
+        }
+    }
+
+    @Benchmark
+    public ByteString encodeFrame() {
+        return RemoteExtensionActionFrame.encode(request, REQUEST_ID);
+    }
+
+    @Benchmark
+    public RemoteExtensionActionFrame decodeFrame() throws IOException {
+        return RemoteExtensionActionFrame.decode(frame);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.handlers;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.protobuf.ByteString;
+import org.opensearch.action.ActionType;
+import org.opensearch.action.support.TransportAction;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.extensions.action.ExtensionActionRequest;
+import org.opensearch.sdk.ExtensionSettings;
+import org.opensearch.sdk.ExtensionsRunner;
+import org.opensearch.sdk.SDKClient;
+import org.opensearch.sdk.action.ActionRequestReaderRegistry;
+import org.opensearch.sdk.action.RemoteExtensionActionFrame;
+import org.opensearch.sdk.action.RemoteExtensionActionRequest;
+import org.opensearch.sdk.action.SDKActionModule;
+import org.opensearch.sdk.sample.helloworld.HelloWorldExtension;
+import org.opensearch.sdk.sample.helloworld.transport.SampleAction;
+import org.opensearch.sdk.sample.helloworld.transport.SampleRequest;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.ThreadPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the handling of a transport action request from OpenSearch by {@link ExtensionActionRequestHandler}, from the raw frame to
+ * the serialized response, for each supported frame format. The sample action completes synchronously, so the results are dominated
+ * by the SDK's deserialization, dispatch and serialization costs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExtensionActionRequestHandlerBenchmark {
+
+    private ThreadPool threadPool;
+    private ExtensionActionRequestHandler handler;
+    private ExtensionActionRequest legacyRequest;
+    private ExtensionActionRequest framedRequest;
+    private ExtensionActionRequest framedRequestWithClassName;
+
+    @Setup
+    public void setUp() throws Exception {
+        Settings settings = Settings.builder().put(ExtensionsRunner.NODE_NAME_SETTING, "benchmark").build();
+        threadPool = new ThreadPool(settings);
+        TaskManager taskManager = new TaskManager(settings, threadPool, Collections.emptySet());
+        SDKClient sdkClient = new SDKClient(new ExtensionSettings("", "", "", "localhost", "9200"));
+        SDKActionModule sdkActionModule = new SDKActionModule(new HelloWorldExtension());
+        Injector injector = Guice.createInjector(sdkActionModule, b -> {
+            b.bind(ThreadPool.class).toInstance(threadPool);
+            b.bind(TaskManager.class).toInstance(taskManager);
+            b.bind(SDKClient.class).toInstance(sdkClient);
+        });
+        initializeSdkClient(sdkClient, injector);
+        ActionRequestReaderRegistry registry = new ActionRequestReaderRegistry(sdkActionModule.getActions());
+        handler = new ExtensionActionRequestHandler(sdkClient, registry);
+
+        RemoteExtensionActionRequest request = new RemoteExtensionActionRequest(SampleAction.INSTANCE, new SampleRequest("world"));
+        String action = SampleAction.class.getName();
+        legacyRequest = new ExtensionActionRequest(action, legacyFrame(request));
+        framedRequest = new ExtensionActionRequest(action, RemoteExtensionActionFrame.encode(request, registry.getRequestId(action)));
+        framedRequestWithClassName = new ExtensionActionRequest(
+            action,
+            RemoteExtensionActionFrame.encode(request, RemoteExtensionActionFrame.NO_REQUEST_ID)
+        );
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static void initializeSdkClient(SDKClient sdkClient, Injector injector) {
+        sdkClient.initialize(injector.getInstance(new Key<Map<ActionType, TransportAction>>() {
+        }));
+    }
+
+    private static ByteString legacyFrame(RemoteExtensionActionRequest request) {
+        byte[] requestClassBytes = request.getRequestClass().getBytes(StandardCharsets.UTF_8);
+        byte[] requestBytes = request.getRequestBytes();
+        byte[] proxyRequestBytes = new byte[requestClassBytes.length + 1 + requestBytes.length];
+        System.arraycopy(requestClassBytes, 0, proxyRequestBytes, 0, requestClassBytes.length);
+        proxyRequestBytes[requestClassBytes.length] = RemoteExtensionActionRequest.UNIT_SEPARATOR;
+        System.arraycopy(requestBytes, 0, proxyRequestBytes, requestClassBytes.length + 1, requestBytes.length);
+        return ByteString.copyFrom(proxyRequestBytes);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void handleLegacyFrame(Blackhole blackhole) {
+        handler.handleRemoteExtensionActionRequest(legacyRequest, ActionListener.wrap(blackhole::consume, blackhole::consume));
+    }
+
+    @Benchmark
+    public void handleFrame(Blackhole blackhole) {
+        handler.handleRemoteExtensionActionRequest(framedRequest, ActionListener.wrap(blackhole::consume, blackhole::consume));
+    }
+
+    @Benchmark
+    public void handleFrameWithClassName(Blackhole blackhole) {
+        handler.handleRemoteExtensionActionRequest(framedRequestWithClassName, ActionListener.wrap(blackhole::consume, blackhole::consume));
+    }
+}
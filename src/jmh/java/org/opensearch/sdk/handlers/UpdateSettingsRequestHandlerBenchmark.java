@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.handlers;
+
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.WriteableSetting;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.extensions.AcknowledgedResponse;
+import org.opensearch.extensions.UpdateSettingsRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Measures the dispatch of a settings update from OpenSearch to the consumer registered by the extension in
+ * {@link UpdateSettingsRequestHandler}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UpdateSettingsRequestHandlerBenchmark {
+
+    private UpdateSettingsRequestHandler handler;
+    private UpdateSettingsRequest integerRequest;
+    private UpdateSettingsRequest timeValueRequest;
+    private volatile Object lastValue;
+
+    @Setup
+    public void setUp() {
+        Setting<Integer> integerSetting = Setting.intSetting("benchmark.integer", 0, Property.Dynamic);
+        Setting<TimeValue> timeValueSetting = Setting.timeSetting("benchmark.time", TimeValue.ZERO, Property.Dynamic);
+        Consumer<Integer> integerConsumer = v -> lastValue = v;
+        Consumer<TimeValue> timeValueConsumer = v -> lastValue = v;
+        handler = new UpdateSettingsRequestHandler();
+        handler.registerSettingUpdateConsumer(Map.of(integerSetting, integerConsumer, timeValueSetting, timeValueConsumer));
+        integerRequest = new UpdateSettingsRequest(WriteableSetting.SettingType.Integer, integerSetting, 42);
+        timeValueRequest = new UpdateSettingsRequest(
+            WriteableSetting.SettingType.TimeValue,
+            timeValueSetting,
+            TimeValue.timeValueSeconds(5)
+        );
+    }
+
+    @Benchmark
+    public AcknowledgedResponse dispatchInteger(Blackhole blackhole) {
+        AcknowledgedResponse response = handler.handleUpdateSettingsRequest(integerRequest);
+        blackhole.consume(lastValue);
+        return response;
+    }
+
+    @Benchmark
+    public AcknowledgedResponse dispatchTimeValue(Blackhole blackhole) {
+        AcknowledgedResponse response = handler.handleUpdateSettingsRequest(timeValueRequest);
+        blackhole.consume(lastValue);
+        return response;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import org.opensearch.extensions.rest.ExtensionRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestRequest.Method;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the dispatch of a request to the route handler of a {@link BaseExtensionRestHandler}. The matched routes are the last ones
+ * registered, so the benchmark shows how dispatch scales with the number of routes of a handler.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BaseExtensionRestHandlerBenchmark {
+
+    @Param({ "1", "10", "100" })
+    public int routeCount;
+
+    private BaseExtensionRestHandler handler;
+    private RestRequest staticRequest;
+    private RestRequest paramRequest;
+    private RestRequest unhandledRequest;
+
+    @Setup
+    public void setUp() {
+        handler = RestBenchmarkSupport.handlerWithRoutes(routeCount);
+        staticRequest = RestBenchmarkSupport.restRequest(Method.GET, RestBenchmarkSupport.staticPath(routeCount - 1));
+        paramRequest = RestBenchmarkSupport.restRequest(Method.PUT, RestBenchmarkSupport.staticPath(routeCount - 1) + "/42");
+        unhandledRequest = RestBenchmarkSupport.restRequest(Method.DELETE, RestBenchmarkSupport.staticPath(routeCount - 1));
+    }
+
+    @Benchmark
+    public ExtensionRestResponse handleStaticRoute() {
+        return handler.handleRequest(staticRequest);
+    }
+
+    @Benchmark
+    public ExtensionRestResponse handleParamRoute() {
+        return handler.handleRequest(paramRequest);
+    }
+
+    @Benchmark
+    public ExtensionRestResponse handleUnhandledRoute() {
+        return handler.handleRequest(unhandledRequest);
+    }
+}
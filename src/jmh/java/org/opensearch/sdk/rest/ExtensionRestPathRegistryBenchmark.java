@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import org.opensearch.rest.RestRequest.Method;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookup of the handler of a request in the {@link ExtensionRestPathRegistry}, which happens on every REST request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExtensionRestPathRegistryBenchmark {
+
+    @Param({ "10", "100" })
+    public int routeCount;
+
+    private ExtensionRestPathRegistry registry;
+    private String staticPath;
+    private String paramPath;
+
+    @Setup
+    public void setUp() {
+        registry = new ExtensionRestPathRegistry();
+        registry.registerHandler(RestBenchmarkSupport.handlerWithRoutes(routeCount));
+        staticPath = RestBenchmarkSupport.staticPath(routeCount - 1);
+        paramPath = RestBenchmarkSupport.staticPath(routeCount - 1) + "/42";
+    }
+
+    @Benchmark
+    public ExtensionRestHandler getHandlerStaticPath() {
+        return registry.getHandler(Method.GET, staticPath);
+    }
+
+    @Benchmark
+    public ExtensionRestHandler getHandlerParamPath() {
+        return registry.getHandler(Method.PUT, paramPath);
+    }
+
+    @Benchmark
+    public ExtensionRestHandler getHandlerMissingPath() {
+        return registry.getHandler(Method.GET, "/_bench/missing");
+    }
+
+    @Benchmark
+    public String getRouteName() {
+        return registry.getRouteName(Method.PUT, paramPath);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.extensions.rest.ExtensionRestRequest;
+import org.opensearch.extensions.rest.ExtensionRestResponse;
+import org.opensearch.rest.NamedRoute;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestRequest.Method;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.core.rest.RestStatus.OK;
+
+/**
+ * Builds the handlers and requests shared by the REST benchmarks.
+ */
+final class RestBenchmarkSupport {
+
+    private RestBenchmarkSupport() {}
+
+    /**
+     * Creates a handler with the given number of routes. Each route {@code i} is registered twice: as {@code GET /_bench/route_i} and as
+     * {@code PUT /_bench/route_i/{id}}. Like most extension handlers, the routes are rebuilt on every call to
+     * {@link BaseExtensionRestHandler#routes()}.
+     *
+     * @param routeCount The number of routes of each kind
+     * @return the handler
+     */
+    static BaseExtensionRestHandler handlerWithRoutes(int routeCount) {
+        return new BaseExtensionRestHandler() {
+            @Override
+            public List<NamedRoute> routes() {
+                List<NamedRoute> routes = new ArrayList<>(2 * routeCount);
+                for (int i = 0; i < routeCount; i++) {
+                    routes.add(
+                        new NamedRoute.Builder().method(Method.GET)
+                            .path(staticPath(i))
+                            .handler(request -> new ExtensionRestResponse(request, OK, "ok"))
+                            .uniqueName("bench:static_" + i)
+                            .legacyActionNames(Collections.emptySet())
+                            .build()
+                    );
+                    routes.add(
+                        new NamedRoute.Builder().method(Method.PUT)
+                            .path(staticPath(i) + "/{id}")
+                            .handler(request -> new ExtensionRestResponse(request, OK, "ok"))
+                            .uniqueName("bench:param_" + i)
+                            .legacyActionNames(Collections.emptySet())
+                            .build()
+                    );
+                }
+                return routes;
+            }
+        };
+    }
+
+    /**
+     * Gets the path of a route without path parameters.
+     *
+     * @param i The index of the route
+     * @return the path
+     */
+    static String staticPath(int i) {
+        return "/_bench/route_" + i;
+    }
+
+    /**
+     * Creates a request as it is received from OpenSearch, with an empty body.
+     *
+     * @param method The request method
+     * @param path The request path
+     * @return the request
+     */
+    static RestRequest restRequest(Method method, String path) {
+        ExtensionRestRequest request = new ExtensionRestRequest(
+            method,
+            path,
+            path,
+            new HashMap<>(),
+            Map.of(),
+            null,
+            BytesArray.EMPTY,
+            "",
+            null
+        );
+        return new SDKRestRequest(null, request.params(), request.path(), request.headers(), new SDKHttpRequest(request), null);
+    }
+}
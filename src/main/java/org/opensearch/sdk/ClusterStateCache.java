@@ -0,0 +1,243 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.extensions.ExtensionsManager;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the most recent cluster state received from OpenSearch.
+ * <p>
+ * A cached state is returned without contacting OpenSearch if it was fetched within the maximum staleness. Once a cached state is
+ * older than half the maximum staleness, it is refreshed in the background, so that steady readers do not wait on the network.
+ * Callers only wait for a fetch if no state is cached or the cached state has exceeded the maximum staleness. Concurrent fetches are
+ * coalesced into a single request. A fetch which does not complete within the fetch timeout fails, so that later callers start a new
+ * fetch rather than joining one which will never complete. A fetched state only replaces the cached state if its version is not older.
+ * Each replacement of the cached state is passed to the update listener, in the order the states were cached.
+ * <p>
+ * With a maximum staleness of zero, which is the default of {@link ExtensionSettings#getClusterStateMaxStaleness()}, nothing is served
+ * from the cache: every call to {@link #get()} waits for a request to OpenSearch, as it did before this cache existed.
+ */
+public class ClusterStateCache {
+    private static final Logger logger = LogManager.getLogger(ClusterStateCache.class);
+
+    /**
+     * A cluster state and the time its fetch started.
+     */
+    private static class CachedState {
+        private final ClusterState state;
+        private final long fetchStartNanos;
+
+        private CachedState(ClusterState state, long fetchStartNanos) {
+            this.state = state;
+            this.fetchStartNanos = fetchStartNanos;
+        }
+    }
+
+    private final Consumer<ActionListener<ClusterState>> fetcher;
+    private final LongSupplier nanoTime;
+    private final TimeValue fetchTimeout;
+    private final AtomicReference<CompletableFuture<ClusterState>> inFlight = new AtomicReference<>();
+    private volatile CachedState cached;
+    private volatile long maxStalenessNanos;
+    private volatile BiConsumer<ClusterState, ClusterState> updateListener = (previousState, state) -> {};
+
+    /**
+     * Instantiate a cache using the system clock.
+     *
+     * @param fetcher A consumer which requests the cluster state from OpenSearch and completes the listener
+     * @param maxStaleness The maximum age of a cached state. A zero value disables caching, but concurrent fetches are still coalesced.
+     */
+    public ClusterStateCache(Consumer<ActionListener<ClusterState>> fetcher, TimeValue maxStaleness) {
+        this(fetcher, maxStaleness, System::nanoTime, TimeValue.timeValueSeconds(ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT));
+    }
+
+    /**
+     * Instantiate a cache using the specified clock.
+     *
+     * @param fetcher A consumer which requests the cluster state from OpenSearch and completes the listener
+     * @param maxStaleness The maximum age of a cached state
+     * @param nanoTime A supplier of the current time in nanoseconds
+     * @param fetchTimeout The time after which a fetch which has not completed fails
+     */
+    ClusterStateCache(
+        Consumer<ActionListener<ClusterState>> fetcher,
+        TimeValue maxStaleness,
+        LongSupplier nanoTime,
+        TimeValue fetchTimeout
+    ) {
+        this.fetcher = fetcher;
+        this.nanoTime = nanoTime;
+        this.fetchTimeout = fetchTimeout;
+        setMaxStaleness(maxStaleness);
+    }
+
+    /**
+     * Sets the maximum age of a cached state.
+     *
+     * @param maxStaleness The maximum age of a cached state. A zero value disables caching, so every read waits for OpenSearch.
+     */
+    public void setMaxStaleness(TimeValue maxStaleness) {
+        this.maxStalenessNanos = Objects.requireNonNull(maxStaleness).nanos();
+    }
+
+    /**
+     * Sets the listener called whenever a newer cluster state replaces the cached state. The listener is called while the cache is
+     * locked, so it must not block.
+     *
+     * @param updateListener A consumer of the previously cached state, or null if none was cached, and the newly cached state
+     */
+    public void setUpdateListener(BiConsumer<ClusterState, ClusterState> updateListener) {
+        this.updateListener = Objects.requireNonNull(updateListener);
+    }
+
+    /**
+     * Gets the maximum age of a cached state.
+     *
+     * @return The maximum age of a cached state
+     */
+    public TimeValue getMaxStaleness() {
+        return TimeValue.timeValueNanos(maxStalenessNanos);
+    }
+
+    /**
+     * Gets the cluster state, fetching it from OpenSearch only if the cached state is missing or too stale.
+     *
+     * @return The cluster state. If a fetch fails, the last cached state, or an empty state if none is cached.
+     */
+    public ClusterState get() {
+        CachedState current = this.cached;
+        long maxStaleness = this.maxStalenessNanos;
+        if (current != null && maxStaleness > 0) {
+            long age = nanoTime.getAsLong() - current.fetchStartNanos;
+            if (age <= maxStaleness) {
+                if (age >= maxStaleness / 2) {
+                    refresh();
+                }
+                return current.state;
+            }
+        }
+        try {
+            // The fetch itself fails after the fetch timeout
+            return refresh().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("Failed to receive Cluster State response from OpenSearch", e);
+        }
+        current = this.cached;
+        return current == null ? ClusterState.EMPTY_STATE : current.state;
+    }
+
+    /**
+     * Fetches the cluster state from OpenSearch, joining a fetch already in progress if there is one.
+     *
+     * @return A future completed with the newest known cluster state once the fetch completes, or failed if the fetch fails or does not
+     *     complete within the fetch timeout
+     */
+    public CompletableFuture<ClusterState> refresh() {
+        while (true) {
+            CompletableFuture<ClusterState> future = inFlight.get();
+            if (future != null) {
+                return future;
+            }
+            CompletableFuture<ClusterState> newFuture = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, newFuture)) {
+                // A fetch which never responds must not be joined forever. A late response still updates the cached state.
+                newFuture.orTimeout(fetchTimeout.millis(), TimeUnit.MILLISECONDS)
+                    .whenComplete((state, e) -> inFlight.compareAndSet(newFuture, null));
+                long fetchStartNanos = nanoTime.getAsLong();
+                fetcher.accept(ActionListener.wrap(state -> {
+                    ClusterState newest = update(state, fetchStartNanos);
+                    // Clear before completing so later callers start a new fetch rather than joining this one
+                    inFlight.compareAndSet(newFuture, null);
+                    newFuture.complete(newest);
+                }, e -> {
+                    inFlight.compareAndSet(newFuture, null);
+                    newFuture.completeExceptionally(e);
+                }));
+                return newFuture;
+            }
+        }
+    }
+
+    /**
+     * Caches a cluster state received without a fetch, such as a published state.
+     *
+     * @param state The cluster state
+     * @return The newest known cluster state
+     */
+    public ClusterState put(ClusterState state) {
+        return update(state, nanoTime.getAsLong());
+    }
+
+    private synchronized ClusterState update(ClusterState state, long fetchStartNanos) {
+        CachedState current = this.cached;
+        if (current == null || isNewer(state, current.state)) {
+            this.cached = new CachedState(state, fetchStartNanos);
+            updateListener.accept(current == null ? null : current.state, state);
+            return state;
+        }
+        if (state.version() == current.state.version()) {
+            // Same state, extend its freshness
+            this.cached = new CachedState(current.state, Math.max(current.fetchStartNanos, fetchStartNanos));
+        }
+        return current.state;
+    }
+
+    private static boolean isNewer(ClusterState state, ClusterState current) {
+        // A new cluster restarts version numbering
+        if (!state.metadata().clusterUUID().equals(current.metadata().clusterUUID())) {
+            return true;
+        }
+        return state.version() > current.version();
+    }
+
+    /**
+     * Gets the cached cluster state without contacting OpenSearch.
+     *
+     * @return The cached cluster state, or null if none is cached
+     */
+    @Nullable
+    public ClusterState getCached() {
+        CachedState current = this.cached;
+        return current == null ? null : current.state;
+    }
+
+    /**
+     * Gets the version of the cached cluster state.
+     *
+     * @return The version of the cached cluster state, or -1 if none is cached
+     */
+    public long getCachedVersion() {
+        CachedState current = this.cached;
+        return current == null ? -1 : current.state.version();
+    }
+
+    /**
+     * Discards the cached cluster state, so that the next call to {@link #get()} fetches it from OpenSearch.
+     */
+    public void invalidate() {
+        this.cached = null;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import org.opensearch.cluster.ClusterModule;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.network.NetworkModule;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.indices.IndicesModule;
+import org.opensearch.search.SearchModule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The core OpenSearch NamedXContent and NamedWriteable entries shared by {@link SDKNamedXContentRegistry} and
+ * {@link SDKNamedWriteableRegistry}.
+ * <p>
+ * Entries from the network, indices, and cluster modules do not depend on settings and are collected once. Entries from the
+ * {@link SearchModule} are collected from a single module scan which is reused until the search settings change.
+ */
+final class CoreNamedRegistryEntries {
+
+    private static final Object MUTEX = new Object();
+    private static volatile CoreNamedRegistryEntries cached;
+
+    private final Settings searchSettings;
+    private final List<NamedXContentRegistry.Entry> namedXContents;
+    private final List<NamedWriteableRegistry.Entry> namedWriteables;
+
+    /**
+     * Holds the entries which do not depend on settings, initialized on first use.
+     */
+    private static class StaticEntries {
+        private static final List<NamedXContentRegistry.Entry> NAMED_X_CONTENTS;
+        private static final List<NamedWriteableRegistry.Entry> NAMED_WRITEABLES;
+
+        static {
+            List<NamedXContentRegistry.Entry> namedXContents = new ArrayList<>();
+            namedXContents.addAll(NetworkModule.getNamedXContents());
+            namedXContents.addAll(IndicesModule.getNamedXContents());
+            namedXContents.addAll(ClusterModule.getNamedXWriteables());
+            NAMED_X_CONTENTS = Collections.unmodifiableList(namedXContents);
+
+            List<NamedWriteableRegistry.Entry> namedWriteables = new ArrayList<>();
+            namedWriteables.addAll(NetworkModule.getNamedWriteables());
+            namedWriteables.addAll(new IndicesModule(Collections.emptyList()).getNamedWriteables());
+            namedWriteables.addAll(ClusterModule.getNamedWriteables());
+            NAMED_WRITEABLES = Collections.unmodifiableList(namedWriteables);
+        }
+    }
+
+    private CoreNamedRegistryEntries(Settings searchSettings) {
+        this.searchSettings = searchSettings;
+        SearchModule searchModule = new SearchModule(searchSettings, Collections.emptyList());
+
+        List<NamedXContentRegistry.Entry> xContents = new ArrayList<>(StaticEntries.NAMED_X_CONTENTS);
+        xContents.addAll(searchModule.getNamedXContents());
+        this.namedXContents = Collections.unmodifiableList(xContents);
+
+        List<NamedWriteableRegistry.Entry> writeables = new ArrayList<>(StaticEntries.NAMED_WRITEABLES);
+        writeables.addAll(searchModule.getNamedWriteables());
+        this.namedWriteables = Collections.unmodifiableList(writeables);
+    }
+
+    /**
+     * Gets the core entries for the specified settings, scanning the {@link SearchModule} only if the search settings have changed since
+     * the last scan.
+     *
+     * @param settings The environment settings, or null if they have not been received
+     * @return The core entries
+     */
+    static CoreNamedRegistryEntries forSettings(@Nullable Settings settings) {
+        Settings searchSettings = settings == null ? Settings.EMPTY : searchSettings(settings);
+        CoreNamedRegistryEntries entries = cached;
+        if (entries == null || !entries.searchSettings.equals(searchSettings)) {
+            synchronized (MUTEX) {
+                entries = cached;
+                if (entries == null || !entries.searchSettings.equals(searchSettings)) {
+                    entries = new CoreNamedRegistryEntries(searchSettings);
+                    cached = entries;
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Gets the settings read by the {@link SearchModule}.
+     */
+    private static Settings searchSettings(Settings settings) {
+        return settings.filter(key -> key.startsWith("search.") || key.startsWith("indices.query."));
+    }
+
+    /**
+     * Gets the categories of core entries the extension has limited its registries to.
+     *
+     * @param runner The ExtensionsRunner instance
+     * @return The fully qualified class names of the categories to include, or an empty set to include all entries
+     */
+    static Set<String> categories(ExtensionsRunner runner) {
+        Extension extension = runner.getExtension();
+        if (extension == null || extension.getExtensionSettings() == null) {
+            return Collections.emptySet();
+        }
+        Set<String> categories = extension.getExtensionSettings().getNamedRegistryCategories();
+        return categories == null ? Collections.emptySet() : categories;
+    }
+
+    /**
+     * Filters entries to those in the specified categories.
+     *
+     * @param entries The entries to filter
+     * @param categoryClass A function returning the category class of an entry
+     * @param categories The fully qualified class names of the categories to include, or an empty set to include all entries
+     * @param <E> The entry type
+     * @return The entries in the specified categories
+     */
+    static <E> List<E> filter(List<E> entries, Function<E, Class<?>> categoryClass, Set<String> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return entries;
+        }
+        return entries.stream().filter(e -> categories.contains(categoryClass.apply(e).getName())).collect(Collectors.toList());
+    }
+
+    List<NamedXContentRegistry.Entry> getNamedXContents() {
+        return namedXContents;
+    }
+
+    List<NamedWriteableRegistry.Entry> getNamedWriteables() {
+        return namedWriteables;
+    }
+}
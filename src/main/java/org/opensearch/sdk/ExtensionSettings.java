@@ -15,10 +15,15 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.opensearch.client.RestClientBuilder;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.yaml.snakeyaml.Yaml;
 
 import static org.opensearch.sdk.ssl.SSLConfigConstants.SSL_TRANSPORT_CLIENT_PEMCERT_FILEPATH;
@@ -55,6 +60,23 @@ public class ExtensionSettings {
     private String opensearchPort;
     private String routeNamePrefix;
     private Map<String, String> securitySettings;
+    private boolean virtualThreadsEnabled;
+    private Set<String> namedRegistryCategories = Set.of();
+    private TimeValue clusterStateMaxStaleness = TimeValue.ZERO;
+    private TimeValue clusterStateRefreshInterval = TimeValue.timeValueSeconds(30);
+    private ByteSizeValue requestBodySpillThreshold = new ByteSizeValue(-1);
+    private String transportCompress;
+    private ByteSizeValue remoteActionCompressionThreshold = new ByteSizeValue(-1);
+    private Map<String, Boolean> remoteActionCompression = Map.of();
+    private int clientMaxConnectionsPerRoute = RestClientBuilder.DEFAULT_MAX_CONN_PER_ROUTE;
+    private int clientMaxConnectionsTotal = RestClientBuilder.DEFAULT_MAX_CONN_TOTAL;
+    private TimeValue clientKeepAlive = TimeValue.MINUS_ONE;
+    private TimeValue clientIdleConnectionTimeout = TimeValue.MINUS_ONE;
+    private int clientIoThreads;
+    private int clientPrewarmConnections;
+    private TimeValue clientNodeDiscoveryInterval = TimeValue.MINUS_ONE;
+    private double clientHedgingPercentile = -1;
+    private TimeValue clientHedgingMinDelay = TimeValue.timeValueMillis(10);
 
     /**
      * A set of keys for security settings related to SSL transport, keystore and truststore files, and hostname verification.
@@ -211,6 +233,309 @@ public class ExtensionSettings {
         return securitySettings;
     }
 
+    /**
+     * Sets whether inbound transport requests are handled on virtual threads rather than the generic thread pool.
+     * @param virtualThreadsEnabled true to run transport handlers on a virtual-thread-per-task executor.
+     */
+    public void setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+    }
+
+    /**
+     * Returns whether inbound transport requests are handled on virtual threads.
+     * @return true if transport handlers run on a virtual-thread-per-task executor, false if they run on the generic thread pool.
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    /**
+     * Sets the categories of core OpenSearch NamedXContent and NamedWriteable entries to include in the SDK registries.
+     * Entries defined by the extension are always included.
+     * @param namedRegistryCategories The fully qualified class names of the categories to include, or an empty set to include all entries.
+     */
+    public void setNamedRegistryCategories(Set<String> namedRegistryCategories) {
+        this.namedRegistryCategories = namedRegistryCategories == null ? Set.of() : Set.copyOf(namedRegistryCategories);
+    }
+
+    /**
+     * Returns the categories of core OpenSearch NamedXContent and NamedWriteable entries to include in the SDK registries.
+     * @return The fully qualified class names of the categories to include, or an empty set if all core entries are included.
+     */
+    public Set<String> getNamedRegistryCategories() {
+        return namedRegistryCategories;
+    }
+
+    /**
+     * Sets the maximum age of the cluster state cached by {@link SDKClusterService#state()}.
+     * <p>
+     * The default of zero keeps the behavior of earlier releases: every call waits for a round trip to OpenSearch. Set a positive value,
+     * such as {@code 1s}, to serve reads from the cache and refresh it in the background.
+     * @param clusterStateMaxStaleness The maximum age of a cached cluster state. A zero value fetches the cluster state on every call.
+     */
+    public void setClusterStateMaxStaleness(TimeValue clusterStateMaxStaleness) {
+        this.clusterStateMaxStaleness = clusterStateMaxStaleness == null ? TimeValue.ZERO : clusterStateMaxStaleness;
+    }
+
+    /**
+     * Returns the maximum age of the cluster state cached by {@link SDKClusterService#state()}.
+     * @return The maximum age of a cached cluster state, zero if the cluster state is fetched on every call.
+     */
+    public TimeValue getClusterStateMaxStaleness() {
+        return clusterStateMaxStaleness;
+    }
+
+    /**
+     * Sets how often the cluster state is fetched from OpenSearch while {@link SDKClusterService} has listeners, so that they are
+     * notified of changes even if OpenSearch does not publish cluster states to the extension.
+     * @param clusterStateRefreshInterval The refresh interval, which must not be zero. A negative value only notifies listeners of
+     *     published states and of states fetched by {@link SDKClusterService#state()}.
+     */
+    public void setClusterStateRefreshInterval(TimeValue clusterStateRefreshInterval) {
+        if (clusterStateRefreshInterval != null && clusterStateRefreshInterval.nanos() == 0) {
+            throw new IllegalArgumentException("clusterStateRefreshInterval must be positive, or negative to disable refreshes");
+        }
+        this.clusterStateRefreshInterval = clusterStateRefreshInterval == null
+            ? TimeValue.timeValueSeconds(30)
+            : clusterStateRefreshInterval;
+    }
+
+    /**
+     * Returns how often the cluster state is fetched from OpenSearch while {@link SDKClusterService} has listeners.
+     * @return The refresh interval, negative if the cluster state is not refreshed for listeners.
+     */
+    public TimeValue getClusterStateRefreshInterval() {
+        return clusterStateRefreshInterval;
+    }
+
+    /**
+     * Sets the size above which the body of a REST request is written to a temporary file while it is handled. The body in memory is
+     * freed once the handler returns its future, which reduces the memory held by requests whose responses are pending.
+     * <p>
+     * This does not bound peak memory: the whole body is received from OpenSearch in a single message and is in memory while it is
+     * written to the file, and a handler calling {@code content()} reads the whole body back into memory. Only handlers reading the
+     * body with {@link org.opensearch.sdk.rest.SDKRestRequest#consumeContent} keep memory bounded after it is spilled.
+     * @param requestBodySpillThreshold The largest body kept in memory. A negative value keeps all bodies in memory.
+     */
+    public void setRequestBodySpillThreshold(ByteSizeValue requestBodySpillThreshold) {
+        this.requestBodySpillThreshold = requestBodySpillThreshold == null ? new ByteSizeValue(-1) : requestBodySpillThreshold;
+    }
+
+    /**
+     * Returns the size above which the body of a REST request is written to a temporary file while it is handled.
+     * @return The largest body kept in memory, negative if all bodies are kept in memory.
+     */
+    public ByteSizeValue getRequestBodySpillThreshold() {
+        return requestBodySpillThreshold;
+    }
+
+    /**
+     * Sets whether the transport compresses the requests this extension sends to OpenSearch.
+     * @param transportCompress A value of {@link org.opensearch.transport.TransportSettings#TRANSPORT_COMPRESS}, or null for the default.
+     */
+    public void setTransportCompress(String transportCompress) {
+        this.transportCompress = transportCompress;
+    }
+
+    /**
+     * Returns whether the transport compresses the requests this extension sends to OpenSearch.
+     * @return A value of {@link org.opensearch.transport.TransportSettings#TRANSPORT_COMPRESS}, or null if the default is used.
+     */
+    public String getTransportCompress() {
+        return transportCompress;
+    }
+
+    /**
+     * Sets the size above which the payload of a remote extension action request is compressed.
+     * @param remoteActionCompressionThreshold The largest payload sent uncompressed. A negative value disables compression.
+     */
+    public void setRemoteActionCompressionThreshold(ByteSizeValue remoteActionCompressionThreshold) {
+        this.remoteActionCompressionThreshold = remoteActionCompressionThreshold == null
+            ? new ByteSizeValue(-1)
+            : remoteActionCompressionThreshold;
+    }
+
+    /**
+     * Returns the size above which the payload of a remote extension action request is compressed.
+     * @return The largest payload sent uncompressed, negative if compression is disabled.
+     */
+    public ByteSizeValue getRemoteActionCompressionThreshold() {
+        return remoteActionCompressionThreshold;
+    }
+
+    /**
+     * Sets the remote extension actions whose payloads are always or never compressed, regardless of the threshold.
+     * @param remoteActionCompression Whether to compress the payloads of each action, keyed by the action class name.
+     */
+    public void setRemoteActionCompression(Map<String, Boolean> remoteActionCompression) {
+        this.remoteActionCompression = remoteActionCompression == null ? Map.of() : Map.copyOf(remoteActionCompression);
+    }
+
+    /**
+     * Returns the remote extension actions whose payloads are always or never compressed, regardless of the threshold.
+     * @return Whether to compress the payloads of each action, keyed by the action class name.
+     */
+    public Map<String, Boolean> getRemoteActionCompression() {
+        return remoteActionCompression;
+    }
+
+    /**
+     * Sets the maximum number of connections the SDKClient opens to a single OpenSearch node.
+     * @param clientMaxConnectionsPerRoute The maximum number of connections per node. Must be positive.
+     */
+    public void setClientMaxConnectionsPerRoute(int clientMaxConnectionsPerRoute) {
+        if (clientMaxConnectionsPerRoute <= 0) {
+            throw new IllegalArgumentException("clientMaxConnectionsPerRoute must be positive but was " + clientMaxConnectionsPerRoute);
+        }
+        this.clientMaxConnectionsPerRoute = clientMaxConnectionsPerRoute;
+    }
+
+    /**
+     * Returns the maximum number of connections the SDKClient opens to a single OpenSearch node.
+     * @return The maximum number of connections per node.
+     */
+    public int getClientMaxConnectionsPerRoute() {
+        return clientMaxConnectionsPerRoute;
+    }
+
+    /**
+     * Sets the maximum number of connections the SDKClient opens in total.
+     * @param clientMaxConnectionsTotal The maximum number of connections. Must be positive.
+     */
+    public void setClientMaxConnectionsTotal(int clientMaxConnectionsTotal) {
+        if (clientMaxConnectionsTotal <= 0) {
+            throw new IllegalArgumentException("clientMaxConnectionsTotal must be positive but was " + clientMaxConnectionsTotal);
+        }
+        this.clientMaxConnectionsTotal = clientMaxConnectionsTotal;
+    }
+
+    /**
+     * Returns the maximum number of connections the SDKClient opens in total.
+     * @return The maximum number of connections.
+     */
+    public int getClientMaxConnectionsTotal() {
+        return clientMaxConnectionsTotal;
+    }
+
+    /**
+     * Sets how long the SDKClient keeps an idle connection open for reuse.
+     * @param clientKeepAlive The keep-alive duration. A negative value keeps connections open as long as the server allows.
+     */
+    public void setClientKeepAlive(TimeValue clientKeepAlive) {
+        this.clientKeepAlive = clientKeepAlive == null ? TimeValue.MINUS_ONE : clientKeepAlive;
+    }
+
+    /**
+     * Returns how long the SDKClient keeps an idle connection open for reuse.
+     * @return The keep-alive duration, negative if connections are kept open as long as the server allows.
+     */
+    public TimeValue getClientKeepAlive() {
+        return clientKeepAlive;
+    }
+
+    /**
+     * Sets how long a connection of the SDKClient may stay idle before a background task closes it.
+     * @param clientIdleConnectionTimeout The maximum idle time. A negative value disables the background eviction.
+     */
+    public void setClientIdleConnectionTimeout(TimeValue clientIdleConnectionTimeout) {
+        this.clientIdleConnectionTimeout = clientIdleConnectionTimeout == null ? TimeValue.MINUS_ONE : clientIdleConnectionTimeout;
+    }
+
+    /**
+     * Returns how long a connection of the SDKClient may stay idle before a background task closes it.
+     * @return The maximum idle time, negative if idle connections are not evicted in the background.
+     */
+    public TimeValue getClientIdleConnectionTimeout() {
+        return clientIdleConnectionTimeout;
+    }
+
+    /**
+     * Sets the number of I/O reactor threads of each SDKClient connection pool.
+     * @param clientIoThreads The number of threads. A value of zero uses one thread per available processor.
+     */
+    public void setClientIoThreads(int clientIoThreads) {
+        this.clientIoThreads = Math.max(0, clientIoThreads);
+    }
+
+    /**
+     * Returns the number of I/O reactor threads of each SDKClient connection pool.
+     * @return The number of threads, zero if one thread per available processor is used.
+     */
+    public int getClientIoThreads() {
+        return clientIoThreads;
+    }
+
+    /**
+     * Sets the number of connections the SDKClient opens ahead of use when it is pointed at an OpenSearch node.
+     * @param clientPrewarmConnections The number of connections to open, up to the maximum per node. Zero disables pre-warming.
+     */
+    public void setClientPrewarmConnections(int clientPrewarmConnections) {
+        this.clientPrewarmConnections = Math.max(0, clientPrewarmConnections);
+    }
+
+    /**
+     * Returns the number of connections the SDKClient opens ahead of use when it is pointed at an OpenSearch node.
+     * @return The number of connections to open, zero if pre-warming is disabled.
+     */
+    public int getClientPrewarmConnections() {
+        return clientPrewarmConnections;
+    }
+
+    /**
+     * Sets how often the SDKClient refreshes its list of OpenSearch nodes from the nodes info API, to spread requests across the cluster.
+     * @param clientNodeDiscoveryInterval The refresh interval, which must not be zero. A negative value only sends requests to the
+     *     configured node.
+     */
+    public void setClientNodeDiscoveryInterval(TimeValue clientNodeDiscoveryInterval) {
+        if (clientNodeDiscoveryInterval != null && clientNodeDiscoveryInterval.nanos() == 0) {
+            throw new IllegalArgumentException("clientNodeDiscoveryInterval must be positive, or negative to disable node discovery");
+        }
+        this.clientNodeDiscoveryInterval = clientNodeDiscoveryInterval == null ? TimeValue.MINUS_ONE : clientNodeDiscoveryInterval;
+    }
+
+    /**
+     * Returns how often the SDKClient refreshes its list of OpenSearch nodes from the nodes info API.
+     * @return The refresh interval, negative if requests are only sent to the configured node.
+     */
+    public TimeValue getClientNodeDiscoveryInterval() {
+        return clientNodeDiscoveryInterval;
+    }
+
+    /**
+     * Sets the percentile of recent latencies after which an idempotent read of the SDKClient is duplicated to another node.
+     * @param clientHedgingPercentile The percentile, greater than 0 and less than 100. A negative value disables hedging.
+     */
+    public void setClientHedgingPercentile(double clientHedgingPercentile) {
+        if (clientHedgingPercentile >= 100 || clientHedgingPercentile == 0) {
+            throw new IllegalArgumentException("clientHedgingPercentile must be greater than 0 and less than 100");
+        }
+        this.clientHedgingPercentile = clientHedgingPercentile < 0 ? -1 : clientHedgingPercentile;
+    }
+
+    /**
+     * Returns the percentile of recent latencies after which an idempotent read of the SDKClient is duplicated to another node.
+     * @return The percentile, negative if hedging is disabled.
+     */
+    public double getClientHedgingPercentile() {
+        return clientHedgingPercentile;
+    }
+
+    /**
+     * Sets the minimum delay before an idempotent read of the SDKClient is duplicated, whatever the recent latencies.
+     * @param clientHedgingMinDelay The minimum delay.
+     */
+    public void setClientHedgingMinDelay(TimeValue clientHedgingMinDelay) {
+        this.clientHedgingMinDelay = clientHedgingMinDelay == null ? TimeValue.timeValueMillis(10) : clientHedgingMinDelay;
+    }
+
+    /**
+     * Returns the minimum delay before an idempotent read of the SDKClient is duplicated.
+     * @return The minimum delay.
+     */
+    public TimeValue getClientHedgingMinDelay() {
+        return clientHedgingMinDelay;
+    }
+
     @Override
     public String toString() {
         return "ExtensionSettings{extensionName="
@@ -225,6 +550,40 @@ public class ExtensionSettings {
             + opensearchPort
             + ", securitySettings="
             + securitySettings
+            + ", virtualThreadsEnabled="
+            + virtualThreadsEnabled
+            + ", namedRegistryCategories="
+            + namedRegistryCategories
+            + ", clusterStateMaxStaleness="
+            + clusterStateMaxStaleness
+            + ", clusterStateRefreshInterval="
+            + clusterStateRefreshInterval
+            + ", requestBodySpillThreshold="
+            + requestBodySpillThreshold
+            + ", transportCompress="
+            + transportCompress
+            + ", remoteActionCompressionThreshold="
+            + remoteActionCompressionThreshold
+            + ", remoteActionCompression="
+            + remoteActionCompression
+            + ", clientMaxConnectionsPerRoute="
+            + clientMaxConnectionsPerRoute
+            + ", clientMaxConnectionsTotal="
+            + clientMaxConnectionsTotal
+            + ", clientKeepAlive="
+            + clientKeepAlive
+            + ", clientIdleConnectionTimeout="
+            + clientIdleConnectionTimeout
+            + ", clientIoThreads="
+            + clientIoThreads
+            + ", clientPrewarmConnections="
+            + clientPrewarmConnections
+            + ", clientNodeDiscoveryInterval="
+            + clientNodeDiscoveryInterval
+            + ", clientHedgingPercentile="
+            + clientHedgingPercentile
+            + ", clientHedgingMinDelay="
+            + clientHedgingMinDelay
             + "}";
     }
 
@@ -258,7 +617,7 @@ public class ExtensionSettings {
             if (extensionMap.containsKey("routeNamePrefix")) {
                 routeNamePrefix = extensionMap.get("routeNamePrefix").toString();
             }
-            return new ExtensionSettings(
+            ExtensionSettings extensionSettings = new ExtensionSettings(
                 extensionMap.get("extensionName").toString(),
                 extensionMap.get("hostAddress").toString(),
                 extensionMap.get("hostPort").toString(),
@@ -267,6 +626,94 @@ public class ExtensionSettings {
                 routeNamePrefix,
                 securitySettings
             );
+
+            // Virtual threads are opt-in
+            if (extensionMap.containsKey("virtualThreadsEnabled")) {
+                extensionSettings.setVirtualThreadsEnabled(Boolean.parseBoolean(extensionMap.get("virtualThreadsEnabled").toString()));
+            }
+            // Registries include all core entries unless limited to a list of categories
+            if (extensionMap.get("namedRegistryCategories") instanceof Collection) {
+                extensionSettings.setNamedRegistryCategories(
+                    ((Collection<?>) extensionMap.get("namedRegistryCategories")).stream().map(Object::toString).collect(Collectors.toSet())
+                );
+            }
+            // Cluster state is fetched on every call unless a staleness bound is set
+            if (extensionMap.containsKey("clusterStateMaxStaleness")) {
+                extensionSettings.setClusterStateMaxStaleness(
+                    TimeValue.parseTimeValue(extensionMap.get("clusterStateMaxStaleness").toString(), "clusterStateMaxStaleness")
+                );
+            }
+            // Cluster state listeners are refreshed every 30 seconds unless an interval is set
+            if (extensionMap.containsKey("clusterStateRefreshInterval")) {
+                extensionSettings.setClusterStateRefreshInterval(
+                    TimeValue.parseTimeValue(extensionMap.get("clusterStateRefreshInterval").toString(), "clusterStateRefreshInterval")
+                );
+            }
+            // REST request bodies are kept in memory unless a spill threshold is set
+            if (extensionMap.containsKey("requestBodySpillThreshold")) {
+                extensionSettings.setRequestBodySpillThreshold(
+                    ByteSizeValue.parseBytesSizeValue(extensionMap.get("requestBodySpillThreshold").toString(), "requestBodySpillThreshold")
+                );
+            }
+            // Transport compression uses the OpenSearch default unless set
+            if (extensionMap.containsKey("transportCompress")) {
+                extensionSettings.setTransportCompress(extensionMap.get("transportCompress").toString());
+            }
+            // Remote action payloads are not compressed unless a threshold is set or an action is listed
+            if (extensionMap.containsKey("remoteActionCompressionThreshold")) {
+                extensionSettings.setRemoteActionCompressionThreshold(
+                    ByteSizeValue.parseBytesSizeValue(
+                        extensionMap.get("remoteActionCompressionThreshold").toString(),
+                        "remoteActionCompressionThreshold"
+                    )
+                );
+            }
+            if (extensionMap.get("remoteActionCompression") instanceof Map) {
+                extensionSettings.setRemoteActionCompression(
+                    ((Map<?, ?>) extensionMap.get("remoteActionCompression")).entrySet()
+                        .stream()
+                        .collect(Collectors.toMap(e -> e.getKey().toString(), e -> Boolean.parseBoolean(e.getValue().toString())))
+                );
+            }
+            // The SDKClient connection pools use the REST client defaults unless configured
+            if (extensionMap.containsKey("clientMaxConnectionsPerRoute")) {
+                extensionSettings.setClientMaxConnectionsPerRoute(
+                    Integer.parseInt(extensionMap.get("clientMaxConnectionsPerRoute").toString())
+                );
+            }
+            if (extensionMap.containsKey("clientMaxConnectionsTotal")) {
+                extensionSettings.setClientMaxConnectionsTotal(Integer.parseInt(extensionMap.get("clientMaxConnectionsTotal").toString()));
+            }
+            if (extensionMap.containsKey("clientKeepAlive")) {
+                extensionSettings.setClientKeepAlive(
+                    TimeValue.parseTimeValue(extensionMap.get("clientKeepAlive").toString(), "clientKeepAlive")
+                );
+            }
+            if (extensionMap.containsKey("clientIdleConnectionTimeout")) {
+                extensionSettings.setClientIdleConnectionTimeout(
+                    TimeValue.parseTimeValue(extensionMap.get("clientIdleConnectionTimeout").toString(), "clientIdleConnectionTimeout")
+                );
+            }
+            if (extensionMap.containsKey("clientIoThreads")) {
+                extensionSettings.setClientIoThreads(Integer.parseInt(extensionMap.get("clientIoThreads").toString()));
+            }
+            if (extensionMap.containsKey("clientPrewarmConnections")) {
+                extensionSettings.setClientPrewarmConnections(Integer.parseInt(extensionMap.get("clientPrewarmConnections").toString()));
+            }
+            if (extensionMap.containsKey("clientNodeDiscoveryInterval")) {
+                extensionSettings.setClientNodeDiscoveryInterval(
+                    TimeValue.parseTimeValue(extensionMap.get("clientNodeDiscoveryInterval").toString(), "clientNodeDiscoveryInterval")
+                );
+            }
+            if (extensionMap.containsKey("clientHedgingPercentile")) {
+                extensionSettings.setClientHedgingPercentile(Double.parseDouble(extensionMap.get("clientHedgingPercentile").toString()));
+            }
+            if (extensionMap.containsKey("clientHedgingMinDelay")) {
+                extensionSettings.setClientHedgingMinDelay(
+                    TimeValue.parseTimeValue(extensionMap.get("clientHedgingMinDelay").toString(), "clientHedgingMinDelay")
+                );
+            }
+            return extensionSettings;
         } catch (URISyntaxException e) {
             throw new IOException("Error reading from extension.yml");
         }
@@ -16,11 +16,16 @@ import com.google.inject.Key;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.ActionType;
+import org.opensearch.action.support.ChannelActionListener;
 import org.opensearch.action.support.TransportAction;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.PageCacheRecycler;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.discovery.InitializeExtensionRequest;
 import org.opensearch.extensions.DiscoveryExtensionNode;
@@ -28,24 +33,34 @@ import org.opensearch.extensions.ExtensionsManager;
 import org.opensearch.extensions.UpdateSettingsRequest;
 import org.opensearch.extensions.action.ExtensionActionRequest;
 import org.opensearch.extensions.rest.ExtensionRestRequest;
+import org.opensearch.sdk.action.ActionRequestReaderRegistry;
+import org.opensearch.sdk.action.RemoteActionCompression;
 import org.opensearch.sdk.action.SDKActionModule;
 import org.opensearch.sdk.api.ActionExtension;
+import org.opensearch.sdk.handlers.ClusterStatePublishRequest;
+import org.opensearch.sdk.handlers.ClusterStatePublishRequestHandler;
 import org.opensearch.sdk.handlers.ExtensionActionRequestHandler;
 import org.opensearch.sdk.handlers.ExtensionsIndicesModuleNameRequestHandler;
 import org.opensearch.sdk.handlers.ExtensionsIndicesModuleRequestHandler;
 import org.opensearch.sdk.handlers.ExtensionsInitRequestHandler;
 import org.opensearch.sdk.handlers.ExtensionsRestRequestHandler;
+import org.opensearch.sdk.handlers.ForkingRequestHandler;
 import org.opensearch.sdk.handlers.UpdateSettingsRequestHandler;
 import org.opensearch.sdk.rest.BaseExtensionRestHandler;
 import org.opensearch.sdk.rest.ExtensionRestHandler;
 import org.opensearch.sdk.rest.ExtensionRestPathRegistry;
+import org.opensearch.sdk.rest.RestExtensionStatsAction;
+import org.opensearch.sdk.stats.ExtensionStats;
 import org.opensearch.tasks.TaskManager;
 import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.RunnableTaskExecutionListener;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportRequestHandler;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.TransportSettings;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -54,6 +69,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -66,19 +84,32 @@ import static org.opensearch.sdk.ssl.SSLConfigConstants.SSL_TRANSPORT_ENABLED;
  * <p>
  * Extensions initialize by passing an instance of themselves to the {@link #run(Extension)} method.
  */
-public class ExtensionsRunner {
+public class ExtensionsRunner implements Closeable {
 
     private static final Logger logger = LogManager.getLogger(ExtensionsRunner.class);
     /**
      * The key for the extension runner's node name in its settings.
      */
     public static final String NODE_NAME_SETTING = "node.name";
+    /**
+     * The name prefix of virtual threads handling transport requests, if enabled in {@link ExtensionSettings}.
+     */
+    public static final String VIRTUAL_THREAD_NAME = "virtual";
+
+    /**
+     * How long {@link #close()} waits for the tasks running on the thread pools of the runner to complete.
+     */
+    public static final TimeValue SHUTDOWN_TIMEOUT = TimeValue.timeValueSeconds(10);
 
     // The extension being run
     private final Extension extension;
 
     // Set when initialization is complete
-    private boolean initialized = false;
+    private volatile boolean initialized = false;
+    // Set when initialization has failed
+    private volatile Throwable initializationFailure;
+    private final StartupTimeline startupTimeline = new StartupTimeline();
+    private final ExtensionStats extensionStats = new ExtensionStats();
 
     /**
      * This field is initialized by a call from {@link ExtensionsInitRequestHandler}.
@@ -113,6 +144,10 @@ public class ExtensionsRunner {
      * A thread pool for the extension.
      */
     private final ThreadPool threadPool;
+    /**
+     * A virtual-thread-per-task executor for inbound transport requests, or null if handled on the generic thread pool.
+     */
+    private final ExecutorService virtualThreadExecutor;
     /**
      * A task manager for the extension
      */
@@ -124,8 +159,10 @@ public class ExtensionsRunner {
 
     private final SDKNamedXContentRegistry sdkNamedXContentRegistry;
     private final SDKNamedWriteableRegistry sdkNamedWriteableRegistry;
+    private final SDKBigArrays sdkBigArrays;
     private final SDKClient sdkClient;
     private final SDKClusterService sdkClusterService;
+    private final SDKNodeDiscovery sdkNodeDiscovery;
     private final SDKTransportService sdkTransportService;
     private final SDKActionModule sdkActionModule;
 
@@ -135,6 +172,7 @@ public class ExtensionsRunner {
         new ExtensionsIndicesModuleNameRequestHandler();
     private final ExtensionsRestRequestHandler extensionsRestRequestHandler;
     private final ExtensionActionRequestHandler extensionsActionRequestHandler;
+    private final ClusterStatePublishRequestHandler clusterStatePublishRequestHandler;
     private final AtomicReference<RunnableTaskExecutionListener> runnableTaskListener;
     private final IndexNameExpressionResolver indexNameExpressionResolver;
 
@@ -163,6 +201,9 @@ public class ExtensionsRunner {
             .put(TransportSettings.PUBLISH_HOST.getKey(), extensionSettings.getHostAddress())
             .put(TransportSettings.BIND_HOST.getKey(), "0.0.0.0")
             .put(TransportSettings.PORT.getKey(), extensionSettings.getHostPort());
+        if (extensionSettings.getTransportCompress() != null) {
+            settingsBuilder.put(TransportSettings.TRANSPORT_COMPRESS.getKey(), extensionSettings.getTransportCompress());
+        }
         boolean sslEnabled = extensionSettings.getSecuritySettings().containsKey(SSL_TRANSPORT_ENABLED)
             && "true".equals(extensionSettings.getSecuritySettings().get(SSL_TRANSPORT_ENABLED));
         if (sslEnabled) {
@@ -178,8 +219,17 @@ public class ExtensionsRunner {
 
         this.runnableTaskListener = new AtomicReference<>();
         this.threadPool = new ThreadPool(settings, runnableTaskListener, executorBuilders.toArray(new ExecutorBuilder[0]));
+        if (extensionSettings.isVirtualThreadsEnabled()) {
+            logger.info("Transport requests will be handled on virtual threads");
+            String threadNamePrefix = "opensearch[" + extensionSettings.getExtensionName() + "][" + VIRTUAL_THREAD_NAME + "]#";
+            this.virtualThreadExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+        } else {
+            this.virtualThreadExecutor = null;
+        }
         this.indexNameExpressionResolver = new IndexNameExpressionResolver(this.threadPool.getThreadContext());
         this.taskManager = new TaskManager(settings, threadPool, Collections.emptySet());
+        // The recycler of the serialization buffers is shared with the transport
+        this.sdkBigArrays = new SDKBigArrays(new PageCacheRecycler(settings));
 
         // save custom settings
         this.customSettings = extension.getSettings();
@@ -190,16 +240,41 @@ public class ExtensionsRunner {
         // initialize NamedXContent Registry.
         this.sdkNamedXContentRegistry = new SDKNamedXContentRegistry(this);
         // initialize RestRequest Handler. Must happen after instantiating SDKNamedXContentRegistry
-        this.extensionsRestRequestHandler = new ExtensionsRestRequestHandler(extensionRestPathRegistry, sdkNamedXContentRegistry);
+        this.extensionsRestRequestHandler = new ExtensionsRestRequestHandler(
+            extensionRestPathRegistry,
+            sdkNamedXContentRegistry,
+            extensionStats,
+            extensionSettings.getRequestBodySpillThreshold().getBytes(),
+            sdkBigArrays
+        );
         // initialize NamedWriteable Registry. Must happen after getting extension namedWriteable
         this.sdkNamedWriteableRegistry = new SDKNamedWriteableRegistry(this);
 
         // initialize SDKClient. Must happen after getting extensionSettings
-        this.sdkClient = new SDKClient(extensionSettings);
+        this.sdkClient = new SDKClient(extensionSettings, extensionStats.getConnectionPool());
         // initialize SDKClusterService. Must happen after extension field assigned
         this.sdkClusterService = new SDKClusterService(this);
+        this.clusterStatePublishRequestHandler = new ClusterStatePublishRequestHandler(sdkClusterService);
+        // initialize SDKNodeDiscovery if enabled. Must happen after SDKClient and SDKClusterService
+        TimeValue nodeDiscoveryInterval = extensionSettings.getClientNodeDiscoveryInterval();
+        this.sdkNodeDiscovery = nodeDiscoveryInterval.nanos() > 0
+            ? new SDKNodeDiscovery(sdkClient, sdkClusterService, threadPool, nodeDiscoveryInterval)
+            : null;
+        // hedge idempotent reads of the SDKClient if enabled. Must happen after SDKClient
+        if (extensionSettings.getClientHedgingPercentile() > 0) {
+            this.sdkClient.setHedgingPolicy(
+                new HedgingPolicy(threadPool, extensionSettings.getClientHedgingPercentile(), extensionSettings.getClientHedgingMinDelay())
+            );
+        }
         // initialize SDKTransportService. Must happen after extension field assigned
         this.sdkTransportService = new SDKTransportService();
+        this.sdkTransportService.setRemoteActionCompression(
+            new RemoteActionCompression(
+                extensionSettings.getRemoteActionCompressionThreshold().getBytes(),
+                extensionSettings.getRemoteActionCompression(),
+                extensionStats.getCompression()
+            )
+        );
 
         // Create Guice modules for injection
         List<com.google.inject.Module> modules = new ArrayList<>();
@@ -216,6 +291,7 @@ public class ExtensionsRunner {
             b.bind(SDKClient.class).toInstance(getSdkClient());
             b.bind(SDKClusterService.class).toInstance(getSdkClusterService());
             b.bind(SDKTransportService.class).toInstance(getSdkTransportService());
+            b.bind(SDKBigArrays.class).toInstance(getSdkBigArrays());
         });
         // Bind the return values from create components
         modules.add(this::injectComponents);
@@ -229,7 +305,14 @@ public class ExtensionsRunner {
         // initialize SDKClient action map
         initializeSdkClient();
 
-        extensionsActionRequestHandler = new ExtensionActionRequestHandler(getSdkClient());
+        extensionsActionRequestHandler = new ExtensionActionRequestHandler(
+            getSdkClient(),
+            new ActionRequestReaderRegistry(sdkActionModule.getActions()),
+            virtualThreadExecutor == null ? threadPool.generic() : virtualThreadExecutor,
+            extensionStats,
+            sdkTransportService::getUniqueId,
+            sdkBigArrays
+        );
 
         if (extension instanceof ActionExtension) {
             // store REST handlers in the registry
@@ -240,6 +323,14 @@ public class ExtensionsRunner {
                 extensionRestPathRegistry.registerHandler(extensionRestHandler);
             }
         }
+        // store the built-in stats handler in the registry
+        RestExtensionStatsAction statsAction = new RestExtensionStatsAction(
+            extensionStats,
+            startupTimeline,
+            extensionSettings.getExtensionName()
+        );
+        statsAction.setRouteNamePrefix(extensionSettings.getRoutePrefix());
+        extensionRestPathRegistry.registerHandler(statsAction);
     }
 
     private void addSettingsToBuilder(Settings.Builder settingsBuilder, String settingKey, ExtensionSettings extensionSettings) {
@@ -275,6 +366,28 @@ public class ExtensionsRunner {
         logger.info("Extension initialization is complete!");
     }
 
+    /**
+     * Records that initialization failed and stops the extension, which cannot serve requests it was unable to register.
+     *
+     * @param failure The failure of the last initialization phase
+     */
+    public void failInitialization(Throwable failure) {
+        this.initializationFailure = failure;
+        logger.error("Extension initialization failed, stopping extension " + extension.getExtensionSettings().getExtensionName(), failure);
+        // The failure may be reported on a thread of the pool being terminated, which would wait on itself
+        new Thread(this::close, "extension-initialization-failed").start();
+    }
+
+    /**
+     * Gets the failure which stopped the extension during initialization.
+     *
+     * @return The failure, or null if initialization has not failed
+     */
+    @Nullable
+    public Throwable getInitializationFailure() {
+        return this.initializationFailure;
+    }
+
     /**
      * Reports if the extension has finished initializing.
      *
@@ -394,54 +507,96 @@ public class ExtensionsRunner {
 
         // Extension Request is the first request for the transport communication.
         // This request will initialize the extension and will be a part of OpenSearch bootstrap
-        transportService.registerRequestHandler(
+        registerRequestHandler(
+            transportService,
             ExtensionsManager.REQUEST_EXTENSION_ACTION_NAME,
-            ThreadPool.Names.GENERIC,
-            false,
-            false,
             InitializeExtensionRequest::new,
             (request, channel, task) -> channel.sendResponse(extensionsInitRequestHandler.handleExtensionInitRequest(request))
         );
 
-        transportService.registerRequestHandler(
+        registerRequestHandler(
+            transportService,
             ExtensionsManager.REQUEST_REST_EXECUTE_ON_EXTENSION_ACTION,
-            ThreadPool.Names.GENERIC,
-            false,
-            false,
             ExtensionRestRequest::new,
-            ((request, channel, task) -> channel.sendResponse(extensionsRestRequestHandler.handleRestExecuteOnExtensionRequest(request)))
+            // The listener only logs the request, so it is not captured and a spilled body can be freed while the response completes
+            ((request, channel, task) -> extensionsRestRequestHandler.handleRestExecuteOnExtensionRequest(
+                request,
+                new ChannelActionListener<>(
+                    channel,
+                    ExtensionsManager.REQUEST_REST_EXECUTE_ON_EXTENSION_ACTION,
+                    TransportRequest.Empty.INSTANCE
+                )
+            ))
         );
 
-        transportService.registerRequestHandler(
+        registerRequestHandler(
+            transportService,
             ExtensionsManager.REQUEST_EXTENSION_UPDATE_SETTINGS,
-            ThreadPool.Names.GENERIC,
-            false,
-            false,
             UpdateSettingsRequest::new,
             ((request, channel, task) -> channel.sendResponse(updateSettingsRequestHandler.handleUpdateSettingsRequest(request)))
         );
 
         // This handles a remote extension request from OpenSearch or a plugin, sending an ExtensionActionResponse
-        transportService.registerRequestHandler(
+        registerRequestHandler(
+            transportService,
             ExtensionsManager.REQUEST_EXTENSION_HANDLE_TRANSPORT_ACTION,
-            ThreadPool.Names.GENERIC,
-            false,
-            false,
             ExtensionActionRequest::new,
-            ((request, channel, task) -> channel.sendResponse(extensionsActionRequestHandler.handleExtensionActionRequest(request)))
+            ((request, channel, task) -> extensionsActionRequestHandler.handleExtensionActionRequest(
+                request,
+                new ChannelActionListener<>(channel, ExtensionsManager.REQUEST_EXTENSION_HANDLE_TRANSPORT_ACTION, request)
+            ))
         );
 
         // This handles a remote extension request from another extension, sending a RemoteExtensionActionResponse
-        transportService.registerRequestHandler(
+        registerRequestHandler(
+            transportService,
             ExtensionsManager.REQUEST_EXTENSION_HANDLE_REMOTE_TRANSPORT_ACTION,
-            ThreadPool.Names.GENERIC,
-            false,
-            false,
             ExtensionActionRequest::new,
-            ((request, channel, task) -> channel.sendResponse(extensionsActionRequestHandler.handleRemoteExtensionActionRequest(request)))
+            ((request, channel, task) -> extensionsActionRequestHandler.handleRemoteExtensionActionRequest(
+                request,
+                new ChannelActionListener<>(channel, ExtensionsManager.REQUEST_EXTENSION_HANDLE_REMOTE_TRANSPORT_ACTION, request)
+            ))
+        );
+
+        // This handles cluster states and diffs published to the extension, which are applied to the cluster state cache
+        registerRequestHandler(
+            transportService,
+            ClusterStatePublishRequestHandler.CLUSTER_STATE_PUBLISH_ACTION,
+            in -> new ClusterStatePublishRequest(in, getExtensionNode()),
+            ((request, channel, task) -> channel.sendResponse(clusterStatePublishRequestHandler.handleClusterStatePublishRequest(request)))
         );
     }
 
+    /**
+     * Registers a request handler on the transport service. Handlers run on the generic thread pool, or on virtual threads if enabled
+     * in the {@link ExtensionSettings}.
+     *
+     * @param <T> The type of the transport request
+     * @param transportService The TransportService on which to register the handler.
+     * @param action The action name the handler responds to.
+     * @param requestReader The reader to deserialize the request.
+     * @param handler The handler for the request.
+     */
+    private <T extends TransportRequest> void registerRequestHandler(
+        TransportService transportService,
+        String action,
+        Writeable.Reader<T> requestReader,
+        TransportRequestHandler<T> handler
+    ) {
+        if (virtualThreadExecutor == null) {
+            transportService.registerRequestHandler(action, ThreadPool.Names.GENERIC, false, false, requestReader, handler);
+        } else {
+            transportService.registerRequestHandler(
+                action,
+                ThreadPool.Names.SAME,
+                false,
+                false,
+                requestReader,
+                new ForkingRequestHandler<>(virtualThreadExecutor, threadPool.getThreadContext(), handler)
+            );
+        }
+    }
+
     /**
      * Returns a list of interfaces implemented by the corresponding {@link Extension}.
      *
@@ -510,6 +665,42 @@ public class ExtensionsRunner {
         return threadPool;
     }
 
+    /**
+     * Returns the virtual-thread-per-task executor used to handle inbound transport requests.
+     *
+     * @return The executor if virtual threads are enabled in the {@link ExtensionSettings}, null otherwise.
+     */
+    public ExecutorService getVirtualThreadExecutor() {
+        return virtualThreadExecutor;
+    }
+
+    /**
+     * Returns the timeline of the phases of extension initialization.
+     *
+     * @return The startup timeline, recorded when OpenSearch initializes this extension.
+     */
+    public StartupTimeline getStartupTimeline() {
+        return startupTimeline;
+    }
+
+    /**
+     * Gets the request statistics of the REST routes and transport actions handled by this extension.
+     *
+     * @return The extension statistics, also served by the built-in {@link RestExtensionStatsAction} route.
+     */
+    public ExtensionStats getExtensionStats() {
+        return extensionStats;
+    }
+
+    /**
+     * Gets the pooled serialization buffers of this extension, whose recycler is shared with its transport.
+     *
+     * @return The pooled serialization buffers.
+     */
+    public SDKBigArrays getSdkBigArrays() {
+        return sdkBigArrays;
+    }
+
     /**
      * Returns the TaskManager instance associated with this object.
      *
@@ -528,6 +719,16 @@ public class ExtensionsRunner {
         return sdkClient;
     }
 
+    /**
+     * Returns the discovery keeping the nodes of the SDK client in sync with the cluster.
+     *
+     * @return The node discovery, or null if {@link ExtensionSettings#getClientNodeDiscoveryInterval()} disables it.
+     */
+    @Nullable
+    public SDKNodeDiscovery getSdkNodeDiscovery() {
+        return sdkNodeDiscovery;
+    }
+
     /**
      * @return The SDKClusterService instance associated with this object.
      */
@@ -585,7 +786,38 @@ public class ExtensionsRunner {
         NettyTransport nettyTransport = new NettyTransport(runner);
         runner.getSdkTransportService()
             .setTransportService(nettyTransport.initializeExtensionTransportService(runner.getSettings(), runner.getThreadPool()));
-        runner.startActionListener(0);
+        try {
+            runner.startActionListener(0);
+        } finally {
+            runner.close();
+        }
+    }
+
+    /**
+     * Stops the transport service, the node discovery, the cluster state listeners, the clients, the thread pool and the virtual thread
+     * executor of this runner, waiting up to {@link #SHUTDOWN_TIMEOUT} for running tasks to complete.
+     */
+    @Override
+    public void close() {
+        logger.info("Stopping extension " + extension.getExtensionSettings().getExtensionName());
+        // Stop accepting requests before stopping what they use
+        TransportService transportService = sdkTransportService.getTransportService();
+        if (transportService != null) {
+            transportService.close();
+        }
+        if (sdkNodeDiscovery != null) {
+            sdkNodeDiscovery.close();
+        }
+        sdkClusterService.close();
+        try {
+            sdkClient.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close the clients of extension " + extension.getExtensionSettings().getExtensionName(), e);
+        }
+        ThreadPool.terminate(threadPool, SHUTDOWN_TIMEOUT.millis(), TimeUnit.MILLISECONDS);
+        if (virtualThreadExecutor != null) {
+            ThreadPool.terminate(virtualThreadExecutor, SHUTDOWN_TIMEOUT.millis(), TimeUnit.MILLISECONDS);
+        }
     }
 
 }
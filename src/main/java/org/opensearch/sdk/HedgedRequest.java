@@ -0,0 +1,230 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An idempotent read which may be sent twice under a {@link HedgingPolicy}. The first response is passed to the listener and the
+ * other attempt is cancelled. A failure is passed to the listener only once no attempt is left in flight.
+ *
+ * @param <T> The type of the response
+ */
+public final class HedgedRequest<T> {
+    private static final Logger logger = LogManager.getLogger(HedgedRequest.class);
+
+    private final HedgingPolicy policy;
+    private final String operation;
+    private final Function<ActionListener<T>, Runnable> attempt;
+    private final ActionListener<T> listener;
+    private final long startNanos = System.nanoTime();
+    private long hedgeStartNanos;
+    // Cancels the first and the duplicate attempts, null until they are sent
+    private Runnable primary;
+    private Runnable hedge;
+    private Scheduler.ScheduledCancellable scheduledHedge;
+    // The first attempt is in flight from the start, it may complete before its cancel task is returned
+    private int inFlight = 1;
+    private boolean completed;
+
+    private HedgedRequest(
+        @Nullable HedgingPolicy policy,
+        String operation,
+        Function<ActionListener<T>, Runnable> attempt,
+        ActionListener<T> listener
+    ) {
+        this.policy = policy;
+        this.operation = operation;
+        this.attempt = attempt;
+        this.listener = listener;
+    }
+
+    /**
+     * Sends a request, and a duplicate if the policy decides it is slow.
+     *
+     * @param <T> The type of the response
+     * @param policy The hedging policy, or null to send the request once
+     * @param operation The name of the operation, whose latencies determine the hedging delay
+     * @param attempt Sends the request to the given listener, and returns a task cancelling it
+     * @param listener The listener notified of the first response, or of the failure of all attempts
+     * @return The request, which may be used to cancel all of its attempts
+     */
+    public static <T> HedgedRequest<T> send(
+        @Nullable HedgingPolicy policy,
+        String operation,
+        Function<ActionListener<T>, Runnable> attempt,
+        ActionListener<T> listener
+    ) {
+        HedgedRequest<T> request = new HedgedRequest<>(policy, operation, attempt, listener);
+        request.start();
+        return request;
+    }
+
+    /**
+     * Sends a request of the Java client, and a duplicate if the policy decides it is slow.
+     *
+     * @param <T> The type of the response
+     * @param policy The hedging policy, or null to send the request once
+     * @param operation The name of the operation, whose latencies determine the hedging delay
+     * @param request Sends the request. Cancelling the returned future cancels the request.
+     * @return A future completed with the first response. Cancelling it cancels all attempts.
+     */
+    public static <T> CompletableFuture<T> send(@Nullable HedgingPolicy policy, String operation, Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        HedgedRequest<T> hedgedRequest = send(policy, operation, l -> {
+            CompletableFuture<T> future = request.get();
+            future.whenComplete((response, e) -> {
+                if (e == null) {
+                    l.onResponse(response);
+                } else {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    l.onFailure(cause instanceof Exception ? (Exception) cause : new CompletionException(cause));
+                }
+            });
+            return () -> future.cancel(true);
+        }, ActionListener.wrap(result::complete, result::completeExceptionally));
+        result.whenComplete((response, e) -> {
+            if (result.isCancelled()) {
+                hedgedRequest.cancel();
+            }
+        });
+        return result;
+    }
+
+    private void start() {
+        Runnable cancelPrimary = attempt.apply(attemptListener(false));
+        TimeValue delay = policy == null ? null : policy.delay(operation);
+        synchronized (this) {
+            primary = cancelPrimary;
+            if (completed) {
+                return;
+            }
+            if (delay != null) {
+                scheduledHedge = policy.scheduler().schedule(this::sendHedge, delay, ThreadPool.Names.GENERIC);
+            }
+        }
+    }
+
+    private void sendHedge() {
+        synchronized (this) {
+            if (completed) {
+                return;
+            }
+            inFlight++;
+            hedgeStartNanos = System.nanoTime();
+        }
+        logger.debug("Hedging " + operation + " request after " + TimeValue.timeValueNanos(hedgeStartNanos - startNanos));
+        policy.onHedged();
+        Runnable cancelHedge = attempt.apply(attemptListener(true));
+        boolean cancel;
+        synchronized (this) {
+            hedge = cancelHedge;
+            cancel = completed;
+        }
+        if (cancel) {
+            cancelHedge.run();
+        }
+    }
+
+    private ActionListener<T> attemptListener(boolean isHedge) {
+        return new ActionListener<>() {
+            @Override
+            public void onResponse(T response) {
+                Runnable loser;
+                long sentNanos;
+                synchronized (HedgedRequest.this) {
+                    if (completed) {
+                        return;
+                    }
+                    complete();
+                    loser = isHedge ? primary : hedge;
+                    // A duplicate is timed from its own send, so that the hedging delay is not counted in its latency
+                    sentNanos = isHedge ? hedgeStartNanos : startNanos;
+                }
+                if (loser != null) {
+                    loser.run();
+                }
+                if (policy != null) {
+                    policy.record(operation, (System.nanoTime() - sentNanos) / 1000, isHedge);
+                }
+                listener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                synchronized (HedgedRequest.this) {
+                    if (completed || --inFlight > 0) {
+                        return;
+                    }
+                    complete();
+                }
+                listener.onFailure(e);
+            }
+        };
+    }
+
+    /**
+     * Marks the request completed and cancels the duplicate if it is not sent yet. Must be called while holding the lock.
+     */
+    private void complete() {
+        completed = true;
+        if (scheduledHedge != null) {
+            scheduledHedge.cancel();
+        }
+    }
+
+    /**
+     * Cancels all attempts of the request. The listener is notified with a {@link CancellationException} unless a response or
+     * failure was already passed to it.
+     *
+     * @return true if the request was cancelled, false if it had already completed
+     */
+    public boolean cancel() {
+        Runnable cancelPrimary;
+        Runnable cancelHedge;
+        synchronized (this) {
+            if (completed) {
+                return false;
+            }
+            complete();
+            cancelPrimary = primary;
+            cancelHedge = hedge;
+        }
+        if (cancelPrimary != null) {
+            cancelPrimary.run();
+        }
+        if (cancelHedge != null) {
+            cancelHedge.run();
+        }
+        listener.onFailure(new CancellationException("Request was cancelled"));
+        return true;
+    }
+
+    /**
+     * Gets whether a response or failure was passed to the listener, or the request was cancelled.
+     *
+     * @return true if the request is complete
+     */
+    public synchronized boolean isDone() {
+        return completed;
+    }
+}
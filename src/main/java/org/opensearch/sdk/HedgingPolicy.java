@@ -0,0 +1,180 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sdk.stats.LatencyHistogram;
+import org.opensearch.threadpool.Scheduler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides when an idempotent read of the {@link SDKClient} is hedged: if it has not completed after a percentile of the recent
+ * latencies of the same operation, a duplicate is sent and the first response wins.
+ * <p>
+ * The duplicate is sent through the same client, whose node selector prefers the least loaded nodes, so it goes to another node
+ * than the slow request as long as one is available. Hedging starts once {@value #MIN_SAMPLES} latencies of an operation are
+ * recorded, so a cold client does not double its load.
+ * <p>
+ * The latencies of an operation are kept in two histograms which are both recorded to and which are rotated every
+ * {@link #LATENCY_WINDOW}: the delay is read from the older one, so it reflects between one and two windows of recent requests
+ * and follows the cluster when it becomes faster or slower.
+ */
+public final class HedgingPolicy {
+
+    /**
+     * The number of latencies of an operation to record before its requests are hedged.
+     */
+    public static final int MIN_SAMPLES = 20;
+
+    /**
+     * The time after which the latencies of an operation are replaced by the more recent ones.
+     */
+    public static final TimeValue LATENCY_WINDOW = TimeValue.timeValueSeconds(30);
+
+    private final Scheduler scheduler;
+    private final double percentile;
+    private final TimeValue minDelay;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private final LongAdder hedged = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    /**
+     * Instantiates a hedging policy.
+     *
+     * @param scheduler The scheduler on which to send duplicate requests
+     * @param percentile The percentile of the recent latencies after which a request is duplicated, greater than 0 and less than 100
+     * @param minDelay The minimum delay before a request is duplicated
+     */
+    public HedgingPolicy(Scheduler scheduler, double percentile, TimeValue minDelay) {
+        this(scheduler, percentile, minDelay, LATENCY_WINDOW, System::nanoTime);
+    }
+
+    HedgingPolicy(Scheduler scheduler, double percentile, TimeValue minDelay, TimeValue window, LongSupplier nanoClock) {
+        if (percentile <= 0 || percentile >= 100) {
+            throw new IllegalArgumentException("Hedging percentile must be greater than 0 and less than 100 but was " + percentile);
+        }
+        this.scheduler = scheduler;
+        this.percentile = percentile;
+        this.minDelay = minDelay;
+        this.windowNanos = window.nanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Gets the delay after which a request of an operation is duplicated.
+     *
+     * @param operation The name of the operation
+     * @return The delay, or null if the operation does not have enough recorded latencies to be hedged
+     */
+    TimeValue delay(String operation) {
+        LatencyHistogram histogram = getLatency(operation);
+        if (histogram == null || histogram.getCount() < MIN_SAMPLES) {
+            return null;
+        }
+        return TimeValue.timeValueMillis(Math.max(minDelay.millis(), histogram.getPercentile(percentile) / 1000));
+    }
+
+    /**
+     * Records the latency of a completed request, from the time the attempt which returned the response was sent.
+     *
+     * @param operation The name of the operation
+     * @param micros The latency in microseconds
+     * @param hedgeWon Whether the response came from the duplicate request
+     */
+    void record(String operation, long micros, boolean hedgeWon) {
+        latencies.computeIfAbsent(operation, o -> new LatencyWindow(nanoClock.getAsLong())).record(micros, nanoClock.getAsLong());
+        if (hedgeWon) {
+            hedgeWins.increment();
+        }
+    }
+
+    void onHedged() {
+        hedged.increment();
+    }
+
+    Scheduler scheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Gets the recent latencies of an operation, recorded over the last one to two {@link #LATENCY_WINDOW}s.
+     *
+     * @param operation The name of the operation
+     * @return The latencies, or null if none are recorded
+     */
+    public LatencyHistogram getLatency(String operation) {
+        LatencyWindow window = latencies.get(operation);
+        return window == null ? null : window.get(nanoClock.getAsLong());
+    }
+
+    /**
+     * Gets the number of requests which were duplicated.
+     *
+     * @return The number of hedged requests
+     */
+    public long getHedged() {
+        return hedged.sum();
+    }
+
+    /**
+     * Gets the number of hedged requests whose response came from the duplicate.
+     *
+     * @return The number of responses from duplicate requests
+     */
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "HedgingPolicy{percentile=" + percentile + ", minDelay=" + minDelay + "}";
+    }
+
+    /**
+     * The latencies of an operation in two histograms started one window apart, the older of which is read.
+     */
+    private final class LatencyWindow {
+        private LatencyHistogram older = new LatencyHistogram();
+        private LatencyHistogram newer = new LatencyHistogram();
+        private long rotatedNanos;
+
+        LatencyWindow(long nowNanos) {
+            this.rotatedNanos = nowNanos;
+        }
+
+        synchronized void record(long micros, long nowNanos) {
+            rotate(nowNanos);
+            older.record(micros);
+            newer.record(micros);
+        }
+
+        synchronized LatencyHistogram get(long nowNanos) {
+            rotate(nowNanos);
+            return older;
+        }
+
+        private void rotate(long nowNanos) {
+            long elapsed = nowNanos - rotatedNanos;
+            if (elapsed < windowNanos) {
+                return;
+            }
+            // Without requests for two windows both histograms are stale
+            older = elapsed < 2 * windowNanos ? newer : new LatencyHistogram();
+            newer = new LatencyHistogram();
+            rotatedNanos = nowNanos;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+import org.opensearch.client.Node;
+import org.opensearch.client.NodeSelector;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Selects the living nodes with the fewest requests in flight, read from the connection pool of the client.
+ * <p>
+ * Dedicated cluster manager nodes are skipped unless no other node is available. Nodes with equal load are all selected, so the
+ * client rotates between them and retries a failed request on another of them. Nodes which fail are marked dead by the client and
+ * retried after an exponential backoff, so they are not offered to this selector in the meantime.
+ */
+final class LeastLoadedNodeSelector implements NodeSelector {
+
+    private final Supplier<ConnPoolControl<HttpRoute>> pool;
+
+    /**
+     * Instantiates a selector reading the load of each node from a connection pool.
+     *
+     * @param pool Supplies the connection pool of the client, or null if it has not been created yet
+     */
+    LeastLoadedNodeSelector(Supplier<ConnPoolControl<HttpRoute>> pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void select(Iterable<Node> nodes) {
+        List<Node> candidates = new ArrayList<>();
+        nodes.forEach(candidates::add);
+        NodeSelector.SKIP_DEDICATED_CLUSTER_MANAGERS.select(candidates);
+        if (candidates.isEmpty()) {
+            nodes.forEach(candidates::add);
+        }
+
+        Map<String, Integer> loads = loads();
+        int minLoad = Integer.MAX_VALUE;
+        for (Node node : candidates) {
+            minLoad = Math.min(minLoad, loads.getOrDefault(node.getHost().toHostString(), 0));
+        }
+        for (Iterator<Node> it = nodes.iterator(); it.hasNext();) {
+            Node node = it.next();
+            if (!candidates.contains(node) || loads.getOrDefault(node.getHost().toHostString(), 0) > minLoad) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Gets the leased and pending connections of each node, keyed by host and port.
+     */
+    private Map<String, Integer> loads() {
+        Map<String, Integer> loads = new HashMap<>();
+        ConnPoolControl<HttpRoute> control = pool.get();
+        if (control != null) {
+            for (HttpRoute route : control.getRoutes()) {
+                PoolStats stats = control.getStats(route);
+                loads.merge(route.getTargetHost().toHostString(), stats.getLeased() + stats.getPending(), Integer::sum);
+            }
+        }
+        return loads;
+    }
+
+    @Override
+    public String toString() {
+        return "LEAST_LOADED";
+    }
+}
@@ -59,7 +59,8 @@ public class NettyTransport {
      */
     public Netty4Transport getNetty4Transport(Settings settings, ThreadPool threadPool) {
         NetworkService networkService = new NetworkService(Collections.emptyList());
-        PageCacheRecycler pageCacheRecycler = new PageCacheRecycler(settings);
+        // Share the recycler of the SDK's serialization buffers with the transport
+        PageCacheRecycler pageCacheRecycler = extensionsRunner.getSdkBigArrays().getPageCacheRecycler();
 
         final CircuitBreakerService circuitBreakerService = new NoneCircuitBreakerService();
 
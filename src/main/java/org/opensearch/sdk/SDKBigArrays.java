@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+
+import java.io.IOException;
+
+/**
+ * This class provides pooled serialization buffers backed by a {@link PageCacheRecycler}.
+ * <p>
+ * Each {@link ExtensionsRunner} owns an instance whose recycler is shared with the extension's transport, so runners in the same JVM
+ * do not share buffers. {@link #NON_RECYCLING} allocates buffers without recycling, for code which runs without a runner.
+ */
+public final class SDKBigArrays {
+
+    /**
+     * An instance which allocates buffers without recycling.
+     */
+    public static final SDKBigArrays NON_RECYCLING = new SDKBigArrays(null);
+
+    private final PageCacheRecycler pageCacheRecycler;
+    private final BigArrays bigArrays;
+
+    /**
+     * Instantiate pooled buffers backed by a recycler.
+     *
+     * @param pageCacheRecycler The recycler of the buffers, or null to allocate buffers without recycling.
+     */
+    public SDKBigArrays(@Nullable PageCacheRecycler pageCacheRecycler) {
+        this.pageCacheRecycler = pageCacheRecycler;
+        this.bigArrays = pageCacheRecycler == null
+            ? BigArrays.NON_RECYCLING_INSTANCE
+            : new BigArrays(pageCacheRecycler, new NoneCircuitBreakerService(), "extension");
+    }
+
+    /**
+     * Gets the recycler backing the buffers.
+     *
+     * @return the recycler, or null if buffers are allocated without recycling.
+     */
+    @Nullable
+    public PageCacheRecycler getPageCacheRecycler() {
+        return pageCacheRecycler;
+    }
+
+    /**
+     * Gets the {@link BigArrays} used for pooled serialization buffers.
+     *
+     * @return the {@link BigArrays} instance.
+     */
+    public BigArrays bigArrays() {
+        return bigArrays;
+    }
+
+    /**
+     * Creates a stream output whose pages are returned to the pool when it is closed.
+     *
+     * @return a new {@link ReleasableBytesStreamOutput}.
+     */
+    public ReleasableBytesStreamOutput newBytesStreamOutput() {
+        return new ReleasableBytesStreamOutput(bigArrays);
+    }
+
+    /**
+     * Serializes an object to a byte array, using a pooled buffer while writing.
+     *
+     * @param writeable The object to serialize.
+     * @return the serialized bytes.
+     * @throws IOException if serialization fails.
+     */
+    public byte[] toBytes(Writeable writeable) throws IOException {
+        try (ReleasableBytesStreamOutput out = newBytesStreamOutput()) {
+            writeable.writeTo(out);
+            return BytesReference.toBytes(out.bytes());
+        }
+    }
+}
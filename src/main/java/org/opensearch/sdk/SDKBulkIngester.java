@@ -0,0 +1,486 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkProcessor;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.ActiveShardCount;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.client.Request;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.Response;
+import org.opensearch.client.ResponseException;
+import org.opensearch.client.ResponseListener;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lucene.uid.Versions;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.VersionType;
+import org.opensearch.sdk.stats.BulkIngesterStats;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
+
+/**
+ * Batches index, create, update and delete requests into bulk requests sent by the {@link SDKClient}, so extensions do not need
+ * their own batching logic.
+ * <p>
+ * Buffered actions are flushed when their count or size reaches a limit, or at an interval. A bounded number of bulk requests may be
+ * in flight at once: when the limit is reached, adding an action blocks until a bulk request completes. Items rejected by OpenSearch
+ * because it is overloaded are retried with exponential backoff. Bulk requests are sent by the low-level client shared by the
+ * high-level and Java clients of the {@link SDKClient}, and may be compressed with gzip.
+ * <p>
+ * Actions are the {@link DocWriteRequest}s of the high-level client, which are sent with the same parameters and metadata as
+ * {@link org.opensearch.client.RestHighLevelClient#bulk}. Operations of the Java client are not accepted; extensions using the Java
+ * client create the equivalent {@link IndexRequest}, {@link UpdateRequest} or {@link org.opensearch.action.delete.DeleteRequest}.
+ * <p>
+ * Create an ingester with {@link SDKClient#bulkIngester()}.
+ */
+public class SDKBulkIngester implements Closeable {
+    private static final Logger logger = LogManager.getLogger(SDKBulkIngester.class);
+
+    /**
+     * How long {@link #close()} waits for in-flight bulk requests to complete.
+     */
+    public static final TimeValue DEFAULT_CLOSE_TIMEOUT = TimeValue.timeValueSeconds(30);
+
+    private static final ContentType NDJSON = ContentType.create("application/x-ndjson", StandardCharsets.UTF_8);
+
+    private final SharedRestClient sharedRestClient;
+    private final boolean compression;
+    private final BulkProcessor.Listener listener;
+    private final BulkIngesterStats stats = new BulkIngesterStats();
+    private final Map<Long, Long> flushStartNanos = new ConcurrentHashMap<>();
+    private final BulkProcessor bulkProcessor;
+    private boolean closed;
+
+    private SDKBulkIngester(Builder builder, SharedRestClient sharedRestClient) {
+        this.sharedRestClient = sharedRestClient;
+        this.compression = builder.compression;
+        this.listener = builder.listener;
+        BulkProcessor.Builder processorBuilder = BulkProcessor.builder(this::send, new StatsListener())
+            .setBulkActions(builder.bulkActions)
+            .setBulkSize(builder.bulkSize)
+            .setConcurrentRequests(builder.concurrentRequests)
+            .setBackoffPolicy(builder.backoffPolicy);
+        if (builder.flushInterval != null) {
+            processorBuilder.setFlushInterval(builder.flushInterval);
+        }
+        this.bulkProcessor = processorBuilder.build();
+    }
+
+    /**
+     * Adds an index, create, update or delete request, flushing the buffered actions if a limit is reached. Blocks while the
+     * maximum number of bulk requests are in flight.
+     *
+     * @param request The request to add
+     * @return this ingester
+     */
+    public SDKBulkIngester add(DocWriteRequest<?> request) {
+        bulkProcessor.add(request);
+        return this;
+    }
+
+    /**
+     * Sends the buffered actions.
+     */
+    public void flush() {
+        bulkProcessor.flush();
+    }
+
+    /**
+     * Gets the statistics of the flushes of this ingester.
+     *
+     * @return the statistics
+     */
+    public BulkIngesterStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Sends the buffered actions, waits for the in-flight bulk requests to complete, and releases the client.
+     *
+     * @param timeout The maximum time to wait for in-flight bulk requests
+     * @param unit The unit of the timeout
+     * @return true if all bulk requests completed, false if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitClose(long timeout, TimeUnit unit) throws InterruptedException {
+        synchronized (this) {
+            if (closed) {
+                return true;
+            }
+            closed = true;
+        }
+        try {
+            return bulkProcessor.awaitClose(timeout, unit);
+        } finally {
+            try {
+                sharedRestClient.decRef();
+            } catch (IOException e) {
+                logger.warn("Failed to close the client of the bulk ingester", e);
+            }
+        }
+    }
+
+    /**
+     * Sends the buffered actions, waits up to {@link #DEFAULT_CLOSE_TIMEOUT} for the in-flight bulk requests, and releases the client.
+     */
+    @Override
+    public void close() {
+        try {
+            if (!awaitClose(DEFAULT_CLOSE_TIMEOUT.millis(), TimeUnit.MILLISECONDS)) {
+                logger.warn("Closed the bulk ingester before its in-flight bulk requests completed");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sends a flush, or a retry of its rejected items.
+     */
+    private void send(BulkRequest bulkRequest, ActionListener<BulkResponse> bulkListener) {
+        Request request = new Request("POST", "/_bulk");
+        try {
+            byte[] body = toNdJson(bulkRequest);
+            byte[] sentBody = compression ? gzip(body) : body;
+            stats.recordRequest(body.length, sentBody.length);
+            request.setEntity(new ByteArrayEntity(sentBody, NDJSON));
+            if (compression) {
+                request.setOptions(RequestOptions.DEFAULT.toBuilder().addHeader("Content-Encoding", "gzip"));
+            }
+        } catch (IOException e) {
+            bulkListener.onFailure(e);
+            return;
+        }
+        request.addParameters(toParameters(bulkRequest));
+        sharedRestClient.restClient().performRequestAsync(request, new ResponseListener() {
+            @Override
+            public void onSuccess(Response response) {
+                BulkResponse bulkResponse;
+                try (
+                    InputStream in = response.getEntity().getContent();
+                    XContentParser parser = XContentType.JSON.xContent()
+                        .createParser(NamedXContentRegistry.EMPTY, DeprecationHandler.THROW_UNSUPPORTED_OPERATION, in)
+                ) {
+                    bulkResponse = BulkResponse.fromXContent(parser);
+                } catch (Exception e) {
+                    bulkListener.onFailure(e);
+                    return;
+                }
+                bulkListener.onResponse(bulkResponse);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (e instanceof ResponseException
+                    && ((ResponseException) e).getResponse().getStatusLine().getStatusCode() == RestStatus.TOO_MANY_REQUESTS.getStatus()) {
+                    // Reject every item, so the whole request is retried with backoff
+                    bulkListener.onResponse(rejected(bulkRequest, e));
+                } else {
+                    bulkListener.onFailure(e);
+                }
+            }
+        });
+    }
+
+    static BulkResponse rejected(BulkRequest bulkRequest, Exception e) {
+        BulkItemResponse[] items = new BulkItemResponse[bulkRequest.numberOfActions()];
+        for (int i = 0; i < items.length; i++) {
+            DocWriteRequest<?> request = bulkRequest.requests().get(i);
+            OpenSearchStatusException cause = new OpenSearchStatusException(e.getMessage(), RestStatus.TOO_MANY_REQUESTS);
+            items[i] = BulkItemResponse.failure(i, request.opType(), new BulkItemResponse.Failure(request.index(), request.id(), cause));
+        }
+        return new BulkResponse(items, 0);
+    }
+
+    /**
+     * Gets the URL parameters of a bulk request, as written by the high-level client.
+     */
+    static Map<String, String> toParameters(BulkRequest bulkRequest) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        if (bulkRequest.timeout() != null) {
+            parameters.put("timeout", bulkRequest.timeout().getStringRep());
+        }
+        if (bulkRequest.getRefreshPolicy() != WriteRequest.RefreshPolicy.NONE) {
+            parameters.put("refresh", bulkRequest.getRefreshPolicy().getValue());
+        }
+        if (bulkRequest.pipeline() != null) {
+            parameters.put("pipeline", bulkRequest.pipeline());
+        }
+        if (bulkRequest.routing() != null) {
+            parameters.put("routing", bulkRequest.routing());
+        }
+        if (bulkRequest.waitForActiveShards() != null && bulkRequest.waitForActiveShards() != ActiveShardCount.DEFAULT) {
+            parameters.put("wait_for_active_shards", bulkRequest.waitForActiveShards().toString().toLowerCase(Locale.ROOT));
+        }
+        if (Boolean.TRUE.equals(bulkRequest.requireAlias())) {
+            parameters.put("require_alias", "true");
+        }
+        return parameters;
+    }
+
+    /**
+     * Writes the actions of a bulk request as the newline-delimited body of the bulk API, with the same metadata as the high-level
+     * client.
+     */
+    static byte[] toNdJson(BulkRequest bulkRequest) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (DocWriteRequest<?> request : bulkRequest.requests()) {
+            XContentBuilder metadata = XContentFactory.jsonBuilder().startObject().startObject(request.opType().getLowercase());
+            metadata.field("_index", request.index());
+            if (request.id() != null) {
+                metadata.field("_id", request.id());
+            }
+            if (request.routing() != null) {
+                metadata.field("routing", request.routing());
+            }
+            if (request.version() != Versions.MATCH_ANY) {
+                metadata.field("version", request.version());
+            }
+            if (request.versionType() != VersionType.INTERNAL) {
+                metadata.field("version_type", request.versionType().name().toLowerCase(Locale.ROOT));
+            }
+            if (request.ifSeqNo() != UNASSIGNED_SEQ_NO) {
+                metadata.field("if_seq_no", request.ifSeqNo());
+                metadata.field("if_primary_term", request.ifPrimaryTerm());
+            }
+            if (request instanceof IndexRequest && ((IndexRequest) request).getPipeline() != null) {
+                metadata.field("pipeline", ((IndexRequest) request).getPipeline());
+            }
+            if (request instanceof UpdateRequest) {
+                UpdateRequest updateRequest = (UpdateRequest) request;
+                if (updateRequest.retryOnConflict() > 0) {
+                    metadata.field("retry_on_conflict", updateRequest.retryOnConflict());
+                }
+                if (updateRequest.fetchSource() != null) {
+                    metadata.field("_source", updateRequest.fetchSource());
+                }
+            }
+            if (request.isRequireAlias()) {
+                metadata.field("require_alias", true);
+            }
+            writeLine(out, BytesReference.bytes(metadata.endObject().endObject()));
+
+            if (request instanceof IndexRequest) {
+                IndexRequest indexRequest = (IndexRequest) request;
+                String source = XContentHelper.convertToJson(indexRequest.source(), false, indexRequest.getContentType());
+                out.write(source.getBytes(StandardCharsets.UTF_8));
+                out.write('\n');
+            } else if (request instanceof UpdateRequest) {
+                XContentBuilder update = ((UpdateRequest) request).toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
+                writeLine(out, BytesReference.bytes(update));
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeLine(ByteArrayOutputStream out, BytesReference line) throws IOException {
+        line.writeTo(out);
+        out.write('\n');
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Records the statistics of each flush and passes it on to the listener of the builder.
+     */
+    private class StatsListener implements BulkProcessor.Listener {
+        @Override
+        public void beforeBulk(long executionId, BulkRequest request) {
+            flushStartNanos.put(executionId, System.nanoTime());
+            stats.recordFlush(request.numberOfActions());
+            if (listener != null) {
+                listener.beforeBulk(executionId, request);
+            }
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, BulkResponse response) {
+            int failed = 0;
+            for (BulkItemResponse item : response.getItems()) {
+                if (item.isFailed()) {
+                    failed++;
+                }
+            }
+            stats.recordCompletion(failed, elapsedMicros(executionId));
+            if (failed > 0) {
+                logger.debug(
+                    "Bulk flush " + executionId + " completed with " + failed + " failed actions, " + response.buildFailureMessage()
+                );
+            }
+            if (listener != null) {
+                listener.afterBulk(executionId, request, response);
+            }
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, Throwable failure) {
+            stats.recordFailure(request.numberOfActions(), elapsedMicros(executionId));
+            logger.warn("Bulk flush " + executionId + " of " + request.numberOfActions() + " actions failed", failure);
+            if (listener != null) {
+                listener.afterBulk(executionId, request, failure);
+            }
+        }
+
+        private long elapsedMicros(long executionId) {
+            Long startNanos = flushStartNanos.remove(executionId);
+            return startNanos == null ? 0 : TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Configures a {@link SDKBulkIngester}.
+     */
+    public static class Builder {
+        private final Supplier<SharedRestClient> sharedRestClient;
+        private int bulkActions = 1000;
+        private ByteSizeValue bulkSize = new ByteSizeValue(5, ByteSizeUnit.MB);
+        private TimeValue flushInterval;
+        private int concurrentRequests = 1;
+        private BackoffPolicy backoffPolicy = BackoffPolicy.exponentialBackoff();
+        private boolean compression;
+        private BulkProcessor.Listener listener;
+
+        Builder(Supplier<SharedRestClient> sharedRestClient) {
+            this.sharedRestClient = sharedRestClient;
+        }
+
+        /**
+         * Sets the number of buffered actions which triggers a flush. Defaults to 1000, -1 disables flushing by count.
+         *
+         * @param bulkActions The maximum number of actions per bulk request
+         * @return this builder
+         */
+        public Builder setBulkActions(int bulkActions) {
+            this.bulkActions = bulkActions;
+            return this;
+        }
+
+        /**
+         * Sets the size of buffered actions which triggers a flush. Defaults to 5mb, -1 disables flushing by size.
+         *
+         * @param bulkSize The maximum size of the actions of a bulk request
+         * @return this builder
+         */
+        public Builder setBulkSize(ByteSizeValue bulkSize) {
+            this.bulkSize = bulkSize;
+            return this;
+        }
+
+        /**
+         * Sets the interval at which buffered actions are flushed, whatever their count or size. Not set by default.
+         *
+         * @param flushInterval The flush interval, or null to only flush by count or size
+         * @return this builder
+         */
+        public Builder setFlushInterval(@Nullable TimeValue flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * Sets the number of bulk requests which may be in flight while actions are added. Defaults to 1. Zero sends each bulk
+         * request from the thread adding the action which triggers the flush.
+         *
+         * @param concurrentRequests The maximum number of in-flight bulk requests
+         * @return this builder
+         */
+        public Builder setConcurrentRequests(int concurrentRequests) {
+            this.concurrentRequests = concurrentRequests;
+            return this;
+        }
+
+        /**
+         * Sets the backoff between retries of the items rejected because OpenSearch is overloaded. Defaults to
+         * {@link BackoffPolicy#exponentialBackoff()}.
+         *
+         * @param backoffPolicy The backoff policy, {@link BackoffPolicy#noBackoff()} to not retry
+         * @return this builder
+         */
+        public Builder setBackoffPolicy(BackoffPolicy backoffPolicy) {
+            this.backoffPolicy = backoffPolicy;
+            return this;
+        }
+
+        /**
+         * Sets whether bulk request bodies are compressed with gzip. Disabled by default.
+         *
+         * @param compression true to compress the bodies
+         * @return this builder
+         */
+        public Builder setCompression(boolean compression) {
+            this.compression = compression;
+            return this;
+        }
+
+        /**
+         * Sets a listener notified before and after each flush, with its response or failure.
+         *
+         * @param listener The listener, or null for none
+         * @return this builder
+         */
+        public Builder setListener(@Nullable BulkProcessor.Listener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Builds the ingester, which holds a reference to the client until it is closed.
+         *
+         * @return the ingester
+         */
+        public SDKBulkIngester build() {
+            return new SDKBulkIngester(this, sharedRestClient.get());
+        }
+    }
+}
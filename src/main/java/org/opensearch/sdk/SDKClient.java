@@ -9,13 +9,6 @@
 
 package org.opensearch.sdk;
 
-import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.MapperFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.guava.GuavaModule;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-
 import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
 import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
@@ -23,8 +16,11 @@ import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
 import org.apache.hc.core5.function.Factory;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.reactor.IOReactorConfig;
 import org.apache.hc.core5.reactor.ssl.TlsDetails;
 import org.apache.hc.core5.ssl.SSLContextBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionType;
 import org.opensearch.action.admin.cluster.health.ClusterHealthRequest;
@@ -77,34 +73,53 @@ import org.opensearch.client.indices.GetMappingsResponse;
 import org.opensearch.client.indices.PutMappingRequest;
 import org.opensearch.client.indices.rollover.RolloverRequest;
 import org.opensearch.client.indices.rollover.RolloverResponse;
-import org.opensearch.client.json.jackson.JacksonJsonpMapper;
 import org.opensearch.client.opensearch.OpenSearchAsyncClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.transport.OpenSearchTransport;
-import org.opensearch.client.transport.rest_client.RestClientTransport;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.action.ActionResponse;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
+import org.opensearch.sdk.stats.ConnectionPoolStats;
 
 import javax.net.ssl.SSLEngine;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * This class creates SDKClient for an extension to make requests to OpenSearch
  */
 public class SDKClient implements Closeable {
+    private static final Logger logger = LogManager.getLogger(SDKClient.class);
+
     private OpenSearchClient javaClient;
-    private RestClient restClient;
     private SDKRestClient sdkRestClient;
     private OpenSearchAsyncClient javaAsyncClient;
     private final ExtensionSettings extensionSettings;
+    private final ConnectionPoolStats connectionPoolStats;
+    // The low-level client shared by all clients of the configured node, the clients of other hosts, and the references held by the
+    // Java clients
+    private SharedRestClient sharedRestClient;
+    private final Map<HttpHost, SharedRestClient> hostRestClients = new HashMap<>();
+    private final List<SharedRestClient> javaClientReferences = new ArrayList<>();
+    // The nodes of the cluster discovered by SDKNodeDiscovery, or null to only send requests to the configured node
+    private List<Node> discoveredNodes;
+    private volatile HedgingPolicy hedgingPolicy;
 
     /**
     * Instantiates this class with a copy of the extension settings.
@@ -112,7 +127,18 @@ public class SDKClient implements Closeable {
     * @param extensionSettings The Extension settings
     */
     public SDKClient(ExtensionSettings extensionSettings) {
+        this(extensionSettings, new ConnectionPoolStats());
+    }
+
+    /**
+    * Instantiates this class with a copy of the extension settings, reporting the statistics of its connection pools.
+    *
+    * @param extensionSettings The Extension settings
+    * @param connectionPoolStats The statistics in which to report the connection pools of the clients
+    */
+    public SDKClient(ExtensionSettings extensionSettings, ConnectionPoolStats connectionPoolStats) {
         this.extensionSettings = extensionSettings;
+        this.connectionPoolStats = connectionPoolStats;
     }
 
     // Used by client.execute, populated by initialize method
@@ -142,19 +168,172 @@ public class SDKClient implements Closeable {
         // Update the settings for future initialization of new clients
         this.extensionSettings.setOpensearchAddress(address);
         this.extensionSettings.setOpensearchPort(httpPort);
-        // Update the settings on the already-initialized SDKRestClient (Deprecated -- for migration use)
-        if (this.sdkRestClient != null) {
-            this.sdkRestClient.getRestHighLevelClient()
-                .getLowLevelClient()
-                .setNodes(List.of(new Node(new HttpHost(address, Integer.parseInt(httpPort)))));
-        }
-        // Update the settings on the already-initialized OpenSearchAsyncClient
-        if (this.javaAsyncClient != null) {
-            OpenSearchTransport javaAsyncClientTransport = this.javaAsyncClient._transport();
-            if (javaAsyncClientTransport instanceof RestClientTransport) {
-                RestClientTransport restClientTransport = (RestClientTransport) javaAsyncClientTransport;
-                restClientTransport.restClient().setNodes(List.of(new Node(new HttpHost(address, Integer.parseInt(httpPort)))));
+        // Update the already-initialized clients at once through the client they share
+        SharedRestClient shared = currentSharedRestClient();
+        if (shared != null) {
+            shared.setNodes(List.of(new Node(new HttpHost(address, Integer.parseInt(httpPort)))));
+            prewarmConnections(shared.restClient());
+        }
+        synchronized (this) {
+            discoveredNodes = null;
+        }
+    }
+
+    /**
+     * Spreads the requests of all clients across the given nodes, preferring the least loaded. A node which fails is skipped until
+     * its backoff expires, and the configured node is used again when it is given to {@link #updateOpenSearchNodeSettings}.
+     *
+     * @param nodes The nodes to send requests to
+     */
+    public void updateOpenSearchNodes(List<Node> nodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("At least one node is required");
+        }
+        SharedRestClient shared;
+        synchronized (this) {
+            if (nodes.equals(discoveredNodes)) {
+                return;
             }
+            discoveredNodes = List.copyOf(nodes);
+            shared = currentSharedRestClient();
+        }
+        logger.debug("Updating the nodes of the client to " + nodes);
+        if (shared != null) {
+            shared.setNodes(nodes);
+        }
+    }
+
+    /**
+     * Sets the policy under which idempotent reads are hedged, sending a duplicate request when the first one is slow.
+     *
+     * @param hedgingPolicy The hedging policy, or null to send each request once
+     */
+    public void setHedgingPolicy(@Nullable HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+    }
+
+    /**
+     * Gets the policy under which idempotent reads are hedged.
+     *
+     * @return The hedging policy, or null if each request is sent once
+     */
+    @Nullable
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    /**
+     * Sends an idempotent read of the Java client under the hedging policy of this client, for example
+     * {@code sdkClient.hedge("search", () -> javaAsyncClient.search(request, Document.class))}.
+     *
+     * @param <T> The type of the response
+     * @param operation The name of the operation, whose latencies determine the hedging delay
+     * @param request Sends the request. It is called a second time if the first request is slow, and must not modify any state.
+     * @return A future completed with the first response. Cancelling it cancels all attempts.
+     */
+    public <T> CompletableFuture<T> hedge(String operation, Supplier<CompletableFuture<T>> request) {
+        return HedgedRequest.send(hedgingPolicy, operation, request);
+    }
+
+    /**
+     * Creates a builder of a bulk ingester, which batches index, create, update and delete requests into bulk requests sent by the
+     * low-level client shared by the high-level and Java clients.
+     *
+     * @return A builder of an ingester sending requests to the configured OpenSearch node. The user is responsible for closing the
+     *         ingester when finished with it.
+     */
+    public SDKBulkIngester.Builder bulkIngester() {
+        return new SDKBulkIngester.Builder(
+            () -> acquireSharedRestClient(extensionSettings.getOpensearchAddress(), Integer.parseInt(extensionSettings.getOpensearchPort()))
+        );
+    }
+
+    /**
+     * Acquires a reference to the low-level client shared by all clients of the configured node, if one is open.
+     *
+     * @return The shared client, which must be released by the caller, or null if no client of the configured node is open
+     */
+    synchronized SharedRestClient acquireOpenSharedRestClient() {
+        return sharedRestClient != null && sharedRestClient.tryIncRef() ? sharedRestClient : null;
+    }
+
+    private synchronized SharedRestClient currentSharedRestClient() {
+        return sharedRestClient == null || sharedRestClient.isClosed() ? null : sharedRestClient;
+    }
+
+    /**
+     * Acquires a reference to a shared low-level client, creating it if no client of the host is open.
+     * <p>
+     * Clients of the configured node share one low-level client, whose nodes follow {@link #updateOpenSearchNodeSettings} and
+     * {@link #updateOpenSearchNodes}. Clients of any other host share a low-level client per distinct host, which only sends requests to
+     * that host.
+     *
+     * @param hostAddress The address the client should connect to
+     * @param port The port the client should connect to
+     * @return The shared client, which must be released when the caller is closed
+     */
+    private synchronized SharedRestClient acquireSharedRestClient(String hostAddress, int port) {
+        HttpHost host = new HttpHost(hostAddress, port);
+        String configuredPort = extensionSettings.getOpensearchPort();
+        if (!host.equals(new HttpHost(extensionSettings.getOpensearchAddress(), Integer.parseInt(configuredPort)))) {
+            SharedRestClient shared = hostRestClients.get(host);
+            if (shared == null || !shared.tryIncRef()) {
+                shared = newSharedRestClient(hostAddress, port);
+                hostRestClients.put(host, shared);
+            }
+            return shared;
+        }
+        if (sharedRestClient != null && sharedRestClient.tryIncRef()) {
+            return sharedRestClient;
+        }
+        sharedRestClient = newSharedRestClient(hostAddress, port);
+        if (discoveredNodes != null && discoveredNodes.stream().anyMatch(node -> host.equals(node.getHost()))) {
+            sharedRestClient.setNodes(discoveredNodes);
+        }
+        return sharedRestClient;
+    }
+
+    /**
+     * Creates a low-level client sending requests to a host, with one reference.
+     */
+    private SharedRestClient newSharedRestClient(String hostAddress, int port) {
+        AtomicReference<PoolingAsyncClientConnectionManager> connectionManager = new AtomicReference<>();
+        RestClientBuilder builder = builder(hostAddress, port, connectionManager::set);
+        builder.setNodeSelector(new LeastLoadedNodeSelector(connectionManager::get));
+        builder.setFailureListener(new RestClient.FailureListener() {
+            @Override
+            public void onFailure(Node node) {
+                logger.warn("Request to " + node.getHost() + " failed, retrying the node after a backoff");
+            }
+        });
+        SharedRestClient shared = new SharedRestClient(builder.build(), () -> connectionPoolStats.unregister(connectionManager.get()));
+        shared.tryIncRef();
+        return shared;
+    }
+
+    /**
+     * Opens connections to the OpenSearch node ahead of use, including the TLS handshake, by sending concurrent lightweight requests.
+     * The number of connections is set by {@link ExtensionSettings#getClientPrewarmConnections()}.
+     *
+     * @param client The client whose connection pool to fill
+     */
+    private void prewarmConnections(RestClient client) {
+        int connections = Math.min(extensionSettings.getClientPrewarmConnections(), extensionSettings.getClientMaxConnectionsPerRoute());
+        if (connections <= 0) {
+            return;
+        }
+        logger.debug("Pre-warming " + connections + " connections to " + client.getNodes());
+        ResponseListener listener = new ResponseListener() {
+            @Override
+            public void onSuccess(Response response) {}
+
+            @Override
+            public void onFailure(Exception exception) {
+                logger.debug("Failed to pre-warm a connection", exception);
+            }
+        };
+        for (int i = 0; i < connections; i++) {
+            client.performRequestAsync(new Request("HEAD", "/"), listener);
         }
     }
 
@@ -163,9 +342,10 @@ public class SDKClient implements Closeable {
      *
      * @param hostAddress The address the client should connect to
      * @param port The port the client should connect to
+     * @param onConnectionManager Notified of the connection manager when the client is built
      * @return An instance of the builder
      */
-    private static RestClientBuilder builder(String hostAddress, int port) {
+    private RestClientBuilder builder(String hostAddress, int port, Consumer<PoolingAsyncClientConnectionManager> onConnectionManager) {
         RestClientBuilder builder = RestClient.builder(new HttpHost(hostAddress, port));
         builder.setStrictDeprecationMode(true);
         builder.setHttpClientConfigCallback(httpClientBuilder -> {
@@ -186,8 +366,28 @@ public class SDKClient implements Closeable {
 
                 final PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
                     .setTlsStrategy(tlsStrategy)
+                    .setMaxConnPerRoute(extensionSettings.getClientMaxConnectionsPerRoute())
+                    .setMaxConnTotal(extensionSettings.getClientMaxConnectionsTotal())
                     .build();
-                return httpClientBuilder.setConnectionManager(connectionManager);
+                onConnectionManager.accept(connectionManager);
+                // Reported until the shared client is closed
+                connectionPoolStats.register(connectionManager);
+                httpClientBuilder.setConnectionManager(connectionManager);
+
+                TimeValue keepAlive = extensionSettings.getClientKeepAlive();
+                if (keepAlive.millis() >= 0) {
+                    org.apache.hc.core5.util.TimeValue keepAliveDuration = toHttpTimeValue(keepAlive);
+                    httpClientBuilder.setKeepAliveStrategy((response, context) -> keepAliveDuration);
+                }
+                TimeValue idleConnectionTimeout = extensionSettings.getClientIdleConnectionTimeout();
+                if (idleConnectionTimeout.millis() >= 0) {
+                    httpClientBuilder.evictIdleConnections(toHttpTimeValue(idleConnectionTimeout));
+                }
+                int ioThreads = extensionSettings.getClientIoThreads();
+                if (ioThreads > 0) {
+                    httpClientBuilder.setIOReactorConfig(IOReactorConfig.custom().setIoThreadCount(ioThreads).build());
+                }
+                return httpClientBuilder;
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
@@ -195,27 +395,22 @@ public class SDKClient implements Closeable {
         return builder;
     }
 
+    private static org.apache.hc.core5.util.TimeValue toHttpTimeValue(TimeValue timeValue) {
+        return org.apache.hc.core5.util.TimeValue.ofMilliseconds(timeValue.millis());
+    }
+
     /**
-     * Initializes an OpenSearchTransport using RestClientTransport. This is required for JavaClient and JavaAsyncClient
+     * Acquires a reference to the OpenSearchTransport using RestClientTransport shared by the JavaClient and JavaAsyncClient. The
+     * reference is released by {@link #doCloseJavaClients()}.
      *
      * @param hostAddress The address of OpenSearch cluster, client can connect to
      * @param port The port of OpenSearch cluster
      * @return The OpenSearchTransport implementation of RestClientTransport.
      */
-    private OpenSearchTransport initializeTransport(String hostAddress, int port) {
-        RestClientBuilder builder = builder(hostAddress, port);
-
-        restClient = builder.build();
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.registerModule(new GuavaModule());
-        mapper.enableDefaultTyping(ObjectMapper.DefaultTyping.OBJECT_AND_NON_CONCRETE, JsonTypeInfo.As.PROPERTY);
-        mapper.configure(MapperFeature.USE_GETTERS_AS_SETTERS, false);
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-
-        // Create Client
-        OpenSearchTransport transport = new RestClientTransport(restClient, new JacksonJsonpMapper(mapper));
-        return transport;
+    private synchronized OpenSearchTransport acquireJavaClientTransport(String hostAddress, int port) {
+        SharedRestClient shared = acquireSharedRestClient(hostAddress, port);
+        javaClientReferences.add(shared);
+        return shared.transport();
     }
 
     /**
@@ -230,6 +425,9 @@ public class SDKClient implements Closeable {
 
     /**
      * Initializes an OpenSearchClient using OpenSearch JavaClient
+     * <p>
+     * Clients of the configured node share one low-level client. Clients of any other host share a low-level client per distinct host,
+     * which is not updated when the configured node changes or nodes are discovered.
      *
      * @param hostAddress The address of OpenSearch cluster, client can connect to
      * @param port The port of OpenSearch cluster
@@ -237,7 +435,7 @@ public class SDKClient implements Closeable {
      *         {@link #doCloseJavaClients()} when finished with the client
      */
     public OpenSearchClient initializeJavaClient(String hostAddress, int port) {
-        OpenSearchTransport transport = initializeTransport(hostAddress, port);
+        OpenSearchTransport transport = acquireJavaClientTransport(hostAddress, port);
         javaClient = new OpenSearchClient(transport);
         return javaClient;
     }
@@ -254,6 +452,9 @@ public class SDKClient implements Closeable {
 
     /**
      * Initializes an OpenAsyncSearchClient using OpenSearch JavaClient
+     * <p>
+     * Clients of the configured node share one low-level client. Clients of any other host share a low-level client per distinct host,
+     * which is not updated when the configured node changes or nodes are discovered.
      *
      * @param hostAddress The address of OpenSearch cluster, client can connect to
      * @param port The port of OpenSearch cluster
@@ -261,7 +462,7 @@ public class SDKClient implements Closeable {
      *         {@link #doCloseJavaClients()} when finished with the client
      */
     public OpenSearchAsyncClient initalizeJavaAsyncClient(String hostAddress, int port) {
-        OpenSearchTransport transport = initializeTransport(hostAddress, port);
+        OpenSearchTransport transport = acquireJavaClientTransport(hostAddress, port);
         javaAsyncClient = new OpenSearchAsyncClient(transport);
         return javaAsyncClient;
     }
@@ -291,6 +492,9 @@ public class SDKClient implements Closeable {
      * implementation in existing plugins with a minimum of code changes.
      * <p>
      * Do not use this client for new development.
+     * <p>
+     * Clients of the configured node share one low-level client. Clients of any other host share a low-level client per distinct host,
+     * which is not updated when the configured node changes or nodes are discovered.
      *
      * @param hostAddress The address of OpenSearch cluster, client can connect to
      * @param port        The port of OpenSearch cluster
@@ -301,28 +505,48 @@ public class SDKClient implements Closeable {
      */
     @Deprecated
     public SDKRestClient initializeRestClient(String hostAddress, int port) {
-        this.sdkRestClient = new SDKRestClient(this, new RestHighLevelClient(builder(hostAddress, port)));
+        this.sdkRestClient = new SDKRestClient(this, new SharedRestHighLevelClient(acquireSharedRestClient(hostAddress, port)));
         return this.sdkRestClient;
     }
 
+    /**
+     * A {@link RestHighLevelClient} using the shared low-level client, whose reference it releases when closed.
+     */
+    private static class SharedRestHighLevelClient extends RestHighLevelClient {
+        SharedRestHighLevelClient(SharedRestClient shared) {
+            super(shared.restClient(), releaseOnce(shared), Collections.emptyList());
+        }
+
+        private static CheckedConsumer<RestClient, IOException> releaseOnce(SharedRestClient shared) {
+            AtomicBoolean released = new AtomicBoolean();
+            return restClient -> {
+                if (released.compareAndSet(false, true)) {
+                    shared.decRef();
+                }
+            };
+        }
+    }
+
     @Deprecated
     public SDKRestClient getSdkRestClient() {
         return this.sdkRestClient;
     }
 
     /**
-     * Close java client.
+     * Close java client. The low-level client is closed once no other client uses it.
      *
      * @throws IOException if closing the restClient fails
      */
-    public void doCloseJavaClients() throws IOException {
-        if (this.restClient != null) {
-            this.restClient.close();
+    public synchronized void doCloseJavaClients() throws IOException {
+        List<SharedRestClient> references = new ArrayList<>(javaClientReferences);
+        javaClientReferences.clear();
+        for (SharedRestClient reference : references) {
+            reference.decRef();
         }
     }
 
     /**
-     * Close high level rest client.
+     * Close high level rest client. The low-level client is closed once no other client uses it.
      *
      * @throws IOException if closing the highLevelClient fails
      */
@@ -332,6 +556,15 @@ public class SDKClient implements Closeable {
         }
     }
 
+    /**
+     * Gets the live statistics of the connection pools of the clients.
+     *
+     * @return the connection pool statistics
+     */
+    public ConnectionPoolStats getConnectionPoolStats() {
+        return connectionPoolStats;
+    }
+
     @Override
     public void close() throws IOException {
         doCloseJavaClients();
@@ -469,23 +702,56 @@ public class SDKClient implements Closeable {
 
         /**
          * Gets the document that was indexed from an index with an id.
+         * <p>
+         * The request is hedged under {@link SDKClient#getHedgingPolicy()}. Use {@link #getHedged} to be able to cancel it.
          *
          * @param request  The get request
          * @param listener A listener to be notified with a result
          * @see Requests#getRequest(String)
          */
         public void get(GetRequest request, ActionListener<GetResponse> listener) {
-            restHighLevelClient.getAsync(request, options, listener);
+            getHedged(request, listener);
+        }
+
+        /**
+         * Gets the document that was indexed from an index with an id. The request is hedged under {@link SDKClient#getHedgingPolicy()}.
+         *
+         * @param request  The get request
+         * @param listener A listener to be notified with a result
+         * @return The request, which may be used to cancel it
+         * @see Requests#getRequest(String)
+         */
+        public HedgedRequest<GetResponse> getHedged(GetRequest request, ActionListener<GetResponse> listener) {
+            return HedgedRequest.send(sdkClient.getHedgingPolicy(), "get", l -> {
+                Cancellable cancellable = restHighLevelClient.getAsync(request, options, l);
+                return cancellable::cancel;
+            }, listener);
         }
 
         /**
          * Gets all the documents that match the criteria
+         * <p>
+         * The request is hedged under {@link SDKClient#getHedgingPolicy()}. Use {@link #multiGetHedged} to be able to cancel it.
          *
          * @param request The multiGet Request
          * @param listener A listener to be notified with a result
          */
         public void multiGet(MultiGetRequest request, ActionListener<MultiGetResponse> listener) {
-            restHighLevelClient.mgetAsync(request, options, listener);
+            multiGetHedged(request, listener);
+        }
+
+        /**
+         * Gets all the documents that match the criteria. The request is hedged under {@link SDKClient#getHedgingPolicy()}.
+         *
+         * @param request The multiGet Request
+         * @param listener A listener to be notified with a result
+         * @return The request, which may be used to cancel it
+         */
+        public HedgedRequest<MultiGetResponse> multiGetHedged(MultiGetRequest request, ActionListener<MultiGetResponse> listener) {
+            return HedgedRequest.send(sdkClient.getHedgingPolicy(), "mget", l -> {
+                Cancellable cancellable = restHighLevelClient.mgetAsync(request, options, l);
+                return cancellable::cancel;
+            }, listener);
         }
 
         /**
@@ -522,23 +788,59 @@ public class SDKClient implements Closeable {
 
         /**
          * Search across one or more indices with a query.
+         * <p>
+         * The request is hedged under {@link SDKClient#getHedgingPolicy()}. Use {@link #searchHedged} to be able to cancel it.
          *
          * @param request The search request
          * @param listener A listener to be notified of the result
          * @see Requests#searchRequest(String...)
          */
         public void search(SearchRequest request, ActionListener<SearchResponse> listener) {
-            restHighLevelClient.searchAsync(request, options, listener);
+            searchHedged(request, listener);
+        }
+
+        /**
+         * Search across one or more indices with a query. The request is hedged under {@link SDKClient#getHedgingPolicy()}.
+         *
+         * @param request The search request
+         * @param listener A listener to be notified of the result
+         * @return The request, which may be used to cancel it
+         * @see Requests#searchRequest(String...)
+         */
+        public HedgedRequest<SearchResponse> searchHedged(SearchRequest request, ActionListener<SearchResponse> listener) {
+            return HedgedRequest.send(sdkClient.getHedgingPolicy(), "search", l -> {
+                Cancellable cancellable = restHighLevelClient.searchAsync(request, options, l);
+                return cancellable::cancel;
+            }, listener);
         }
 
         /**
          * Search across all documents that match the criteria
+         * <p>
+         * The request is hedged under {@link SDKClient#getHedgingPolicy()}. Use {@link #multiSearchHedged} to be able to cancel it.
          *
          * @param request The multiSearch Request
          * @param listener A listener to be notified with a result
          */
         public void multiSearch(MultiSearchRequest request, ActionListener<MultiSearchResponse> listener) {
-            restHighLevelClient.msearchAsync(request, options, listener);
+            multiSearchHedged(request, listener);
+        }
+
+        /**
+         * Search across all documents that match the criteria. The request is hedged under {@link SDKClient#getHedgingPolicy()}.
+         *
+         * @param request The multiSearch Request
+         * @param listener A listener to be notified with a result
+         * @return The request, which may be used to cancel it
+         */
+        public HedgedRequest<MultiSearchResponse> multiSearchHedged(
+            MultiSearchRequest request,
+            ActionListener<MultiSearchResponse> listener
+        ) {
+            return HedgedRequest.send(sdkClient.getHedgingPolicy(), "msearch", l -> {
+                Cancellable cancellable = restHighLevelClient.msearchAsync(request, options, l);
+                return cancellable::cancel;
+            }, listener);
         }
 
         /**
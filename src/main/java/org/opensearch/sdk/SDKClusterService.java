@@ -9,29 +9,59 @@
 
 package org.opensearch.sdk;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.IncompatibleClusterStateVersionException;
 import org.opensearch.common.settings.AbstractScopedSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.SettingUpgrader;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.extensions.DiscoveryExtensionNode;
+import org.opensearch.sdk.handlers.ClusterStatePublishRequest;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 
+import java.io.Closeable;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 /**
  * This class simulates methods normally called from OpenSearch ClusterService class.
  */
-public class SDKClusterService {
+public class SDKClusterService implements Closeable {
+    private static final Logger logger = LogManager.getLogger(SDKClusterService.class);
+
+    /**
+     * The name of the thread on which cluster state listeners are notified.
+     */
+    public static final String CLUSTER_STATE_LISTENER_THREAD_NAME = "clusterStateListener";
+    private static final String CLUSTER_STATE_UPDATE_SOURCE = "cluster state received by extension";
 
     private final ExtensionsRunner extensionsRunner;
     private final SDKClusterSettings clusterSettings;
+    private final ClusterStateCache clusterStateCache;
+    private final TimeValue clusterStateRefreshInterval;
+    private final List<ClusterStateListener> clusterStateListeners = new CopyOnWriteArrayList<>();
+    private ExecutorService clusterStateListenerExecutor;
+    private Scheduler.Cancellable scheduledRefresh;
+    private boolean closed;
     private ClusterName clusterName;
 
     /**
@@ -47,20 +77,158 @@ public class SDKClusterService {
         this.clusterSettings = new SDKClusterSettings(nodeSettings, settingsSet);
         // Set to default on initialization but updated later once connected to OpenSearch
         this.clusterName = ClusterName.DEFAULT;
+        ExtensionSettings extensionSettings = extensionsRunner.getExtension().getExtensionSettings();
+        this.clusterStateCache = new ClusterStateCache(
+            listener -> extensionsRunner.getSdkTransportService().sendClusterStateRequest(listener),
+            extensionSettings == null ? TimeValue.ZERO : extensionSettings.getClusterStateMaxStaleness()
+        );
+        this.clusterStateCache.setUpdateListener(this::notifyListeners);
+        this.clusterStateRefreshInterval = extensionSettings == null
+            ? TimeValue.MINUS_ONE
+            : extensionSettings.getClusterStateRefreshInterval();
     }
 
     /**
-     * Send a request to OpenSearch to retrieve the cluster state
+     * Gets the cluster state of OpenSearch. The state is sent from OpenSearch unless a cached state within the configured
+     * {@link ExtensionSettings#getClusterStateMaxStaleness()} is available.
      *
      * @return the cluster state of OpenSearch
      */
     public ClusterState state() {
         if (extensionsRunner.isInitialized()) {
-            return extensionsRunner.getSdkTransportService().sendClusterStateRequest();
+            return clusterStateCache.get();
         }
         throw new IllegalStateException("The Extensions Runner has not been initialized.");
     }
 
+    /**
+     * Prepares a request for selected parts of the cluster state. Filtered cluster states are always sent from OpenSearch and are not
+     * cached.
+     *
+     * @return a builder for a request which selects the whole cluster state until filters are applied
+     */
+    public SDKClusterStateRequestBuilder prepareState() {
+        return new SDKClusterStateRequestBuilder(extensionsRunner);
+    }
+
+    /**
+     * Adds a listener to be notified whenever the {@link #getClusterStateCache() cluster state cache} receives a newer cluster state.
+     * Listeners are notified in order on a dedicated thread.
+     * <p>
+     * The cache receives cluster states and diffs published to the extension, and states fetched by {@link #state()}. As OpenSearch may
+     * not publish cluster states to extensions, the first listener also starts fetching the cluster state every
+     * {@link ExtensionSettings#getClusterStateRefreshInterval()} once the extension is initialized, so listeners see changes within that
+     * interval. Intermediate states between two fetches are not seen.
+     *
+     * @param listener The listener to add
+     */
+    public void addListener(ClusterStateListener listener) {
+        synchronized (clusterStateListeners) {
+            if (closed) {
+                throw new IllegalStateException("Cannot add a ClusterStateListener after the cluster service is closed");
+            }
+            if (clusterStateListenerExecutor == null) {
+                String threadName = "opensearch[" + extensionsRunner.getExtension().getExtensionSettings().getExtensionName() + "]";
+                clusterStateListenerExecutor = Executors.newSingleThreadExecutor(
+                    OpenSearchExecutors.daemonThreadFactory(threadName + "[" + CLUSTER_STATE_LISTENER_THREAD_NAME + "]")
+                );
+            }
+            if (scheduledRefresh == null && clusterStateRefreshInterval.nanos() > 0) {
+                scheduledRefresh = extensionsRunner.getThreadPool()
+                    .scheduleWithFixedDelay(this::refreshForListeners, clusterStateRefreshInterval, ThreadPool.Names.GENERIC);
+            }
+            clusterStateListeners.add(listener);
+        }
+    }
+
+    /**
+     * Removes a listener added with {@link #addListener(ClusterStateListener)}.
+     *
+     * @param listener The listener to remove
+     */
+    public void removeListener(ClusterStateListener listener) {
+        clusterStateListeners.remove(listener);
+    }
+
+    /**
+     * Applies a published cluster state or diff to the cached cluster state, which notifies listeners if it is newer.
+     *
+     * @param request The published cluster state or diff
+     * @throws IncompatibleClusterStateVersionException if a diff does not apply to the cached cluster state
+     */
+    public synchronized void applyClusterState(ClusterStatePublishRequest request) {
+        ClusterState newState;
+        if (request.isDiff()) {
+            ClusterState previousState = clusterStateCache.getCached();
+            if (previousState == null) {
+                throw new IncompatibleClusterStateVersionException("Received a cluster state diff without a cluster state to apply it to");
+            }
+            newState = request.getDiff().apply(previousState);
+        } else {
+            newState = request.getState();
+        }
+        clusterStateCache.put(newState);
+    }
+
+    private void refreshForListeners() {
+        // The cluster state can only be fetched once connected to OpenSearch
+        if (!extensionsRunner.isInitialized() || clusterStateListeners.isEmpty()) {
+            return;
+        }
+        clusterStateCache.refresh().whenComplete((state, e) -> {
+            if (e != null) {
+                logger.debug("Failed to refresh the cluster state for ClusterStateListeners", e);
+            }
+        });
+    }
+
+    private void notifyListeners(ClusterState previousState, ClusterState newState) {
+        ExecutorService executor;
+        synchronized (clusterStateListeners) {
+            executor = clusterStateListenerExecutor;
+        }
+        if (executor == null || clusterStateListeners.isEmpty()) {
+            return;
+        }
+        ClusterChangedEvent event = new ClusterChangedEvent(
+            CLUSTER_STATE_UPDATE_SOURCE,
+            newState,
+            previousState == null ? ClusterState.EMPTY_STATE : previousState
+        );
+        try {
+            executor.execute(() -> {
+                for (ClusterStateListener listener : clusterStateListeners) {
+                    try {
+                        listener.clusterChanged(event);
+                    } catch (Exception e) {
+                        logger.warn("Failed to notify ClusterStateListener", e);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("Not notifying ClusterStateListeners of cluster state version " + newState.version() + " after close");
+        }
+    }
+
+    /**
+     * Stops refreshing the cluster state and notifying listeners, waiting up to {@link ExtensionsRunner#SHUTDOWN_TIMEOUT} for running
+     * notifications to complete.
+     */
+    @Override
+    public void close() {
+        ExecutorService executor;
+        synchronized (clusterStateListeners) {
+            closed = true;
+            if (scheduledRefresh != null) {
+                scheduledRefresh.cancel();
+            }
+            executor = clusterStateListenerExecutor;
+        }
+        if (executor != null) {
+            ThreadPool.terminate(executor, ExtensionsRunner.SHUTDOWN_TIMEOUT.millis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
     /**
      *  Returns the local extension node
      *
@@ -85,6 +253,15 @@ public class SDKClusterService {
         this.clusterName = ClusterName.CLUSTER_NAME_SETTING.get(extensionsRunner.getEnvironmentSettings());
     }
 
+    /**
+     * Gets the cache of the cluster state returned by {@link #state()}.
+     *
+     * @return the cluster state cache
+     */
+    public ClusterStateCache getClusterStateCache() {
+        return clusterStateCache;
+    }
+
     public SDKClusterSettings getClusterSettings() {
         return clusterSettings;
     }
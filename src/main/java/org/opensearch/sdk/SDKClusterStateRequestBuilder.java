@@ -0,0 +1,212 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.admin.cluster.state.ClusterStateRequest;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.extensions.ExtensionsManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds a request for the parts of the cluster state an extension needs, modelled on the OpenSearch ClusterStateRequestBuilder.
+ * <p>
+ * OpenSearch only serializes the selected parts of the cluster state, which greatly reduces the payload and deserialization time on
+ * clusters with many indices. Unselected parts of the returned {@link ClusterState} are empty.
+ */
+public class SDKClusterStateRequestBuilder {
+    private static final Logger logger = LogManager.getLogger(SDKClusterStateRequestBuilder.class);
+
+    private final ExtensionsRunner extensionsRunner;
+    private final ClusterStateRequest request = new ClusterStateRequest();
+
+    /**
+     * Instantiate a builder for a request selecting the whole cluster state.
+     *
+     * @param extensionsRunner An {@link ExtensionsRunner} instance.
+     */
+    SDKClusterStateRequestBuilder(ExtensionsRunner extensionsRunner) {
+        this.extensionsRunner = extensionsRunner;
+    }
+
+    /**
+     * Include all data
+     *
+     * @return this builder
+     */
+    public SDKClusterStateRequestBuilder all() {
+        request.all();
+        return this;
+    }
+
+    /**
+     * Do not include any data
+     *
+     * @return this builder
+     */
+    public SDKClusterStateRequestBuilder clear() {
+        request.clear();
+        return this;
+    }
+
+    /**
+     * Should the cluster state result include the {@link org.opensearch.cluster.block.ClusterBlocks}. Defaults
+     * to {@code true}.
+     *
+     * @param filter whether to include the blocks
+     * @return this builder
+     */
+    public SDKClusterStateRequestBuilder setBlocks(boolean filter) {
+        request.blocks(filter);
+        return this;
+    }
+
+    /**
+     * Should the cluster state result include the {@link org.opensearch.cluster.metadata.Metadata}. Defaults
+     * to {@code true}.
+     *
+     * @param filter whether to include the metadata
+     * @return this builder
+     */
+    public SDKClusterStateRequestBuilder setMetadata(boolean filter) {
+        request.metadata(filter);
+        return this;
+    }
+
+    /**
+     * Should the cluster state result include the {@link org.opensearch.cluster.node.DiscoveryNodes}. Defaults
+     * to {@code true}.
+     *
+     * @param filter whether to include the nodes
+     * @return this builder
+     */
+    public SDKClusterStateRequestBuilder setNodes(boolean filter) {
+        request.nodes(filter);
+        return this;
+    }
+
+    /**
+     * Should the cluster state result include the {@link ClusterState.Custom}. Defaults
+     * to {@code true}.
+     *
+     * @param filter whether to include the customs
+     * @return this builder
+     */
+    public SDKClusterStateRequestBuilder setCustoms(boolean filter) {
+        request.customs(filter);
+        return this;
+    }
+
+    /**
+     * Should the cluster state result include the {@link org.opensearch.cluster.routing.RoutingTable}. Defaults
+     * to {@code true}.
+     *
+     * @param filter whether to include the routing table
+     * @return this builder
+     */
+    public SDKClusterStateRequestBuilder setRoutingTable(boolean filter) {
+        request.routingTable(filter);
+        return this;
+    }
+
+    /**
+     * When {@link #setMetadata(boolean)} is set, which indices to return the {@link org.opensearch.cluster.metadata.IndexMetadata}
+     * for. Defaults to all indices.
+     *
+     * @param indices the index names or patterns
+     * @return this builder
+     */
+    public SDKClusterStateRequestBuilder setIndices(String... indices) {
+        request.indices(indices);
+        return this;
+    }
+
+    /**
+     * Specifies how index patterns are resolved and how unavailable indices are handled.
+     *
+     * @param indicesOptions the indices options
+     * @return this builder
+     */
+    public SDKClusterStateRequestBuilder setIndicesOptions(IndicesOptions indicesOptions) {
+        request.indicesOptions(indicesOptions);
+        return this;
+    }
+
+    /**
+     * Causes the request to wait for the metadata version to advance to at least the given version.
+     *
+     * @param waitForMetadataVersion The metadata version for which to wait
+     * @return this builder
+     */
+    public SDKClusterStateRequestBuilder setWaitForMetadataVersion(long waitForMetadataVersion) {
+        request.waitForMetadataVersion(waitForMetadataVersion);
+        return this;
+    }
+
+    /**
+     * If {@link #setWaitForMetadataVersion(long)} is set then this determines how long to wait
+     *
+     * @param waitForTimeout how long to wait for the metadata version
+     * @return this builder
+     */
+    public SDKClusterStateRequestBuilder setWaitForTimeOut(TimeValue waitForTimeout) {
+        request.waitForTimeout(waitForTimeout);
+        return this;
+    }
+
+    /**
+     * Gets the request built so far.
+     *
+     * @return the cluster state request
+     */
+    public ClusterStateRequest request() {
+        return request;
+    }
+
+    /**
+     * Sends the request to OpenSearch without waiting for the response.
+     *
+     * @param listener The listener to notify of the filtered cluster state or failure
+     */
+    public void execute(ActionListener<ClusterState> listener) {
+        if (!extensionsRunner.isInitialized()) {
+            listener.onFailure(new IllegalStateException("The Extensions Runner has not been initialized."));
+            return;
+        }
+        extensionsRunner.getSdkTransportService().sendClusterStateRequest(request, listener);
+    }
+
+    /**
+     * Sends the request to OpenSearch and waits for the response.
+     *
+     * @return the filtered cluster state of OpenSearch, or an empty cluster state if the request failed
+     */
+    public ClusterState get() {
+        if (!extensionsRunner.isInitialized()) {
+            throw new IllegalStateException("The Extensions Runner has not been initialized.");
+        }
+        CompletableFuture<ClusterState> future = new CompletableFuture<>();
+        execute(ActionListener.wrap(future::complete, future::completeExceptionally));
+        try {
+            return future.get(ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("Failed to receive filtered Cluster State response from OpenSearch", e);
+        }
+        return ClusterState.EMPTY_STATE;
+    }
+}
@@ -9,58 +9,61 @@
 
 package org.opensearch.sdk;
 
-import org.opensearch.cluster.ClusterModule;
-import org.opensearch.common.network.NetworkModule;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry.Entry;
-import org.opensearch.indices.IndicesModule;
-import org.opensearch.search.SearchModule;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Function;
-import java.util.stream.Stream;
-
-import static java.util.stream.Collectors.toList;
+import java.util.Set;
 
 /**
  * Combines Extension NamedWriteable with core OpenSearch NamedWriteable
  */
 public class SDKNamedWriteableRegistry {
-    private NamedWriteableRegistry namedWriteableRegistry;
+    private volatile NamedWriteableRegistry namedWriteableRegistry;
+    private Settings settings;
+    private List<Entry> extensionNamedWriteable;
+    private Set<String> categories;
 
     /**
-     * Creates and populates a NamedWriteableRegistry with the NamedWriteableRegistry entries for this extension and locally defined content.
+     * Creates a NamedWriteableRegistry with the NamedWriteableRegistry entries for this extension and locally defined content.
+     * <p>
+     * The registry is populated on first use.
      *
      * @param runner The ExtensionsRunner instance.
      */
     public SDKNamedWriteableRegistry(ExtensionsRunner runner) {
-        this.namedWriteableRegistry = createRegistry(runner.getEnvironmentSettings(), runner.getCustomNamedWriteables());
+        updateNamedWriteableRegistry(runner);
     }
 
     /**
      * Updates the NamedWriteableRegistry with the NamedWriteableRegistry entries for this extension and locally defined content.
      * <p>
-     * Only necessary if environment settings have changed.
+     * Only necessary if environment settings have changed. Core entries are only rescanned if the search settings have changed.
      *
      * @param runner The ExtensionsRunner instance.
      */
-    public void updateNamedWriteableRegistry(ExtensionsRunner runner) {
-        this.namedWriteableRegistry = createRegistry(runner.getEnvironmentSettings(), runner.getCustomNamedWriteables());
+    public synchronized void updateNamedWriteableRegistry(ExtensionsRunner runner) {
+        this.settings = runner.getEnvironmentSettings();
+        this.extensionNamedWriteable = runner.getCustomNamedWriteables();
+        this.categories = CoreNamedRegistryEntries.categories(runner);
+        this.namedWriteableRegistry = null;
     }
 
-    private NamedWriteableRegistry createRegistry(Settings settings, List<Entry> extensionNamedWriteable) {
-        Stream<Entry> extensionContent = extensionNamedWriteable == null ? Stream.empty() : extensionNamedWriteable.stream();
-        return new NamedWriteableRegistry(
-            Stream.of(
-                extensionContent,
-                NetworkModule.getNamedWriteables().stream(),
-                new IndicesModule(Collections.emptyList()).getNamedWriteables().stream(),
-                new SearchModule(settings, Collections.emptyList()).getNamedWriteables().stream(),
-                ClusterModule.getNamedWriteables().stream()
-            ).flatMap(Function.identity()).collect(toList())
+    private NamedWriteableRegistry createRegistry() {
+        List<Entry> entries = new ArrayList<>();
+        if (extensionNamedWriteable != null) {
+            entries.addAll(extensionNamedWriteable);
+        }
+        entries.addAll(
+            CoreNamedRegistryEntries.filter(
+                CoreNamedRegistryEntries.forSettings(settings).getNamedWriteables(),
+                e -> e.categoryClass,
+                categories
+            )
         );
+        return new NamedWriteableRegistry(entries);
     }
 
     /**
@@ -69,10 +72,25 @@ public class SDKNamedWriteableRegistry {
      * @return The NamedWriteableRegistry. Includes both extension-defined Writeable and core OpenSearch Writeable.
      */
     public NamedWriteableRegistry getRegistry() {
-        return this.namedWriteableRegistry;
+        NamedWriteableRegistry registry = this.namedWriteableRegistry;
+        if (registry == null) {
+            synchronized (this) {
+                registry = this.namedWriteableRegistry;
+                if (registry == null) {
+                    registry = createRegistry();
+                    this.namedWriteableRegistry = registry;
+                }
+            }
+        }
+        return registry;
     }
 
-    public void setNamedWriteableRegistry(NamedWriteableRegistry namedWriteableRegistry) {
+    /**
+     * Sets the NamedWriteableRegistry. Used primarily for tests.
+     *
+     * @param namedWriteableRegistry The registry to set.
+     */
+    public synchronized void setNamedWriteableRegistry(NamedWriteableRegistry namedWriteableRegistry) {
         this.namedWriteableRegistry = namedWriteableRegistry;
     }
 }
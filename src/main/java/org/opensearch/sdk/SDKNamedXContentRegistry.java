@@ -9,21 +9,14 @@
 
 package org.opensearch.sdk;
 
-import org.opensearch.cluster.ClusterModule;
-import org.opensearch.common.network.NetworkModule;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry.Entry;
 import org.opensearch.core.xcontent.XContentParser;
-import org.opensearch.indices.IndicesModule;
-import org.opensearch.search.SearchModule;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Function;
-import java.util.stream.Stream;
-
-import static java.util.stream.Collectors.toList;
+import java.util.Set;
 
 /**
  * Combines Extension NamedXContent with core OpenSearch NamedXContent
@@ -38,7 +31,10 @@ public class SDKNamedXContentRegistry {
      */
     public static final SDKNamedXContentRegistry EMPTY = new SDKNamedXContentRegistry();
 
-    private NamedXContentRegistry namedXContentRegistry;
+    private volatile NamedXContentRegistry namedXContentRegistry;
+    private Settings settings;
+    private List<Entry> extensionNamedXContent;
+    private Set<String> categories;
 
     /**
      * Creates an empty registry.
@@ -48,36 +44,43 @@ public class SDKNamedXContentRegistry {
     }
 
     /**
-     * Creates and populates a NamedXContentRegistry with the NamedXContentRegistry entries for this extension and locally defined content.
+     * Creates a NamedXContentRegistry with the NamedXContentRegistry entries for this extension and locally defined content.
+     * <p>
+     * The registry is populated on first use.
      *
      * @param runner The ExtensionsRunner instance.
      */
     public SDKNamedXContentRegistry(ExtensionsRunner runner) {
-        this.namedXContentRegistry = createRegistry(runner.getEnvironmentSettings(), runner.getCustomNamedXContent());
+        updateNamedXContentRegistry(runner);
     }
 
     /**
      * Updates the NamedXContentRegistry with the NamedXContentRegistry entries for this extension and locally defined content.
      * <p>
-     * Only necessary if environment settings have changed.
+     * Only necessary if environment settings have changed. Core entries are only rescanned if the search settings have changed.
      *
      * @param runner The ExtensionsRunner instance.
      */
-    public void updateNamedXContentRegistry(ExtensionsRunner runner) {
-        this.namedXContentRegistry = createRegistry(runner.getEnvironmentSettings(), runner.getCustomNamedXContent());
+    public synchronized void updateNamedXContentRegistry(ExtensionsRunner runner) {
+        this.settings = runner.getEnvironmentSettings();
+        this.extensionNamedXContent = runner.getCustomNamedXContent();
+        this.categories = CoreNamedRegistryEntries.categories(runner);
+        this.namedXContentRegistry = null;
     }
 
-    private NamedXContentRegistry createRegistry(Settings settings, List<Entry> extensionNamedXContent) {
-        Stream<Entry> extensionContent = extensionNamedXContent == null ? Stream.empty() : extensionNamedXContent.stream();
-        return new NamedXContentRegistry(
-            Stream.of(
-                extensionContent,
-                NetworkModule.getNamedXContents().stream(),
-                IndicesModule.getNamedXContents().stream(),
-                new SearchModule(settings, Collections.emptyList()).getNamedXContents().stream(),
-                ClusterModule.getNamedXWriteables().stream()
-            ).flatMap(Function.identity()).collect(toList())
+    private NamedXContentRegistry createRegistry() {
+        List<Entry> entries = new ArrayList<>();
+        if (extensionNamedXContent != null) {
+            entries.addAll(extensionNamedXContent);
+        }
+        entries.addAll(
+            CoreNamedRegistryEntries.filter(
+                CoreNamedRegistryEntries.forSettings(settings).getNamedXContents(),
+                e -> e.categoryClass,
+                categories
+            )
         );
+        return new NamedXContentRegistry(entries);
     }
 
     /**
@@ -86,7 +89,17 @@ public class SDKNamedXContentRegistry {
      * @return The NamedXContentRegistry. Includes both extension-defined XContent and core OpenSearch XContent.
      */
     public NamedXContentRegistry getRegistry() {
-        return this.namedXContentRegistry;
+        NamedXContentRegistry registry = this.namedXContentRegistry;
+        if (registry == null) {
+            synchronized (this) {
+                registry = this.namedXContentRegistry;
+                if (registry == null) {
+                    registry = createRegistry();
+                    this.namedXContentRegistry = registry;
+                }
+            }
+        }
+        return registry;
     }
 
     /**
@@ -94,7 +107,7 @@ public class SDKNamedXContentRegistry {
      *
      * @param namedXContentRegistry The registry to set.
      */
-    public void setRegistry(NamedXContentRegistry namedXContentRegistry) {
+    public synchronized void setRegistry(NamedXContentRegistry namedXContentRegistry) {
         this.namedXContentRegistry = namedXContentRegistry;
     }
 }
@@ -0,0 +1,220 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.client.Node;
+import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.client.ResponseListener;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the nodes of the {@link SDKClient} in sync with the nodes of the cluster, so client requests are spread across the cluster
+ * rather than sent to the node which initialized the extension.
+ * <p>
+ * Nodes are read from the {@code GET _nodes/http} API through the client shared by the clients of the {@link SDKClient}, in the same
+ * way as the sniffer of the low-level client, periodically and when the {@link SDKClusterService} receives a cluster state
+ * with changed nodes. Each node is addressed at its HTTP publish address, and nodes with HTTP disabled are skipped.
+ */
+public class SDKNodeDiscovery implements ClusterStateListener, Closeable {
+    private static final Logger logger = LogManager.getLogger(SDKNodeDiscovery.class);
+
+    private final SDKClient sdkClient;
+    private final SDKClusterService sdkClusterService;
+    private final ThreadPool threadPool;
+    private final TimeValue interval;
+    private Scheduler.Cancellable scheduledRefresh;
+
+    /**
+     * Instantiates node discovery for a client.
+     *
+     * @param sdkClient The client whose nodes to update
+     * @param sdkClusterService The cluster service whose node changes trigger a refresh
+     * @param threadPool The thread pool on which to schedule periodic refreshes
+     * @param interval The interval between periodic refreshes, which must be positive
+     */
+    public SDKNodeDiscovery(SDKClient sdkClient, SDKClusterService sdkClusterService, ThreadPool threadPool, TimeValue interval) {
+        if (interval.nanos() <= 0) {
+            throw new IllegalArgumentException("Node discovery interval must be positive but was " + interval);
+        }
+        this.sdkClient = sdkClient;
+        this.sdkClusterService = sdkClusterService;
+        this.threadPool = threadPool;
+        this.interval = interval;
+    }
+
+    /**
+     * Starts updating the nodes of the client.
+     */
+    public synchronized void start() {
+        if (scheduledRefresh == null) {
+            sdkClusterService.addListener(this);
+            scheduledRefresh = threadPool.scheduleWithFixedDelay(this::refresh, interval, ThreadPool.Names.GENERIC);
+        }
+    }
+
+    /**
+     * Updates the nodes of the client from the nodes info API, if a client is open.
+     */
+    public void refresh() {
+        SharedRestClient shared = sdkClient.acquireOpenSharedRestClient();
+        if (shared == null) {
+            // No client is open, so there are no requests to spread
+            return;
+        }
+        String scheme = shared.restClient().getNodes().get(0).getHost().getSchemeName();
+        shared.restClient().performRequestAsync(new Request("GET", "/_nodes/http"), new ResponseListener() {
+            @Override
+            public void onSuccess(Response response) {
+                try (InputStream in = response.getEntity().getContent()) {
+                    List<Node> nodes = readNodes(in, scheme);
+                    if (!nodes.isEmpty()) {
+                        sdkClient.updateOpenSearchNodes(nodes);
+                    }
+                } catch (Exception e) {
+                    logger.debug("Failed to read the nodes of the cluster", e);
+                } finally {
+                    release(shared);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                // Keep the current nodes until the nodes info API is available
+                logger.debug("Failed to refresh the nodes of the client", e);
+                release(shared);
+            }
+        });
+    }
+
+    private static void release(SharedRestClient shared) {
+        try {
+            shared.decRef();
+        } catch (IOException e) {
+            logger.warn("Failed to close the client of node discovery", e);
+        }
+    }
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        if (event.nodesChanged()) {
+            refresh();
+        }
+    }
+
+    /**
+     * Reads the client nodes from a response of the nodes info API, as the sniffer of the low-level client does.
+     *
+     * @param in The response body of {@code GET _nodes/http}
+     * @param scheme The scheme of the HTTP addresses
+     * @return The client nodes, one per distinct publish address, with the roles and attributes of the cluster nodes
+     * @throws IOException if the response could not be parsed
+     */
+    @SuppressWarnings("unchecked")
+    static List<Node> readNodes(InputStream in, String scheme) throws IOException {
+        Map<String, Object> response;
+        try (
+            XContentParser parser = XContentType.JSON.xContent()
+                .createParser(NamedXContentRegistry.EMPTY, DeprecationHandler.THROW_UNSUPPORTED_OPERATION, in)
+        ) {
+            response = parser.map();
+        }
+        Map<HttpHost, Node> nodes = new LinkedHashMap<>();
+        Object nodeInfos = response.get("nodes");
+        if (!(nodeInfos instanceof Map)) {
+            return new ArrayList<>();
+        }
+        for (Object value : ((Map<String, Object>) nodeInfos).values()) {
+            Map<String, Object> nodeInfo = (Map<String, Object>) value;
+            Object http = nodeInfo.get("http");
+            if (!(http instanceof Map) || ((Map<String, Object>) http).get("publish_address") == null) {
+                // HTTP is disabled on this node
+                continue;
+            }
+            Map<String, Object> httpInfo = (Map<String, Object>) http;
+            HttpHost publishAddress = readHost(httpInfo.get("publish_address").toString(), scheme);
+            Set<HttpHost> boundAddresses = new LinkedHashSet<>();
+            if (httpInfo.get("bound_address") instanceof List) {
+                for (Object boundAddress : (List<Object>) httpInfo.get("bound_address")) {
+                    boundAddresses.add(readHost(boundAddress.toString(), scheme));
+                }
+            }
+            Set<String> roles = new LinkedHashSet<>();
+            if (nodeInfo.get("roles") instanceof List) {
+                for (Object role : (List<Object>) nodeInfo.get("roles")) {
+                    roles.add(role.toString());
+                }
+            }
+            Map<String, List<String>> attributes = new HashMap<>();
+            if (nodeInfo.get("attributes") instanceof Map) {
+                for (Map.Entry<String, Object> attribute : ((Map<String, Object>) nodeInfo.get("attributes")).entrySet()) {
+                    attributes.put(attribute.getKey(), List.of(String.valueOf(attribute.getValue())));
+                }
+            }
+            nodes.putIfAbsent(
+                publishAddress,
+                new Node(
+                    publishAddress,
+                    boundAddresses,
+                    (String) nodeInfo.get("name"),
+                    (String) nodeInfo.get("version"),
+                    new Node.Roles(roles),
+                    attributes
+                )
+            );
+        }
+        return new ArrayList<>(nodes.values());
+    }
+
+    /**
+     * Reads an HTTP address, either {@code host:port} or {@code hostname/ip:port} when the node publishes its host name.
+     */
+    private static HttpHost readHost(String address, String scheme) {
+        int slash = address.indexOf('/');
+        if (slash >= 0) {
+            String port = address.substring(address.lastIndexOf(':') + 1);
+            return new HttpHost(scheme, address.substring(0, slash), Integer.parseInt(port));
+        }
+        URI uri = URI.create(scheme + "://" + address);
+        return new HttpHost(scheme, uri.getHost(), uri.getPort());
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel();
+            sdkClusterService.removeListener(this);
+            scheduledRefresh = null;
+        }
+    }
+}
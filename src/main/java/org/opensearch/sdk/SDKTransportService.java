@@ -12,11 +12,19 @@ package org.opensearch.sdk;
 import com.google.protobuf.ByteString;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.action.admin.cluster.state.ClusterStateAction;
+import org.opensearch.action.admin.cluster.state.ClusterStateRequest;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.CountDown;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.transport.TransportResponse;
+import org.opensearch.extensions.AcknowledgedResponse;
 import org.opensearch.extensions.AddSettingsUpdateConsumerRequest;
 import org.opensearch.extensions.DiscoveryExtensionNode;
 import org.opensearch.extensions.ExtensionRequest;
@@ -27,6 +35,11 @@ import org.opensearch.extensions.action.TransportActionRequestFromExtension;
 import org.opensearch.extensions.proto.ExtensionRequestProto;
 import org.opensearch.extensions.rest.RegisterRestActionsRequest;
 import org.opensearch.extensions.settings.RegisterCustomSettingsRequest;
+import org.opensearch.sdk.action.MultiRemoteExtensionActionRequest;
+import org.opensearch.sdk.action.MultiRemoteExtensionActionResponse;
+import org.opensearch.sdk.action.RemoteActionCompression;
+import org.opensearch.sdk.action.RemoteExtensionActionFrame;
+import org.opensearch.sdk.action.RemoteExtensionActionPeer;
 import org.opensearch.sdk.action.RemoteExtensionActionRequest;
 import org.opensearch.sdk.action.SDKActionModule;
 import org.opensearch.sdk.api.ActionExtension.ActionHandler;
@@ -38,16 +51,24 @@ import org.opensearch.sdk.handlers.ExtensionActionResponseHandler;
 import org.opensearch.sdk.handlers.ExtensionDependencyResponseHandler;
 import org.opensearch.sdk.handlers.UpdateSettingsRequestHandler;
 import org.opensearch.sdk.rest.ExtensionRestPathRegistry;
+import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
 
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -61,6 +82,9 @@ public class SDKTransportService {
     private TransportService transportService;
     private DiscoveryNode opensearchNode;
     private String uniqueId;
+    // The receiver of each remote action, as learned from its capability exchange, or null if it only reads legacy requests
+    private final Map<String, CompletableFuture<RemoteExtensionActionPeer>> remoteActionPeers = new ConcurrentHashMap<>();
+    private RemoteActionCompression remoteActionCompression = RemoteActionCompression.DISABLED;
 
     /**
      * Requests that OpenSearch register the Transport Actions for this extension.
@@ -68,13 +92,32 @@ public class SDKTransportService {
      * @param actions The map of registered actions from {@link SDKActionModule#getActions()}
      */
     public void sendRegisterTransportActionsRequest(Map<String, ActionHandler<?, ?>> actions) {
+        sendRegisterTransportActionsRequest(actions, null);
+    }
+
+    /**
+     * Requests that OpenSearch register the Transport Actions for this extension, notifying the listener when acknowledged.
+     * <p>
+     * OpenSearch only forwards the names of the actions to other extensions. They learn the frame version, the capabilities and the
+     * request ids of all of the actions of this extension from the {@link RemoteExtensionActionPeer} with which it answers an empty
+     * request to any of its actions.
+     *
+     * @param actions The map of registered actions from {@link SDKActionModule#getActions()}
+     * @param listener The listener to notify of the acknowledgement or failure, or null to only log the response
+     */
+    public void sendRegisterTransportActionsRequest(
+        Map<String, ActionHandler<?, ?>> actions,
+        @Nullable ActionListener<AcknowledgedResponse> listener
+    ) {
         logger.info("Sending Register Transport Actions request to OpenSearch");
         Set<String> actionNameSet = actions.values()
             .stream()
             .filter(h -> !h.getAction().name().startsWith("internal"))
             .map(h -> h.getAction().getClass().getName())
             .collect(Collectors.toSet());
-        AcknowledgedResponseHandler registerTransportActionsResponseHandler = new AcknowledgedResponseHandler();
+        // Registering actions means remote extensions are learned again
+        remoteActionPeers.clear();
+        AcknowledgedResponseHandler registerTransportActionsResponseHandler = new AcknowledgedResponseHandler(listener);
         try {
             transportService.sendRequest(
                 opensearchNode,
@@ -84,52 +127,292 @@ public class SDKTransportService {
             );
         } catch (Exception e) {
             logger.error("Failed to send Register Transport Actions request to OpenSearch", e);
+            if (listener != null) {
+                listener.onFailure(e);
+            }
         }
     }
 
     /**
      * Requests that OpenSearch execute a Transport Actions on another extension.
+     * <p>
+     * This method blocks until the response is received. Prefer {@link #sendRemoteExtensionActionRequestAsync}.
      *
      * @param request The request to send
-     * @return A buffer serializing the response from the remote action if successful, otherwise null
+     * @return A buffer serializing the response from the remote action if successful, otherwise an unsuccessful response
      */
     public RemoteExtensionActionResponse sendRemoteExtensionActionRequest(RemoteExtensionActionRequest request) {
         logger.info("Sending Remote Extension Action request to OpenSearch for [" + request.getAction() + "]");
-        // Combine class name string and request bytes
-        byte[] requestClassBytes = request.getRequestClass().getBytes(StandardCharsets.UTF_8);
-        byte[] proxyRequestBytes = ByteBuffer.allocate(requestClassBytes.length + 1 + request.getRequestBytes().length)
-            .put(requestClassBytes)
-            .put(RemoteExtensionActionRequest.UNIT_SEPARATOR)
-            .put(request.getRequestBytes())
-            .array();
-        ExtensionActionResponseHandler extensionActionResponseHandler = new ExtensionActionResponseHandler();
+        CompletableFuture<RemoteExtensionActionResponse> futureResponse = new CompletableFuture<>();
+        sendRemoteExtensionActionRequestAsync(
+            request,
+            ActionListener.wrap(futureResponse::complete, futureResponse::completeExceptionally)
+        );
         try {
-            transportService.sendRequest(
-                opensearchNode,
-                ExtensionsManager.TRANSPORT_ACTION_REQUEST_FROM_EXTENSION,
-                new TransportActionRequestFromExtension(request.getAction(), ByteString.copyFrom(proxyRequestBytes), uniqueId),
-                extensionActionResponseHandler
-            );
             // Wait on response
-            extensionActionResponseHandler.awaitResponse();
+            return futureResponse.get(ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT, TimeUnit.SECONDS);
         } catch (TimeoutException e) {
             logger.error("Failed to receive Remote Extension Action response from OpenSearch", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted while waiting for Remote Extension Action response from OpenSearch", e);
         } catch (Exception e) {
             logger.error("Failed to send Remote Extension Action request to OpenSearch", e);
         }
-        // At this point, response handler has read in the response bytes
-        return new RemoteExtensionActionResponse(
-            extensionActionResponseHandler.isSuccess(),
-            extensionActionResponseHandler.getResponseBytes()
+        return new RemoteExtensionActionResponse(false, new byte[0]);
+    }
+
+    /**
+     * Requests that OpenSearch execute a Transport Actions on another extension without blocking.
+     * <p>
+     * The first request to an extension starts with a capability exchange: an empty request, which receivers reading
+     * {@link RemoteExtensionActionFrame}s answer with a {@link RemoteExtensionActionPeer} listing the request ids of all of their actions.
+     * Requests to these receivers are sent as frames, without another exchange for any of the listed actions. Receivers which answer the
+     * exchange with a failed response predate frames, and are sent requests in the legacy format.
+     * <p>
+     * The listener is completed from the transport response handler when the response arrives, or fails if the request fails or does
+     * not complete within {@link ExtensionsManager#EXTENSION_REQUEST_WAIT_TIMEOUT} seconds.
+     *
+     * @param request The request to send
+     * @param listener The listener to complete with the response from the remote action
+     */
+    public void sendRemoteExtensionActionRequestAsync(
+        RemoteExtensionActionRequest request,
+        ActionListener<RemoteExtensionActionResponse> listener
+    ) {
+        logger.info("Sending async Remote Extension Action request to OpenSearch for [" + request.getAction() + "]");
+        getRemoteActionPeer(request.getAction()).whenComplete((peer, e) -> {
+            if (e == null) {
+                sendRemoteExtensionActionRequestAsync(request, peer, listener);
+            } else {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                listener.onFailure(cause instanceof Exception ? (Exception) cause : new RuntimeException(cause));
+            }
+        });
+    }
+
+    private void sendRemoteExtensionActionRequestAsync(
+        RemoteExtensionActionRequest request,
+        @Nullable RemoteExtensionActionPeer peer,
+        ActionListener<RemoteExtensionActionResponse> listener
+    ) {
+        String action = request.getAction();
+        if (peer == null) {
+            sendTransportActionRequestFromExtension(action, RemoteExtensionActionFrame.encodeLegacy(request), listener);
+            return;
+        }
+        int requestId = peer.getRequestId(action, request.getRequestClass());
+        ActionListener<RemoteExtensionActionResponse> responseListener = ActionListener.wrap(response -> {
+            if (!response.isSuccess() && RemoteExtensionActionFrame.isUnknownRequestId(response.getResponseBytes())) {
+                // The receiver assigned new request ids, learn them again on the next request and send this one with the class name
+                logger.debug("Remote extension did not recognize request id for [" + action + "], sending class name");
+                remoteActionPeers.values().removeIf(f -> f.isDone() && !f.isCompletedExceptionally() && f.join() == peer);
+                sendTransportActionRequestFromExtension(
+                    action,
+                    RemoteExtensionActionFrame.encode(request, RemoteExtensionActionFrame.NO_REQUEST_ID, compressionFor(peer)),
+                    listener
+                );
+            } else {
+                listener.onResponse(response);
+            }
+        }, listener::onFailure);
+        sendTransportActionRequestFromExtension(
+            action,
+            RemoteExtensionActionFrame.encode(request, requestId, compressionFor(peer)),
+            responseListener
         );
     }
 
+    /**
+     * Gets the receiver of a remote action, completing with its {@link RemoteExtensionActionPeer} if it reads frames, or null if it only
+     * reads the legacy format. The capability exchange is sent once per receiver, as its answer lists all of its actions. An exchange
+     * which fails is retried by the next request.
+     */
+    private CompletableFuture<RemoteExtensionActionPeer> getRemoteActionPeer(String action) {
+        CompletableFuture<RemoteExtensionActionPeer> peerFuture = new CompletableFuture<>();
+        CompletableFuture<RemoteExtensionActionPeer> existing = remoteActionPeers.putIfAbsent(action, peerFuture);
+        if (existing != null) {
+            return existing;
+        }
+        sendTransportActionRequestFromExtension(action, ByteString.EMPTY, ActionListener.wrap(response -> {
+            RemoteExtensionActionPeer peer = null;
+            if (response.isSuccess()) {
+                peer = new RemoteExtensionActionPeer(StreamInput.wrap(response.getResponseBytes()));
+                for (String peerAction : peer.getActions()) {
+                    remoteActionPeers.putIfAbsent(peerAction, peerFuture);
+                }
+            }
+            logger.debug("Remote extension " + (peer == null ? "does not read" : "reads") + " frames for [" + action + "]");
+            peerFuture.complete(peer);
+        }, e -> {
+            remoteActionPeers.remove(action, peerFuture);
+            peerFuture.completeExceptionally(e);
+        }));
+        return peerFuture;
+    }
+
+    /**
+     * Requests that OpenSearch execute several Transport Actions on other extensions, without blocking.
+     * <p>
+     * The requests for actions of an extension which advertised {@link RemoteExtensionActionPeer#CAPABILITY_BATCH} are sent to it in a
+     * single batch frame. All other requests, including those to extensions using an SDK which predates batches, are sent individually
+     * as by {@link #sendRemoteExtensionActionRequestAsync}. The listener is always completed with the responses to all requests in their
+     * order. A request which fails, or does not complete within {@link ExtensionsManager#EXTENSION_REQUEST_WAIT_TIMEOUT} seconds, has a
+     * response with the success bit unset and the failure message in its bytes. A batch which fails only fails the responses to its own
+     * requests, so the requests to other extensions are unaffected.
+     *
+     * @param request The batch of requests to send
+     * @param listener The listener to complete with the responses from the remote actions
+     */
+    public void sendMultiRemoteExtensionActionRequestAsync(
+        MultiRemoteExtensionActionRequest request,
+        ActionListener<MultiRemoteExtensionActionResponse> listener
+    ) {
+        List<RemoteExtensionActionRequest> requests = request.getRequests();
+        if (requests.isEmpty()) {
+            listener.onResponse(new MultiRemoteExtensionActionResponse(Collections.emptyList()));
+            return;
+        }
+        logger.info("Sending Multi Remote Extension Action request to OpenSearch for " + requests.size() + " actions");
+        // Learn the receivers one at a time, so that no two capability exchanges are sent to the same receiver
+        Map<String, CompletableFuture<RemoteExtensionActionPeer>> peers = new ConcurrentHashMap<>();
+        CompletableFuture<Void> learned = CompletableFuture.completedFuture(null);
+        for (RemoteExtensionActionRequest item : requests) {
+            learned = learned.thenCompose(v -> peers.computeIfAbsent(item.getAction(), this::getRemoteActionPeer).handle((p, e) -> null));
+        }
+        learned.whenComplete((v, e) -> sendMultiRemoteExtensionActionRequestAsync(requests, peers, listener));
+    }
+
+    private void sendMultiRemoteExtensionActionRequestAsync(
+        List<RemoteExtensionActionRequest> requests,
+        Map<String, CompletableFuture<RemoteExtensionActionPeer>> peers,
+        ActionListener<MultiRemoteExtensionActionResponse> listener
+    ) {
+        AtomicReferenceArray<RemoteExtensionActionResponse> responses = new AtomicReferenceArray<>(requests.size());
+        CountDown countDown = new CountDown(requests.size());
+        BiConsumer<Integer, RemoteExtensionActionResponse> onResponse = (index, response) -> {
+            responses.set(index, response);
+            if (countDown.countDown()) {
+                List<RemoteExtensionActionResponse> multiResponses = new ArrayList<>(responses.length());
+                for (int i = 0; i < responses.length(); i++) {
+                    multiResponses.add(responses.get(i));
+                }
+                listener.onResponse(new MultiRemoteExtensionActionResponse(multiResponses));
+            }
+        };
+
+        // Group the requests to each extension which reads batches, a failed exchange is retried by sending the request individually
+        Map<String, List<Integer>> batches = new LinkedHashMap<>();
+        List<Integer> individual = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String action = requests.get(i).getAction();
+            CompletableFuture<RemoteExtensionActionPeer> peerFuture = peers.get(action);
+            RemoteExtensionActionPeer peer = peerFuture.isCompletedExceptionally() ? null : peerFuture.join();
+            if (peer != null && peer.hasCapability(RemoteExtensionActionPeer.CAPABILITY_BATCH)) {
+                String extension = peer.getUniqueId().isEmpty() ? action : peer.getUniqueId();
+                batches.computeIfAbsent(extension, k -> new ArrayList<>()).add(i);
+            } else {
+                individual.add(i);
+            }
+        }
+        for (List<Integer> indices : batches.values()) {
+            if (indices.size() == 1) {
+                individual.add(indices.get(0));
+                continue;
+            }
+            MultiRemoteExtensionActionRequest batch = new MultiRemoteExtensionActionRequest();
+            indices.forEach(i -> batch.add(requests.get(i)));
+            // Any action of the extension routes the batch to it
+            String routingAction = requests.get(indices.get(0)).getAction();
+            sendTransportActionRequestFromExtension(
+                routingAction,
+                RemoteExtensionActionFrame.encode(batch, compressionFor(peers.get(routingAction).join())),
+                ActionListener.wrap(response -> {
+                    if (!response.isSuccess()) {
+                        throw new IllegalStateException(new String(response.getResponseBytes(), StandardCharsets.UTF_8));
+                    }
+                    List<RemoteExtensionActionResponse> batchResponses = new MultiRemoteExtensionActionResponse(
+                        StreamInput.wrap(response.getResponseBytes())
+                    ).getResponses();
+                    if (batchResponses.size() != indices.size()) {
+                        throw new IllegalStateException(
+                            "Received " + batchResponses.size() + " responses to a batch of " + indices.size() + " requests"
+                        );
+                    }
+                    for (int j = 0; j < indices.size(); j++) {
+                        onResponse.accept(indices.get(j), batchResponses.get(j));
+                    }
+                }, e -> {
+                    logger.debug("Batch of " + indices.size() + " requests to [" + routingAction + "] failed", e);
+                    indices.forEach(i -> onResponse.accept(i, failedResponse(e)));
+                })
+            );
+        }
+        for (int i : individual) {
+            sendRemoteExtensionActionRequestAsync(
+                requests.get(i),
+                ActionListener.wrap(r -> onResponse.accept(i, r), e -> onResponse.accept(i, failedResponse(e)))
+            );
+        }
+    }
+
+    private static RemoteExtensionActionResponse failedResponse(Exception e) {
+        RemoteExtensionActionResponse response = new RemoteExtensionActionResponse(false, new byte[0]);
+        response.setResponseBytesAsString("Action failed: " + e.getMessage());
+        return response;
+    }
+
+    /**
+     * Gets the compression policy for frames sent to a receiver, which only compresses frames for receivers which read them.
+     */
+    private RemoteActionCompression compressionFor(RemoteExtensionActionPeer peer) {
+        return peer.hasCapability(RemoteExtensionActionPeer.CAPABILITY_COMPRESSION)
+            ? remoteActionCompression
+            : RemoteActionCompression.DISABLED;
+    }
+
+    private void sendTransportActionRequestFromExtension(
+        String action,
+        ByteString requestBytes,
+        ActionListener<RemoteExtensionActionResponse> listener
+    ) {
+        // The transport service fails the response handler if no response is received within the timeout
+        TransportRequestOptions options = TransportRequestOptions.builder()
+            .withTimeout(TimeValue.timeValueSeconds(ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT))
+            .build();
+        try {
+            transportService.sendRequest(
+                opensearchNode,
+                ExtensionsManager.TRANSPORT_ACTION_REQUEST_FROM_EXTENSION,
+                new TransportActionRequestFromExtension(action, requestBytes, uniqueId),
+                options,
+                new ExtensionActionResponseHandler(listener)
+            );
+        } catch (Exception e) {
+            logger.error("Failed to send Remote Extension Action request to OpenSearch", e);
+            listener.onFailure(e);
+        }
+    }
+
     /**
      * Requests that OpenSearch register the REST Actions for this extension.
      *
      * @param extensionRestPathRegistry The routes and classes which handle the REST requests
      */
     public void sendRegisterRestActionsRequest(ExtensionRestPathRegistry extensionRestPathRegistry) {
+        sendRegisterRestActionsRequest(extensionRestPathRegistry, null);
+    }
+
+    /**
+     * Requests that OpenSearch register the REST Actions for this extension, notifying the listener when acknowledged.
+     *
+     * @param extensionRestPathRegistry The routes and classes which handle the REST requests
+     * @param listener The listener to notify of the acknowledgement or failure, or null to only log the response
+     */
+    public void sendRegisterRestActionsRequest(
+        ExtensionRestPathRegistry extensionRestPathRegistry,
+        @Nullable ActionListener<AcknowledgedResponse> listener
+    ) {
         List<String> extensionRestPaths = extensionRestPathRegistry.getRegisteredPaths();
         List<String> extensionDeprecatedRestPaths = extensionRestPathRegistry.getRegisteredDeprecatedPaths();
         logger.info(
@@ -138,7 +421,7 @@ public class SDKTransportService {
                 + " and deprecated paths "
                 + extensionDeprecatedRestPaths
         );
-        AcknowledgedResponseHandler registerActionsResponseHandler = new AcknowledgedResponseHandler();
+        AcknowledgedResponseHandler registerActionsResponseHandler = new AcknowledgedResponseHandler(listener);
         try {
             transportService.sendRequest(
                 opensearchNode,
@@ -148,6 +431,9 @@ public class SDKTransportService {
             );
         } catch (Exception e) {
             logger.error("Failed to send Register REST Actions request to OpenSearch", e);
+            if (listener != null) {
+                listener.onFailure(e);
+            }
         }
     }
 
@@ -157,8 +443,21 @@ public class SDKTransportService {
      * @param customSettings A list of custom settings
      */
     public void sendRegisterCustomSettingsRequest(List<Setting<?>> customSettings) {
+        sendRegisterCustomSettingsRequest(customSettings, null);
+    }
+
+    /**
+     * Requests that OpenSearch register the custom settings for this extension, notifying the listener when acknowledged.
+     *
+     * @param customSettings A list of custom settings
+     * @param listener The listener to notify of the acknowledgement or failure, or null to only log the response
+     */
+    public void sendRegisterCustomSettingsRequest(
+        List<Setting<?>> customSettings,
+        @Nullable ActionListener<AcknowledgedResponse> listener
+    ) {
         logger.info("Sending Settings request to OpenSearch");
-        AcknowledgedResponseHandler registerCustomSettingsResponseHandler = new AcknowledgedResponseHandler();
+        AcknowledgedResponseHandler registerCustomSettingsResponseHandler = new AcknowledgedResponseHandler(listener);
         try {
             transportService.sendRequest(
                 opensearchNode,
@@ -168,6 +467,9 @@ public class SDKTransportService {
             );
         } catch (Exception e) {
             logger.error("Failed to send Register Settings request to OpenSearch", e);
+            if (listener != null) {
+                listener.onFailure(e);
+            }
         }
     }
 
@@ -212,6 +514,49 @@ public class SDKTransportService {
         return clusterStateResponseHandler.getClusterState();
     }
 
+    /**
+     * Requests the cluster state from OpenSearch without waiting for the response.
+     * <p>
+     * The listener fails if no response is received within {@link ExtensionsManager#EXTENSION_REQUEST_WAIT_TIMEOUT} seconds.
+     *
+     * @param listener The listener to notify of the cluster state or failure
+     */
+    public void sendClusterStateRequest(ActionListener<ClusterState> listener) {
+        logger.info("Sending Cluster State request to OpenSearch");
+        TransportRequestOptions options = TransportRequestOptions.builder()
+            .withTimeout(TimeValue.timeValueSeconds(ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT))
+            .build();
+        try {
+            transportService.sendRequest(
+                opensearchNode,
+                ExtensionsManager.REQUEST_EXTENSION_CLUSTER_STATE,
+                new ExtensionRequest(ExtensionRequestProto.RequestType.REQUEST_EXTENSION_CLUSTER_STATE),
+                options,
+                new ClusterStateResponseHandler(listener)
+            );
+        } catch (Exception e) {
+            logger.error("Failed to send Cluster State request to OpenSearch", e);
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Requests a filtered cluster state from OpenSearch without waiting for the response. Unlike the unfiltered request, this uses the
+     * core {@link ClusterStateAction}, so OpenSearch only serializes the parts of the cluster state selected by the request.
+     *
+     * @param request The request selecting the parts of the cluster state to return
+     * @param listener The listener to notify of the cluster state or failure
+     */
+    public void sendClusterStateRequest(ClusterStateRequest request, ActionListener<ClusterState> listener) {
+        logger.info("Sending filtered Cluster State request to OpenSearch");
+        try {
+            transportService.sendRequest(opensearchNode, ClusterStateAction.NAME, request, new ClusterStateResponseHandler(listener));
+        } catch (Exception e) {
+            logger.error("Failed to send filtered Cluster State request to OpenSearch", e);
+            listener.onFailure(e);
+        }
+    }
+
     /**
      * Request the Dependency Information from Opensearch. The result will be handled by a {@link ExtensionDependencyResponseHandler}.
      *
@@ -277,6 +622,26 @@ public class SDKTransportService {
         return environmentSettingsResponseHandler.getEnvironmentSettings();
     }
 
+    /**
+     * Requests the environment settings from OpenSearch without blocking.
+     *
+     * @param listener The listener to complete with the Settings object from the OpenSearch Node environment
+     */
+    public void sendEnvironmentSettingsRequest(ActionListener<Settings> listener) {
+        logger.info("Sending Environment Settings request to OpenSearch");
+        try {
+            transportService.sendRequest(
+                opensearchNode,
+                ExtensionsManager.REQUEST_EXTENSION_ENVIRONMENT_SETTINGS,
+                new ExtensionRequest(ExtensionRequestProto.RequestType.REQUEST_EXTENSION_ENVIRONMENT_SETTINGS),
+                new EnvironmentSettingsResponseHandler(listener)
+            );
+        } catch (Exception e) {
+            logger.error("Failed to send Environment Settings request to OpenSearch", e);
+            listener.onFailure(e);
+        }
+    }
+
     /**
      * Registers settings and setting consumers with the {@link UpdateSettingsRequestHandler} and then sends a request to OpenSearch to register these Setting objects with a callback to this extension.
      * The result will be handled by a {@link AcknowledgedResponseHandler}.
@@ -336,4 +701,12 @@ public class SDKTransportService {
     public void setUniqueId(String uniqueId) {
         this.uniqueId = uniqueId;
     }
+
+    public RemoteActionCompression getRemoteActionCompression() {
+        return remoteActionCompression;
+    }
+
+    public void setRemoteActionCompression(RemoteActionCompression remoteActionCompression) {
+        this.remoteActionCompression = remoteActionCompression;
+    }
 }
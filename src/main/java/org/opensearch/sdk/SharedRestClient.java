@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.guava.GuavaModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.client.Node;
+import org.opensearch.client.RestClient;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.rest_client.RestClientTransport;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A low-level {@link RestClient} shared by all of the clients of an {@link SDKClient}, with its connection pool and I/O reactor.
+ * <p>
+ * Each client holds a reference, and the RestClient is closed when the last reference is released. The {@link OpenSearchTransport} of
+ * the Java clients is created on first use, and shared by the synchronous and asynchronous Java clients.
+ */
+final class SharedRestClient {
+    private static final Logger logger = LogManager.getLogger(SharedRestClient.class);
+
+    private final RestClient restClient;
+    private final Runnable onClose;
+    private OpenSearchTransport transport;
+    private int refCount;
+    private boolean closed;
+
+    /**
+     * Wraps a RestClient with no references.
+     *
+     * @param restClient The client to share
+     * @param onClose Run after the client is closed
+     */
+    SharedRestClient(RestClient restClient, Runnable onClose) {
+        this.restClient = restClient;
+        this.onClose = onClose;
+    }
+
+    /**
+     * Gets the shared client.
+     *
+     * @return the RestClient
+     */
+    RestClient restClient() {
+        return restClient;
+    }
+
+    /**
+     * Gets the transport of the Java clients, creating it on first use.
+     *
+     * @return the transport wrapping the shared client
+     */
+    synchronized OpenSearchTransport transport() {
+        if (transport == null) {
+            ObjectMapper mapper = new ObjectMapper();
+            mapper.registerModule(new JavaTimeModule());
+            mapper.registerModule(new GuavaModule());
+            mapper.enableDefaultTyping(ObjectMapper.DefaultTyping.OBJECT_AND_NON_CONCRETE, JsonTypeInfo.As.PROPERTY);
+            mapper.configure(MapperFeature.USE_GETTERS_AS_SETTERS, false);
+            mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+            transport = new RestClientTransport(restClient, new JacksonJsonpMapper(mapper));
+        }
+        return transport;
+    }
+
+    /**
+     * Replaces the nodes of the shared client, which applies to all of the clients at once.
+     *
+     * @param nodes The nodes to send requests to
+     */
+    void setNodes(List<Node> nodes) {
+        restClient.setNodes(nodes);
+    }
+
+    /**
+     * Acquires a reference.
+     *
+     * @return true if a reference was acquired, false if the client was already closed
+     */
+    synchronized boolean tryIncRef() {
+        if (closed) {
+            return false;
+        }
+        refCount++;
+        return true;
+    }
+
+    /**
+     * Releases a reference, closing the client when the last reference is released.
+     *
+     * @throws IOException if closing the client fails
+     */
+    void decRef() throws IOException {
+        synchronized (this) {
+            if (closed || --refCount > 0) {
+                return;
+            }
+            closed = true;
+        }
+        logger.debug("Closing the shared REST client, no clients are using it");
+        try {
+            restClient.close();
+        } finally {
+            onClose.run();
+        }
+    }
+
+    /**
+     * Gets the number of references held.
+     *
+     * @return the number of clients using the shared client
+     */
+    synchronized int refCount() {
+        return refCount;
+    }
+
+    /**
+     * Gets whether the client was closed because all of its references were released.
+     *
+     * @return true if the client is closed
+     */
+    synchronized boolean isClosed() {
+        return closed;
+    }
+}
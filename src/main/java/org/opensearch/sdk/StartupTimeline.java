@@ -0,0 +1,174 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Records the duration of each phase of extension initialization, relative to the start of initialization.
+ * <p>
+ * Phases may run concurrently. Each phase is recorded in the order it started, with the cause of its failure if it failed.
+ */
+public class StartupTimeline {
+
+    /**
+     * The start and end of a phase, in milliseconds since the start of initialization.
+     */
+    public static class Phase {
+        private final long startMillis;
+        private volatile long endMillis = -1;
+        private volatile String failure;
+
+        private Phase(long startMillis) {
+            this.startMillis = startMillis;
+        }
+
+        public long getStartMillis() {
+            return startMillis;
+        }
+
+        /**
+         * Gets the end of this phase.
+         *
+         * @return milliseconds since the start of initialization when this phase ended, or -1 if it has not ended
+         */
+        public long getEndMillis() {
+            return endMillis;
+        }
+
+        /**
+         * Gets the duration of this phase.
+         *
+         * @return the duration of this phase in milliseconds, or -1 if it has not ended
+         */
+        public long getDurationMillis() {
+            return endMillis < 0 ? -1 : endMillis - startMillis;
+        }
+
+        /**
+         * Gets why this phase failed.
+         *
+         * @return the message of the failure of this phase, or null if it has not failed
+         */
+        public String getFailure() {
+            return failure;
+        }
+
+        @Override
+        public String toString() {
+            return startMillis + "ms-" + (endMillis < 0 ? "?" : endMillis + "ms") + (failure == null ? "" : " failed: " + failure);
+        }
+    }
+
+    private final LongSupplier nanoTime;
+    private final Map<String, Phase> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+    private volatile long startNanos;
+
+    /**
+     * Instantiate a timeline using the system clock.
+     */
+    public StartupTimeline() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Instantiate a timeline using the specified clock.
+     *
+     * @param nanoTime A supplier of the current time in nanoseconds
+     */
+    StartupTimeline(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.startNanos = nanoTime.getAsLong();
+    }
+
+    /**
+     * Restarts this timeline, discarding any recorded phases.
+     */
+    public void reset() {
+        phases.clear();
+        startNanos = nanoTime.getAsLong();
+    }
+
+    /**
+     * Records the start of a phase.
+     *
+     * @param phase The name of the phase
+     */
+    public void start(String phase) {
+        phases.put(phase, new Phase(elapsedMillis()));
+    }
+
+    /**
+     * Records the end of a phase.
+     *
+     * @param phase The name of the phase
+     */
+    public void end(String phase) {
+        Phase p = phases.get(phase);
+        if (p != null) {
+            p.endMillis = elapsedMillis();
+        }
+    }
+
+    /**
+     * Records the end of a phase which failed.
+     *
+     * @param phase The name of the phase
+     * @param failure The cause of the failure
+     */
+    public void fail(String phase, Throwable failure) {
+        Phase p = phases.get(phase);
+        if (p != null) {
+            p.failure = failure.toString();
+            p.endMillis = elapsedMillis();
+        }
+    }
+
+    /**
+     * Gets the phases which failed.
+     *
+     * @return the names of the failed phases, in the order they started
+     */
+    public List<String> getFailedPhases() {
+        List<String> failed = new ArrayList<>();
+        for (Map.Entry<String, Phase> phase : getPhases().entrySet()) {
+            if (phase.getValue().getFailure() != null) {
+                failed.add(phase.getKey());
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Gets the recorded phases.
+     *
+     * @return an unmodifiable copy of the phases, in the order they started
+     */
+    public Map<String, Phase> getPhases() {
+        synchronized (phases) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(phases));
+        }
+    }
+
+    private long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(nanoTime.getAsLong() - startNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "StartupTimeline" + getPhases();
+    }
+}
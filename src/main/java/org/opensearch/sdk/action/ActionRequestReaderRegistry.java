@@ -0,0 +1,184 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.action;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.support.TransportAction;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.sdk.api.ActionExtension.ActionHandler;
+import org.opensearch.tasks.Task;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry of {@link Writeable.Reader}s used to instantiate {@link ActionRequest}s from their class names.
+ * <p>
+ * Readers for the request classes of registered actions are resolved once when this registry is created, and each of these request
+ * classes is assigned a request id which senders learn from a {@link RemoteExtensionActionPeer}. Readers for other request
+ * classes are resolved reflectively on first use and cached.
+ */
+public class ActionRequestReaderRegistry {
+    private static final Logger logger = LogManager.getLogger(ActionRequestReaderRegistry.class);
+
+    private final Map<String, Writeable.Reader<? extends ActionRequest>> readers = new ConcurrentHashMap<>();
+    private final Map<String, String> actionRequestClasses = new ConcurrentHashMap<>();
+    private final Map<String, Integer> requestIds = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiate an empty registry, which resolves and caches readers on first use.
+     */
+    public ActionRequestReaderRegistry() {}
+
+    /**
+     * Instantiate this registry with readers for the request classes of the registered actions.
+     *
+     * @param actions The map of registered actions from {@link SDKActionModule#getActions()}
+     */
+    public ActionRequestReaderRegistry(Map<String, ActionHandler<?, ?>> actions) {
+        for (ActionHandler<?, ?> handler : actions.values()) {
+            Class<? extends ActionRequest> requestClass = getRequestClass(handler.getTransportAction());
+            if (requestClass == null) {
+                continue;
+            }
+            try {
+                readers.put(requestClass.getName(), createReader(requestClass));
+                actionRequestClasses.put(handler.getAction().getClass().getName(), requestClass.getName());
+                requestIds.putIfAbsent(requestClass.getName(), requestIds.size());
+            } catch (ReflectiveOperationException e) {
+                logger.debug("No StreamInput constructor for request class [" + requestClass.getName() + "]", e);
+            }
+        }
+    }
+
+    /**
+     * Gets the reader for a request class.
+     *
+     * @param requestClassName The fully qualified class name of the request
+     * @return A reader which instantiates the request from a {@link StreamInput}
+     * @throws ReflectiveOperationException if the class does not exist or does not have a public StreamInput constructor
+     */
+    public Writeable.Reader<? extends ActionRequest> getReader(String requestClassName) throws ReflectiveOperationException {
+        Writeable.Reader<? extends ActionRequest> reader = readers.get(requestClassName);
+        if (reader == null) {
+            Class<?> clazz = Class.forName(requestClassName);
+            if (!ActionRequest.class.isAssignableFrom(clazz)) {
+                throw new ClassCastException("Class [" + requestClassName + "] is not an ActionRequest");
+            }
+            reader = createReader(clazz.asSubclass(ActionRequest.class));
+            readers.putIfAbsent(requestClassName, reader);
+        }
+        return reader;
+    }
+
+    /**
+     * Gets the reader for the request class of a registered action by the request id advertised to senders.
+     *
+     * @param actionClassName The fully qualified class name of the action's {@link org.opensearch.action.ActionType}
+     * @param requestId The request id, from {@link #getRequestId(String)}
+     * @return A reader which instantiates the request, or null if the id does not match the request class of the action
+     */
+    public Writeable.Reader<? extends ActionRequest> getReader(String actionClassName, int requestId) {
+        if (requestId == RemoteExtensionActionFrame.NO_REQUEST_ID || getRequestId(actionClassName) != requestId) {
+            return null;
+        }
+        return readers.get(actionRequestClasses.get(actionClassName));
+    }
+
+    /**
+     * Gets the request class of a registered action.
+     *
+     * @param actionClassName The fully qualified class name of the action's {@link org.opensearch.action.ActionType}
+     * @return The fully qualified class name of the request, or null if the request class of the action is not known
+     */
+    public String getRequestClassName(String actionClassName) {
+        return actionRequestClasses.get(actionClassName);
+    }
+
+    /**
+     * Gets the request classes of the registered actions whose request class is known.
+     *
+     * @return The fully qualified class name of each request class, by the fully qualified class name of its action
+     */
+    public Map<String, String> getRequestClassNames() {
+        return Collections.unmodifiableMap(actionRequestClasses);
+    }
+
+    /**
+     * Gets the request id assigned to the request class of a registered action.
+     *
+     * @param actionClassName The fully qualified class name of the action's {@link org.opensearch.action.ActionType}
+     * @return The request id, or {@link RemoteExtensionActionFrame#NO_REQUEST_ID} if the request class of the action is not known
+     */
+    public int getRequestId(String actionClassName) {
+        String requestClassName = actionRequestClasses.get(actionClassName);
+        return requestClassName == null ? RemoteExtensionActionFrame.NO_REQUEST_ID : requestIds.get(requestClassName);
+    }
+
+    /**
+     * Gets whether a reader for the request class has already been resolved.
+     *
+     * @param requestClassName The fully qualified class name of the request
+     * @return true if a reader is cached for this class name
+     */
+    public boolean containsReader(String requestClassName) {
+        return readers.containsKey(requestClassName);
+    }
+
+    private static Writeable.Reader<? extends ActionRequest> createReader(Class<? extends ActionRequest> requestClass)
+        throws ReflectiveOperationException {
+        MethodHandle constructor = MethodHandles.publicLookup()
+            .findConstructor(requestClass, MethodType.methodType(void.class, StreamInput.class))
+            .asType(MethodType.methodType(ActionRequest.class, StreamInput.class));
+        return in -> {
+            try {
+                return (ActionRequest) constructor.invokeExact(in);
+            } catch (IOException | RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IOException("Failed to instantiate request class [" + requestClass.getName() + "]", t);
+            }
+        };
+    }
+
+    /**
+     * Finds the request class of a transport action from the signature of its doExecute method.
+     *
+     * @param transportActionClass The transport action class
+     * @return The request class, or null if it could not be determined
+     */
+    private static Class<? extends ActionRequest> getRequestClass(Class<?> transportActionClass) {
+        for (Class<?> clazz = transportActionClass; clazz != null && clazz != TransportAction.class; clazz = clazz.getSuperclass()) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                Class<?>[] params = method.getParameterTypes();
+                if ("doExecute".equals(method.getName())
+                    && !method.isBridge()
+                    && params.length == 3
+                    && Task.class.equals(params[0])
+                    && ActionRequest.class.isAssignableFrom(params[1])
+                    && ActionListener.class.equals(params[2])
+                    && !ActionRequest.class.equals(params[1])) {
+                    return params[1].asSubclass(ActionRequest.class);
+                }
+            }
+        }
+        return null;
+    }
+}
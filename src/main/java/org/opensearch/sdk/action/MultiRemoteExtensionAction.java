@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.action;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * The {@link ActionType} used as they key for the {@link MultiRemoteExtensionTransportAction}.
+ */
+public class MultiRemoteExtensionAction extends ActionType<MultiRemoteExtensionActionResponse> {
+
+    /**
+     * The name to look up this action with
+     */
+    public static final String NAME = "internal:multi-remote-extension-action";
+    /**
+     * The singleton instance of this class
+     */
+    public static final MultiRemoteExtensionAction INSTANCE = new MultiRemoteExtensionAction();
+
+    private MultiRemoteExtensionAction() {
+        super(NAME, MultiRemoteExtensionActionResponse::new);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.action;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * A request class to request several actions be executed on another extension in a single round trip.
+ * <p>
+ * Requests for actions of the same remote extension are sent together if that extension reads batch frames, and it executes them
+ * concurrently and returns their responses together. All other requests are sent individually. The responses are returned in the order of
+ * the requests.
+ */
+public class MultiRemoteExtensionActionRequest extends ActionRequest {
+
+    private final List<RemoteExtensionActionRequest> requests;
+
+    /**
+     * Instantiate an empty request. Add requests with {@link #add(RemoteExtensionActionRequest)}.
+     */
+    public MultiRemoteExtensionActionRequest() {
+        this.requests = new ArrayList<>();
+    }
+
+    /**
+     * MultiRemoteExtensionActionRequest constructor from {@link StreamInput}.
+     *
+     * @param in bytes stream input used to de-serialize the message.
+     * @throws IOException when message de-serialization fails.
+     */
+    public MultiRemoteExtensionActionRequest(StreamInput in) throws IOException {
+        super(in);
+        this.requests = in.readList(RemoteExtensionActionRequest::new);
+    }
+
+    /**
+     * Adds a request to this batch.
+     *
+     * @param request A request for an action on the remote extension
+     * @return this request
+     */
+    public MultiRemoteExtensionActionRequest add(RemoteExtensionActionRequest request) {
+        requests.add(request);
+        return this;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeList(requests);
+    }
+
+    public List<RemoteExtensionActionRequest> getRequests() {
+        return Collections.unmodifiableList(requests);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        if (requests.isEmpty()) {
+            return addValidationError("no requests added", null);
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "MultiRemoteExtensionActionRequest{requests=" + requests + "}";
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        MultiRemoteExtensionActionRequest that = (MultiRemoteExtensionActionRequest) obj;
+        return Objects.equals(requests, that.requests);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(requests);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.action;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.extensions.action.RemoteExtensionActionResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The responses to a {@link MultiRemoteExtensionActionRequest}, in the order of the requests.
+ * <p>
+ * Each response has its success bit set if its action completed, otherwise its bytes contain the failure message.
+ */
+public class MultiRemoteExtensionActionResponse extends ActionResponse {
+
+    private final List<RemoteExtensionActionResponse> responses;
+
+    /**
+     * Instantiate this response.
+     *
+     * @param responses The responses to each request, in the order of the requests
+     */
+    public MultiRemoteExtensionActionResponse(List<RemoteExtensionActionResponse> responses) {
+        this.responses = responses;
+    }
+
+    /**
+     * MultiRemoteExtensionActionResponse constructor from {@link StreamInput}.
+     *
+     * @param in bytes stream input used to de-serialize the message.
+     * @throws IOException when message de-serialization fails.
+     */
+    public MultiRemoteExtensionActionResponse(StreamInput in) throws IOException {
+        this.responses = in.readList(RemoteExtensionActionResponse::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeList(responses);
+    }
+
+    public List<RemoteExtensionActionResponse> getResponses() {
+        return responses;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.action;
+
+import com.google.inject.Inject;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.TransportAction;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.sdk.SDKTransportService;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskManager;
+
+/**
+ * Sends a single request to OpenSearch for a remote extension to execute several actions.
+ */
+public class MultiRemoteExtensionTransportAction extends TransportAction<
+    MultiRemoteExtensionActionRequest,
+    MultiRemoteExtensionActionResponse> {
+
+    private SDKTransportService sdkTransportService;
+
+    /**
+     * Instantiate this action
+     *
+     * @param actionName The action name
+     * @param actionFilters Action filters
+     * @param taskManager The task manager
+     * @param sdkTransportService The SDK transport service
+     */
+    @Inject
+    protected MultiRemoteExtensionTransportAction(
+        String actionName,
+        ActionFilters actionFilters,
+        TaskManager taskManager,
+        SDKTransportService sdkTransportService
+    ) {
+        super(actionName, actionFilters, taskManager);
+        this.sdkTransportService = sdkTransportService;
+    }
+
+    @Override
+    protected void doExecute(
+        Task task,
+        MultiRemoteExtensionActionRequest request,
+        ActionListener<MultiRemoteExtensionActionResponse> listener
+    ) {
+        sdkTransportService.sendMultiRemoteExtensionActionRequestAsync(request, listener);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.action;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.sdk.stats.CompressionStats;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Decides which remote extension action payloads are compressed, and compresses them with DEFLATE.
+ * <p>
+ * A payload is compressed if its action is configured to always be compressed, or if its action is not configured and the payload is
+ * larger than the threshold. OpenSearch proxies the payload to the receiving extension without reading it, so only the SDK of the
+ * receiver needs to support compression, which it advertises with {@link RemoteExtensionActionPeer#CAPABILITY_COMPRESSION}. Compressed
+ * payloads are only sent if they are smaller than the original payload.
+ * <p>
+ * Decompression stops once the payload exceeds a maximum size, so a small frame cannot inflate into an unbounded allocation.
+ */
+public final class RemoteActionCompression {
+
+    /**
+     * A policy which never compresses payloads.
+     */
+    public static final RemoteActionCompression DISABLED = new RemoteActionCompression(-1, Map.of(), new CompressionStats());
+    /**
+     * The default maximum size of a decompressed payload, matching the default maximum size of an HTTP request to OpenSearch.
+     */
+    public static final ByteSizeValue DEFAULT_MAX_DECOMPRESSED_SIZE = new ByteSizeValue(100, ByteSizeUnit.MB);
+
+    private final long threshold;
+    private final Map<String, Boolean> actionOverrides;
+    private final CompressionStats stats;
+    private final long maxDecompressedBytes;
+
+    /**
+     * Instantiates a compression policy which decompresses payloads of up to {@link #DEFAULT_MAX_DECOMPRESSED_SIZE}.
+     *
+     * @param threshold The size in bytes of the largest payload sent uncompressed, or a negative value to only compress the payloads of
+     *     actions configured to always be compressed
+     * @param actionOverrides Whether to always or never compress the payloads of an action, keyed by the action class name
+     * @param stats The statistics in which to record the payloads compressed and decompressed
+     */
+    public RemoteActionCompression(long threshold, Map<String, Boolean> actionOverrides, CompressionStats stats) {
+        this(threshold, actionOverrides, stats, DEFAULT_MAX_DECOMPRESSED_SIZE.getBytes());
+    }
+
+    /**
+     * Instantiates a compression policy.
+     *
+     * @param threshold The size in bytes of the largest payload sent uncompressed, or a negative value to only compress the payloads of
+     *     actions configured to always be compressed
+     * @param actionOverrides Whether to always or never compress the payloads of an action, keyed by the action class name
+     * @param stats The statistics in which to record the payloads compressed and decompressed
+     * @param maxDecompressedBytes The size in bytes of the largest payload which is decompressed
+     */
+    public RemoteActionCompression(
+        long threshold,
+        Map<String, Boolean> actionOverrides,
+        CompressionStats stats,
+        long maxDecompressedBytes
+    ) {
+        this.threshold = threshold;
+        this.actionOverrides = Map.copyOf(actionOverrides);
+        this.stats = stats;
+        this.maxDecompressedBytes = maxDecompressedBytes;
+    }
+
+    /**
+     * Gets whether a payload should be compressed.
+     *
+     * @param action The class name of the action the payload is sent to
+     * @param length The length of the payload in bytes
+     * @return true if the payload should be compressed
+     */
+    public boolean shouldCompress(String action, int length) {
+        Boolean override = actionOverrides.get(action);
+        if (override != null) {
+            return override;
+        }
+        return threshold >= 0 && length > threshold;
+    }
+
+    /**
+     * Compresses a payload.
+     *
+     * @param payload The payload to compress
+     * @return The compressed payload
+     */
+    ByteString compress(ByteString payload) {
+        long startNanos = System.nanoTime();
+        try (BytesStreamOutput out = new BytesStreamOutput(Math.max(64, payload.size() / 2))) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (OutputStream deflaterOut = new DeflaterOutputStream(out, deflater)) {
+                payload.writeTo(deflaterOut);
+            } finally {
+                deflater.end();
+            }
+            ByteString compressed = UnsafeByteOperations.unsafeWrap(BytesReference.toBytes(out.bytes()));
+            stats.recordCompression(payload.size(), compressed.size(), System.nanoTime() - startNanos);
+            return compressed;
+        } catch (IOException e) {
+            throw new IllegalStateException("Writing an OutputStream to memory should never result in an IOException.");
+        }
+    }
+
+    /**
+     * Decompresses a payload.
+     *
+     * @param compressed The compressed payload
+     * @return The original payload
+     * @throws IOException if the payload is not valid DEFLATE data, or decompresses to more than the maximum size
+     */
+    ByteString decompress(ByteString compressed) throws IOException {
+        long startNanos = System.nanoTime();
+        Inflater inflater = new Inflater();
+        try (
+            InputStream in = new InflaterInputStream(compressed.newInput(), inflater);
+            BytesStreamOutput out = new BytesStreamOutput(Math.max(64, compressed.size() * 2))
+        ) {
+            byte[] buffer = new byte[8192];
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                if (out.size() + read > maxDecompressedBytes) {
+                    throw new IOException("Decompressed payload exceeds the maximum size of [" + maxDecompressedBytes + "] bytes");
+                }
+                out.write(buffer, 0, read);
+            }
+            ByteString payload = UnsafeByteOperations.unsafeWrap(BytesReference.toBytes(out.bytes()));
+            stats.recordDecompression(System.nanoTime() - startNanos);
+            return payload;
+        } finally {
+            inflater.end();
+        }
+    }
+}
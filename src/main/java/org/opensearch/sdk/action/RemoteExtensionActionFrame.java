@@ -0,0 +1,350 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.action;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.extensions.action.ExtensionActionRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The binary frame used to proxy a {@link RemoteExtensionActionRequest} through OpenSearch to another extension.
+ * <p>
+ * A frame starts with a marker byte, a version byte, and a length-prefixed header, followed by the serialized request. The header
+ * carries the request id advertised by the receiver, or the full request class name when it advertised none. Receivers skip any
+ * header bytes they do not understand, so later versions may append header fields.
+ * <p>
+ * Extensions using an SDK which predates frames only read the legacy format: the UTF-8 request class name, a
+ * {@link RemoteExtensionActionRequest#UNIT_SEPARATOR}, and the serialized request. Frames are therefore only sent to receivers which
+ * answered the capability exchange with a {@link RemoteExtensionActionPeer}, and all other requests use the legacy format. Frames and
+ * legacy requests are sent under the same action name, and receivers tell them apart by the {@link #MARKER}.
+ * <p>
+ * A batch frame holds the action name and frame of each request in a {@link MultiRemoteExtensionActionRequest}.
+ * <p>
+ * The serialized request of a frame may be compressed according to a {@link RemoteActionCompression} policy, which is marked by a header
+ * flag.
+ */
+public final class RemoteExtensionActionFrame {
+    /**
+     * The first byte of a versioned frame. This is never the first byte of a UTF-8 encoded class name.
+     */
+    public static final byte MARKER = (byte) 0xFE;
+    /**
+     * The current frame version.
+     */
+    public static final byte VERSION = 1;
+    /**
+     * The request id of a frame which carries the full request class name instead of an advertised id.
+     */
+    public static final int NO_REQUEST_ID = -1;
+
+    private static final byte FLAG_REQUEST_CLASS_NAME = 0x01;
+    private static final byte FLAG_BATCH = 0x02;
+    private static final byte FLAG_COMPRESSED = 0x04;
+    private static final byte STATUS_UNKNOWN_REQUEST_ID = 1;
+
+    private final boolean batch;
+    private final int requestId;
+    private final String requestClassName;
+    private final ByteString requestBytes;
+
+    private RemoteExtensionActionFrame(boolean batch, int requestId, @Nullable String requestClassName, ByteString requestBytes) {
+        this.batch = batch;
+        this.requestId = requestId;
+        this.requestClassName = requestClassName;
+        this.requestBytes = requestBytes;
+    }
+
+    /**
+     * Encodes the failed response of a receiver which does not recognize the request id of a frame, asking the sender to learn the
+     * request ids again and send the request with its class name.
+     * <p>
+     * The response starts with the {@link #MARKER}, which is never the first byte of a UTF-8 encoded failure message.
+     *
+     * @param message A description of the failure
+     * @return The response bytes
+     */
+    public static byte[] encodeUnknownRequestId(String message) {
+        byte[] messageBytes = message.getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[messageBytes.length + 2];
+        bytes[0] = MARKER;
+        bytes[1] = STATUS_UNKNOWN_REQUEST_ID;
+        System.arraycopy(messageBytes, 0, bytes, 2, messageBytes.length);
+        return bytes;
+    }
+
+    /**
+     * Gets whether the failed response to a frame was encoded by {@link #encodeUnknownRequestId(String)}.
+     *
+     * @param responseBytes The response bytes
+     * @return true if the receiver did not recognize the request id of the frame
+     */
+    public static boolean isUnknownRequestId(byte[] responseBytes) {
+        return responseBytes.length >= 2 && responseBytes[0] == MARKER && responseBytes[1] == STATUS_UNKNOWN_REQUEST_ID;
+    }
+
+    /**
+     * Encodes a request in the legacy format, which every receiver reads.
+     *
+     * @param request The request to encode
+     * @return The request class name and the request bytes, separated by {@link RemoteExtensionActionRequest#UNIT_SEPARATOR}
+     */
+    public static ByteString encodeLegacy(RemoteExtensionActionRequest request) {
+        return ByteString.copyFromUtf8(request.getRequestClass())
+            .concat(ByteString.copyFrom(new byte[] { RemoteExtensionActionRequest.UNIT_SEPARATOR }))
+            .concat(UnsafeByteOperations.unsafeWrap(request.getRequestBytes()));
+    }
+
+    /**
+     * Encodes a request in a versioned frame.
+     *
+     * @param request The request to encode
+     * @param requestId The request id advertised by the receiver, or {@link #NO_REQUEST_ID} to include the full request class name
+     * @return The encoded frame, which wraps the request bytes rather than copying them
+     */
+    public static ByteString encode(RemoteExtensionActionRequest request, int requestId) {
+        return encode(request, requestId, RemoteActionCompression.DISABLED);
+    }
+
+    /**
+     * Encodes a request in a versioned frame, compressing the request bytes if the compression policy applies to them.
+     *
+     * @param request The request to encode
+     * @param requestId The request id advertised by the receiver, or {@link #NO_REQUEST_ID} to include the full request class name
+     * @param compression The policy deciding whether the request bytes are compressed
+     * @return The encoded frame
+     */
+    public static ByteString encode(RemoteExtensionActionRequest request, int requestId, RemoteActionCompression compression) {
+        boolean includeRequestClassName = requestId == NO_REQUEST_ID;
+        return encode(
+            includeRequestClassName ? FLAG_REQUEST_CLASS_NAME : 0,
+            requestId,
+            includeRequestClassName ? request.getRequestClass() : null,
+            UnsafeByteOperations.unsafeWrap(request.getRequestBytes()),
+            request.getAction(),
+            compression
+        );
+    }
+
+    /**
+     * Encodes a batch of requests in a single versioned frame. Each request is framed with its full request class name.
+     *
+     * @param request The batch of requests to encode
+     * @return The encoded frame
+     */
+    public static ByteString encode(MultiRemoteExtensionActionRequest request) {
+        return encode(request, RemoteActionCompression.DISABLED);
+    }
+
+    /**
+     * Encodes a batch of requests in a single versioned frame, compressing the batch if the compression policy applies to the action of
+     * its first request.
+     *
+     * @param request The batch of requests to encode
+     * @param compression The policy deciding whether the batch is compressed
+     * @return The encoded frame
+     */
+    public static ByteString encode(MultiRemoteExtensionActionRequest request, RemoteActionCompression compression) {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeVInt(request.getRequests().size());
+            for (RemoteExtensionActionRequest item : request.getRequests()) {
+                out.writeString(item.getAction());
+                ByteString itemBytes = encode(item, NO_REQUEST_ID);
+                out.writeVInt(itemBytes.size());
+                itemBytes.writeTo(out);
+            }
+            String routingAction = request.getRequests().isEmpty() ? "" : request.getRequests().get(0).getAction();
+            ByteString batchBytes = UnsafeByteOperations.unsafeWrap(BytesReference.toBytes(out.bytes()));
+            return encode(FLAG_BATCH, NO_REQUEST_ID, null, batchBytes, routingAction, compression);
+        } catch (IOException e) {
+            throw new IllegalStateException("Writing an OutputStream to memory should never result in an IOException.");
+        }
+    }
+
+    private static ByteString encode(
+        byte flags,
+        int requestId,
+        @Nullable String requestClassName,
+        ByteString requestBytes,
+        String action,
+        RemoteActionCompression compression
+    ) {
+        if (compression.shouldCompress(action, requestBytes.size())) {
+            ByteString compressed = compression.compress(requestBytes);
+            // Incompressible payloads are sent as they are
+            if (compressed.size() < requestBytes.size()) {
+                flags |= FLAG_COMPRESSED;
+                requestBytes = compressed;
+            }
+        }
+        try (BytesStreamOutput header = new BytesStreamOutput()) {
+            header.writeByte(flags);
+            header.writeInt(requestId);
+            if (requestClassName != null) {
+                header.writeString(requestClassName);
+            }
+            try (BytesStreamOutput prefix = new BytesStreamOutput()) {
+                prefix.writeByte(MARKER);
+                prefix.writeByte(VERSION);
+                prefix.writeVInt(header.size());
+                header.bytes().writeTo(prefix);
+                return UnsafeByteOperations.unsafeWrap(BytesReference.toBytes(prefix.bytes())).concat(requestBytes);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Writing an OutputStream to memory should never result in an IOException.");
+        }
+    }
+
+    /**
+     * Decodes a frame, in either the versioned or the legacy format.
+     *
+     * @param bytes The frame bytes
+     * @return The decoded frame, whose request bytes are a slice of the frame bytes unless they were compressed
+     * @throws IOException if the frame is malformed
+     */
+    public static RemoteExtensionActionFrame decode(ByteString bytes) throws IOException {
+        return decode(bytes, RemoteActionCompression.DISABLED);
+    }
+
+    /**
+     * Decodes a frame, in either the versioned or the legacy format, recording the decompression of compressed request bytes.
+     *
+     * @param bytes The frame bytes
+     * @param compression The policy whose statistics record the decompression
+     * @return The decoded frame, whose request bytes are a slice of the frame bytes unless they were compressed
+     * @throws IOException if the frame is malformed
+     */
+    public static RemoteExtensionActionFrame decode(ByteString bytes, RemoteActionCompression compression) throws IOException {
+        if (bytes.isEmpty() || bytes.byteAt(0) != MARKER) {
+            return decodeLegacy(bytes);
+        }
+        if (bytes.size() < 3) {
+            throw new IOException("Truncated frame of " + bytes.size() + " bytes");
+        }
+        // Version 1 is the oldest version, later versions only append header fields
+        if (bytes.byteAt(1) < VERSION) {
+            throw new IOException("Unsupported frame version [" + bytes.byteAt(1) + "]");
+        }
+        // Read the variable length header size
+        int offset = 2;
+        int headerLength = 0;
+        for (int shift = 0;; shift += 7) {
+            if (offset >= bytes.size() || shift > 28) {
+                throw new IOException("Malformed frame header length");
+            }
+            byte b = bytes.byteAt(offset++);
+            headerLength |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+        if (headerLength < 0 || offset + headerLength > bytes.size()) {
+            throw new IOException("Frame header length [" + headerLength + "] exceeds frame size [" + bytes.size() + "]");
+        }
+        ByteString header = bytes.substring(offset, offset + headerLength);
+        try (StreamInput in = new InputStreamStreamInput(header.newInput(), headerLength)) {
+            byte flags = in.readByte();
+            int requestId = in.readInt();
+            String requestClassName = (flags & FLAG_REQUEST_CLASS_NAME) != 0 ? in.readString() : null;
+            boolean batch = (flags & FLAG_BATCH) != 0;
+            ByteString requestBytes = bytes.substring(offset + headerLength);
+            if ((flags & FLAG_COMPRESSED) != 0) {
+                requestBytes = compression.decompress(requestBytes);
+            }
+            return new RemoteExtensionActionFrame(batch, requestId, requestClassName, requestBytes);
+        }
+    }
+
+    private static RemoteExtensionActionFrame decodeLegacy(ByteString bytes) {
+        int nullPos = -1;
+        for (int offset = 0; offset < bytes.size(); ++offset) {
+            if (bytes.byteAt(offset) == RemoteExtensionActionRequest.UNIT_SEPARATOR) {
+                nullPos = offset;
+                break;
+            }
+        }
+        String requestClassName = bytes.substring(0, Math.max(nullPos, 0)).toStringUtf8();
+        return new RemoteExtensionActionFrame(false, NO_REQUEST_ID, requestClassName, bytes.substring(nullPos + 1));
+    }
+
+    /**
+     * Gets whether this frame holds a batch of requests.
+     *
+     * @return true if this frame was encoded from a {@link MultiRemoteExtensionActionRequest}
+     */
+    public boolean isBatch() {
+        return batch;
+    }
+
+    /**
+     * Gets the requests in a batch frame.
+     *
+     * @return The requests, each with its action and its own frame
+     * @throws IOException if the batch is malformed
+     */
+    public List<ExtensionActionRequest> getBatchRequests() throws IOException {
+        if (!batch) {
+            throw new IllegalStateException("Frame does not hold a batch of requests");
+        }
+        try (StreamInput in = new InputStreamStreamInput(requestBytes.newInput(), requestBytes.size())) {
+            int size = in.readVInt();
+            List<ExtensionActionRequest> requests = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String action = in.readString();
+                int length = in.readVInt();
+                // Slice the frame of each request from the batch, sharing its bytes instead of copying them
+                int offset = requestBytes.size() - in.available();
+                if (length < 0 || length > in.available()) {
+                    throw new IOException("Malformed batch frame: request length " + length + " exceeds the remaining bytes");
+                }
+                requests.add(new ExtensionActionRequest(action, requestBytes.substring(offset, offset + length)));
+                in.skipNBytes(length);
+            }
+            return requests;
+        }
+    }
+
+    /**
+     * Gets the request id advertised by the receiver.
+     *
+     * @return The request id, or {@link #NO_REQUEST_ID} if the frame carries the full request class name
+     */
+    public int getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * Gets the full request class name, if the sender included it.
+     *
+     * @return The fully qualified class name of the request, or null if only the advertised id was sent
+     */
+    @Nullable
+    public String getRequestClassName() {
+        return requestClassName;
+    }
+
+    /**
+     * Gets the serialized request.
+     *
+     * @return A slice of the frame containing the serialized request
+     */
+    public ByteString getRequestBytes() {
+        return requestBytes;
+    }
+}
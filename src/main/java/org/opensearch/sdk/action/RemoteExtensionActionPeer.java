@@ -0,0 +1,139 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.action;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The capabilities of an extension which reads {@link RemoteExtensionActionFrame}s, and the request ids of all of its actions.
+ * <p>
+ * An extension answers an empty request to any of its actions with this response, so a sender learns the frame version, the
+ * capabilities and the request ids of every action of the receiver in a single exchange. An extension using an SDK which predates frames
+ * reads an empty request as a request without a request class and answers it with a failed response, so senders only send frames to
+ * receivers which answered with this response, and only use the request ids it lists.
+ */
+public class RemoteExtensionActionPeer extends ActionResponse {
+    /**
+     * The capability of reading batch frames, which may hold requests for any action of the receiving extension.
+     */
+    public static final int CAPABILITY_BATCH = 0x01;
+    /**
+     * The capability of reading frames whose request bytes are compressed by a {@link RemoteActionCompression} policy.
+     */
+    public static final int CAPABILITY_COMPRESSION = 0x02;
+
+    private final byte version;
+    private final int capabilities;
+    private final String uniqueId;
+    private final Map<String, String> requestClassNames;
+    private final Map<String, Integer> requestIds;
+
+    /**
+     * Instantiate this response.
+     *
+     * @param capabilities The capability flags of the receiver
+     * @param uniqueId The unique id of the receiving extension
+     * @param requestClassNames The request class of each action of the receiver, by action class name
+     * @param requestIds The request id of each action of the receiver, by action class name
+     */
+    public RemoteExtensionActionPeer(
+        int capabilities,
+        String uniqueId,
+        Map<String, String> requestClassNames,
+        Map<String, Integer> requestIds
+    ) {
+        this.version = RemoteExtensionActionFrame.VERSION;
+        this.capabilities = capabilities;
+        this.uniqueId = uniqueId;
+        this.requestClassNames = Map.copyOf(requestClassNames);
+        this.requestIds = Map.copyOf(requestIds);
+    }
+
+    /**
+     * RemoteExtensionActionPeer constructor from {@link StreamInput}.
+     *
+     * @param in bytes stream input used to de-serialize the message.
+     * @throws IOException when message de-serialization fails.
+     */
+    public RemoteExtensionActionPeer(StreamInput in) throws IOException {
+        this.version = in.readByte();
+        this.capabilities = in.readVInt();
+        this.uniqueId = in.readString();
+        this.requestClassNames = in.readMap(StreamInput::readString, StreamInput::readString);
+        this.requestIds = in.readMap(StreamInput::readString, StreamInput::readVInt);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeByte(version);
+        out.writeVInt(capabilities);
+        out.writeString(uniqueId);
+        out.writeMap(requestClassNames, StreamOutput::writeString, StreamOutput::writeString);
+        out.writeMap(requestIds, StreamOutput::writeString, StreamOutput::writeVInt);
+    }
+
+    /**
+     * Gets the highest frame version read by the receiver.
+     *
+     * @return The frame version
+     */
+    public byte getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets whether the receiver has a capability.
+     *
+     * @param capability The capability flag
+     * @return true if the receiver advertised the capability
+     */
+    public boolean hasCapability(int capability) {
+        return (capabilities & capability) != 0;
+    }
+
+    /**
+     * Gets the unique id of the receiving extension.
+     *
+     * @return The unique id, which is the same for all actions of an extension
+     */
+    public String getUniqueId() {
+        return uniqueId;
+    }
+
+    /**
+     * Gets the actions of the receiver whose request ids it advertised.
+     *
+     * @return The fully qualified class names of the actions
+     */
+    public Set<String> getActions() {
+        return requestIds.keySet();
+    }
+
+    /**
+     * Gets the request id to send for a request to an action.
+     *
+     * @param action The fully qualified class name of the action
+     * @param requestClassName The fully qualified class name of the request
+     * @return The advertised request id if the request class is the request class of the action, otherwise
+     *     {@link RemoteExtensionActionFrame#NO_REQUEST_ID}
+     */
+    public int getRequestId(String action, String requestClassName) {
+        Integer requestId = requestIds.get(action);
+        return requestId != null && requestClassName.equals(requestClassNames.get(action))
+            ? requestId
+            : RemoteExtensionActionFrame.NO_REQUEST_ID;
+    }
+}
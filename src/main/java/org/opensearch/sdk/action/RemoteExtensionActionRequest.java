@@ -12,12 +12,11 @@ package org.opensearch.sdk.action;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.action.ActionType;
-import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.action.ActionResponse;
-import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.extensions.action.ExtensionTransportActionsHandler;
+import org.opensearch.sdk.SDKBigArrays;
 
 import java.io.IOException;
 import java.util.Objects;
@@ -52,16 +51,25 @@ public class RemoteExtensionActionRequest extends ActionRequest {
      * @param request A class extending {@link ActionRequest} associated with an action to be executed on another extension.
      */
     public RemoteExtensionActionRequest(ActionType<? extends ActionResponse> instance, ActionRequest request) {
+        this(instance, request, SDKBigArrays.NON_RECYCLING);
+    }
+
+    /**
+     * RemoteExtensionActionRequest constructor with an ActionType and Request class, serializing the request into pooled buffers.
+     * Requires a dependency on the remote extension code.
+     *
+     * @param instance An instance of {@link ActionType} registered with the remote extension's getActions registry
+     * @param request A class extending {@link ActionRequest} associated with an action to be executed on another extension.
+     * @param sdkBigArrays The pooled buffers of the extension, from {@link org.opensearch.sdk.ExtensionsRunner#getSdkBigArrays()}
+     */
+    public RemoteExtensionActionRequest(ActionType<? extends ActionResponse> instance, ActionRequest request, SDKBigArrays sdkBigArrays) {
         this.action = instance.getClass().getName();
         this.requestClass = request.getClass().getName();
-        byte[] bytes = new byte[0];
-        try (BytesStreamOutput out = new BytesStreamOutput()) {
-            request.writeTo(out);
-            bytes = BytesReference.toBytes(out.bytes());
+        try {
+            this.requestBytes = sdkBigArrays.toBytes(request);
         } catch (IOException e) {
             throw new IllegalStateException("Writing an OutputStream to memory should never result in an IOException.");
         }
-        this.requestBytes = bytes;
     }
 
     /**
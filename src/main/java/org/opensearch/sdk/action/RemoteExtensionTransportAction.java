@@ -46,11 +46,12 @@ public class RemoteExtensionTransportAction extends TransportAction<RemoteExtens
 
     @Override
     protected void doExecute(Task task, RemoteExtensionActionRequest request, ActionListener<RemoteExtensionActionResponse> listener) {
-        RemoteExtensionActionResponse response = sdkTransportService.sendRemoteExtensionActionRequest(request);
-        if (response.getResponseBytes().length > 0) {
-            listener.onResponse(response);
-        } else {
-            listener.onFailure(new RuntimeException("No response received from remote extension."));
-        }
+        sdkTransportService.sendRemoteExtensionActionRequestAsync(request, ActionListener.wrap(response -> {
+            if (response.getResponseBytes().length > 0) {
+                listener.onResponse(response);
+            } else {
+                listener.onFailure(new RuntimeException("No response received from remote extension."));
+            }
+        }, listener::onFailure));
     }
 }
@@ -72,6 +72,7 @@ public class SDKActionModule extends AbstractModule {
 
         // Register SDK actions
         actions.register(new ActionHandler<>(RemoteExtensionAction.INSTANCE, RemoteExtensionTransportAction.class));
+        actions.register(new ActionHandler<>(MultiRemoteExtensionAction.INSTANCE, MultiRemoteExtensionTransportAction.class));
 
         // Register actions from getActions extension point
         if (extension instanceof ActionExtension) {
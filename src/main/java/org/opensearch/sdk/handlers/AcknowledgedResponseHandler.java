@@ -11,6 +11,8 @@ package org.opensearch.sdk.handlers;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.common.Nullable;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.extensions.AcknowledgedResponse;
 import org.opensearch.threadpool.ThreadPool;
@@ -24,15 +26,38 @@ import java.io.IOException;
  */
 public class AcknowledgedResponseHandler implements TransportResponseHandler<AcknowledgedResponse> {
     private static final Logger logger = LogManager.getLogger(AcknowledgedResponseHandler.class);
+    private final ActionListener<AcknowledgedResponse> listener;
+
+    /**
+     * Instantiates a new AcknowledgedResponseHandler which logs the response.
+     */
+    public AcknowledgedResponseHandler() {
+        this(null);
+    }
+
+    /**
+     * Instantiates a new AcknowledgedResponseHandler which completes the listener when the response is received.
+     *
+     * @param listener The listener to notify of the response or failure, or null to only log the response
+     */
+    public AcknowledgedResponseHandler(@Nullable ActionListener<AcknowledgedResponse> listener) {
+        this.listener = listener;
+    }
 
     @Override
     public void handleResponse(AcknowledgedResponse response) {
         logger.info("received {}", response);
+        if (listener != null) {
+            listener.onResponse(response);
+        }
     }
 
     @Override
     public void handleException(TransportException exp) {
         logger.info("Extension Request failed", exp);
+        if (listener != null) {
+            listener.onFailure(exp);
+        }
     }
 
     @Override
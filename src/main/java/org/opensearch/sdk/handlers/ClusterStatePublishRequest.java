@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.handlers;
+
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.Diff;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.Nullable;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A cluster state published to this extension, either as a full state or as a diff from the previously published state.
+ */
+public class ClusterStatePublishRequest extends TransportRequest {
+
+    private final ClusterState state;
+    private final Diff<ClusterState> diff;
+
+    /**
+     * Instantiate a request publishing a full cluster state.
+     *
+     * @param state The cluster state
+     */
+    public ClusterStatePublishRequest(ClusterState state) {
+        this.state = Objects.requireNonNull(state);
+        this.diff = null;
+    }
+
+    /**
+     * Instantiate a request publishing a diff from the previously published cluster state.
+     *
+     * @param diff The diff to apply to the previously published cluster state
+     */
+    public ClusterStatePublishRequest(Diff<ClusterState> diff) {
+        this.state = null;
+        this.diff = Objects.requireNonNull(diff);
+    }
+
+    /**
+     * Instantiate a request from a stream.
+     *
+     * @param in The stream input
+     * @param localNode The local node, used to resolve the local node id of the published nodes
+     * @throws IOException on failure to read the stream
+     */
+    public ClusterStatePublishRequest(StreamInput in, @Nullable DiscoveryNode localNode) throws IOException {
+        super(in);
+        if (in.readBoolean()) {
+            this.state = null;
+            this.diff = ClusterState.readDiffFrom(in, localNode);
+        } else {
+            this.state = ClusterState.readFrom(in, localNode);
+            this.diff = null;
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeBoolean(isDiff());
+        if (isDiff()) {
+            diff.writeTo(out);
+        } else {
+            state.writeTo(out);
+        }
+    }
+
+    /**
+     * Gets whether this request publishes a diff.
+     *
+     * @return true if this request holds a diff, false if it holds a full cluster state
+     */
+    public boolean isDiff() {
+        return diff != null;
+    }
+
+    /**
+     * Gets the full cluster state.
+     *
+     * @return The published cluster state, or null if this request holds a diff
+     */
+    @Nullable
+    public ClusterState getState() {
+        return state;
+    }
+
+    /**
+     * Gets the diff from the previously published cluster state.
+     *
+     * @return The published diff, or null if this request holds a full cluster state
+     */
+    @Nullable
+    public Diff<ClusterState> getDiff() {
+        return diff;
+    }
+
+    @Override
+    public String toString() {
+        return "ClusterStatePublishRequest{" + (isDiff() ? "diff" : "version=" + state.version()) + "}";
+    }
+}
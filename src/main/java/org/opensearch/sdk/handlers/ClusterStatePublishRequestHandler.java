@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.handlers;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.cluster.IncompatibleClusterStateVersionException;
+import org.opensearch.extensions.AcknowledgedResponse;
+import org.opensearch.sdk.SDKClusterService;
+
+/**
+ * Handles cluster state publications sent to this extension.
+ */
+public class ClusterStatePublishRequestHandler {
+    private static final Logger logger = LogManager.getLogger(ClusterStatePublishRequestHandler.class);
+
+    /**
+     * The transport action on which cluster states are published to this extension.
+     */
+    public static final String CLUSTER_STATE_PUBLISH_ACTION = "internal:discovery/extensions/clusterstate/publish";
+
+    private final SDKClusterService sdkClusterService;
+
+    /**
+     * Instantiate this handler.
+     *
+     * @param sdkClusterService The cluster service to which published states are applied
+     */
+    public ClusterStatePublishRequestHandler(SDKClusterService sdkClusterService) {
+        this.sdkClusterService = sdkClusterService;
+    }
+
+    /**
+     * Handles a cluster state publication by applying it to the locally held cluster state.
+     *
+     * @param request The published cluster state or diff
+     * @return A response acknowledging the state was applied. A diff which does not apply to the locally held state is not
+     *     acknowledged, so that the publisher sends the full state.
+     */
+    public AcknowledgedResponse handleClusterStatePublishRequest(ClusterStatePublishRequest request) {
+        logger.debug("Received {} from OpenSearch", request);
+        try {
+            sdkClusterService.applyClusterState(request);
+            return new AcknowledgedResponse(true);
+        } catch (IncompatibleClusterStateVersionException e) {
+            logger.debug("Unable to apply cluster state diff, requesting full cluster state", e);
+            return new AcknowledgedResponse(false);
+        }
+    }
+}
@@ -13,6 +13,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.admin.cluster.state.ClusterStateResponse;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.common.Nullable;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.extensions.ExtensionsManager;
 import org.opensearch.threadpool.ThreadPool;
@@ -29,14 +31,25 @@ import java.util.concurrent.TimeUnit;
 public class ClusterStateResponseHandler implements TransportResponseHandler<ClusterStateResponse> {
     private static final Logger logger = LogManager.getLogger(ClusterStateResponseHandler.class);
     private final CompletableFuture<ClusterStateResponse> inProgressFuture;
+    private final ActionListener<ClusterState> listener;
     private ClusterState clusterState;
 
     /**
     * Instantiates a new ClusterStateResponseHandler with a count down latch and an empty ClusterState object
     */
     public ClusterStateResponseHandler() {
+        this(null);
+    }
+
+    /**
+     * Instantiates a new ClusterStateResponseHandler which completes the listener when the response is received.
+     *
+     * @param listener The listener to notify of the cluster state or failure, or null to only await the response
+     */
+    public ClusterStateResponseHandler(@Nullable ActionListener<ClusterState> listener) {
         this.inProgressFuture = new CompletableFuture<>();
         this.clusterState = ClusterState.EMPTY_STATE;
+        this.listener = listener;
     }
 
     @Override
@@ -46,12 +59,18 @@ public class ClusterStateResponseHandler implements TransportResponseHandler<Clu
         // Set cluster state from response
         this.clusterState = response.getState();
         inProgressFuture.complete(response);
+        if (listener != null) {
+            listener.onResponse(clusterState);
+        }
     }
 
     @Override
     public void handleException(TransportException exp) {
         logger.info("ExtensionClusterStateRequest failed", exp);
         inProgressFuture.completeExceptionally(exp);
+        if (listener != null) {
+            listener.onFailure(exp);
+        }
     }
 
     @Override
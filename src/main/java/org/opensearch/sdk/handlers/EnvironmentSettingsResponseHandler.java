@@ -11,7 +11,9 @@ package org.opensearch.sdk.handlers;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.env.EnvironmentSettingsResponse;
 import org.opensearch.extensions.ExtensionsManager;
@@ -30,13 +32,24 @@ public class EnvironmentSettingsResponseHandler implements TransportResponseHand
 
     private static final Logger logger = LogManager.getLogger(EnvironmentSettingsResponseHandler.class);
     private final CompletableFuture<EnvironmentSettingsResponse> inProgressFuture;
+    private final ActionListener<Settings> listener;
     private Settings environmentSettings;
 
     /**
     * Instantiates a new EnvironmentSettingsResponseHandler with a count down latch and an empty Settings object
     */
     public EnvironmentSettingsResponseHandler() {
+        this(null);
+    }
+
+    /**
+     * Instantiates a new EnvironmentSettingsResponseHandler which completes the listener when the response is received.
+     *
+     * @param listener The listener to notify of the environment settings or failure, or null to only use {@link #awaitResponse()}
+     */
+    public EnvironmentSettingsResponseHandler(@Nullable ActionListener<Settings> listener) {
         this.inProgressFuture = new CompletableFuture<>();
+        this.listener = listener;
         this.environmentSettings = Settings.EMPTY;
     }
 
@@ -47,12 +60,18 @@ public class EnvironmentSettingsResponseHandler implements TransportResponseHand
         // Set environmentSettings from response
         this.environmentSettings = response.getEnvironmentSettings();
         inProgressFuture.complete(response);
+        if (listener != null) {
+            listener.onResponse(environmentSettings);
+        }
     }
 
     @Override
     public void handleException(TransportException exp) {
         logger.info("EnvironmentSettingsRequest failed", exp);
         inProgressFuture.completeExceptionally(exp);
+        if (listener != null) {
+            listener.onFailure(exp);
+        }
     }
 
     @Override
@@ -9,29 +9,44 @@
 
 package org.opensearch.sdk.handlers;
 
+import com.google.protobuf.ByteString;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionType;
-import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.util.concurrent.CountDown;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.action.ActionResponse;
-import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.extensions.ExtensionsManager;
 import org.opensearch.extensions.action.ExtensionActionRequest;
 import org.opensearch.extensions.action.ExtensionActionResponse;
 import org.opensearch.extensions.action.RemoteExtensionActionResponse;
+import org.opensearch.sdk.SDKBigArrays;
 import org.opensearch.sdk.SDKClient;
 import org.opensearch.sdk.SDKTransportService;
-import org.opensearch.sdk.action.RemoteExtensionActionRequest;
+import org.opensearch.sdk.action.ActionRequestReaderRegistry;
+import org.opensearch.sdk.action.MultiRemoteExtensionActionResponse;
+import org.opensearch.sdk.action.RemoteActionCompression;
+import org.opensearch.sdk.action.RemoteExtensionActionFrame;
+import org.opensearch.sdk.action.RemoteExtensionActionPeer;
+import org.opensearch.sdk.stats.ExtensionStats;
+import org.opensearch.sdk.stats.RequestStats;
 
 import java.io.IOException;
-import java.lang.reflect.Constructor;
-import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * This class handles a request from OpenSearch from another extension's {@link SDKTransportService#sendRemoteExtensionActionRequest} call.
@@ -40,6 +55,12 @@ public class ExtensionActionRequestHandler {
     private static final Logger logger = LogManager.getLogger(ExtensionActionRequestHandler.class);
 
     private final SDKClient sdkClient;
+    private final ActionRequestReaderRegistry actionRequestReaderRegistry;
+    private final Executor executor;
+    private final ExtensionStats extensionStats;
+    private final RemoteActionCompression compression;
+    private final Supplier<String> uniqueId;
+    private final SDKBigArrays sdkBigArrays;
 
     /**
      * Instantiate this handler
@@ -47,11 +68,98 @@ public class ExtensionActionRequestHandler {
      * @param sdkClient An initialized SDKClient with the registered actions
      */
     public ExtensionActionRequestHandler(SDKClient sdkClient) {
+        this(sdkClient, new ActionRequestReaderRegistry());
+    }
+
+    /**
+     * Instantiate this handler
+     *
+     * @param sdkClient An initialized SDKClient with the registered actions
+     * @param actionRequestReaderRegistry A registry of readers for the request classes of the registered actions
+     */
+    public ExtensionActionRequestHandler(SDKClient sdkClient, ActionRequestReaderRegistry actionRequestReaderRegistry) {
+        this(sdkClient, actionRequestReaderRegistry, Runnable::run);
+    }
+
+    /**
+     * Instantiate this handler
+     *
+     * @param sdkClient An initialized SDKClient with the registered actions
+     * @param actionRequestReaderRegistry A registry of readers for the request classes of the registered actions
+     * @param executor The executor on which the requests of a batch are executed concurrently
+     */
+    public ExtensionActionRequestHandler(SDKClient sdkClient, ActionRequestReaderRegistry actionRequestReaderRegistry, Executor executor) {
+        this(sdkClient, actionRequestReaderRegistry, executor, new ExtensionStats());
+    }
+
+    /**
+     * Instantiate this handler
+     *
+     * @param sdkClient An initialized SDKClient with the registered actions
+     * @param actionRequestReaderRegistry A registry of readers for the request classes of the registered actions
+     * @param executor The executor on which the requests of a batch are executed concurrently
+     * @param extensionStats The statistics in which to record the requests to each action
+     */
+    public ExtensionActionRequestHandler(
+        SDKClient sdkClient,
+        ActionRequestReaderRegistry actionRequestReaderRegistry,
+        Executor executor,
+        ExtensionStats extensionStats
+    ) {
+        this(sdkClient, actionRequestReaderRegistry, executor, extensionStats, () -> "");
+    }
+
+    /**
+     * Instantiate this handler
+     *
+     * @param sdkClient An initialized SDKClient with the registered actions
+     * @param actionRequestReaderRegistry A registry of readers for the request classes of the registered actions
+     * @param executor The executor on which the requests of a batch are executed concurrently
+     * @param extensionStats The statistics in which to record the requests to each action
+     * @param uniqueId Supplies the unique id of this extension, which is sent to extensions in the capability exchange
+     */
+    public ExtensionActionRequestHandler(
+        SDKClient sdkClient,
+        ActionRequestReaderRegistry actionRequestReaderRegistry,
+        Executor executor,
+        ExtensionStats extensionStats,
+        Supplier<String> uniqueId
+    ) {
+        this(sdkClient, actionRequestReaderRegistry, executor, extensionStats, uniqueId, SDKBigArrays.NON_RECYCLING);
+    }
+
+    /**
+     * Instantiate this handler
+     *
+     * @param sdkClient An initialized SDKClient with the registered actions
+     * @param actionRequestReaderRegistry A registry of readers for the request classes of the registered actions
+     * @param executor The executor on which the requests of a batch are executed concurrently
+     * @param extensionStats The statistics in which to record the requests to each action
+     * @param uniqueId Supplies the unique id of this extension, which is sent to extensions in the capability exchange
+     * @param sdkBigArrays The pooled buffers into which responses are serialized
+     */
+    public ExtensionActionRequestHandler(
+        SDKClient sdkClient,
+        ActionRequestReaderRegistry actionRequestReaderRegistry,
+        Executor executor,
+        ExtensionStats extensionStats,
+        Supplier<String> uniqueId,
+        SDKBigArrays sdkBigArrays
+    ) {
         this.sdkClient = sdkClient;
+        this.actionRequestReaderRegistry = actionRequestReaderRegistry;
+        this.executor = executor;
+        this.extensionStats = extensionStats;
+        // Compressed frames are always read up to the default maximum size, the policy only records their decompression
+        this.compression = new RemoteActionCompression(-1, Map.of(), extensionStats.getCompression());
+        this.uniqueId = uniqueId;
+        this.sdkBigArrays = sdkBigArrays;
     }
 
     /**
      * Handles a request from OpenSearch to execute a TransportAction on the extension. These requests originated from OpenSearch or a plugin.
+     * <p>
+     * This method blocks until the action completes. Prefer {@link #handleExtensionActionRequest(ExtensionActionRequest, ActionListener)}.
      *
      * @param request The request to execute
      * @return The response from the TransportAction
@@ -64,79 +172,209 @@ public class ExtensionActionRequestHandler {
         return new ExtensionActionResponse(response.getResponseBytes());
     }
 
+    /**
+     * Handles a request from OpenSearch to execute a TransportAction on the extension without blocking. These requests originated from
+     * OpenSearch or a plugin.
+     *
+     * @param request The request to execute
+     * @param listener The listener to complete with the response from the TransportAction
+     */
+    public void handleExtensionActionRequest(ExtensionActionRequest request, ActionListener<ExtensionActionResponse> listener) {
+        // Discard the success bit and just return the bytes
+        handleRemoteExtensionActionRequest(request, ActionListener.map(listener, r -> new ExtensionActionResponse(r.getResponseBytes())));
+    }
+
     /**
      * Handles a request from OpenSearch to execute a TransportAction on the extension. These requests originated from another extension.
+     * <p>
+     * This method blocks until the action completes. Prefer {@link #handleRemoteExtensionActionRequest(ExtensionActionRequest, ActionListener)}.
      *
      * @param request The request to execute
      * @return The response from the TransportAction
      */
     public RemoteExtensionActionResponse handleRemoteExtensionActionRequest(ExtensionActionRequest request) {
+        CompletableFuture<RemoteExtensionActionResponse> futureResponse = new CompletableFuture<>();
+        handleRemoteExtensionActionRequest(request, ActionListener.wrap(futureResponse::complete, futureResponse::completeExceptionally));
+        return futureResponse.join();
+    }
+
+    /**
+     * Handles a request from OpenSearch to execute a TransportAction on the extension without blocking. These requests originated from
+     * another extension.
+     * <p>
+     * The listener is always completed with a response. Failures to find or execute the action are reported in the response bytes with
+     * the success bit unset.
+     *
+     * @param request The request to execute
+     * @param listener The listener to complete with the response from the TransportAction
+     */
+    public void handleRemoteExtensionActionRequest(ExtensionActionRequest request, ActionListener<RemoteExtensionActionResponse> listener) {
         logger.debug("Received request to execute action [" + request.getAction() + "]");
-        byte[] requestBytes = request.getRequestBytes().toByteArray();
+        ByteString requestBytes = request.getRequestBytes();
         final RemoteExtensionActionResponse response = new RemoteExtensionActionResponse(false, new byte[0]);
 
         // Find matching ActionType instance
-        ActionType<? extends ActionResponse> action = sdkClient.getActionFromClassName(request.getAction());
+        String actionClassName = request.getAction();
+        ActionType<? extends ActionResponse> action = sdkClient.getActionFromClassName(actionClassName);
         if (action == null) {
             response.setResponseBytesAsString("No action [" + request.getAction() + "] is registered.");
-            return response;
+            listener.onResponse(response);
+            return;
         }
         logger.debug("Found matching action [" + action.name() + "], an instance of [" + action.getClass().getName() + "]");
 
-        // Extract request class name from bytes and instantiate request
-        int nullPos = indexOf(requestBytes, RemoteExtensionActionRequest.UNIT_SEPARATOR);
-        String requestClassName = new String(Arrays.copyOfRange(requestBytes, 0, nullPos + 1), StandardCharsets.UTF_8).stripTrailing();
+        // An empty request is the capability exchange of a sender which reads frames, answered with the request ids of all actions
+        if (requestBytes.isEmpty()) {
+            Map<String, String> requestClassNames = actionRequestReaderRegistry.getRequestClassNames();
+            Map<String, Integer> requestIds = new HashMap<>();
+            for (String actionName : requestClassNames.keySet()) {
+                requestIds.put(actionName, actionRequestReaderRegistry.getRequestId(actionName));
+            }
+            RemoteExtensionActionPeer peer = new RemoteExtensionActionPeer(
+                RemoteExtensionActionPeer.CAPABILITY_BATCH | RemoteExtensionActionPeer.CAPABILITY_COMPRESSION,
+                uniqueId.get(),
+                requestClassNames,
+                requestIds
+            );
+            try {
+                listener.onResponse(new RemoteExtensionActionResponse(true, sdkBigArrays.toBytes(peer)));
+            } catch (IOException e) {
+                throw new IllegalStateException("Writing an OutputStream to memory should never result in an IOException.");
+            }
+            return;
+        }
+
+        // Decode the frame and instantiate the request, reading slices of the request bytes without copying them
         ActionRequest actionRequest = null;
+        String requestClassName = null;
+        RequestStats stats = null;
+        long startNanos = 0;
         try {
-            Class<?> clazz = Class.forName(requestClassName);
-            Constructor<?> constructor = clazz.getConstructor(StreamInput.class);
-            StreamInput requestByteStream = StreamInput.wrap(Arrays.copyOfRange(requestBytes, nullPos + 1, requestBytes.length));
-            actionRequest = (ActionRequest) constructor.newInstance(requestByteStream);
+            RemoteExtensionActionFrame frame = RemoteExtensionActionFrame.decode(requestBytes, compression);
+            if (frame.isBatch()) {
+                handleBatchRequests(frame.getBatchRequests(), listener);
+                return;
+            }
+            requestClassName = frame.getRequestClassName();
+            Writeable.Reader<? extends ActionRequest> reader;
+            if (requestClassName == null) {
+                reader = actionRequestReaderRegistry.getReader(actionClassName, frame.getRequestId());
+                if (reader == null) {
+                    // The sender learns the request ids again and retries with the full class name
+                    response.setResponseBytes(
+                        RemoteExtensionActionFrame.encodeUnknownRequestId(
+                            "Unknown request id [" + frame.getRequestId() + "] for action [" + actionClassName + "]"
+                        )
+                    );
+                    listener.onResponse(response);
+                    return;
+                }
+            } else {
+                reader = actionRequestReaderRegistry.getReader(requestClassName);
+            }
+            stats = extensionStats.action(action.name());
+            startNanos = stats.start();
+            ByteString requestBody = frame.getRequestBytes();
+            try (StreamInput requestByteStream = new InputStreamStreamInput(requestBody.newInput(), requestBody.size())) {
+                actionRequest = reader.read(requestByteStream);
+            }
         } catch (Exception e) {
+            if (stats != null) {
+                stats.end(startNanos, true);
+            }
             response.setResponseBytesAsString("No request class [" + requestClassName + "] is available: " + e.getMessage());
-            return response;
+            listener.onResponse(response);
+            return;
         }
 
         // Execute the action
-        // TODO: We need async client.execute to hide these action listener details and return the future directly
-        // https://github.com/opensearch-project/opensearch-sdk-java/issues/584
-        CompletableFuture<RemoteExtensionActionResponse> futureResponse = new CompletableFuture<>();
-        sdkClient.execute(action, actionRequest, ActionListener.wrap(r -> {
-            byte[] bytes = new byte[0];
-            try (BytesStreamOutput out = new BytesStreamOutput()) {
-                ((ActionResponse) r).writeTo(out);
-                bytes = BytesReference.toBytes(out.bytes());
-            } catch (IOException e) {
-                throw new IllegalStateException("Writing an OutputStream to memory should never result in an IOException.");
-            }
-            response.setSuccess(true);
-            response.setResponseBytes(bytes);
-            futureResponse.complete(response);
-        }, e -> futureResponse.completeExceptionally(e)));
-
-        logger.debug("Waiting for response to action [" + request.getAction() + "]");
+        CompletableFuture<byte[]> futureResponse = new CompletableFuture<>();
         try {
-            RemoteExtensionActionResponse actionResponse = futureResponse.orTimeout(
-                ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT,
-                TimeUnit.SECONDS
-            ).get();
-            response.setSuccess(true);
-            response.setResponseBytes(actionResponse.getResponseBytes());
-            logger.debug("Response successful to [" + request.getAction() + "]");
+            sdkClient.execute(action, actionRequest, ActionListener.wrap(r -> {
+                try {
+                    futureResponse.complete(sdkBigArrays.toBytes((ActionResponse) r));
+                } catch (IOException e) {
+                    throw new IllegalStateException("Writing an OutputStream to memory should never result in an IOException.");
+                }
+            }, futureResponse::completeExceptionally));
         } catch (Exception e) {
-            response.setResponseBytesAsString("Action failed: " + e.getMessage());
-            logger.debug("Response failed to [" + request.getAction() + "]");
+            futureResponse.completeExceptionally(e);
         }
-        logger.debug("Sending action response to OpenSearch: " + response.getResponseBytes().length + " bytes");
-        return response;
+
+        // Complete the listener when the action completes, without waiting on this thread
+        logger.debug("Waiting for response to action [" + request.getAction() + "]");
+        final RequestStats actionStats = stats;
+        final long actionStartNanos = startNanos;
+        futureResponse.orTimeout(ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT, TimeUnit.SECONDS).whenComplete((bytes, e) -> {
+            actionStats.end(actionStartNanos, e != null);
+            if (e == null) {
+                response.setSuccess(true);
+                response.setResponseBytes(bytes);
+                logger.debug("Response successful to [" + request.getAction() + "]");
+            } else {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                response.setResponseBytesAsString("Action failed: " + cause.getMessage());
+                logger.debug("Response failed to [" + request.getAction() + "]");
+            }
+            logger.debug("Sending action response to OpenSearch: " + response.getResponseBytes().length + " bytes");
+            listener.onResponse(response);
+        });
     }
 
-    private static int indexOf(byte[] bytes, byte value) {
-        for (int offset = 0; offset < bytes.length; ++offset) {
-            if (bytes[offset] == value) {
-                return offset;
+    /**
+     * Executes the requests of a batch concurrently, and completes the listener with a single response holding a
+     * {@link MultiRemoteExtensionActionResponse} once all of the requests complete.
+     */
+    private void handleBatchRequests(List<ExtensionActionRequest> requests, ActionListener<RemoteExtensionActionResponse> listener) {
+        logger.debug("Executing batch of " + requests.size() + " actions");
+        if (requests.isEmpty()) {
+            sendBatchResponse(new AtomicReferenceArray<>(0), listener);
+            return;
+        }
+        AtomicReferenceArray<RemoteExtensionActionResponse> responses = new AtomicReferenceArray<>(requests.size());
+        CountDown countDown = new CountDown(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            final int index = i;
+            final ExtensionActionRequest request = requests.get(i);
+            // Each request always completes with a response, failures are reported in its response bytes
+            Consumer<RemoteExtensionActionResponse> onResponse = response -> {
+                responses.set(index, response);
+                if (countDown.countDown()) {
+                    sendBatchResponse(responses, listener);
+                }
+            };
+            try {
+                executor.execute(
+                    () -> handleRemoteExtensionActionRequest(
+                        request,
+                        ActionListener.wrap(onResponse::accept, e -> onResponse.accept(failedResponse("Action failed: " + e.getMessage())))
+                    )
+                );
+            } catch (Exception e) {
+                onResponse.accept(failedResponse("Action failed: " + e.getMessage()));
             }
         }
-        return -1;
+    }
+
+    private static RemoteExtensionActionResponse failedResponse(String message) {
+        RemoteExtensionActionResponse response = new RemoteExtensionActionResponse(false, new byte[0]);
+        response.setResponseBytesAsString(message);
+        return response;
+    }
+
+    private void sendBatchResponse(
+        AtomicReferenceArray<RemoteExtensionActionResponse> responses,
+        ActionListener<RemoteExtensionActionResponse> listener
+    ) {
+        List<RemoteExtensionActionResponse> batchResponses = new ArrayList<>(responses.length());
+        for (int i = 0; i < responses.length(); i++) {
+            batchResponses.add(responses.get(i));
+        }
+        try {
+            byte[] bytes = sdkBigArrays.toBytes(new MultiRemoteExtensionActionResponse(batchResponses));
+            listener.onResponse(new RemoteExtensionActionResponse(true, bytes));
+        } catch (IOException e) {
+            throw new IllegalStateException("Writing an OutputStream to memory should never result in an IOException.");
+        }
     }
 }
@@ -11,6 +11,8 @@ package org.opensearch.sdk.handlers;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.common.Nullable;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.extensions.ExtensionsManager;
 import org.opensearch.extensions.action.RemoteExtensionActionResponse;
@@ -24,20 +26,32 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
- * This class handles the response from OpenSearch to a {@link SDKTransportService#sendRemoteExtensionActionRequest} call.
+ * This class handles the response from OpenSearch to a {@link SDKTransportService#sendRemoteExtensionActionRequest} or
+ * {@link SDKTransportService#sendRemoteExtensionActionRequestAsync} call.
  */
 public class ExtensionActionResponseHandler implements TransportResponseHandler<RemoteExtensionActionResponse> {
 
     private static final Logger logger = LogManager.getLogger(ExtensionActionResponseHandler.class);
     private final CompletableFuture<RemoteExtensionActionResponse> inProgressFuture;
+    private final ActionListener<RemoteExtensionActionResponse> listener;
     private boolean success = false;
     private byte[] responseBytes = new byte[0];
 
     /**
-    * Instantiates a new ExtensionActionResponseHandler
+    * Instantiates a new ExtensionActionResponseHandler. Use {@link #awaitResponse()} to wait for the response.
     */
     public ExtensionActionResponseHandler() {
+        this(null);
+    }
+
+    /**
+     * Instantiates a new ExtensionActionResponseHandler which completes the listener when the response is received.
+     *
+     * @param listener The listener to notify of the response or failure, or null to only use {@link #awaitResponse()}
+     */
+    public ExtensionActionResponseHandler(@Nullable ActionListener<RemoteExtensionActionResponse> listener) {
         this.inProgressFuture = new CompletableFuture<>();
+        this.listener = listener;
     }
 
     @Override
@@ -47,12 +61,18 @@ public class ExtensionActionResponseHandler implements TransportResponseHandler<
         this.success = response.isSuccess();
         this.responseBytes = response.getResponseBytes();
         inProgressFuture.complete(response);
+        if (listener != null) {
+            listener.onResponse(response);
+        }
     }
 
     @Override
     public void handleException(TransportException exp) {
         logger.error("ExtensionActionResponseRequest failed", exp);
         inProgressFuture.completeExceptionally(exp);
+        if (listener != null) {
+            listener.onFailure(exp);
+        }
     }
 
     @Override
@@ -11,13 +11,25 @@ package org.opensearch.sdk.handlers;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.action.bulk.BackoffPolicy;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.discovery.InitializeExtensionRequest;
 import org.opensearch.discovery.InitializeExtensionResponse;
+import org.opensearch.extensions.AcknowledgedResponse;
+import org.opensearch.extensions.ExtensionsManager;
 import org.opensearch.sdk.ExtensionsRunner;
 import org.opensearch.sdk.SDKTransportService;
+import org.opensearch.sdk.StartupTimeline;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
 import static org.opensearch.sdk.ExtensionsRunner.NODE_NAME_SETTING;
 
 /**
@@ -33,6 +45,28 @@ public class ExtensionsInitRequestHandler {
     // The configured http port setting of opensearch.yml
     private static final String HTTP_PORT_SETTING = "http.port";
 
+    /**
+     * The startup timeline phase registering REST actions
+     */
+    public static final String PHASE_REGISTER_REST_ACTIONS = "register_rest_actions";
+    /**
+     * The startup timeline phase registering custom settings
+     */
+    public static final String PHASE_REGISTER_CUSTOM_SETTINGS = "register_custom_settings";
+    /**
+     * The startup timeline phase registering transport actions
+     */
+    public static final String PHASE_REGISTER_TRANSPORT_ACTIONS = "register_transport_actions";
+    /**
+     * The startup timeline phase requesting environment settings
+     */
+    public static final String PHASE_ENVIRONMENT_SETTINGS = "environment_settings";
+
+    /**
+     * The delays between the attempts of a failed initialization phase, after which the extension stops.
+     */
+    public static final BackoffPolicy PHASE_RETRY_BACKOFF = BackoffPolicy.exponentialBackoff(TimeValue.timeValueMillis(500), 3);
+
     private final ExtensionsRunner extensionsRunner;
 
     /**
@@ -46,12 +80,20 @@ public class ExtensionsInitRequestHandler {
 
     /**
      * Handles a extension request from OpenSearch. This is the first request for the transport communication and will initialize the extension and will be a part of OpenSearch bootstrap.
+     * <p>
+     * The response is returned before the remaining initialization requests are acknowledged, so OpenSearch is not blocked while the
+     * extension registers its actions and applies the environment settings. The REST and transport actions are only registered once the
+     * environment settings, the named XContent registry and the client node have been applied, so OpenSearch does not send requests to
+     * the actions of the extension before then. The extension is marked initialized once every phase has succeeded. A failed phase is
+     * retried with the delays of {@link #PHASE_RETRY_BACKOFF}, and if it still fails, it is recorded on the {@link StartupTimeline} and
+     * the extension is stopped by {@link ExtensionsRunner#failInitialization(Throwable)} rather than left running half initialized.
      *
      * @param extensionInitRequest  The request to handle.
      * @return A response to OpenSearch validating that this is an extension.
      */
     public InitializeExtensionResponse handleExtensionInitRequest(InitializeExtensionRequest extensionInitRequest) {
         logger.info("Registering Extension Request received from OpenSearch");
+        extensionsRunner.getStartupTimeline().reset();
         extensionsRunner.getThreadPool().getThreadContext().putHeader("extension_unique_id", extensionInitRequest.getExtension().getId());
         SDKTransportService sdkTransportService = extensionsRunner.getSdkTransportService();
         sdkTransportService.setOpensearchNode(extensionInitRequest.getSourceNode());
@@ -71,26 +113,155 @@ public class ExtensionsInitRequestHandler {
                 extensionInitRequest.getSourceNode(),
                 extensionInitRequest.getExtension().getId()
             );
-            sdkTransportService.sendRegisterRestActionsRequest(extensionsRunner.getExtensionRestPathRegistry());
-            sdkTransportService.sendRegisterCustomSettingsRequest(extensionsRunner.getCustomSettings());
-            sdkTransportService.sendRegisterTransportActionsRequest(extensionsRunner.getSdkActionModule().getActions());
+            StartupTimeline timeline = extensionsRunner.getStartupTimeline();
+            CompletableFuture<AcknowledgedResponse> registerCustomSettings = sendAcknowledgedPhase(
+                timeline,
+                PHASE_REGISTER_CUSTOM_SETTINGS,
+                listener -> sdkTransportService.sendRegisterCustomSettingsRequest(extensionsRunner.getCustomSettings(), listener)
+            );
             // Get OpenSearch Settings and set values on ExtensionsRunner
-            Settings settings = sdkTransportService.sendEnvironmentSettingsRequest();
-            extensionsRunner.setEnvironmentSettings(settings);
-            extensionsRunner.updateNamedXContentRegistry();
-            extensionsRunner.updateSdkClusterService();
-            // Use OpenSearch Settings to update client REST Connections
-            String openSearchNodeAddress = extensionInitRequest.getSourceNode().getAddress().getAddress();
-            String openSearchNodeHttpPort = settings.get(HTTP_PORT_SETTING) != null ? settings.get(HTTP_PORT_SETTING) : DEFAULT_HTTP_PORT;
-            extensionsRunner.getSdkClient().updateOpenSearchNodeSettings(openSearchNodeAddress, openSearchNodeHttpPort);
-
-            // Last step of initialization
-            // TODO: make sure all the other sendX methods have completed
-            // https://github.com/opensearch-project/opensearch-sdk-java/issues/17
-            extensionsRunner.setInitialized();
-
-            // Trigger pending updates requiring completion of the above actions
-            extensionsRunner.getSdkClusterService().getClusterSettings().sendPendingSettingsUpdateConsumers();
+            CompletableFuture<Settings> environmentSettingsResponse = sendPhase(
+                timeline,
+                PHASE_ENVIRONMENT_SETTINGS,
+                (ActionListener<Settings> listener) -> sdkTransportService.sendEnvironmentSettingsRequest(listener)
+            );
+            CompletableFuture<Void> environmentSettings = environmentSettingsResponse.handle(
+                (settings, e) -> settings == null ? Settings.EMPTY : settings
+            ).thenAccept(settings -> {
+                extensionsRunner.setEnvironmentSettings(settings);
+                extensionsRunner.updateNamedXContentRegistry();
+                extensionsRunner.updateSdkClusterService();
+                // Use OpenSearch Settings to update client REST Connections
+                String openSearchNodeAddress = extensionInitRequest.getSourceNode().getAddress().getAddress();
+                String openSearchNodeHttpPort = settings.get(HTTP_PORT_SETTING) != null
+                    ? settings.get(HTTP_PORT_SETTING)
+                    : DEFAULT_HTTP_PORT;
+                extensionsRunner.getSdkClient().updateOpenSearchNodeSettings(openSearchNodeAddress, openSearchNodeHttpPort);
+                if (extensionsRunner.getSdkNodeDiscovery() != null) {
+                    extensionsRunner.getSdkNodeDiscovery().start();
+                }
+            }).whenComplete((v, e) -> {
+                if (e != null) {
+                    timeline.fail(PHASE_ENVIRONMENT_SETTINGS, e);
+                    logger.error("Failed to apply the environment settings", e);
+                }
+            });
+            // Register the actions once the state they depend on has been applied, concurrently with each other
+            CompletableFuture<AcknowledgedResponse> registerRestActions = environmentSettings.thenCompose(
+                v -> sendAcknowledgedPhase(
+                    timeline,
+                    PHASE_REGISTER_REST_ACTIONS,
+                    listener -> sdkTransportService.sendRegisterRestActionsRequest(
+                        extensionsRunner.getExtensionRestPathRegistry(),
+                        listener
+                    )
+                )
+            );
+            CompletableFuture<AcknowledgedResponse> registerTransportActions = environmentSettings.thenCompose(
+                v -> sendAcknowledgedPhase(
+                    timeline,
+                    PHASE_REGISTER_TRANSPORT_ACTIONS,
+                    listener -> sdkTransportService.sendRegisterTransportActionsRequest(
+                        extensionsRunner.getSdkActionModule().getActions(),
+                        listener
+                    )
+                )
+            );
+
+            CompletableFuture.allOf(
+                registerCustomSettings,
+                environmentSettingsResponse,
+                environmentSettings,
+                registerRestActions,
+                registerTransportActions
+            ).whenComplete((r, e) -> {
+                logger.info("Extension initialization timeline: " + timeline);
+                if (e != null) {
+                    logger.error("Extension initialization failed in phases " + timeline.getFailedPhases(), e);
+                    extensionsRunner.failInitialization(e);
+                    return;
+                }
+                // Last step of initialization
+                extensionsRunner.setInitialized();
+
+                // Trigger pending updates requiring completion of the above actions
+                extensionsRunner.getSdkClusterService().getClusterSettings().sendPendingSettingsUpdateConsumers();
+            });
         }
     }
+
+    /**
+     * Sends a registration request for a phase of initialization, which fails if OpenSearch does not acknowledge it.
+     *
+     * @param timeline The startup timeline
+     * @param phase The name of the phase
+     * @param sender Sends the request, completing the listener with its response
+     * @return A future completing with the acknowledged response, or exceptionally if the request fails or is not acknowledged
+     */
+    private CompletableFuture<AcknowledgedResponse> sendAcknowledgedPhase(
+        StartupTimeline timeline,
+        String phase,
+        Consumer<ActionListener<AcknowledgedResponse>> sender
+    ) {
+        return sendPhase(
+            timeline,
+            phase,
+            (ActionListener<AcknowledgedResponse> listener) -> sender.accept(ActionListener.wrap(response -> {
+                if (!response.getStatus()) {
+                    throw new IllegalStateException("OpenSearch did not acknowledge the request");
+                }
+                listener.onResponse(response);
+            }, listener::onFailure))
+        );
+    }
+
+    /**
+     * Sends a request for a phase of initialization, recording the phase on the timeline. A failed request is sent again after each
+     * delay of {@link #PHASE_RETRY_BACKOFF}.
+     *
+     * @param timeline The startup timeline
+     * @param phase The name of the phase
+     * @param sender Sends the request, completing the listener with its response
+     * @return A future completing with the response, or exceptionally if the last attempt fails or is not acknowledged within
+     *     {@link ExtensionsManager#EXTENSION_REQUEST_WAIT_TIMEOUT} seconds
+     */
+    private <T> CompletableFuture<T> sendPhase(StartupTimeline timeline, String phase, Consumer<ActionListener<T>> sender) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        timeline.start(phase);
+        sendPhaseAttempt(phase, sender, PHASE_RETRY_BACKOFF.iterator(), future);
+        return future.whenComplete((r, e) -> {
+            if (e != null) {
+                timeline.fail(phase, e);
+                logger.error("Initialization phase [" + phase + "] failed", e);
+            } else {
+                timeline.end(phase);
+            }
+        });
+    }
+
+    private <T> void sendPhaseAttempt(
+        String phase,
+        Consumer<ActionListener<T>> sender,
+        Iterator<TimeValue> backoff,
+        CompletableFuture<T> future
+    ) {
+        CompletableFuture<T> attempt = new CompletableFuture<>();
+        sender.accept(ActionListener.wrap(attempt::complete, attempt::completeExceptionally));
+        attempt.orTimeout(ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT, TimeUnit.SECONDS).whenComplete((r, e) -> {
+            if (e == null) {
+                future.complete(r);
+            } else if (backoff.hasNext()) {
+                TimeValue delay = backoff.next();
+                logger.warn("Initialization phase [" + phase + "] failed, retrying in " + delay, e);
+                try {
+                    extensionsRunner.getThreadPool()
+                        .schedule(() -> sendPhaseAttempt(phase, sender, backoff, future), delay, ThreadPool.Names.GENERIC);
+                } catch (Exception rejected) {
+                    future.completeExceptionally(e);
+                }
+            } else {
+                future.completeExceptionally(e);
+            }
+        });
+    }
 }
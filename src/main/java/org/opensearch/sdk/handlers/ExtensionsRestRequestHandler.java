@@ -11,16 +11,26 @@ package org.opensearch.sdk.handlers;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.extensions.rest.ExtensionRestRequest;
 import org.opensearch.extensions.rest.ExtensionRestResponse;
 import org.opensearch.extensions.rest.RestExecuteOnExtensionResponse;
 import org.opensearch.sdk.ExtensionsRunner;
+import org.opensearch.sdk.SDKBigArrays;
 import org.opensearch.sdk.SDKNamedXContentRegistry;
 import org.opensearch.sdk.rest.ExtensionRestHandler;
 import org.opensearch.sdk.rest.ExtensionRestPathRegistry;
 import org.opensearch.sdk.rest.SDKHttpRequest;
 import org.opensearch.sdk.rest.SDKRestRequest;
+import org.opensearch.sdk.rest.StreamingExtensionRestResponse;
+import org.opensearch.sdk.stats.ExtensionStats;
+import org.opensearch.sdk.stats.RequestStats;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
@@ -36,6 +46,9 @@ public class ExtensionsRestRequestHandler {
     private static final Logger logger = LogManager.getLogger(ExtensionsRestRequestHandler.class);
     private final ExtensionRestPathRegistry extensionRestPathRegistry;
     private final SDKNamedXContentRegistry sdkNamedXContentRegistry;
+    private final ExtensionStats extensionStats;
+    private final long requestBodySpillThreshold;
+    private final SDKBigArrays sdkBigArrays;
 
     /**
      * Instantiate this class with an existing registry
@@ -44,12 +57,70 @@ public class ExtensionsRestRequestHandler {
      * @param sdkNamedXContentRegistry The SDKNamedXContentRegistry wrapper
      */
     public ExtensionsRestRequestHandler(ExtensionRestPathRegistry restPathRegistry, SDKNamedXContentRegistry sdkNamedXContentRegistry) {
+        this(restPathRegistry, sdkNamedXContentRegistry, new ExtensionStats());
+    }
+
+    /**
+     * Instantiate this class with an existing registry
+     *
+     * @param restPathRegistry The ExtensionsRunnerer's REST path registry
+     * @param sdkNamedXContentRegistry The SDKNamedXContentRegistry wrapper
+     * @param extensionStats The statistics in which to record the requests to each route
+     */
+    public ExtensionsRestRequestHandler(
+        ExtensionRestPathRegistry restPathRegistry,
+        SDKNamedXContentRegistry sdkNamedXContentRegistry,
+        ExtensionStats extensionStats
+    ) {
+        this(restPathRegistry, sdkNamedXContentRegistry, extensionStats, -1);
+    }
+
+    /**
+     * Instantiate this class with an existing registry
+     *
+     * @param restPathRegistry The ExtensionsRunnerer's REST path registry
+     * @param sdkNamedXContentRegistry The SDKNamedXContentRegistry wrapper
+     * @param extensionStats The statistics in which to record the requests to each route
+     * @param requestBodySpillThreshold The size in bytes above which a request body is written to a temporary file while the request is
+     *     handled asynchronously, or a negative value to keep all bodies in memory
+     */
+    public ExtensionsRestRequestHandler(
+        ExtensionRestPathRegistry restPathRegistry,
+        SDKNamedXContentRegistry sdkNamedXContentRegistry,
+        ExtensionStats extensionStats,
+        long requestBodySpillThreshold
+    ) {
+        this(restPathRegistry, sdkNamedXContentRegistry, extensionStats, requestBodySpillThreshold, SDKBigArrays.NON_RECYCLING);
+    }
+
+    /**
+     * Instantiate this class with an existing registry
+     *
+     * @param restPathRegistry The ExtensionsRunnerer's REST path registry
+     * @param sdkNamedXContentRegistry The SDKNamedXContentRegistry wrapper
+     * @param extensionStats The statistics in which to record the requests to each route
+     * @param requestBodySpillThreshold The size in bytes above which a request body is written to a temporary file while the request is
+     *     handled asynchronously, or a negative value to keep all bodies in memory
+     * @param sdkBigArrays The pooled buffers into which streaming responses are written
+     */
+    public ExtensionsRestRequestHandler(
+        ExtensionRestPathRegistry restPathRegistry,
+        SDKNamedXContentRegistry sdkNamedXContentRegistry,
+        ExtensionStats extensionStats,
+        long requestBodySpillThreshold,
+        SDKBigArrays sdkBigArrays
+    ) {
         this.sdkNamedXContentRegistry = sdkNamedXContentRegistry;
         this.extensionRestPathRegistry = restPathRegistry;
+        this.extensionStats = extensionStats;
+        this.requestBodySpillThreshold = requestBodySpillThreshold;
+        this.sdkBigArrays = sdkBigArrays;
     }
 
     /**
      * Handles a request from OpenSearch to execute a REST request on the extension.
+     * <p>
+     * The caller holds the request until the response is returned, so its body is kept in memory whatever the spill threshold.
      *
      * @param request  The REST request to execute.
      * @return A response acknowledging the request.
@@ -58,36 +129,145 @@ public class ExtensionsRestRequestHandler {
 
         ExtensionRestHandler restHandler = extensionRestPathRegistry.getHandler(request.method(), request.path());
         if (restHandler == null) {
-            return new RestExecuteOnExtensionResponse(
-                NOT_FOUND,
-                TEXT_CONTENT_TYPE,
-                String.join(" ", "No handler for", request.method().name(), request.path()).getBytes(UTF_8),
-                emptyMap(),
-                emptyList(),
-                false
-            );
+            return handlerNotFound(request);
         }
 
-        SDKRestRequest sdkRestRequest = new SDKRestRequest(
+        // Get response from extension
+        RequestStats stats = routeStats(request);
+        long startNanos = stats.start();
+        boolean failed = true;
+        SDKHttpRequest httpRequest = null;
+        try {
+            // Writing the body to a file would not free it, as the caller still holds the request
+            httpRequest = new SDKHttpRequest(request);
+            ExtensionRestResponse response = restHandler.handleRequest(createSdkRestRequest(request, httpRequest));
+            RestExecuteOnExtensionResponse restExecuteOnExtensionResponse = createRestExecuteOnExtensionResponse(response);
+            failed = isFailure(response);
+            return restExecuteOnExtensionResponse;
+        } finally {
+            if (httpRequest != null) {
+                httpRequest.release();
+            }
+            stats.end(startNanos, failed);
+        }
+    }
+
+    /**
+     * Handles a request from OpenSearch to execute a REST request on the extension without blocking. The listener is completed when the
+     * handler's response completes.
+     * <p>
+     * A body larger than the spill threshold is written to a temporary file before the handler is called. Neither the handler nor the
+     * listener references the request, so once the handler returns its future and the caller drops the request, the body is freed while
+     * the response completes.
+     *
+     * @param request  The REST request to execute.
+     * @param listener The listener to complete with a response acknowledging the request.
+     */
+    public void handleRestExecuteOnExtensionRequest(ExtensionRestRequest request, ActionListener<RestExecuteOnExtensionResponse> listener) {
+
+        ExtensionRestHandler restHandler = extensionRestPathRegistry.getHandler(request.method(), request.path());
+        if (restHandler == null) {
+            listener.onResponse(handlerNotFound(request));
+            return;
+        }
+
+        // Get response from extension
+        RequestStats stats = routeStats(request);
+        long startNanos = stats.start();
+        // Only keep what is logged, so the request and its body can be collected while the response completes
+        String methodAndPath = request.method() + " " + request.path();
+        SDKHttpRequest httpRequest = null;
+        CompletableFuture<ExtensionRestResponse> futureResponse;
+        try {
+            httpRequest = createHttpRequest(request);
+            futureResponse = restHandler.handleRequestAsync(createSdkRestRequest(request, httpRequest));
+        } catch (Exception e) {
+            futureResponse = CompletableFuture.failedFuture(e);
+        }
+        SDKHttpRequest releasable = httpRequest;
+        futureResponse.whenComplete((response, t) -> {
+            if (releasable != null) {
+                releasable.release();
+            }
+            RestExecuteOnExtensionResponse restExecuteOnExtensionResponse = null;
+            Throwable failure = t;
+            if (failure == null) {
+                try {
+                    restExecuteOnExtensionResponse = createRestExecuteOnExtensionResponse(response);
+                } catch (Exception e) {
+                    failure = e;
+                }
+            }
+            stats.end(startNanos, failure != null || isFailure(response));
+            if (failure == null) {
+                listener.onResponse(restExecuteOnExtensionResponse);
+            } else {
+                Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+                logger.info("Extension REST handler failed for " + methodAndPath, cause);
+                listener.onFailure(cause instanceof Exception ? (Exception) cause : new RuntimeException(cause));
+            }
+        });
+    }
+
+    private RequestStats routeStats(ExtensionRestRequest request) {
+        String routeName = extensionRestPathRegistry.getRouteName(request.method(), request.path());
+        return extensionStats.route(routeName == null ? request.method().name() + " " + request.path() : routeName);
+    }
+
+    private static boolean isFailure(ExtensionRestResponse response) {
+        return response == null || response.status().getStatus() >= 500;
+    }
+
+    private SDKHttpRequest createHttpRequest(ExtensionRestRequest request) {
+        try {
+            return new SDKHttpRequest(request, requestBodySpillThreshold);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write the request body to a temporary file", e);
+        }
+    }
+
+    private SDKRestRequest createSdkRestRequest(ExtensionRestRequest request, SDKHttpRequest httpRequest) {
+        return new SDKRestRequest(
             sdkNamedXContentRegistry.getRegistry(),
             request.params(),
             request.path(),
             request.headers(),
-            new SDKHttpRequest(request),
+            httpRequest,
             null
         );
+    }
+
+    private static RestExecuteOnExtensionResponse handlerNotFound(ExtensionRestRequest request) {
+        return new RestExecuteOnExtensionResponse(
+            NOT_FOUND,
+            TEXT_CONTENT_TYPE,
+            String.join(" ", "No handler for", request.method().name(), request.path()).getBytes(UTF_8),
+            emptyMap(),
+            emptyList(),
+            false
+        );
+    }
 
-        // Get response from extension
-        ExtensionRestResponse response = restHandler.handleRequest(sdkRestRequest);
+    private RestExecuteOnExtensionResponse createRestExecuteOnExtensionResponse(ExtensionRestResponse response) {
         logger.info("Sending extension response to OpenSearch: " + response.status());
+        // A streaming response produces its content here, as OpenSearch expects the whole content in a single message
+        byte[] content;
+        if (response instanceof StreamingExtensionRestResponse) {
+            try {
+                content = ((StreamingExtensionRestResponse) response).toBytes(sdkBigArrays);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write the streaming response content", e);
+            }
+        } else {
+            content = BytesReference.toBytes(response.content());
+        }
         return new RestExecuteOnExtensionResponse(
             response.status(),
             response.contentType(),
-            BytesReference.toBytes(response.content()),
+            content,
             response.getHeaders(),
             response.getConsumedParams(),
             response.isContentConsumed()
         );
     }
-
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.handlers;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportChannel;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportRequestHandler;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Wraps a {@link TransportRequestHandler} so that each request is handled on the provided executor rather than a named thread pool.
+ * <p>
+ * This allows handlers which block waiting on responses to run on an executor such as a virtual-thread-per-task executor. The handler
+ * should be registered with {@code ThreadPool.Names.SAME} so the transport thread only hands off the request.
+ *
+ * @param <T> The type of the transport request
+ */
+public class ForkingRequestHandler<T extends TransportRequest> implements TransportRequestHandler<T> {
+    private static final Logger logger = LogManager.getLogger(ForkingRequestHandler.class);
+
+    private final ExecutorService executor;
+    private final ThreadContext threadContext;
+    private final TransportRequestHandler<T> handler;
+
+    /**
+     * Instantiate this handler
+     *
+     * @param executor The executor on which to run the wrapped handler
+     * @param threadContext The thread context to preserve when forking to the executor
+     * @param handler The handler to run
+     */
+    public ForkingRequestHandler(ExecutorService executor, ThreadContext threadContext, TransportRequestHandler<T> handler) {
+        this.executor = executor;
+        this.threadContext = threadContext;
+        this.handler = handler;
+    }
+
+    @Override
+    public void messageReceived(T request, TransportChannel channel, Task task) throws Exception {
+        executor.execute(threadContext.preserveContext(() -> {
+            try {
+                handler.messageReceived(request, channel, task);
+            } catch (Exception e) {
+                sendFailure(channel, e);
+            }
+        }));
+    }
+
+    private static void sendFailure(TransportChannel channel, Exception e) {
+        try {
+            channel.sendResponse(e);
+        } catch (IOException inner) {
+            inner.addSuppressed(e);
+            logger.warn("Failed to send error response on channel [" + channel.getProfileName() + "]", inner);
+        }
+    }
+}
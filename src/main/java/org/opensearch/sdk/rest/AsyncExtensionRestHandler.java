@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import org.opensearch.extensions.rest.ExtensionRestResponse;
+import org.opensearch.rest.RestRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This interface defines an extension REST handler (action) which completes its response asynchronously.
+ * <p>
+ * The response is sent to OpenSearch when the returned future completes, so the handler does not need to block while waiting on other
+ * services such as the {@link org.opensearch.sdk.SDKClient}.
+ */
+@FunctionalInterface
+public interface AsyncExtensionRestHandler extends ExtensionRestHandler {
+
+    /**
+     * Handles REST Requests forwarded from OpenSearch for a configured route on an extension.
+     *
+     * @param restRequest a REST request object for a request to be forwarded to extensions
+     * @return A future completing with an {@link ExtensionRestResponse} to the request.
+     */
+    @Override
+    CompletableFuture<ExtensionRestResponse> handleRequestAsync(RestRequest restRequest);
+
+    /**
+     * Handles REST Requests forwarded from OpenSearch, blocking until the asynchronous response completes.
+     *
+     * @param restRequest a REST request object for a request to be forwarded to extensions
+     * @return An {@link ExtensionRestResponse} to the request.
+     */
+    @Override
+    default ExtensionRestResponse handleRequest(RestRequest restRequest) {
+        return handleRequestAsync(restRequest).join();
+    }
+}
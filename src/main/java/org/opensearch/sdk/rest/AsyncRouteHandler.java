@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import org.opensearch.extensions.rest.ExtensionRestResponse;
+import org.opensearch.rest.NamedRoute;
+import org.opensearch.rest.RestHandler.Route;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestRequest.Method;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * A subclass of {@link Route} that includes a name and an asynchronous handler method for that route.
+ */
+public class AsyncRouteHandler extends Route {
+
+    private final String name;
+    private final Set<String> actionNames;
+    private final Function<RestRequest, CompletableFuture<ExtensionRestResponse>> responseHandler;
+
+    /**
+     * Handle the method and path with the specified asynchronous handler.
+     *
+     * @param method The {@link Method} to handle.
+     * @param path The path to handle.
+     * @param name The unique name of this route.
+     * @param handler The method which handles the method and path.
+     */
+    public AsyncRouteHandler(
+        Method method,
+        String path,
+        String name,
+        Function<RestRequest, CompletableFuture<ExtensionRestResponse>> handler
+    ) {
+        this(method, path, name, Collections.emptySet(), handler);
+    }
+
+    /**
+     * Handle the method and path with the specified asynchronous handler.
+     *
+     * @param method The {@link Method} to handle.
+     * @param path The path to handle.
+     * @param name The unique name of this route.
+     * @param actionNames The legacy action names associated with this route.
+     * @param handler The method which handles the method and path.
+     */
+    public AsyncRouteHandler(
+        Method method,
+        String path,
+        String name,
+        Set<String> actionNames,
+        Function<RestRequest, CompletableFuture<ExtensionRestResponse>> handler
+    ) {
+        super(method, path);
+        this.name = name;
+        this.actionNames = actionNames;
+        this.responseHandler = handler;
+    }
+
+    /**
+     * The name of this route.
+     *
+     * @return the unique name of this route.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * The legacy action names of this route.
+     *
+     * @return the legacy action names associated with this route.
+     */
+    public Set<String> actionNames() {
+        return actionNames;
+    }
+
+    /**
+     * Executes the handler for this route.
+     *
+     * @param request The request to handle
+     * @return a future completing with the {@link ExtensionRestResponse} result from the handler for this route.
+     */
+    public CompletableFuture<ExtensionRestResponse> handleRequest(RestRequest request) {
+        return responseHandler.apply(request);
+    }
+
+    /**
+     * Converts this route to a {@link NamedRoute} which blocks on the asynchronous handler, for registration and synchronous callers.
+     *
+     * @return a {@link NamedRoute} equivalent to this route.
+     */
+    public NamedRoute toNamedRoute() {
+        return new NamedRoute.Builder().method(getMethod())
+            .path(getPath())
+            .uniqueName(name)
+            .legacyActionNames(actionNames)
+            .handler(request -> handleRequest(request).join())
+            .build();
+    }
+}
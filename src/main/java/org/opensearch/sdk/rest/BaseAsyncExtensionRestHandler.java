@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import org.opensearch.extensions.rest.ExtensionRestResponse;
+import org.opensearch.rest.NamedRoute;
+import org.opensearch.rest.RestRequest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * Provides convenience methods to reduce boilerplate code in an {@link AsyncExtensionRestHandler} implementation.
+ * <p>
+ * Subclasses define their routes with {@link #asyncRouteHandlers()}. Deprecated and replaced routes are handled synchronously as in
+ * {@link BaseExtensionRestHandler}.
+ */
+public abstract class BaseAsyncExtensionRestHandler extends BaseExtensionRestHandler implements AsyncExtensionRestHandler {
+
+    private volatile CompiledRoutes<AsyncRouteHandler> compiledAsyncRoutes;
+
+    /**
+     * Defines a list of methods which asynchronously handle each rest route. Override this in a subclass to use the functional syntax.
+     *
+     * @return a list of {@link AsyncRouteHandler} with corresponding methods to each route.
+     */
+    protected List<AsyncRouteHandler> asyncRouteHandlers() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<NamedRoute> routes() {
+        return asyncRouteHandlers().stream().map(AsyncRouteHandler::toNamedRoute).collect(Collectors.toList());
+    }
+
+    @Override
+    public ExtensionRestResponse handleRequest(RestRequest request) {
+        return handleRequestAsync(request).join();
+    }
+
+    @Override
+    public CompletableFuture<ExtensionRestResponse> handleRequestAsync(RestRequest request) {
+        AsyncRouteHandler route = compiledAsyncRoutes().match(request);
+        if (route == null) {
+            // Deprecated, replaced, and unhandled routes
+            return CompletableFuture.completedFuture(super.handleRequest(request));
+        }
+        CompletableFuture<ExtensionRestResponse> futureResponse;
+        try {
+            futureResponse = route.handleRequest(request);
+        } catch (Exception e) {
+            futureResponse = CompletableFuture.failedFuture(e);
+        }
+        return futureResponse.exceptionally(t -> {
+            Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+            return exceptionalRequest(request, cause instanceof Exception ? (Exception) cause : new RuntimeException(cause));
+        });
+    }
+
+    private CompiledRoutes<AsyncRouteHandler> compiledAsyncRoutes() {
+        CompiledRoutes<AsyncRouteHandler> routes = this.compiledAsyncRoutes;
+        if (routes == null) {
+            routes = new CompiledRoutes<>();
+            for (AsyncRouteHandler route : asyncRouteHandlers()) {
+                routes.add(route.getMethod(), route.getPath(), route);
+            }
+            this.compiledAsyncRoutes = routes;
+        }
+        return routes;
+    }
+}
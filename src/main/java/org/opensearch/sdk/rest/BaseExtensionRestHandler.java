@@ -29,8 +29,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import static org.opensearch.core.rest.RestStatus.INTERNAL_SERVER_ERROR;
@@ -45,6 +45,7 @@ public abstract class BaseExtensionRestHandler implements ExtensionRestHandler {
     private static final String VALID_ROUTE_PREFIX_PATTERN = "^[a-zA-Z0-9_]*$";
 
     private String routeNamePrefix;
+    private volatile CompiledRoutes<Function<RestRequest, ExtensionRestResponse>> compiledRoutes;
 
     /**
      * Constant for JSON content type
@@ -112,61 +113,45 @@ public abstract class BaseExtensionRestHandler implements ExtensionRestHandler {
 
     @Override
     public ExtensionRestResponse handleRequest(RestRequest request) {
-        Optional<NamedRoute> route = routes().stream()
-            .filter(rh -> rh.getMethod().equals(request.method()))
-            .filter(rh -> restPathMatches(request.path(), rh.getPath()))
-            .findFirst();
-        if (route.isPresent() && route.get().handler() != null) {
-            return (ExtensionRestResponse) route.get().handler().apply(request);
-        }
-        Optional<DeprecatedRouteHandler> deprecatedHandler = deprecatedRouteHandlers().stream()
-            .filter(rh -> rh.getMethod().equals(request.method()))
-            .filter(rh -> restPathMatches(request.path(), rh.getPath()))
-            .findFirst();
-        if (deprecatedHandler.isPresent()) {
-            return deprecatedHandler.get().handleRequest(request);
-        }
-        Optional<ReplacedRouteHandler> replacedHandler = replacedRouteHandlers().stream()
-            .filter(rh -> rh.getMethod().equals(request.method()))
-            .filter(rh -> restPathMatches(request.path(), rh.getPath()))
-            .findFirst();
-        if (replacedHandler.isPresent()) {
-            return replacedHandler.get().handleRequest(request);
-        }
-        replacedHandler = replacedRouteHandlers().stream()
-            .filter(rh -> rh.getDeprecatedMethod().equals(request.method()))
-            .filter(rh -> restPathMatches(request.path(), rh.getDeprecatedPath()))
-            .findFirst();
-        if (replacedHandler.isPresent()) {
-            return replacedHandler.get().handleRequest(request);
+        Function<RestRequest, ExtensionRestResponse> handler = compiledRoutes().match(request);
+        if (handler != null) {
+            return handler.apply(request);
         }
         return unhandledRequest(request);
     }
 
     /**
-     * Determines if the request's path is a match for the configured handler path.
+     * Gets the routes of this handler compiled for dispatch. The routes are compiled on first use, after the subclass is fully
+     * initialized, and reused for every request.
+     * <p>
+     * Named routes take precedence over deprecated routes, which take precedence over replaced routes and then their deprecated paths.
      *
-     * @param requestPath The path from the {@link RestRequest}
-     * @param handlerPath The path from the {@link NamedRoute} or {@link DeprecatedRouteHandler} or {@link ReplacedRouteHandler}
-     * @return true if the request path matches the route
+     * @return the compiled routes
      */
-    private boolean restPathMatches(String requestPath, String handlerPath) {
-        // Check exact match
-        if (handlerPath.equals(requestPath)) {
-            return true;
-        }
-        // Split path to evaluate named params
-        String[] handlerSplit = handlerPath.split("/");
-        String[] requestSplit = requestPath.split("/");
-        if (handlerSplit.length != requestSplit.length) {
-            return false;
-        }
-        for (int i = 0; i < handlerSplit.length; i++) {
-            if (!(handlerSplit[i].equals(requestSplit[i]) || (handlerSplit[i].startsWith("{") && handlerSplit[i].endsWith("}")))) {
-                return false;
+    private CompiledRoutes<Function<RestRequest, ExtensionRestResponse>> compiledRoutes() {
+        CompiledRoutes<Function<RestRequest, ExtensionRestResponse>> routes = this.compiledRoutes;
+        if (routes == null) {
+            routes = new CompiledRoutes<>();
+            for (NamedRoute route : routes()) {
+                Function<RestRequest, RestResponse> handler = route.handler();
+                if (handler != null) {
+                    routes.add(route.getMethod(), route.getPath(), request -> (ExtensionRestResponse) handler.apply(request));
+                }
             }
+            for (DeprecatedRouteHandler route : deprecatedRouteHandlers()) {
+                routes.add(route.getMethod(), route.getPath(), route::handleRequest);
+            }
+            List<ReplacedRouteHandler> replacedRoutes = replacedRouteHandlers();
+            for (ReplacedRouteHandler route : replacedRoutes) {
+                routes.add(route.getMethod(), route.getPath(), route::handleRequest);
+            }
+            for (ReplacedRouteHandler route : replacedRoutes) {
+                routes.add(route.getDeprecatedMethod(), route.getDeprecatedPath(), route::handleRequest);
+            }
+            // Concurrent first requests may each compile the routes, which is harmless as the results are equivalent
+            this.compiledRoutes = routes;
         }
-        return true;
+        return routes;
     }
 
     /**
@@ -319,6 +304,18 @@ public abstract class BaseExtensionRestHandler implements ExtensionRestHandler {
             return handler.handleRequest(restRequest);
         }
 
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Usage is logged via the {@link DeprecationLogger} so that the actual response can be notified of deprecation as well.
+         */
+        @Override
+        public CompletableFuture<ExtensionRestResponse> handleRequestAsync(RestRequest restRequest) {
+            deprecationLogger.deprecate("deprecated_route", deprecationMessage);
+
+            return handler.handleRequestAsync(restRequest);
+        }
+
         ExtensionRestHandler getHandler() {
             return handler;
         }
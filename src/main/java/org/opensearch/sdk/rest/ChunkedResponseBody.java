@@ -0,0 +1,33 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Produces the content of a {@link StreamingExtensionRestResponse} one chunk at a time.
+ * <p>
+ * The SDK pulls the next chunk only once the previous one has been written, so an implementation only needs to hold the data of a
+ * single chunk, for example one page of search hits or one batch of rows of an export.
+ */
+@FunctionalInterface
+public interface ChunkedResponseBody {
+
+    /**
+     * Writes the next chunk of the response content.
+     *
+     * @param out The stream to write the chunk to
+     * @param chunkSize The suggested maximum size of the chunk in bytes. Larger chunks are accepted, but increase memory use.
+     * @return true if more chunks remain to be written, false if this was the last chunk
+     * @throws IOException if the content could not be produced
+     */
+    boolean writeChunk(OutputStream out, int chunkSize) throws IOException;
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.path.PathTrie;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestRequest.Method;
+import org.opensearch.rest.RestUtils;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The routes of a REST handler, indexed by method and compiled for dispatch.
+ * <p>
+ * Paths without parameters are matched with a single map lookup. Other paths are matched in a {@link PathTrie} per method, in time
+ * proportional to the depth of the path, with explicit path segments taking precedence over parameters as in the OpenSearch
+ * RestController.
+ *
+ * @param <T> The type of the route handlers
+ */
+final class CompiledRoutes<T> {
+
+    private final Map<Method, Map<String, T>> exactRoutes = new EnumMap<>(Method.class);
+    private final Map<Method, PathTrie<T>> pathTries = new EnumMap<>(Method.class);
+
+    /**
+     * Adds a route. If a route was already added for the same method and path, the route added first takes precedence.
+     *
+     * @param method The method of the route
+     * @param path The path of the route, which may include parameters such as {@code {index}}
+     * @param handler The handler of the route
+     */
+    void add(Method method, String path, T handler) {
+        if (path.indexOf('{') < 0) {
+            exactRoutes.computeIfAbsent(method, m -> new HashMap<>()).putIfAbsent(path, handler);
+        }
+        pathTries.computeIfAbsent(method, m -> new PathTrie<>(RestUtils.REST_DECODER))
+            .insertOrUpdate(path, handler, (existing, added) -> existing);
+    }
+
+    /**
+     * Finds the handler of the route matching the method and path of a request. Path parameters of the matched route are added to the
+     * request parameters, unless the request already has a parameter with the same name.
+     *
+     * @param request The request to match
+     * @return the handler of the matching route, or null if no route matches
+     */
+    @Nullable
+    T match(RestRequest request) {
+        String path = request.path();
+        Map<String, T> exact = exactRoutes.get(request.method());
+        if (exact != null) {
+            T handler = exact.get(path);
+            if (handler != null) {
+                return handler;
+            }
+        }
+        PathTrie<T> pathTrie = pathTries.get(request.method());
+        if (pathTrie == null) {
+            return null;
+        }
+        Map<String, String> pathParams = new HashMap<>();
+        T handler = pathTrie.retrieve(path, pathParams);
+        if (handler != null) {
+            pathParams.forEach(request.params()::putIfAbsent);
+        }
+        return handler;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads the body of a REST request in chunks of bounded size.
+ * <p>
+ * Chunks of a body held in memory are slices of the body. Chunks of a body spilled to a file are read into a single buffer which is
+ * reused for the next chunk, so a chunk must not be used after the next one is read.
+ */
+abstract class ContentChunks implements Closeable {
+
+    /**
+     * Reads the next chunk.
+     *
+     * @return the next chunk, or null if the whole body has been read
+     * @throws IOException if the body could not be read
+     */
+    @Nullable
+    abstract BytesReference next() throws IOException;
+
+    @Override
+    public void close() throws IOException {}
+
+    /**
+     * Reads a body held in memory.
+     *
+     * @param content The body
+     * @param chunkSize The maximum size of a chunk
+     * @return the chunks of the body
+     */
+    static ContentChunks of(BytesReference content, int chunkSize) {
+        checkChunkSize(chunkSize);
+        return new ContentChunks() {
+            private int offset = 0;
+
+            @Override
+            BytesReference next() {
+                if (offset >= content.length()) {
+                    return null;
+                }
+                int length = Math.min(chunkSize, content.length() - offset);
+                BytesReference chunk = content.slice(offset, length);
+                offset += length;
+                return chunk;
+            }
+        };
+    }
+
+    /**
+     * Reads a body spilled to a file.
+     *
+     * @param file The file holding the body
+     * @param chunkSize The maximum size of a chunk
+     * @return the chunks of the body, which must be closed to close the file
+     * @throws IOException if the file could not be opened
+     */
+    static ContentChunks of(Path file, int chunkSize) throws IOException {
+        checkChunkSize(chunkSize);
+        InputStream in = Files.newInputStream(file);
+        return new ContentChunks() {
+            private final byte[] buffer = new byte[chunkSize];
+
+            @Override
+            BytesReference next() throws IOException {
+                int length = in.readNBytes(buffer, 0, chunkSize);
+                return length == 0 ? null : new BytesArray(buffer, 0, length);
+            }
+
+            @Override
+            public void close() throws IOException {
+                in.close();
+            }
+        };
+    }
+
+    private static void checkChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive but was " + chunkSize);
+        }
+    }
+}
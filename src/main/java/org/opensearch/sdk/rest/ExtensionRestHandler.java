@@ -20,6 +20,7 @@ import org.opensearch.rest.RestRequest;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This interface defines methods which an extension REST handler (action) must provide.
@@ -38,6 +39,23 @@ public interface ExtensionRestHandler {
      */
     ExtensionRestResponse handleRequest(RestRequest restRequest);
 
+    /**
+     * Handles REST Requests forwarded from OpenSearch for a configured route on an extension, without blocking the calling thread.
+     * <p>
+     * The default implementation adapts the synchronous {@link #handleRequest(RestRequest)} method. Handlers which wait on other
+     * services should implement {@link AsyncExtensionRestHandler} instead.
+     *
+     * @param restRequest a REST request object for a request to be forwarded to extensions
+     * @return A future completing with an {@link ExtensionRestResponse} to the request.
+     */
+    default CompletableFuture<ExtensionRestResponse> handleRequestAsync(RestRequest restRequest) {
+        try {
+            return CompletableFuture.completedFuture(handleRequest(restRequest));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * A list of {@link Route}s that this ExtensionRestHandler is responsible for handling.
      *
@@ -79,10 +79,12 @@ public class ExtensionRestPathRegistry {
         Set<String> actionNames,
         ExtensionRestHandler extensionRestHandler
     ) {
+        // Unnamed deprecated and replaced routes are identified by their method and path
+        String routeName = name == null ? method.name() + " " + path : name;
         pathTrie.insertOrUpdate(
             path,
-            new SDKMethodHandlers(path, extensionRestHandler, method),
-            (mHandlers, newMHandler) -> mHandlers.addMethods(extensionRestHandler, method)
+            new SDKMethodHandlers(path, extensionRestHandler, method).setRouteName(method, routeName),
+            (mHandlers, newMHandler) -> mHandlers.addMethods(extensionRestHandler, method).setRouteName(method, routeName)
         );
         if (extensionRestHandler instanceof ExtensionDeprecationRestHandler) {
             registeredDeprecatedPaths.add(restPathToString(method, path, name, actionNames));
@@ -164,6 +166,19 @@ public class ExtensionRestPathRegistry {
         return mHandlers == null ? null : mHandlers.getHandler(method);
     }
 
+    /**
+     * Get the name of the registered route for the specified method and path.
+     *
+     * @param method  the registered method.
+     * @param path  the registered path.
+     * @return The {@link org.opensearch.rest.NamedRoute} name, or the method and path of an unnamed route, if found, null otherwise.
+     */
+    @Nullable
+    public String getRouteName(Method method, String path) {
+        SDKMethodHandlers mHandlers = pathTrie.retrieve(path);
+        return mHandlers == null ? null : mHandlers.getRouteName(method);
+    }
+
     /**
      * List the registered routes.
      *
@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.extensions.rest.ExtensionRestResponse;
+import org.opensearch.rest.NamedRoute;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.sdk.StartupTimeline;
+import org.opensearch.sdk.stats.ExtensionStats;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.core.rest.RestStatus.OK;
+import static org.opensearch.rest.RestRequest.Method.GET;
+
+/**
+ * Built-in REST handler returning the request statistics of the extension and the duration of its initialization phases.
+ * <p>
+ * Registered by the SDK for every extension, so extensions do not need to write any code to expose their statistics.
+ */
+public class RestExtensionStatsAction extends BaseExtensionRestHandler {
+
+    /**
+     * The path of the stats route.
+     */
+    public static final String PATH = "/_extension_stats";
+    /**
+     * The name of the stats route, prefixed with the route name prefix or the extension name.
+     */
+    public static final String ROUTE_NAME = "extension_stats";
+
+    private final ExtensionStats extensionStats;
+    private final StartupTimeline startupTimeline;
+    private final String defaultRouteNamePrefix;
+
+    /**
+     * Instantiate this action.
+     *
+     * @param extensionStats The request statistics of the extension
+     * @param startupTimeline The initialization phases of the extension
+     * @param extensionName The extension name, used to make the route name unique if no route name prefix is set
+     */
+    public RestExtensionStatsAction(ExtensionStats extensionStats, StartupTimeline startupTimeline, String extensionName) {
+        this.extensionStats = extensionStats;
+        this.startupTimeline = startupTimeline;
+        this.defaultRouteNamePrefix = extensionName == null ? null : extensionName.replaceAll("[^a-zA-Z0-9_]", "_");
+    }
+
+    @Override
+    public void setRouteNamePrefix(String prefix) {
+        super.setRouteNamePrefix(prefix == null || prefix.isEmpty() ? defaultRouteNamePrefix : prefix);
+    }
+
+    @Override
+    public List<NamedRoute> routes() {
+        return List.of(
+            new NamedRoute.Builder().method(GET)
+                .path(PATH)
+                .handler(this::handleStatsRequest)
+                .uniqueName(addRouteNamePrefix(ROUTE_NAME))
+                .legacyActionNames(Collections.emptySet())
+                .build()
+        );
+    }
+
+    private ExtensionRestResponse handleStatsRequest(RestRequest request) {
+        try {
+            XContentBuilder builder = JsonXContent.contentBuilder().startObject();
+            builder.field("stats");
+            extensionStats.toXContent(builder, ToXContent.EMPTY_PARAMS);
+            builder.startObject("startup_millis");
+            for (Map.Entry<String, StartupTimeline.Phase> phase : startupTimeline.getPhases().entrySet()) {
+                builder.startObject(phase.getKey())
+                    .field("start", phase.getValue().getStartMillis())
+                    .field("duration", phase.getValue().getDurationMillis());
+                if (phase.getValue().getFailure() != null) {
+                    builder.field("failure", phase.getValue().getFailure());
+                }
+                builder.endObject();
+            }
+            builder.endObject();
+            return new ExtensionRestResponse(request, OK, builder.endObject());
+        } catch (IOException e) {
+            return unhandledRequest(request);
+        }
+    }
+}
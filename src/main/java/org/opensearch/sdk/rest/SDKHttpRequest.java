@@ -9,6 +9,9 @@
 
 package org.opensearch.sdk.rest;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.extensions.rest.ExtensionRestRequest;
@@ -16,16 +19,30 @@ import org.opensearch.http.HttpRequest;
 import org.opensearch.http.HttpResponse;
 import org.opensearch.rest.RestRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 
 /**
  * This class helps to get instance of HttpRequest
+ * <p>
+ * A large body may be written to a temporary file, so the transport message holding it can be released while the request is handled.
+ * The file is deleted when the request is {@link #release() released}.
  */
 public class SDKHttpRequest implements HttpRequest {
+    private static final Logger logger = LogManager.getLogger(SDKHttpRequest.class);
+
     private final RestRequest.Method method;
     private final String uri;
     private final BytesReference content;
+    private final Path contentFile;
+    private BytesReference spilledContent;
+    private final int contentLength;
     private final Map<String, List<String>> headers;
     private final HttpVersion httpVersion;
 
@@ -38,6 +55,41 @@ public class SDKHttpRequest implements HttpRequest {
         this.method = request.method();
         this.uri = request.uri();
         this.content = request.content();
+        this.contentFile = null;
+        this.contentLength = content.length();
+        this.headers = request.headers();
+        this.httpVersion = request.protocolVersion();
+    }
+
+    /**
+     * Instantiates this class with a copy of {@link ExtensionRestRequest}, writing a body larger than a threshold to a temporary file.
+     * <p>
+     * A spilled body is not referenced by this request, so its memory is only freed once the caller also drops the
+     * {@link ExtensionRestRequest}.
+     *
+     * @param request The request
+     * @param spillThreshold The size in bytes of the largest body to keep in memory, or a negative value to keep all bodies in memory
+     * @throws IOException if the body could not be written to a temporary file
+     */
+    public SDKHttpRequest(ExtensionRestRequest request, long spillThreshold) throws IOException {
+        this.method = request.method();
+        this.uri = request.uri();
+        BytesReference requestContent = request.content();
+        this.contentLength = requestContent.length();
+        if (spillThreshold >= 0 && contentLength > spillThreshold) {
+            Path file = Files.createTempFile("extension-request-", ".body");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                requestContent.writeTo(out);
+            } catch (IOException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+            this.content = null;
+            this.contentFile = file;
+        } else {
+            this.content = requestContent;
+            this.contentFile = null;
+        }
         this.headers = request.headers();
         this.httpVersion = request.protocolVersion();
     }
@@ -52,9 +104,65 @@ public class SDKHttpRequest implements HttpRequest {
         return uri;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A body written to a temporary file is read into memory on the first call and kept until the request is
+     * {@link #release() released}, so calling this method brings the whole body back into memory. Use {@link #contentStream()} or
+     * {@link SDKRestRequest#consumeContent} to read a large body with bounded memory.
+     */
     @Override
-    public BytesReference content() {
-        return content;
+    public synchronized BytesReference content() {
+        if (contentFile == null) {
+            return content;
+        }
+        if (spilledContent == null) {
+            try {
+                spilledContent = new BytesArray(Files.readAllBytes(contentFile));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read request body from " + contentFile, e);
+            }
+        }
+        return spilledContent;
+    }
+
+    /**
+     * Gets the length of the body.
+     *
+     * @return the length of the body in bytes
+     */
+    public int contentLength() {
+        return contentLength;
+    }
+
+    /**
+     * Gets whether the body was written to a temporary file.
+     *
+     * @return true if the body is read from a temporary file, false if it is held in memory
+     */
+    public boolean isContentSpilled() {
+        return contentFile != null;
+    }
+
+    /**
+     * Opens a stream over the body, which does not read a body written to a temporary file into memory.
+     *
+     * @return a stream over the body, which the caller must close
+     * @throws IOException if the temporary file could not be opened
+     */
+    public InputStream contentStream() throws IOException {
+        return contentFile == null ? content.streamInput() : Files.newInputStream(contentFile);
+    }
+
+    /**
+     * Reads the body in chunks of bounded size.
+     *
+     * @param chunkSize The maximum size of a chunk in bytes
+     * @return the chunks of the body, which the caller must close
+     * @throws IOException if the temporary file could not be opened
+     */
+    ContentChunks contentChunks(int chunkSize) throws IOException {
+        return contentFile == null ? ContentChunks.of(content, chunkSize) : ContentChunks.of(contentFile, chunkSize);
     }
 
     @Override
@@ -106,11 +214,20 @@ public class SDKHttpRequest implements HttpRequest {
     }
 
     /**
-    * Not implemented. Does nothing.
+    * Deletes the temporary file holding the body, if any, and drops the body read from it.
     */
     @Override
     public void release() {
-
+        if (contentFile != null) {
+            synchronized (this) {
+                spilledContent = null;
+            }
+            try {
+                Files.deleteIfExists(contentFile);
+            } catch (IOException e) {
+                logger.warn("Failed to delete request body file " + contentFile, e);
+            }
+        }
     }
 
     /**
@@ -26,6 +26,7 @@ final class SDKMethodHandlers {
 
     private final String path;
     private final Map<Method, ExtensionRestHandler> methodHandlers;
+    private final Map<Method, String> routeNames = new HashMap<>();
 
     SDKMethodHandlers(String path, ExtensionRestHandler handler, Method... methods) {
         this.path = path;
@@ -49,6 +50,22 @@ final class SDKMethodHandlers {
         return this;
     }
 
+    /**
+     * Set the name identifying the route for the given method.
+     */
+    SDKMethodHandlers setRouteName(Method method, String routeName) {
+        routeNames.put(method, routeName);
+        return this;
+    }
+
+    /**
+     * Returns the name identifying the route for the given method or {@code null} if none exists.
+     */
+    @Nullable
+    String getRouteName(Method method) {
+        return routeNames.get(method);
+    }
+
     /**
      * Returns the handler for the given method or {@code null} if none exists.
      */
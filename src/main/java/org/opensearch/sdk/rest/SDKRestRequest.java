@@ -9,13 +9,19 @@
 
 package org.opensearch.sdk.rest;
 
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.http.HttpChannel;
 import org.opensearch.http.HttpRequest;
 import org.opensearch.rest.RestRequest;
 
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * This class helps to get instance of RestRequest
@@ -25,7 +31,7 @@ public class SDKRestRequest extends RestRequest {
     * Instantiates this class with request's params
     *
     * @param xContentRegistry The request's content registry
-    * @param params The request's params
+    * @param params The request's params. They are copied, so path parameters can be added when the request is matched to a route.
     * @param path The request's path
     * @param headers The request's headers
     * @param httpRequest The request's httpRequest
@@ -39,6 +45,105 @@ public class SDKRestRequest extends RestRequest {
         HttpRequest httpRequest,
         HttpChannel httpChannel
     ) {
-        super(xContentRegistry, params, path, headers, httpRequest, httpChannel);
+        super(xContentRegistry, new HashMap<>(params), path, headers, httpRequest, httpChannel);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The length of a body written to a temporary file is known without reading the file.
+     */
+    @Override
+    public boolean hasContent() {
+        HttpRequest httpRequest = getHttpRequest();
+        if (httpRequest instanceof SDKHttpRequest) {
+            return ((SDKHttpRequest) httpRequest).contentLength() > 0;
+        }
+        return super.hasContent();
+    }
+
+    /**
+     * Reads the body in chunks of bounded size, passing each chunk to a consumer before the next one is read.
+     * <p>
+     * A body written to a temporary file is read from the file without loading it into memory. A chunk may be backed by a buffer which is
+     * reused for the next chunk, so the consumer must copy any bytes it keeps.
+     *
+     * @param chunkSize The maximum size of a chunk in bytes
+     * @param consumer The consumer of the chunks
+     * @throws IOException if the body could not be read or the consumer failed
+     */
+    public void consumeContent(int chunkSize, CheckedConsumer<BytesReference, IOException> consumer) throws IOException {
+        try (ContentChunks chunks = contentChunks(chunkSize)) {
+            BytesReference chunk;
+            while ((chunk = chunks.next()) != null) {
+                consumer.accept(chunk);
+            }
+        }
+    }
+
+    /**
+     * Reads the body in chunks of bounded size, passing each chunk to a consumer which processes it asynchronously. The next chunk is read
+     * only when the future returned for the previous chunk completes, so a slow consumer holds back reading rather than buffering chunks.
+     * <p>
+     * A chunk may be backed by a buffer which is reused for the next chunk, so the consumer must copy any bytes it keeps beyond the
+     * completion of its future.
+     *
+     * @param chunkSize The maximum size of a chunk in bytes
+     * @param consumer The consumer of the chunks, returning a future which completes when the chunk has been processed
+     * @return a future which completes when every chunk has been processed, or exceptionally if reading or processing a chunk failed
+     */
+    public CompletableFuture<Void> consumeContentAsync(int chunkSize, Function<BytesReference, CompletableFuture<?>> consumer) {
+        ContentChunks chunks;
+        try {
+            chunks = contentChunks(chunkSize);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        consumeNextChunks(chunks, consumer, done);
+        return done.whenComplete((v, t) -> {
+            try {
+                chunks.close();
+            } catch (IOException e) {
+                // The body has been read, so failing to close it does not fail the request
+            }
+        });
+    }
+
+    private static void consumeNextChunks(
+        ContentChunks chunks,
+        Function<BytesReference, CompletableFuture<?>> consumer,
+        CompletableFuture<Void> done
+    ) {
+        try {
+            BytesReference chunk;
+            while ((chunk = chunks.next()) != null) {
+                CompletableFuture<?> processed = consumer.apply(chunk);
+                if (!processed.isDone()) {
+                    // Resume reading when the consumer is ready for the next chunk
+                    processed.whenComplete((r, t) -> {
+                        if (t != null) {
+                            done.completeExceptionally(t);
+                        } else {
+                            consumeNextChunks(chunks, consumer, done);
+                        }
+                    });
+                    return;
+                }
+                // Already processed, so keep reading without growing the stack
+                processed.join();
+            }
+            done.complete(null);
+        } catch (Exception e) {
+            done.completeExceptionally(e);
+        }
+    }
+
+    private ContentChunks contentChunks(int chunkSize) throws IOException {
+        HttpRequest httpRequest = getHttpRequest();
+        if (httpRequest instanceof SDKHttpRequest) {
+            return ((SDKHttpRequest) httpRequest).contentChunks(chunkSize);
+        }
+        return ContentChunks.of(content(), chunkSize);
     }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.extensions.rest.ExtensionRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.sdk.SDKBigArrays;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * A REST response whose content is produced one chunk at a time by a {@link ChunkedResponseBody}, so the REST handler does not build
+ * the content itself.
+ * <p>
+ * This does not bound memory use. OpenSearch receives the response of an extension REST request as a single message, so the SDK
+ * writes the chunks into pooled pages and copies them once into the array sent to OpenSearch, releasing the pages right after the copy.
+ * Until the response is sent, the content is held once in that array, and for the duration of the copy also in the pages. The content
+ * is produced once, as the body may only be read once.
+ */
+public class StreamingExtensionRestResponse extends ExtensionRestResponse {
+
+    /**
+     * The default suggested chunk size, one pooled page.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = PageCacheRecycler.BYTE_PAGE_SIZE;
+
+    private final ChunkedResponseBody body;
+    private final int chunkSize;
+    private byte[] content;
+    private boolean produced;
+
+    /**
+     * Creates a streaming response with the default chunk size.
+     *
+     * @param request the REST request being responded to.
+     * @param status the REST response status.
+     * @param contentType the content type of the response.
+     * @param body the producer of the response content.
+     */
+    public StreamingExtensionRestResponse(RestRequest request, RestStatus status, String contentType, ChunkedResponseBody body) {
+        this(request, status, contentType, body, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a streaming response.
+     *
+     * @param request the REST request being responded to.
+     * @param status the REST response status.
+     * @param contentType the content type of the response.
+     * @param body the producer of the response content.
+     * @param chunkSize the suggested maximum size of each chunk in bytes.
+     */
+    public StreamingExtensionRestResponse(
+        RestRequest request,
+        RestStatus status,
+        String contentType,
+        ChunkedResponseBody body,
+        int chunkSize
+    ) {
+        super(request, status, contentType, "");
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive but was " + chunkSize);
+        }
+        this.body = body;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Gets the suggested maximum size of each chunk.
+     *
+     * @return the chunk size in bytes
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Writes the whole content to a stream, pulling one chunk at a time from the body.
+     *
+     * @param out The stream to write the content to
+     * @throws IOException if the body failed to produce the content or the stream could not be written
+     */
+    public void writeContent(OutputStream out) throws IOException {
+        boolean more;
+        do {
+            more = body.writeChunk(out, chunkSize);
+        } while (more);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The content is produced on first use and kept for later calls.
+     *
+     * @throws UncheckedIOException if the body failed to produce the content
+     */
+    @Override
+    public synchronized BytesReference content() {
+        if (content == null) {
+            try {
+                content = toBytes(SDKBigArrays.NON_RECYCLING);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write the streaming response content", e);
+            }
+        }
+        return new BytesArray(content);
+    }
+
+    /**
+     * Gets the content as an array, producing it on first use.
+     *
+     * @return the content, which is the array backing {@link #content()} and must not be modified
+     * @throws IOException if the body failed to produce the content
+     */
+    public byte[] toBytes() throws IOException {
+        try {
+            return BytesReference.toBytes(content());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Produces the content into pooled pages and copies it once into an exact-size array, releasing the pages before returning. Unlike
+     * {@link #content()}, the array is not kept by this response, so the caller holds the only copy of the content.
+     *
+     * @param sdkBigArrays The pooled buffers to write the chunks into
+     * @return the content
+     * @throws IOException if the body failed to produce the content
+     * @throws IllegalStateException if the content was already produced by this method, as the body can only be read once
+     */
+    public synchronized byte[] toBytes(SDKBigArrays sdkBigArrays) throws IOException {
+        if (content != null) {
+            return content;
+        }
+        if (produced) {
+            throw new IllegalStateException("The content of a streaming response can only be produced once");
+        }
+        produced = true;
+        try (ReleasableBytesStreamOutput out = sdkBigArrays.newBytesStreamOutput()) {
+            writeContent(out);
+            return BytesReference.toBytes(out.bytes());
+        }
+    }
+}
@@ -14,19 +14,18 @@ import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.extensions.ExtensionsManager;
 import org.opensearch.extensions.action.RemoteExtensionActionResponse;
 import org.opensearch.extensions.rest.ExtensionRestResponse;
-import org.opensearch.rest.NamedRoute;
 import org.opensearch.rest.RestRequest;
-import org.opensearch.rest.RestResponse;
 import org.opensearch.sdk.ExtensionsRunner;
 import org.opensearch.sdk.SDKClient;
 import org.opensearch.sdk.action.RemoteExtensionAction;
 import org.opensearch.sdk.action.RemoteExtensionActionRequest;
-import org.opensearch.sdk.rest.BaseExtensionRestHandler;
+import org.opensearch.sdk.rest.AsyncRouteHandler;
+import org.opensearch.sdk.rest.BaseAsyncExtensionRestHandler;
 import org.opensearch.sdk.sample.helloworld.transport.SampleAction;
 import org.opensearch.sdk.sample.helloworld.transport.SampleRequest;
 import org.opensearch.sdk.sample.helloworld.transport.SampleResponse;
 
-import java.util.Collections;
+import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -36,9 +35,9 @@ import static org.opensearch.core.rest.RestStatus.OK;
 import static org.opensearch.rest.RestRequest.Method.GET;
 
 /**
- * Sample REST Handler demonstrating proxy actions to another extension
+ * Sample REST Handler demonstrating asynchronous proxy actions to another extension
  */
-public class RestRemoteHelloAction extends BaseExtensionRestHandler {
+public class RestRemoteHelloAction extends BaseAsyncExtensionRestHandler {
 
     private ExtensionsRunner extensionsRunner;
 
@@ -52,19 +51,11 @@ public class RestRemoteHelloAction extends BaseExtensionRestHandler {
     }
 
     @Override
-    public List<NamedRoute> routes() {
-        return List.of(
-
-            new NamedRoute.Builder().method(GET)
-                .path("/hello/{name}")
-                .handler(handleRemoteGetRequest)
-                .uniqueName(addRouteNamePrefix("remote_greet_with_name"))
-                .legacyActionNames(Collections.emptySet())
-                .build()
-        );
+    protected List<AsyncRouteHandler> asyncRouteHandlers() {
+        return List.of(new AsyncRouteHandler(GET, "/hello/{name}", addRouteNamePrefix("remote_greet_with_name"), handleRemoteGetRequest));
     }
 
-    private Function<RestRequest, RestResponse> handleRemoteGetRequest = (request) -> {
+    private Function<RestRequest, CompletableFuture<ExtensionRestResponse>> handleRemoteGetRequest = (request) -> {
         SDKClient client = extensionsRunner.getSdkClient();
 
         String name = request.param("name");
@@ -75,30 +66,31 @@ public class RestRemoteHelloAction extends BaseExtensionRestHandler {
         // Serialize this request in a proxy action request
         // This requires that the remote extension has a corresponding transport action registered
         // This Action class happens to be local for simplicity but is a class on the remote extension
-        RemoteExtensionActionRequest proxyActionRequest = new RemoteExtensionActionRequest(SampleAction.INSTANCE, sampleRequest);
+        RemoteExtensionActionRequest proxyActionRequest = new RemoteExtensionActionRequest(
+            SampleAction.INSTANCE,
+            sampleRequest,
+            extensionsRunner.getSdkBigArrays()
+        );
 
-        // TODO: We need async client.execute to hide these action listener details and return the future directly
-        // https://github.com/opensearch-project/opensearch-sdk-java/issues/584
+        // The response is sent when this future completes, so no thread waits on the remote extension
         CompletableFuture<RemoteExtensionActionResponse> futureResponse = new CompletableFuture<>();
         client.execute(
             RemoteExtensionAction.INSTANCE,
             proxyActionRequest,
             ActionListener.wrap(r -> futureResponse.complete(r), e -> futureResponse.completeExceptionally(e))
         );
-        try {
-            RemoteExtensionActionResponse response = futureResponse.orTimeout(
-                ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT,
-                TimeUnit.SECONDS
-            ).get();
+        return futureResponse.orTimeout(ExtensionsManager.EXTENSION_REQUEST_WAIT_TIMEOUT, TimeUnit.SECONDS).thenApply(response -> {
             if (!response.isSuccess()) {
                 return new ExtensionRestResponse(request, OK, "Remote extension response failed: " + response.getResponseBytesAsString());
             }
             // Parse out the expected response class from the bytes
-            SampleResponse sampleResponse = new SampleResponse(StreamInput.wrap(response.getResponseBytes()));
-            return new ExtensionRestResponse(request, OK, "Received greeting from remote extension: " + sampleResponse.getGreeting());
-        } catch (Exception e) {
-            return exceptionalRequest(request, e);
-        }
+            try {
+                SampleResponse sampleResponse = new SampleResponse(StreamInput.wrap(response.getResponseBytes()));
+                return new ExtensionRestResponse(request, OK, "Received greeting from remote extension: " + sampleResponse.getGreeting());
+            } catch (IOException e) {
+                return exceptionalRequest(request, e);
+            }
+        });
     };
 
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.stats;
+
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the flushes of a bulk ingester, the actions and bytes they carried, and the items which failed or were retried.
+ */
+public class BulkIngesterStats implements ToXContentObject {
+
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private final LongAdder actions = new LongAdder();
+    private final LongAdder failedActions = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder sentBytes = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Records a flush of buffered actions, before it is sent.
+     *
+     * @param actionCount The number of actions in the flush
+     */
+    public void recordFlush(int actionCount) {
+        flushes.increment();
+        actions.add(actionCount);
+    }
+
+    /**
+     * Records a bulk request sent for a flush or a retry of its rejected items.
+     *
+     * @param length The length of the body before compression
+     * @param sentLength The length of the body as sent
+     */
+    public void recordRequest(long length, long sentLength) {
+        requests.increment();
+        bytes.add(length);
+        sentBytes.add(sentLength);
+    }
+
+    /**
+     * Records the completion of a flush, including its retries.
+     *
+     * @param failedActionCount The number of actions which failed after all retries
+     * @param micros The time from the flush to its completion in microseconds
+     */
+    public void recordCompletion(int failedActionCount, long micros) {
+        failedActions.add(failedActionCount);
+        latency.record(micros);
+    }
+
+    /**
+     * Records a flush which failed as a whole.
+     *
+     * @param actionCount The number of actions in the flush
+     * @param micros The time from the flush to its failure in microseconds
+     */
+    public void recordFailure(int actionCount, long micros) {
+        failedFlushes.increment();
+        recordCompletion(actionCount, micros);
+    }
+
+    /**
+     * Gets the number of flushes.
+     *
+     * @return the number of flushes
+     */
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    /**
+     * Gets the number of flushes which failed as a whole.
+     *
+     * @return the number of failed flushes
+     */
+    public long getFailedFlushes() {
+        return failedFlushes.sum();
+    }
+
+    /**
+     * Gets the number of flushed actions.
+     *
+     * @return the number of actions
+     */
+    public long getActions() {
+        return actions.sum();
+    }
+
+    /**
+     * Gets the number of actions which failed after all retries.
+     *
+     * @return the number of failed actions
+     */
+    public long getFailedActions() {
+        return failedActions.sum();
+    }
+
+    /**
+     * Gets the number of bulk requests sent to retry rejected items.
+     *
+     * @return the number of retries
+     */
+    public long getRetries() {
+        return Math.max(0, requests.sum() - flushes.sum());
+    }
+
+    /**
+     * Gets the total length of the bulk request bodies before compression.
+     *
+     * @return the length in bytes
+     */
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * Gets the total length of the bulk request bodies as sent.
+     *
+     * @return the length in bytes
+     */
+    public long getSentBytes() {
+        return sentBytes.sum();
+    }
+
+    /**
+     * Gets the time from each flush to its completion, including retries.
+     *
+     * @return the latency histogram
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("flushes", getFlushes());
+        builder.field("failed_flushes", getFailedFlushes());
+        builder.field("actions", getActions());
+        builder.field("failed_actions", getFailedActions());
+        builder.field("retries", getRetries());
+        builder.field("bytes", getBytes());
+        builder.field("sent_bytes", getSentBytes());
+        builder.startObject("latency_micros");
+        builder.field("mean", latency.getMean());
+        builder.field("p50", latency.getPercentile(50));
+        builder.field("p90", latency.getPercentile(90));
+        builder.field("p99", latency.getPercentile(99));
+        builder.field("p999", latency.getPercentile(99.9));
+        builder.field("max", latency.getMax());
+        builder.endObject();
+        return builder.endObject();
+    }
+}
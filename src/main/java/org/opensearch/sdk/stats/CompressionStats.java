@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.stats;
+
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the payloads compressed and decompressed by an extension, and records the bytes saved and the time spent.
+ */
+public class CompressionStats implements ToXContentObject {
+
+    private final LongAdder compressed = new LongAdder();
+    private final LongAdder originalBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder compressNanos = new LongAdder();
+    private final LongAdder decompressed = new LongAdder();
+    private final LongAdder decompressNanos = new LongAdder();
+
+    /**
+     * Records the compression of a payload.
+     *
+     * @param originalLength The length of the payload before compression
+     * @param compressedLength The length of the payload after compression
+     * @param nanos The time spent compressing the payload
+     */
+    public void recordCompression(long originalLength, long compressedLength, long nanos) {
+        compressed.increment();
+        originalBytes.add(originalLength);
+        compressedBytes.add(compressedLength);
+        compressNanos.add(nanos);
+    }
+
+    /**
+     * Records the decompression of a payload.
+     *
+     * @param nanos The time spent decompressing the payload
+     */
+    public void recordDecompression(long nanos) {
+        decompressed.increment();
+        decompressNanos.add(nanos);
+    }
+
+    /**
+     * Gets the number of compressed payloads.
+     *
+     * @return the number of compressed payloads
+     */
+    public long getCompressed() {
+        return compressed.sum();
+    }
+
+    /**
+     * Gets the total length of the compressed payloads before compression.
+     *
+     * @return the original length in bytes
+     */
+    public long getOriginalBytes() {
+        return originalBytes.sum();
+    }
+
+    /**
+     * Gets the total length of the compressed payloads after compression.
+     *
+     * @return the compressed length in bytes
+     */
+    public long getCompressedBytes() {
+        return compressedBytes.sum();
+    }
+
+    /**
+     * Gets the ratio of the compressed length to the original length of all compressed payloads.
+     *
+     * @return the compression ratio, or 1 if no payload has been compressed
+     */
+    public double getRatio() {
+        long original = getOriginalBytes();
+        return original == 0 ? 1.0 : (double) getCompressedBytes() / original;
+    }
+
+    /**
+     * Gets the number of decompressed payloads.
+     *
+     * @return the number of decompressed payloads
+     */
+    public long getDecompressed() {
+        return decompressed.sum();
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("compressed", getCompressed());
+        builder.field("original_bytes", getOriginalBytes());
+        builder.field("compressed_bytes", getCompressedBytes());
+        builder.field("ratio", getRatio());
+        builder.field("compress_time_micros", TimeUnit.NANOSECONDS.toMicros(compressNanos.sum()));
+        builder.field("decompressed", getDecompressed());
+        builder.field("decompress_time_micros", TimeUnit.NANOSECONDS.toMicros(decompressNanos.sum()));
+        return builder.endObject();
+    }
+}
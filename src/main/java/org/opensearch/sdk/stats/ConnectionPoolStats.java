@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.stats;
+
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToIntFunction;
+
+/**
+ * Live statistics of the connection pools of the clients an extension uses to send requests to OpenSearch.
+ * <p>
+ * The statistics are read from the pools when requested, and summed over all open pools.
+ */
+public class ConnectionPoolStats implements ToXContentObject {
+
+    private final List<ConnPoolControl<?>> pools = new CopyOnWriteArrayList<>();
+
+    /**
+     * Starts reporting the statistics of a connection pool.
+     *
+     * @param pool The pool to report
+     */
+    public void register(ConnPoolControl<?> pool) {
+        pools.add(pool);
+    }
+
+    /**
+     * Stops reporting the statistics of a connection pool, typically because it was closed.
+     *
+     * @param pool The pool to stop reporting
+     */
+    public void unregister(ConnPoolControl<?> pool) {
+        pools.remove(pool);
+    }
+
+    /**
+     * Gets the number of connections currently executing a request.
+     *
+     * @return the number of leased connections
+     */
+    public int getLeased() {
+        return sum(PoolStats::getLeased);
+    }
+
+    /**
+     * Gets the number of requests waiting for a connection.
+     *
+     * @return the number of pending requests
+     */
+    public int getPending() {
+        return sum(PoolStats::getPending);
+    }
+
+    /**
+     * Gets the number of idle connections available for reuse.
+     *
+     * @return the number of available connections
+     */
+    public int getAvailable() {
+        return sum(PoolStats::getAvailable);
+    }
+
+    /**
+     * Gets the maximum number of connections.
+     *
+     * @return the maximum number of connections
+     */
+    public int getMax() {
+        return sum(PoolStats::getMax);
+    }
+
+    private int sum(ToIntFunction<PoolStats> stat) {
+        return pools.stream().mapToInt(pool -> stat.applyAsInt(pool.getTotalStats())).sum();
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("pools", pools.size());
+        builder.field("leased", getLeased());
+        builder.field("pending", getPending());
+        builder.field("available", getAvailable());
+        builder.field("max", getMax());
+        return builder.endObject();
+    }
+}
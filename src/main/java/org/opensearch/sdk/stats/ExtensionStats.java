@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.stats;
+
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Request statistics for the REST routes and transport actions handled by an extension, the compression statistics of its remote
+ * extension action payloads, and the statistics of the connection pools of its clients.
+ * <p>
+ * Routes are keyed by their {@link org.opensearch.rest.NamedRoute} name, and actions by their {@link org.opensearch.action.ActionType}
+ * name.
+ */
+public class ExtensionStats implements ToXContentObject {
+
+    private final Map<String, RequestStats> routes = new ConcurrentHashMap<>();
+    private final Map<String, RequestStats> actions = new ConcurrentHashMap<>();
+    private final CompressionStats compression = new CompressionStats();
+    private final ConnectionPoolStats connectionPool = new ConnectionPoolStats();
+
+    /**
+     * Gets the statistics of a REST route, creating them on first use.
+     *
+     * @param routeName The name of the route
+     * @return the statistics of the route
+     */
+    public RequestStats route(String routeName) {
+        return routes.computeIfAbsent(routeName, k -> new RequestStats());
+    }
+
+    /**
+     * Gets the statistics of a transport action, creating them on first use.
+     *
+     * @param actionName The name of the action
+     * @return the statistics of the action
+     */
+    public RequestStats action(String actionName) {
+        return actions.computeIfAbsent(actionName, k -> new RequestStats());
+    }
+
+    /**
+     * Gets the statistics of all REST routes which have received requests.
+     *
+     * @return an unmodifiable view of the statistics keyed by route name
+     */
+    public Map<String, RequestStats> getRoutes() {
+        return Collections.unmodifiableMap(routes);
+    }
+
+    /**
+     * Gets the statistics of all transport actions which have received requests.
+     *
+     * @return an unmodifiable view of the statistics keyed by action name
+     */
+    public Map<String, RequestStats> getActions() {
+        return Collections.unmodifiableMap(actions);
+    }
+
+    /**
+     * Gets the compression statistics of the remote extension action payloads sent and received.
+     *
+     * @return the compression statistics
+     */
+    public CompressionStats getCompression() {
+        return compression;
+    }
+
+    /**
+     * Gets the statistics of the connection pools of the clients sending requests to OpenSearch.
+     *
+     * @return the connection pool statistics
+     */
+    public ConnectionPoolStats getConnectionPool() {
+        return connectionPool;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        toXContent(builder, params, "routes", routes);
+        toXContent(builder, params, "actions", actions);
+        builder.field("compression");
+        compression.toXContent(builder, params);
+        builder.field("connection_pool");
+        connectionPool.toXContent(builder, params);
+        return builder.endObject();
+    }
+
+    private static void toXContent(XContentBuilder builder, Params params, String name, Map<String, RequestStats> stats)
+        throws IOException {
+        builder.startObject(name);
+        for (Map.Entry<String, RequestStats> entry : new TreeMap<>(stats).entrySet()) {
+            builder.field(entry.getKey());
+            entry.getValue().toXContent(builder, params);
+        }
+        builder.endObject();
+    }
+}
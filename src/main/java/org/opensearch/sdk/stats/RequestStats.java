@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.stats;
+
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts requests to a single route or action, and records their latencies.
+ * <p>
+ * Callers invoke {@link #start()} when a request is received and {@link #end(long, boolean)} with its result once it completes.
+ */
+public class RequestStats implements ToXContentObject {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Records the start of a request.
+     *
+     * @return the start time to pass to {@link #end(long, boolean)}
+     */
+    public long start() {
+        inFlight.increment();
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the completion of a request.
+     *
+     * @param startNanos The start time returned by {@link #start()}
+     * @param failed Whether the request failed
+     */
+    public void end(long startNanos, boolean failed) {
+        inFlight.decrement();
+        count.increment();
+        if (failed) {
+            failures.increment();
+        }
+        latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Gets the number of completed requests.
+     *
+     * @return the number of completed requests
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the number of failed requests.
+     *
+     * @return the number of completed requests which failed
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Gets the number of requests which have started but not completed.
+     *
+     * @return the number of in-flight requests
+     */
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    /**
+     * Gets the latency histogram of completed requests.
+     *
+     * @return the latency histogram
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("count", getCount());
+        builder.field("failures", getFailures());
+        builder.field("in_flight", getInFlight());
+        builder.startObject("latency_micros");
+        builder.field("mean", latency.getMean());
+        builder.field("p50", latency.getPercentile(50));
+        builder.field("p90", latency.getPercentile(90));
+        builder.field("p99", latency.getPercentile(99));
+        builder.field("p999", latency.getPercentile(99.9));
+        builder.field("max", latency.getMax());
+        builder.endObject();
+        return builder.endObject();
+    }
+}
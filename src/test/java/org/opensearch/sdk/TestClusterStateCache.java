@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TestClusterStateCache extends OpenSearchTestCase {
+
+    private final List<ActionListener<ClusterState>> fetches = new CopyOnWriteArrayList<>();
+    private final AtomicLong nanoTime = new AtomicLong();
+    private ClusterStateCache cache;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        fetches.clear();
+        cache = new ClusterStateCache(fetches::add, TimeValue.timeValueSeconds(10), nanoTime::get, TimeValue.timeValueSeconds(10));
+    }
+
+    private static ClusterState state(long version) {
+        return ClusterState.builder(ClusterName.DEFAULT).version(version).build();
+    }
+
+    @Test
+    public void testSingleFlight() throws Exception {
+        CompletableFuture<ClusterState> first = cache.refresh();
+        CompletableFuture<ClusterState> second = cache.refresh();
+        assertSame(first, second);
+        assertEquals(1, fetches.size());
+
+        fetches.get(0).onResponse(state(3));
+        assertEquals(3, first.get().version());
+        assertEquals(3, cache.getCachedVersion());
+
+        // A completed fetch is not joined
+        assertNotSame(first, cache.refresh());
+        assertEquals(2, fetches.size());
+    }
+
+    @Test
+    public void testFetchTimeout() throws Exception {
+        // A fetcher which never responds
+        ClusterStateCache unresponsive = new ClusterStateCache(
+            fetches::add,
+            TimeValue.timeValueSeconds(10),
+            nanoTime::get,
+            TimeValue.timeValueMillis(50)
+        );
+        CompletableFuture<ClusterState> first = unresponsive.refresh();
+        ExecutionException e = expectThrows(ExecutionException.class, () -> first.get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof TimeoutException);
+
+        // The timed out fetch is not joined, and readers fall back to the empty state rather than waiting forever
+        assertBusy(() -> assertNotSame(first, unresponsive.refresh()));
+        assertSame(ClusterState.EMPTY_STATE, unresponsive.get());
+
+        // A late response still updates the cached state
+        fetches.get(0).onResponse(state(4));
+        assertEquals(4, unresponsive.getCachedVersion());
+    }
+
+    @Test
+    public void testStalenessBound() throws Exception {
+        CompletableFuture<ClusterState> future = CompletableFuture.supplyAsync(cache::get);
+        assertBusy(() -> assertEquals(1, fetches.size()));
+        fetches.get(0).onResponse(state(1));
+        assertEquals(1, future.get(10, TimeUnit.SECONDS).version());
+
+        // Fresh state is served from the cache
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(4));
+        assertEquals(1, cache.get().version());
+        assertEquals(1, fetches.size());
+
+        // Past half the bound, the cached state is served while refreshing in the background
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertEquals(1, cache.get().version());
+        assertEquals(2, fetches.size());
+        assertEquals(1, cache.get().version());
+        assertEquals(2, fetches.size());
+        fetches.get(1).onResponse(state(2));
+        assertEquals(2, cache.get().version());
+
+        // An older version does not replace a newer one
+        cache.refresh();
+        fetches.get(2).onResponse(state(1));
+        assertEquals(2, cache.getCachedVersion());
+
+        cache.invalidate();
+        assertNull(cache.getCached());
+        assertEquals(-1, cache.getCachedVersion());
+    }
+
+    @Test
+    public void testFailedFetch() throws Exception {
+        CompletableFuture<ClusterState> future = cache.refresh();
+        fetches.get(0).onFailure(new IllegalStateException("failed"));
+        assertTrue(future.isCompletedExceptionally());
+
+        // Failed fetch without a cached state returns an empty state
+        cache.setMaxStaleness(TimeValue.ZERO);
+        CompletableFuture<ClusterState> result = CompletableFuture.supplyAsync(cache::get);
+        assertBusy(() -> assertEquals(2, fetches.size()));
+        fetches.get(1).onFailure(new IllegalStateException("failed"));
+        assertSame(ClusterState.EMPTY_STATE, result.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testUpdateListener() throws Exception {
+        List<ClusterState> previousStates = new CopyOnWriteArrayList<>();
+        List<ClusterState> states = new CopyOnWriteArrayList<>();
+        cache.setUpdateListener((previousState, state) -> {
+            previousStates.add(previousState);
+            states.add(state);
+        });
+
+        cache.refresh();
+        fetches.get(0).onResponse(state(1));
+        cache.refresh();
+        fetches.get(1).onResponse(state(1));
+        cache.refresh();
+        fetches.get(2).onResponse(state(2));
+
+        // Only newer states are passed to the listener
+        assertEquals(2, states.size());
+        assertNull(previousStates.get(0));
+        assertEquals(1, states.get(0).version());
+        assertEquals(1, previousStates.get(1).version());
+        assertEquals(2, states.get(1).version());
+    }
+}
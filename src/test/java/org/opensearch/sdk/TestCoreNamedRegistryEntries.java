@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+public class TestCoreNamedRegistryEntries extends OpenSearchTestCase {
+
+    @Test
+    public void testSearchModuleScanIsShared() {
+        CoreNamedRegistryEntries entries = CoreNamedRegistryEntries.forSettings(Settings.EMPTY);
+        assertFalse(entries.getNamedXContents().isEmpty());
+        assertFalse(entries.getNamedWriteables().isEmpty());
+
+        // Settings the search module does not read reuse the same scan
+        assertSame(entries, CoreNamedRegistryEntries.forSettings(Settings.builder().put("node.name", "foo").build()));
+        assertSame(entries, CoreNamedRegistryEntries.forSettings(null));
+
+        // Changing a search setting rescans
+        Settings searchSettings = Settings.builder().put("indices.query.bool.max_clause_count", 2048).build();
+        CoreNamedRegistryEntries rescanned = CoreNamedRegistryEntries.forSettings(searchSettings);
+        assertNotSame(entries, rescanned);
+        assertSame(rescanned, CoreNamedRegistryEntries.forSettings(searchSettings));
+        assertEquals(entries.getNamedXContents().size(), rescanned.getNamedXContents().size());
+    }
+
+    @Test
+    public void testFilterByCategory() {
+        List<NamedXContentRegistry.Entry> entries = CoreNamedRegistryEntries.forSettings(Settings.EMPTY).getNamedXContents();
+        assertSame(entries, CoreNamedRegistryEntries.filter(entries, e -> e.categoryClass, Set.of()));
+
+        List<NamedXContentRegistry.Entry> queries = CoreNamedRegistryEntries.filter(
+            entries,
+            e -> e.categoryClass,
+            Set.of(QueryBuilder.class.getName())
+        );
+        assertFalse(queries.isEmpty());
+        assertTrue(queries.size() < entries.size());
+        assertTrue(queries.stream().allMatch(e -> e.categoryClass == QueryBuilder.class));
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.protobuf.ByteString;
+import org.opensearch.action.ActionType;
+import org.opensearch.action.support.TransportAction;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.extensions.action.ExtensionActionRequest;
+import org.opensearch.extensions.action.ExtensionActionResponse;
+import org.opensearch.extensions.action.RemoteExtensionActionResponse;
+import org.opensearch.sdk.action.ActionRequestReaderRegistry;
+import org.opensearch.sdk.action.MultiRemoteExtensionActionRequest;
+import org.opensearch.sdk.action.MultiRemoteExtensionActionResponse;
+import org.opensearch.sdk.action.RemoteExtensionActionFrame;
+import org.opensearch.sdk.action.RemoteExtensionActionPeer;
+import org.opensearch.sdk.action.RemoteExtensionActionRequest;
+import org.opensearch.sdk.action.SDKActionModule;
+import org.opensearch.sdk.handlers.ExtensionActionRequestHandler;
+import org.opensearch.sdk.sample.helloworld.HelloWorldExtension;
+import org.opensearch.sdk.sample.helloworld.transport.SampleAction;
+import org.opensearch.sdk.sample.helloworld.transport.SampleRequest;
+import org.opensearch.sdk.sample.helloworld.transport.SampleResponse;
+import org.opensearch.sdk.stats.ExtensionStats;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class TestExtensionActionRequestHandler extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private SDKClient sdkClient;
+    private ExtensionActionRequestHandler extensionActionRequestHandler;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        Settings settings = Settings.builder().put(ExtensionsRunner.NODE_NAME_SETTING, "test").build();
+        this.threadPool = new ThreadPool(settings);
+        TaskManager taskManager = new TaskManager(settings, threadPool, Collections.emptySet());
+        this.sdkClient = new SDKClient(new ExtensionSettings("", "", "", "localhost", "9200"));
+        SDKActionModule sdkActionModule = new SDKActionModule(new HelloWorldExtension());
+        Injector injector = Guice.createInjector(sdkActionModule, b -> {
+            b.bind(ThreadPool.class).toInstance(threadPool);
+            b.bind(TaskManager.class).toInstance(taskManager);
+            b.bind(SDKClient.class).toInstance(sdkClient);
+        });
+        initializeSdkClient(injector);
+        this.extensionActionRequestHandler = new ExtensionActionRequestHandler(
+            sdkClient,
+            new ActionRequestReaderRegistry(sdkActionModule.getActions()),
+            Runnable::run,
+            new ExtensionStats(),
+            () -> "receiver"
+        );
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void initializeSdkClient(Injector injector) {
+        sdkClient.initialize(injector.getInstance(new Key<Map<ActionType, TransportAction>>() {
+        }));
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+    }
+
+    private static ExtensionActionRequest createRequest(String action, String requestClass, byte[] requestBytes) {
+        byte[] requestClassBytes = requestClass.getBytes(StandardCharsets.UTF_8);
+        byte[] proxyRequestBytes = new byte[requestClassBytes.length + 1 + requestBytes.length];
+        System.arraycopy(requestClassBytes, 0, proxyRequestBytes, 0, requestClassBytes.length);
+        proxyRequestBytes[requestClassBytes.length] = RemoteExtensionActionRequest.UNIT_SEPARATOR;
+        System.arraycopy(requestBytes, 0, proxyRequestBytes, requestClassBytes.length + 1, requestBytes.length);
+        return new ExtensionActionRequest(action, ByteString.copyFrom(proxyRequestBytes));
+    }
+
+    private static byte[] sampleRequestBytes(String name) throws Exception {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            new SampleRequest(name).writeTo(out);
+            return BytesReference.toBytes(out.bytes());
+        }
+    }
+
+    @Test
+    public void testHandleRemoteExtensionActionRequestAsync() throws Exception {
+        ExtensionActionRequest request = createRequest(
+            SampleAction.class.getName(),
+            SampleRequest.class.getName(),
+            sampleRequestBytes("world")
+        );
+        CompletableFuture<RemoteExtensionActionResponse> responseFuture = new CompletableFuture<>();
+        extensionActionRequestHandler.handleRemoteExtensionActionRequest(
+            request,
+            ActionListener.wrap(responseFuture::complete, responseFuture::completeExceptionally)
+        );
+        RemoteExtensionActionResponse response = responseFuture.get(1, TimeUnit.SECONDS);
+        assertTrue(response.isSuccess());
+        SampleResponse sampleResponse = new SampleResponse(StreamInput.wrap(response.getResponseBytes()));
+        assertEquals("Hello, world", sampleResponse.getGreeting());
+    }
+
+    @Test
+    public void testHandleExtensionActionRequestAsync() throws Exception {
+        ExtensionActionRequest request = createRequest(
+            SampleAction.class.getName(),
+            SampleRequest.class.getName(),
+            sampleRequestBytes("world")
+        );
+        CompletableFuture<ExtensionActionResponse> responseFuture = new CompletableFuture<>();
+        extensionActionRequestHandler.handleExtensionActionRequest(
+            request,
+            ActionListener.wrap(responseFuture::complete, responseFuture::completeExceptionally)
+        );
+        ExtensionActionResponse response = responseFuture.get(1, TimeUnit.SECONDS);
+        SampleResponse sampleResponse = new SampleResponse(StreamInput.wrap(response.getResponseBytes()));
+        assertEquals("Hello, world", sampleResponse.getGreeting());
+    }
+
+    @Test
+    public void testHandleRemoteExtensionActionRequestFailures() throws Exception {
+        // Action throws on a blank name
+        RemoteExtensionActionResponse response = extensionActionRequestHandler.handleRemoteExtensionActionRequest(
+            createRequest(SampleAction.class.getName(), SampleRequest.class.getName(), sampleRequestBytes(""))
+        );
+        assertFalse(response.isSuccess());
+        assertTrue(new String(response.getResponseBytes(), StandardCharsets.UTF_8).contains("The request name is blank."));
+
+        // Unregistered action
+        response = extensionActionRequestHandler.handleRemoteExtensionActionRequest(
+            createRequest("org.example.NoSuchAction", SampleRequest.class.getName(), sampleRequestBytes("world"))
+        );
+        assertFalse(response.isSuccess());
+        assertTrue(new String(response.getResponseBytes(), StandardCharsets.UTF_8).contains("No action"));
+
+        // Unknown request class
+        response = extensionActionRequestHandler.handleRemoteExtensionActionRequest(
+            createRequest(SampleAction.class.getName(), "org.example.NoSuchRequest", sampleRequestBytes("world"))
+        );
+        assertFalse(response.isSuccess());
+        assertTrue(new String(response.getResponseBytes(), StandardCharsets.UTF_8).contains("No request class"));
+    }
+
+    @Test
+    public void testHandleFramedRequests() throws Exception {
+        String action = SampleAction.class.getName();
+
+        // An empty request is the capability exchange, which lists the request ids of all actions
+        RemoteExtensionActionResponse response = extensionActionRequestHandler.handleRemoteExtensionActionRequest(
+            new ExtensionActionRequest(action, ByteString.EMPTY)
+        );
+        assertTrue(response.isSuccess());
+        RemoteExtensionActionPeer peer = new RemoteExtensionActionPeer(StreamInput.wrap(response.getResponseBytes()));
+        assertEquals("receiver", peer.getUniqueId());
+        assertTrue(peer.getActions().contains(action));
+        int requestId = peer.getRequestId(action, SampleRequest.class.getName());
+        assertNotEquals(RemoteExtensionActionFrame.NO_REQUEST_ID, requestId);
+
+        // Advertised request id
+        RemoteExtensionActionRequest remoteRequest = new RemoteExtensionActionRequest(
+            SampleAction.class.getName(),
+            SampleRequest.class.getName(),
+            sampleRequestBytes("world")
+        );
+        response = extensionActionRequestHandler.handleRemoteExtensionActionRequest(
+            new ExtensionActionRequest(action, RemoteExtensionActionFrame.encode(remoteRequest, requestId))
+        );
+        assertTrue(response.isSuccess());
+        assertEquals("Hello, world", new SampleResponse(StreamInput.wrap(response.getResponseBytes())).getGreeting());
+
+        // Full request class name
+        response = extensionActionRequestHandler.handleRemoteExtensionActionRequest(
+            new ExtensionActionRequest(
+                action,
+                RemoteExtensionActionFrame.encode(remoteRequest, RemoteExtensionActionFrame.NO_REQUEST_ID)
+            )
+        );
+        assertTrue(response.isSuccess());
+        assertEquals("Hello, world", new SampleResponse(StreamInput.wrap(response.getResponseBytes())).getGreeting());
+
+        // Request id which was not advertised
+        response = extensionActionRequestHandler.handleRemoteExtensionActionRequest(
+            new ExtensionActionRequest(action, RemoteExtensionActionFrame.encode(remoteRequest, requestId + 1))
+        );
+        assertFalse(response.isSuccess());
+        assertTrue(RemoteExtensionActionFrame.isUnknownRequestId(response.getResponseBytes()));
+
+        // Legacy requests are read under the same action name
+        response = extensionActionRequestHandler.handleRemoteExtensionActionRequest(
+            new ExtensionActionRequest(SampleAction.class.getName(), RemoteExtensionActionFrame.encodeLegacy(remoteRequest))
+        );
+        assertTrue(response.isSuccess());
+    }
+
+    @Test
+    public void testHandleBatchRequest() throws Exception {
+        MultiRemoteExtensionActionRequest batch = new MultiRemoteExtensionActionRequest().add(
+            new RemoteExtensionActionRequest(SampleAction.class.getName(), SampleRequest.class.getName(), sampleRequestBytes("world"))
+        )
+            .add(new RemoteExtensionActionRequest(SampleAction.class.getName(), SampleRequest.class.getName(), sampleRequestBytes("")))
+            .add(new RemoteExtensionActionRequest("org.example.NoSuchAction", SampleRequest.class.getName(), sampleRequestBytes("world")));
+        CompletableFuture<RemoteExtensionActionResponse> responseFuture = new CompletableFuture<>();
+        extensionActionRequestHandler.handleRemoteExtensionActionRequest(
+            new ExtensionActionRequest(SampleAction.class.getName(), RemoteExtensionActionFrame.encode(batch)),
+            ActionListener.wrap(responseFuture::complete, responseFuture::completeExceptionally)
+        );
+        RemoteExtensionActionResponse response = responseFuture.get(1, TimeUnit.SECONDS);
+        assertTrue(response.isSuccess());
+
+        // Responses are in the order of the requests
+        List<RemoteExtensionActionResponse> responses = new MultiRemoteExtensionActionResponse(
+            StreamInput.wrap(response.getResponseBytes())
+        ).getResponses();
+        assertEquals(3, responses.size());
+        assertTrue(responses.get(0).isSuccess());
+        assertEquals("Hello, world", new SampleResponse(StreamInput.wrap(responses.get(0).getResponseBytes())).getGreeting());
+        assertFalse(responses.get(1).isSuccess());
+        assertTrue(new String(responses.get(1).getResponseBytes(), StandardCharsets.UTF_8).contains("The request name is blank."));
+        assertFalse(responses.get(2).isSuccess());
+        assertTrue(new String(responses.get(2).getResponseBytes(), StandardCharsets.UTF_8).contains("No action"));
+    }
+}
@@ -9,11 +9,17 @@
 
 package org.opensearch.sdk;
 
+import org.opensearch.client.RestClientBuilder;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
 
 public class TestExtensionSettings extends OpenSearchTestCase {
     private static final String EXTENSION_DESCRIPTOR_CLASSPATH = "/extension.yml";
@@ -62,4 +68,101 @@ public class TestExtensionSettings extends OpenSearchTestCase {
         expectThrows(IOException.class, () -> ExtensionSettings.readSettingsFromYaml("this/path/does/not/exist"));
         expectThrows(IOException.class, () -> ExtensionSettings.readSettingsFromYaml(EXTENSION_DESCRIPTOR_CLASSPATH + "filedoesnotexist"));
     }
+
+    @Test
+    public void testVirtualThreadsEnabled() {
+        assertFalse(extensionSettings.isVirtualThreadsEnabled());
+        extensionSettings.setVirtualThreadsEnabled(true);
+        assertTrue(extensionSettings.isVirtualThreadsEnabled());
+    }
+
+    @Test
+    public void testNamedRegistryCategories() {
+        assertTrue(extensionSettings.getNamedRegistryCategories().isEmpty());
+        extensionSettings.setNamedRegistryCategories(Set.of("org.opensearch.index.query.QueryBuilder"));
+        assertEquals(Set.of("org.opensearch.index.query.QueryBuilder"), extensionSettings.getNamedRegistryCategories());
+        extensionSettings.setNamedRegistryCategories(null);
+        assertTrue(extensionSettings.getNamedRegistryCategories().isEmpty());
+    }
+
+    @Test
+    public void testRequestBodySpillThreshold() {
+        assertEquals(-1, extensionSettings.getRequestBodySpillThreshold().getBytes());
+        extensionSettings.setRequestBodySpillThreshold(new ByteSizeValue(1, ByteSizeUnit.MB));
+        assertEquals(1024 * 1024, extensionSettings.getRequestBodySpillThreshold().getBytes());
+        extensionSettings.setRequestBodySpillThreshold(null);
+        assertEquals(-1, extensionSettings.getRequestBodySpillThreshold().getBytes());
+    }
+
+    @Test
+    public void testCompressionSettings() {
+        assertNull(extensionSettings.getTransportCompress());
+        assertEquals(-1, extensionSettings.getRemoteActionCompressionThreshold().getBytes());
+        assertTrue(extensionSettings.getRemoteActionCompression().isEmpty());
+
+        extensionSettings.setTransportCompress("true");
+        extensionSettings.setRemoteActionCompressionThreshold(new ByteSizeValue(64, ByteSizeUnit.KB));
+        extensionSettings.setRemoteActionCompression(Map.of("org.example.SampleAction", false));
+        assertEquals("true", extensionSettings.getTransportCompress());
+        assertEquals(64 * 1024, extensionSettings.getRemoteActionCompressionThreshold().getBytes());
+        assertEquals(Map.of("org.example.SampleAction", false), extensionSettings.getRemoteActionCompression());
+
+        extensionSettings.setRemoteActionCompressionThreshold(null);
+        extensionSettings.setRemoteActionCompression(null);
+        assertEquals(-1, extensionSettings.getRemoteActionCompressionThreshold().getBytes());
+        assertTrue(extensionSettings.getRemoteActionCompression().isEmpty());
+    }
+
+    @Test
+    public void testClusterStateRefreshInterval() {
+        assertEquals(30_000, extensionSettings.getClusterStateRefreshInterval().millis());
+        extensionSettings.setClusterStateRefreshInterval(TimeValue.MINUS_ONE);
+        assertEquals(-1, extensionSettings.getClusterStateRefreshInterval().millis());
+        extensionSettings.setClusterStateRefreshInterval(null);
+        assertEquals(30_000, extensionSettings.getClusterStateRefreshInterval().millis());
+        expectThrows(IllegalArgumentException.class, () -> extensionSettings.setClusterStateRefreshInterval(TimeValue.ZERO));
+    }
+
+    @Test
+    public void testClientConnectionPoolSettings() {
+        assertEquals(RestClientBuilder.DEFAULT_MAX_CONN_PER_ROUTE, extensionSettings.getClientMaxConnectionsPerRoute());
+        assertEquals(RestClientBuilder.DEFAULT_MAX_CONN_TOTAL, extensionSettings.getClientMaxConnectionsTotal());
+        assertEquals(-1, extensionSettings.getClientKeepAlive().millis());
+        assertEquals(-1, extensionSettings.getClientIdleConnectionTimeout().millis());
+        assertEquals(0, extensionSettings.getClientIoThreads());
+        assertEquals(0, extensionSettings.getClientPrewarmConnections());
+        assertEquals(-1, extensionSettings.getClientNodeDiscoveryInterval().millis());
+
+        extensionSettings.setClientMaxConnectionsPerRoute(64);
+        extensionSettings.setClientMaxConnectionsTotal(128);
+        extensionSettings.setClientKeepAlive(TimeValue.timeValueSeconds(30));
+        extensionSettings.setClientIdleConnectionTimeout(null);
+        extensionSettings.setClientIoThreads(4);
+        extensionSettings.setClientPrewarmConnections(-1);
+        extensionSettings.setClientNodeDiscoveryInterval(TimeValue.timeValueMinutes(1));
+        assertEquals(64, extensionSettings.getClientMaxConnectionsPerRoute());
+        assertEquals(128, extensionSettings.getClientMaxConnectionsTotal());
+        assertEquals(30_000, extensionSettings.getClientKeepAlive().millis());
+        assertEquals(-1, extensionSettings.getClientIdleConnectionTimeout().millis());
+        assertEquals(4, extensionSettings.getClientIoThreads());
+        assertEquals(0, extensionSettings.getClientPrewarmConnections());
+        assertEquals(60_000, extensionSettings.getClientNodeDiscoveryInterval().millis());
+        expectThrows(IllegalArgumentException.class, () -> extensionSettings.setClientMaxConnectionsPerRoute(0));
+        expectThrows(IllegalArgumentException.class, () -> extensionSettings.setClientMaxConnectionsTotal(-1));
+        expectThrows(IllegalArgumentException.class, () -> extensionSettings.setClientNodeDiscoveryInterval(TimeValue.ZERO));
+    }
+
+    @Test
+    public void testClientHedgingSettings() {
+        assertTrue(extensionSettings.getClientHedgingPercentile() < 0);
+        assertEquals(10, extensionSettings.getClientHedgingMinDelay().millis());
+
+        extensionSettings.setClientHedgingPercentile(95);
+        extensionSettings.setClientHedgingMinDelay(TimeValue.timeValueMillis(25));
+        assertEquals(95, extensionSettings.getClientHedgingPercentile(), 0);
+        assertEquals(25, extensionSettings.getClientHedgingMinDelay().millis());
+        extensionSettings.setClientHedgingPercentile(-5);
+        assertEquals(-1, extensionSettings.getClientHedgingPercentile(), 0);
+        expectThrows(IllegalArgumentException.class, () -> extensionSettings.setClientHedgingPercentile(100));
+    }
 }
@@ -15,11 +15,13 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.WriteableSetting;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.discovery.InitializeExtensionRequest;
 import org.opensearch.discovery.InitializeExtensionResponse;
+import org.opensearch.env.EnvironmentSettingsResponse;
 import org.opensearch.extensions.AcknowledgedResponse;
 import org.opensearch.extensions.DiscoveryExtensionNode;
 import org.opensearch.extensions.ExtensionDependency;
@@ -35,14 +37,18 @@ import org.opensearch.sdk.handlers.ClusterStateResponseHandler;
 import org.opensearch.sdk.handlers.EnvironmentSettingsResponseHandler;
 import org.opensearch.sdk.handlers.ExtensionsInitRequestHandler;
 import org.opensearch.sdk.handlers.ExtensionsRestRequestHandler;
+import org.opensearch.sdk.handlers.ForkingRequestHandler;
 import org.opensearch.sdk.rest.ExtensionRestPathRegistry;
 import org.opensearch.telemetry.tracing.noop.NoopTracer;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.Transport;
+import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.TransportSettings;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
 import java.net.InetAddress;
@@ -52,13 +58,16 @@ import java.security.Principal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -107,7 +116,7 @@ public class TestExtensionsRunner extends OpenSearchTestCase {
         verify(sdkTransportService.getTransportService(), times(1)).start();
         // cannot verify acceptIncomingRequests as it is a final method
         // test registerRequestHandlers
-        verify(sdkTransportService.getTransportService(), times(5)).registerRequestHandler(
+        verify(sdkTransportService.getTransportService(), times(6)).registerRequestHandler(
             anyString(),
             anyString(),
             anyBoolean(),
@@ -117,8 +126,145 @@ public class TestExtensionsRunner extends OpenSearchTestCase {
         );
     }
 
+    @Test
+    public void testStartTransportServiceWithVirtualThreads() throws IOException {
+        ExtensionSettings settings = new ExtensionSettings(EXTENSION_NAME, "127.0.0.1", "4532", "127.0.0.1", "9200");
+        settings.setVirtualThreadsEnabled(true);
+        ExtensionsRunner virtualThreadRunner = new ExtensionsRunner(new BaseExtension(settings) {
+        });
+        assertNotNull(virtualThreadRunner.getVirtualThreadExecutor());
+        assertNull(extensionsRunner.getVirtualThreadExecutor());
+
+        virtualThreadRunner.startTransportService(sdkTransportService.getTransportService());
+        // all handlers are forked from the transport thread to the virtual thread executor
+        verify(sdkTransportService.getTransportService(), times(6)).registerRequestHandler(
+            anyString(),
+            eq(ThreadPool.Names.SAME),
+            anyBoolean(),
+            anyBoolean(),
+            any(),
+            any(ForkingRequestHandler.class)
+        );
+        virtualThreadRunner.close();
+        assertTrue(virtualThreadRunner.getVirtualThreadExecutor().isTerminated());
+        assertTrue(virtualThreadRunner.getThreadPool().generic().isShutdown());
+    }
+
+    @Test
+    public void testCloseStopsTransportService() {
+        TransportService transportService = sdkTransportService.getTransportService();
+        extensionsRunner.close();
+        verify(transportService, times(1)).close();
+        assertTrue(extensionsRunner.getThreadPool().generic().isShutdown());
+    }
+
     @Test
     public void testHandleExtensionInitRequest() throws UnknownHostException {
+        InitializeExtensionRequest extensionInitRequest = createExtensionInitRequest();
+        DiscoveryNode sourceNode = extensionInitRequest.getSourceNode();
+
+        InitializeExtensionResponse response = extensionsInitRequestHandler.handleExtensionInitRequest(extensionInitRequest);
+        // Test if name and unique ID are set
+        assertEquals(EXTENSION_NAME, response.getName());
+        assertEquals("opensearch-sdk-1", extensionsRunner.getSdkTransportService().getUniqueId());
+        // Test if the source node is set after handleExtensionInitRequest() is called during OpenSearch bootstrap
+        assertEquals(sourceNode, extensionsRunner.getSdkTransportService().getOpensearchNode());
+
+        // Custom settings and environment settings are requested without waiting for responses
+        @SuppressWarnings("rawtypes")
+        ArgumentCaptor<TransportResponseHandler> handlerCaptor = ArgumentCaptor.forClass(TransportResponseHandler.class);
+        verify(sdkTransportService.getTransportService(), times(2)).sendRequest(any(), anyString(), any(), handlerCaptor.capture());
+        assertEquals(
+            List.of(ExtensionsInitRequestHandler.PHASE_REGISTER_CUSTOM_SETTINGS, ExtensionsInitRequestHandler.PHASE_ENVIRONMENT_SETTINGS),
+            List.copyOf(extensionsRunner.getStartupTimeline().getPhases().keySet())
+        );
+        respond(handlerCaptor.getAllValues(), true);
+        assertFalse(extensionsRunner.isInitialized());
+        assertEquals("test.value", extensionsRunner.getEnvironmentSettings().get("test.key"));
+
+        // The actions are registered once the environment settings are applied
+        handlerCaptor = ArgumentCaptor.forClass(TransportResponseHandler.class);
+        verify(sdkTransportService.getTransportService(), times(4)).sendRequest(any(), anyString(), any(), handlerCaptor.capture());
+        assertEquals(4, extensionsRunner.getStartupTimeline().getPhases().size());
+        respond(handlerCaptor.getAllValues().subList(2, 4), true);
+
+        // Initialization completes when all requests are acknowledged
+        assertTrue(extensionsRunner.isInitialized());
+        assertEquals(List.of(), extensionsRunner.getStartupTimeline().getFailedPhases());
+        for (StartupTimeline.Phase phase : extensionsRunner.getStartupTimeline().getPhases().values()) {
+            assertTrue(phase.getDurationMillis() >= 0);
+        }
+    }
+
+    @Test
+    public void testHandleExtensionInitRequestRetriesFailedPhase() throws Exception {
+        extensionsInitRequestHandler.handleExtensionInitRequest(createExtensionInitRequest());
+
+        @SuppressWarnings("rawtypes")
+        ArgumentCaptor<TransportResponseHandler> handlerCaptor = ArgumentCaptor.forClass(TransportResponseHandler.class);
+        verify(sdkTransportService.getTransportService(), times(2)).sendRequest(any(), anyString(), any(), handlerCaptor.capture());
+        respond(handlerCaptor.getAllValues(), true);
+        handlerCaptor = ArgumentCaptor.forClass(TransportResponseHandler.class);
+        verify(sdkTransportService.getTransportService(), times(4)).sendRequest(any(), anyString(), any(), handlerCaptor.capture());
+        // OpenSearch does not acknowledge the REST actions at first
+        respond(handlerCaptor.getAllValues().subList(2, 3), false);
+        respond(handlerCaptor.getAllValues().subList(3, 4), true);
+        assertFalse(extensionsRunner.isInitialized());
+
+        // The REST actions are registered again after a delay
+        assertBusy(
+            () -> verify(sdkTransportService.getTransportService(), times(5)).sendRequest(any(), anyString(), any(), any()),
+            10,
+            TimeUnit.SECONDS
+        );
+        handlerCaptor = ArgumentCaptor.forClass(TransportResponseHandler.class);
+        verify(sdkTransportService.getTransportService(), times(5)).sendRequest(any(), anyString(), any(), handlerCaptor.capture());
+        respond(handlerCaptor.getAllValues().subList(4, 5), true);
+
+        assertTrue(extensionsRunner.isInitialized());
+        assertEquals(List.of(), extensionsRunner.getStartupTimeline().getFailedPhases());
+    }
+
+    @Test
+    public void testHandleExtensionInitRequestFailure() throws Exception {
+        extensionsInitRequestHandler.handleExtensionInitRequest(createExtensionInitRequest());
+
+        @SuppressWarnings("rawtypes")
+        ArgumentCaptor<TransportResponseHandler> handlerCaptor = ArgumentCaptor.forClass(TransportResponseHandler.class);
+        verify(sdkTransportService.getTransportService(), times(2)).sendRequest(any(), anyString(), any(), handlerCaptor.capture());
+        respond(handlerCaptor.getAllValues(), true);
+        handlerCaptor = ArgumentCaptor.forClass(TransportResponseHandler.class);
+        verify(sdkTransportService.getTransportService(), times(4)).sendRequest(any(), anyString(), any(), handlerCaptor.capture());
+        respond(handlerCaptor.getAllValues().subList(3, 4), true);
+        // OpenSearch never acknowledges the REST actions, which are sent once and again after each delay of the backoff
+        int attempts = 1;
+        for (Iterator<TimeValue> backoff = ExtensionsInitRequestHandler.PHASE_RETRY_BACKOFF.iterator(); backoff.hasNext(); backoff.next()) {
+            attempts++;
+        }
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            int sent = 3 + attempt;
+            assertBusy(
+                () -> verify(sdkTransportService.getTransportService(), times(sent)).sendRequest(any(), anyString(), any(), any()),
+                10,
+                TimeUnit.SECONDS
+            );
+            handlerCaptor = ArgumentCaptor.forClass(TransportResponseHandler.class);
+            verify(sdkTransportService.getTransportService(), times(sent)).sendRequest(any(), anyString(), any(), handlerCaptor.capture());
+            int restRequest = attempt == 1 ? 2 : sent - 1;
+            respond(handlerCaptor.getAllValues().subList(restRequest, restRequest + 1), false);
+        }
+
+        // The extension is stopped instead of being left half initialized
+        assertFalse(extensionsRunner.isInitialized());
+        assertEquals(
+            List.of(ExtensionsInitRequestHandler.PHASE_REGISTER_REST_ACTIONS),
+            extensionsRunner.getStartupTimeline().getFailedPhases()
+        );
+        assertNotNull(extensionsRunner.getInitializationFailure());
+        assertBusy(() -> assertTrue(extensionsRunner.getThreadPool().generic().isTerminated()), 30, TimeUnit.SECONDS);
+    }
+
+    private InitializeExtensionRequest createExtensionInitRequest() throws UnknownHostException {
         DiscoveryNode sourceNode = new DiscoveryNode(
             "test_node",
             new TransportAddress(InetAddress.getByName("localhost"), 9876),
@@ -137,15 +283,23 @@ public class TestExtensionsRunner extends OpenSearchTestCase {
         );
 
         doNothing().when(sdkTransportService.getTransportService()).connectToNodeAsExtension(sourceNode, "opensearch-sdk-1");
+        // Don't actually send the registration requests, the responses are simulated by the tests
+        doNothing().when(sdkTransportService.getTransportService())
+            .sendRequest(any(), anyString(), any(), any(TransportResponseHandler.class));
 
-        InitializeExtensionRequest extensionInitRequest = new InitializeExtensionRequest(sourceNode, extension, "test");
+        return new InitializeExtensionRequest(sourceNode, extension, "test");
+    }
 
-        InitializeExtensionResponse response = extensionsInitRequestHandler.handleExtensionInitRequest(extensionInitRequest);
-        // Test if name and unique ID are set
-        assertEquals(EXTENSION_NAME, response.getName());
-        assertEquals("opensearch-sdk-1", extensionsRunner.getSdkTransportService().getUniqueId());
-        // Test if the source node is set after handleExtensionInitRequest() is called during OpenSearch bootstrap
-        assertEquals(sourceNode, extensionsRunner.getSdkTransportService().getOpensearchNode());
+    @SuppressWarnings("rawtypes")
+    private static void respond(List<TransportResponseHandler> handlers, boolean acknowledged) {
+        for (TransportResponseHandler<?> handler : handlers) {
+            if (handler instanceof AcknowledgedResponseHandler) {
+                ((AcknowledgedResponseHandler) handler).handleResponse(new AcknowledgedResponse(acknowledged));
+            } else {
+                Settings settings = Settings.builder().put("test.key", "test.value").build();
+                ((EnvironmentSettingsResponseHandler) handler).handleResponse(new EnvironmentSettingsResponse(settings));
+            }
+        }
     }
 
     @Test
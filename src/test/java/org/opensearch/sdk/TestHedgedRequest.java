@@ -0,0 +1,193 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+public class TestHedgedRequest extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        this.threadPool = new TestThreadPool("hedging");
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        terminate(threadPool);
+        super.tearDown();
+    }
+
+    /**
+     * Sends attempts which complete only when the test completes them, and records which were cancelled.
+     */
+    private static class Attempts implements Function<ActionListener<String>, Runnable> {
+        final List<ActionListener<String>> listeners = new CopyOnWriteArrayList<>();
+        final AtomicInteger cancelled = new AtomicInteger();
+
+        @Override
+        public Runnable apply(ActionListener<String> listener) {
+            listeners.add(listener);
+            return cancelled::incrementAndGet;
+        }
+    }
+
+    private HedgingPolicy warmPolicy(String operation, TimeValue minDelay) {
+        HedgingPolicy policy = new HedgingPolicy(threadPool, 50, minDelay);
+        for (int i = 0; i < HedgingPolicy.MIN_SAMPLES; i++) {
+            policy.record(operation, 1000, false);
+        }
+        return policy;
+    }
+
+    @Test
+    public void testFastRequestIsNotHedged() {
+        HedgingPolicy policy = warmPolicy("get", TimeValue.timeValueMinutes(1));
+        Attempts attempts = new Attempts();
+        CompletableFuture<String> result = new CompletableFuture<>();
+        HedgedRequest<String> request = HedgedRequest.send(
+            policy,
+            "get",
+            attempts,
+            ActionListener.wrap(result::complete, result::completeExceptionally)
+        );
+        attempts.listeners.get(0).onResponse("first");
+
+        assertEquals("first", result.join());
+        assertTrue(request.isDone());
+        assertEquals(1, attempts.listeners.size());
+        assertEquals(0, policy.getHedged());
+        assertEquals(HedgingPolicy.MIN_SAMPLES + 1, policy.getLatency("get").getCount());
+    }
+
+    @Test
+    public void testSlowRequestIsHedged() throws Exception {
+        HedgingPolicy policy = warmPolicy("search", TimeValue.timeValueMillis(1));
+        Attempts attempts = new Attempts();
+        CompletableFuture<String> result = new CompletableFuture<>();
+        HedgedRequest.send(policy, "search", attempts, ActionListener.wrap(result::complete, result::completeExceptionally));
+
+        assertBusy(() -> assertEquals(2, attempts.listeners.size()));
+        // The duplicate wins and the slow request is cancelled
+        attempts.listeners.get(1).onResponse("hedge");
+        attempts.listeners.get(0).onResponse("primary");
+        assertEquals("hedge", result.join());
+        assertEquals(1, attempts.cancelled.get());
+        assertEquals(1, policy.getHedged());
+        assertEquals(1, policy.getHedgeWins());
+    }
+
+    @Test
+    public void testHedgeLatencyExcludesHedgingDelay() throws Exception {
+        TimeValue minDelay = TimeValue.timeValueMillis(500);
+        HedgingPolicy policy = warmPolicy("count", minDelay);
+        Attempts attempts = new Attempts();
+        CompletableFuture<String> result = new CompletableFuture<>();
+        HedgedRequest.send(policy, "count", attempts, ActionListener.wrap(result::complete, result::completeExceptionally));
+
+        assertBusy(() -> assertEquals(2, attempts.listeners.size()));
+        attempts.listeners.get(1).onResponse("hedge");
+        assertEquals("hedge", result.join());
+        assertEquals(1, policy.getHedgeWins());
+        assertEquals(HedgingPolicy.MIN_SAMPLES + 1, policy.getLatency("count").getCount());
+        // The duplicate answered at once, the time waited before sending it is not part of its latency
+        assertTrue(policy.getLatency("count").getMax() < minDelay.micros());
+    }
+
+    @Test
+    public void testLatenciesAreRotated() {
+        AtomicLong nanos = new AtomicLong();
+        TimeValue window = TimeValue.timeValueSeconds(30);
+        HedgingPolicy policy = new HedgingPolicy(threadPool, 50, TimeValue.ZERO, window, nanos::get);
+        for (int i = 0; i < HedgingPolicy.MIN_SAMPLES; i++) {
+            policy.record("get", 10_000, false);
+        }
+        assertTrue(policy.delay("get").millis() < 20);
+
+        // A window later the cluster became slower, the older latencies are still read
+        nanos.addAndGet(window.nanos());
+        for (int i = 0; i < HedgingPolicy.MIN_SAMPLES * 2; i++) {
+            policy.record("get", 100_000, false);
+        }
+        assertEquals(HedgingPolicy.MIN_SAMPLES * 3, policy.getLatency("get").getCount());
+
+        // After another window only the latencies recorded since the last rotation are read
+        nanos.addAndGet(window.nanos());
+        assertEquals(HedgingPolicy.MIN_SAMPLES * 2, policy.getLatency("get").getCount());
+        assertTrue(policy.delay("get").millis() >= 80);
+
+        // Latencies older than two windows are dropped, so the operation is not hedged until it is warm again
+        nanos.addAndGet(window.nanos() * 2);
+        assertEquals(0, policy.getLatency("get").getCount());
+        assertNull(policy.delay("get"));
+    }
+
+    @Test
+    public void testFailureWaitsForOtherAttempt() throws Exception {
+        HedgingPolicy policy = warmPolicy("mget", TimeValue.timeValueMillis(1));
+        Attempts attempts = new Attempts();
+        CompletableFuture<String> result = new CompletableFuture<>();
+        HedgedRequest.send(policy, "mget", attempts, ActionListener.wrap(result::complete, result::completeExceptionally));
+
+        assertBusy(() -> assertEquals(2, attempts.listeners.size()));
+        attempts.listeners.get(0).onFailure(new IllegalStateException("node failed"));
+        assertFalse(result.isDone());
+        attempts.listeners.get(1).onFailure(new IllegalStateException("other node failed"));
+        ExecutionException e = expectThrows(ExecutionException.class, () -> result.get(10, TimeUnit.SECONDS));
+        assertEquals("other node failed", e.getCause().getMessage());
+    }
+
+    @Test
+    public void testColdPolicyAndNoPolicySendOnce() {
+        for (HedgingPolicy policy : new HedgingPolicy[] { null, new HedgingPolicy(threadPool, 99, TimeValue.ZERO) }) {
+            Attempts attempts = new Attempts();
+            CompletableFuture<String> result = new CompletableFuture<>();
+            HedgedRequest.send(policy, "msearch", attempts, ActionListener.wrap(result::complete, result::completeExceptionally));
+            attempts.listeners.get(0).onFailure(new IllegalStateException("failed"));
+            assertTrue(result.isCompletedExceptionally());
+            assertEquals(1, attempts.listeners.size());
+        }
+        expectThrows(IllegalArgumentException.class, () -> new HedgingPolicy(threadPool, 100, TimeValue.ZERO));
+    }
+
+    @Test
+    public void testCancelJavaClientRequest() {
+        List<CompletableFuture<String>> sent = new CopyOnWriteArrayList<>();
+        CompletableFuture<String> result = HedgedRequest.send(warmPolicy("search", TimeValue.timeValueMinutes(1)), "search", () -> {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            sent.add(future);
+            return future;
+        });
+        result.cancel(true);
+        assertTrue(sent.get(0).isCancelled());
+        expectThrows(CancellationException.class, result::join);
+    }
+}
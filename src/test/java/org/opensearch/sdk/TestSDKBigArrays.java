@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.sdk.sample.helloworld.transport.SampleRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.jupiter.api.Test;
+
+public class TestSDKBigArrays extends OpenSearchTestCase {
+
+    @Test
+    public void testNonRecycling() {
+        assertSame(BigArrays.NON_RECYCLING_INSTANCE, SDKBigArrays.NON_RECYCLING.bigArrays());
+        assertNull(SDKBigArrays.NON_RECYCLING.getPageCacheRecycler());
+    }
+
+    @Test
+    public void testPooledSerialization() throws Exception {
+        PageCacheRecycler pageCacheRecycler = new PageCacheRecycler(Settings.EMPTY);
+        SDKBigArrays sdkBigArrays = new SDKBigArrays(pageCacheRecycler);
+        assertSame(pageCacheRecycler, sdkBigArrays.getPageCacheRecycler());
+        assertNotSame(BigArrays.NON_RECYCLING_INSTANCE, sdkBigArrays.bigArrays());
+
+        byte[] bytes = sdkBigArrays.toBytes(new SampleRequest("world"));
+        assertEquals("world", new SampleRequest(StreamInput.wrap(bytes)).getName());
+
+        try (ReleasableBytesStreamOutput out = sdkBigArrays.newBytesStreamOutput()) {
+            new SampleRequest("world").writeTo(out);
+            assertEquals(bytes.length, out.size());
+        }
+    }
+
+    @Test
+    public void testRunnersOwnTheirBuffers() throws Exception {
+        ExtensionsRunner first = new ExtensionsRunnerForTest();
+        ExtensionsRunner second = new ExtensionsRunnerForTest();
+        try {
+            assertNotNull(first.getSdkBigArrays().getPageCacheRecycler());
+            assertNotSame(first.getSdkBigArrays(), second.getSdkBigArrays());
+            assertNotSame(first.getSdkBigArrays().getPageCacheRecycler(), second.getSdkBigArrays().getPageCacheRecycler());
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkProcessor;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.ActiveShardCount;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.index.VersionType;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestSDKBulkIngester extends OpenSearchTestCase {
+
+    @Test
+    public void testToNdJson() throws IOException {
+        BulkRequest bulkRequest = new BulkRequest().add(
+            new IndexRequest("docs").id("1").routing("r").setPipeline("p").source(Map.of("field", "value")),
+            new UpdateRequest("docs", "2").doc(Map.of("field", "updated")).retryOnConflict(3),
+            new DeleteRequest("docs", "3").setIfSeqNo(5).setIfPrimaryTerm(1),
+            new IndexRequest("docs").id("4").create(true).source("{\"field\":\"created\"}", XContentType.JSON)
+        );
+
+        String[] lines = new String(SDKBulkIngester.toNdJson(bulkRequest), StandardCharsets.UTF_8).split("\n");
+        assertEquals(7, lines.length);
+        assertEquals("{\"index\":{\"_index\":\"docs\",\"_id\":\"1\",\"routing\":\"r\",\"pipeline\":\"p\"}}", lines[0]);
+        assertEquals("{\"field\":\"value\"}", lines[1]);
+        assertEquals("{\"update\":{\"_index\":\"docs\",\"_id\":\"2\",\"retry_on_conflict\":3}}", lines[2]);
+        assertTrue(lines[3].contains("\"doc\":{\"field\":\"updated\"}"));
+        assertEquals("{\"delete\":{\"_index\":\"docs\",\"_id\":\"3\",\"if_seq_no\":5,\"if_primary_term\":1}}", lines[4]);
+        assertEquals("{\"create\":{\"_index\":\"docs\",\"_id\":\"4\"}}", lines[5]);
+        assertEquals("{\"field\":\"created\"}", lines[6]);
+    }
+
+    @Test
+    public void testExternalVersionsRoundTrip() throws IOException {
+        BulkRequest bulkRequest = new BulkRequest().add(
+            new IndexRequest("docs").id("1").source(Map.of("field", "value")).version(7).versionType(VersionType.EXTERNAL),
+            new DeleteRequest("docs", "2").version(3).versionType(VersionType.EXTERNAL_GTE),
+            new IndexRequest("docs").id("3").source(Map.of("field", "value")).setRequireAlias(true)
+        );
+
+        String[] lines = new String(SDKBulkIngester.toNdJson(bulkRequest), StandardCharsets.UTF_8).split("\n");
+        assertEquals("{\"index\":{\"_index\":\"docs\",\"_id\":\"1\",\"version\":7,\"version_type\":\"external\"}}", lines[0]);
+        assertEquals("{\"delete\":{\"_index\":\"docs\",\"_id\":\"2\",\"version\":3,\"version_type\":\"external_gte\"}}", lines[2]);
+        assertEquals("{\"index\":{\"_index\":\"docs\",\"_id\":\"3\",\"require_alias\":true}}", lines[3]);
+        assertRoundTrip(bulkRequest);
+    }
+
+    @Test
+    public void testIfSeqNoRoundTrip() throws IOException {
+        UpdateRequest update = new UpdateRequest("docs", "2").doc(Map.of("field", "updated")).setIfSeqNo(6).setIfPrimaryTerm(2);
+        update.fetchSource(true);
+        BulkRequest bulkRequest = new BulkRequest().add(
+            new IndexRequest("docs").id("1").source(Map.of("field", "value")).setIfSeqNo(5).setIfPrimaryTerm(1),
+            update,
+            new DeleteRequest("docs", "3").setIfSeqNo(7).setIfPrimaryTerm(2)
+        );
+
+        BulkRequest parsed = assertRoundTrip(bulkRequest);
+        assertEquals(update.fetchSource(), ((UpdateRequest) parsed.requests().get(1)).fetchSource());
+    }
+
+    @Test
+    public void testToParameters() {
+        BulkRequest bulkRequest = new BulkRequest();
+        bulkRequest.timeout(TimeValue.timeValueSeconds(5));
+        bulkRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
+        bulkRequest.pipeline("p");
+        bulkRequest.routing("r");
+        bulkRequest.waitForActiveShards(ActiveShardCount.ALL);
+        bulkRequest.requireAlias(true);
+
+        assertEquals(
+            Map.of(
+                "timeout",
+                "5s",
+                "refresh",
+                "wait_for",
+                "pipeline",
+                "p",
+                "routing",
+                "r",
+                "wait_for_active_shards",
+                "all",
+                "require_alias",
+                "true"
+            ),
+            SDKBulkIngester.toParameters(bulkRequest)
+        );
+        assertEquals(Map.of("timeout", "1m"), SDKBulkIngester.toParameters(new BulkRequest()));
+    }
+
+    /**
+     * Parses the body written for a bulk request as OpenSearch does, and checks that every action has the same metadata.
+     */
+    private static BulkRequest assertRoundTrip(BulkRequest bulkRequest) throws IOException {
+        BulkRequest parsed = new BulkRequest().add(new BytesArray(SDKBulkIngester.toNdJson(bulkRequest)), null, XContentType.JSON);
+        assertEquals(bulkRequest.numberOfActions(), parsed.numberOfActions());
+        for (int i = 0; i < bulkRequest.numberOfActions(); i++) {
+            DocWriteRequest<?> expected = bulkRequest.requests().get(i);
+            DocWriteRequest<?> actual = parsed.requests().get(i);
+            assertEquals(expected.opType(), actual.opType());
+            assertEquals(expected.index(), actual.index());
+            assertEquals(expected.id(), actual.id());
+            assertEquals(expected.version(), actual.version());
+            assertEquals(expected.versionType(), actual.versionType());
+            assertEquals(expected.ifSeqNo(), actual.ifSeqNo());
+            assertEquals(expected.ifPrimaryTerm(), actual.ifPrimaryTerm());
+            assertEquals(expected.isRequireAlias(), actual.isRequireAlias());
+        }
+        return parsed;
+    }
+
+    @Test
+    public void testRejectedRequestIsRetriable() {
+        BulkRequest bulkRequest = new BulkRequest().add(new DeleteRequest("docs", "1"), new DeleteRequest("docs", "2"));
+        BulkResponse response = SDKBulkIngester.rejected(bulkRequest, new IOException("rejected"));
+
+        assertEquals(2, response.getItems().length);
+        for (BulkItemResponse item : response.getItems()) {
+            assertTrue(item.isFailed());
+            assertEquals(RestStatus.TOO_MANY_REQUESTS, item.getFailure().getStatus());
+        }
+    }
+
+    @Test
+    public void testFlushStats() throws Exception {
+        SDKClient sdkClient = new SDKClient(new ExtensionSettings("", "", "", "localhost", "9200"));
+        AtomicInteger failedFlushes = new AtomicInteger();
+        BulkProcessor.Listener listener = new BulkProcessor.Listener() {
+            @Override
+            public void beforeBulk(long executionId, BulkRequest request) {}
+
+            @Override
+            public void afterBulk(long executionId, BulkRequest request, BulkResponse response) {}
+
+            @Override
+            public void afterBulk(long executionId, BulkRequest request, Throwable failure) {
+                failedFlushes.incrementAndGet();
+            }
+        };
+        SDKBulkIngester ingester = sdkClient.bulkIngester().setBulkActions(2).setCompression(true).setListener(listener).build();
+
+        // Without a node, the flush of each two actions fails as a whole
+        ingester.add(new IndexRequest("docs").source(Map.of("field", "value"))).add(new DeleteRequest("docs", "1"));
+        ingester.add(new DeleteRequest("docs", "2"));
+        assertTrue(ingester.awaitClose(10, TimeUnit.SECONDS));
+
+        assertEquals(2, ingester.getStats().getFlushes());
+        assertEquals(2, ingester.getStats().getFailedFlushes());
+        assertEquals(3, ingester.getStats().getActions());
+        assertEquals(3, ingester.getStats().getFailedActions());
+        assertEquals(0, ingester.getStats().getRetries());
+        assertTrue(ingester.getStats().getBytes() > 0);
+        assertEquals(2, failedFlushes.get());
+        // Closing again has no effect
+        assertTrue(ingester.awaitClose(1, TimeUnit.SECONDS));
+    }
+}
@@ -26,6 +26,7 @@ import org.opensearch.client.Cancellable;
 import org.opensearch.client.Request;
 import org.opensearch.client.Response;
 import org.opensearch.client.ResponseListener;
+import org.opensearch.client.RestClient;
 import org.opensearch.client.indices.CreateIndexRequest;
 import org.opensearch.client.indices.GetFieldMappingsRequest;
 import org.opensearch.client.indices.GetIndexRequest;
@@ -38,11 +39,14 @@ import org.opensearch.client.opensearch.cluster.OpenSearchClusterAsyncClient;
 import org.opensearch.client.opensearch.cluster.OpenSearchClusterClient;
 import org.opensearch.client.opensearch.indices.OpenSearchIndicesAsyncClient;
 import org.opensearch.client.opensearch.indices.OpenSearchIndicesClient;
+import org.opensearch.client.transport.rest_client.RestClientTransport;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
 import org.opensearch.sdk.SDKClient.SDKClusterAdminClient;
 import org.opensearch.sdk.SDKClient.SDKIndicesClient;
 import org.opensearch.sdk.SDKClient.SDKRestClient;
+import org.opensearch.sdk.stats.ConnectionPoolStats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -74,6 +78,81 @@ public class TestSDKClient extends OpenSearchTestCase {
         sdkClient.doCloseJavaClients();
     }
 
+    @Test
+    public void testConnectionPoolSettings() throws Exception {
+        ExtensionSettings settings = new ExtensionSettings("", "", "", "localhost", "9200");
+        settings.setClientMaxConnectionsPerRoute(20);
+        settings.setClientMaxConnectionsTotal(50);
+        settings.setClientKeepAlive(TimeValue.timeValueSeconds(30));
+        settings.setClientIdleConnectionTimeout(TimeValue.timeValueMinutes(1));
+        settings.setClientIoThreads(2);
+        settings.setClientPrewarmConnections(2);
+        ConnectionPoolStats poolStats = new ConnectionPoolStats();
+        SDKClient client = new SDKClient(settings, poolStats);
+
+        client.initializeJavaAsyncClient();
+        client.initializeRestClient();
+        // The clients share a single pool
+        assertEquals(50, poolStats.getMax());
+        assertEquals(0, poolStats.getLeased());
+        assertEquals(0, poolStats.getAvailable());
+
+        // Pre-warming sends requests, which fail without a node but must not throw
+        assertDoesNotThrow(() -> client.updateOpenSearchNodeSettings("localhost", "9201"));
+
+        client.doCloseJavaClients();
+        assertEquals(50, poolStats.getMax());
+        client.doCloseHighLevelClient();
+        assertEquals(0, poolStats.getMax());
+    }
+
+    @Test
+    public void testClientsShareRestClient() throws Exception {
+        OpenSearchClient javaClient = sdkClient.initializeJavaClient();
+        OpenSearchAsyncClient javaAsyncClient = sdkClient.initializeJavaAsyncClient();
+        SDKRestClient restClient = sdkClient.initializeRestClient();
+        assertSame(javaClient._transport(), javaAsyncClient._transport());
+        RestClient lowLevelClient = ((RestClientTransport) javaClient._transport()).restClient();
+        assertSame(lowLevelClient, restClient.getRestHighLevelClient().getLowLevelClient());
+
+        // Node updates apply to all clients at once
+        sdkClient.updateOpenSearchNodeSettings("10.10.10.10", "9204");
+        assertEquals(1, lowLevelClient.getNodes().size());
+        assertEquals("10.10.10.10", lowLevelClient.getNodes().get(0).getHost().getHostName());
+
+        // The shared client stays open until the last client is closed
+        sdkClient.doCloseJavaClients();
+        assertTrue(lowLevelClient.isRunning());
+        restClient.close();
+        // Closing twice releases the reference only once
+        restClient.close();
+        assertFalse(lowLevelClient.isRunning());
+
+        // A new shared client is created once the previous one is closed
+        OpenSearchClient newJavaClient = sdkClient.initializeJavaClient();
+        assertNotSame(lowLevelClient, ((RestClientTransport) newJavaClient._transport()).restClient());
+        sdkClient.doCloseJavaClients();
+    }
+
+    @Test
+    public void testClientsOfOtherHostsShareRestClientPerHost() throws Exception {
+        RestClient configured = ((RestClientTransport) sdkClient.initializeJavaClient()._transport()).restClient();
+        RestClient other = ((RestClientTransport) sdkClient.initializeJavaClient("10.10.10.10", 9204)._transport()).restClient();
+        RestClient sameHost = ((RestClientTransport) sdkClient.initalizeJavaAsyncClient("10.10.10.10", 9204)._transport()).restClient();
+        assertNotSame(configured, other);
+        assertSame(other, sameHost);
+
+        // Only the client of the configured node follows it
+        sdkClient.updateOpenSearchNodeSettings("10.10.10.11", "9205");
+        assertEquals("10.10.10.11", configured.getNodes().get(0).getHost().getHostName());
+        assertEquals(1, other.getNodes().size());
+        assertEquals("10.10.10.10", other.getNodes().get(0).getHost().getHostName());
+
+        sdkClient.doCloseJavaClients();
+        assertFalse(configured.isRunning());
+        assertFalse(other.isRunning());
+    }
+
     @Test
     public void testCreateJavaAsyncClient() throws Exception {
         OpenSearchAsyncClient javaAsyncClient = sdkClient.initializeJavaAsyncClient();
@@ -106,6 +185,10 @@ public class TestSDKClient extends OpenSearchTestCase {
         assertDoesNotThrow(() -> restClient.deleteByQuery(new DeleteByQueryRequest(), ActionListener.wrap(r -> {}, e -> {})));
         assertDoesNotThrow(() -> restClient.search(new SearchRequest(), ActionListener.wrap(r -> {}, e -> {})));
         assertDoesNotThrow(() -> restClient.multiSearch(new MultiSearchRequest(), ActionListener.wrap(r -> {}, e -> {})));
+        assertNotNull(restClient.getHedged(new GetRequest(), ActionListener.wrap(r -> {}, e -> {})));
+        assertNotNull(restClient.multiGetHedged(new MultiGetRequest(), ActionListener.wrap(r -> {}, e -> {})));
+        assertNotNull(restClient.searchHedged(new SearchRequest(), ActionListener.wrap(r -> {}, e -> {})));
+        assertNotNull(restClient.multiSearchHedged(new MultiSearchRequest(), ActionListener.wrap(r -> {}, e -> {})));
         assertDoesNotThrow(() -> restClient.bulk(new BulkRequest(), ActionListener.wrap(r -> {}, e -> {})));
         assertDoesNotThrow(() -> restClient.performRequestAsync(new Request("GET", "/"), new ResponseListener() {
 
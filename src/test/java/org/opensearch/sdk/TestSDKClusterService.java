@@ -9,28 +9,48 @@
 
 package org.opensearch.sdk;
 
+import org.opensearch.action.admin.cluster.state.ClusterStateAction;
+import org.opensearch.action.admin.cluster.state.ClusterStateRequest;
+import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.extensions.DiscoveryExtensionNode;
 import org.opensearch.sdk.SDKClusterService.SDKClusterSettings;
 import org.opensearch.sdk.handlers.AcknowledgedResponseHandler;
+import org.opensearch.sdk.handlers.ClusterStatePublishRequest;
+import org.opensearch.sdk.handlers.ClusterStatePublishRequestHandler;
+import org.opensearch.sdk.handlers.ClusterStateResponseHandler;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.transport.TransportService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -171,4 +191,133 @@ public class TestSDKClusterService extends OpenSearchTestCase {
         );
 
     }
+
+    @Test
+    public void testPrepareState() {
+        TransportService mockTransportService = mock(TransportService.class);
+        extensionsRunner.getSdkTransportService().setTransportService(mockTransportService);
+
+        SDKClusterStateRequestBuilder builder = sdkClusterService.prepareState().clear().setMetadata(true).setIndices("logs-*");
+        ClusterStateRequest request = builder.request();
+        assertTrue(request.metadata());
+        assertFalse(request.routingTable());
+        assertFalse(request.nodes());
+        assertFalse(request.blocks());
+        assertFalse(request.customs());
+        assertArrayEquals(new String[] { "logs-*" }, request.indices());
+
+        // Before initialization should fail without sending
+        List<Exception> failures = new ArrayList<>();
+        builder.execute(ActionListener.wrap(state -> {}, failures::add));
+        assertEquals(1, failures.size());
+        verify(mockTransportService, times(0)).sendRequest(any(), anyString(), any(), any(ClusterStateResponseHandler.class));
+
+        extensionsRunner.setInitialized();
+        builder.execute(ActionListener.wrap(state -> {}, failures::add));
+        verify(mockTransportService, times(1)).sendRequest(
+            any(),
+            eq(ClusterStateAction.NAME),
+            eq(request),
+            any(ClusterStateResponseHandler.class)
+        );
+    }
+
+    @Test
+    public void testClusterStateListener() throws Exception {
+        List<ClusterChangedEvent> events = new CopyOnWriteArrayList<>();
+        sdkClusterService.addListener(events::add);
+        ClusterStateCache cache = sdkClusterService.getClusterStateCache();
+
+        ClusterState state1 = ClusterState.builder(ClusterName.DEFAULT).version(1).build();
+        ClusterState state2 = ClusterState.builder(state1).incrementVersion().build();
+        cache.put(state1);
+        // The same or an older state is not a change
+        cache.put(state1);
+        cache.put(state2);
+        cache.put(state1);
+        assertEquals(2, cache.getCachedVersion());
+
+        assertBusy(() -> assertEquals(2, events.size()));
+        assertEquals(1, events.get(0).state().version());
+        assertSame(ClusterState.EMPTY_STATE, events.get(0).previousState());
+        assertEquals(2, events.get(1).state().version());
+        assertEquals(1, events.get(1).previousState().version());
+
+        // No listener is notified after close
+        sdkClusterService.close();
+        cache.put(ClusterState.builder(state2).incrementVersion().build());
+        assertEquals(3, cache.getCachedVersion());
+        assertEquals(2, events.size());
+    }
+
+    @Test
+    public void testPublishedClusterStates() throws Exception {
+        List<ClusterChangedEvent> events = new CopyOnWriteArrayList<>();
+        sdkClusterService.addListener(events::add);
+        ClusterStatePublishRequestHandler handler = new ClusterStatePublishRequestHandler(sdkClusterService);
+
+        // A diff without a cached state requests the full state
+        ClusterState state1 = ClusterState.builder(ClusterName.DEFAULT).version(1).build();
+        ClusterState state2 = ClusterState.builder(state1).incrementVersion().build();
+        assertFalse(handler.handleClusterStatePublishRequest(new ClusterStatePublishRequest(state2.diff(state1))).getStatus());
+
+        assertTrue(handler.handleClusterStatePublishRequest(roundTrip(new ClusterStatePublishRequest(state1))).getStatus());
+        assertTrue(handler.handleClusterStatePublishRequest(roundTrip(new ClusterStatePublishRequest(state2.diff(state1)))).getStatus());
+        assertEquals(2, sdkClusterService.getClusterStateCache().getCachedVersion());
+
+        assertBusy(() -> assertEquals(2, events.size()));
+        assertEquals(1, events.get(0).state().version());
+        assertEquals(2, events.get(1).state().version());
+        assertEquals(1, events.get(1).previousState().version());
+        assertEquals(state2.stateUUID(), events.get(1).state().stateUUID());
+
+        // A diff from a state other than the cached state requests the full state
+        ClusterState state3 = ClusterState.builder(state2).incrementVersion().build();
+        ClusterState state4 = ClusterState.builder(state3).incrementVersion().build();
+        assertFalse(handler.handleClusterStatePublishRequest(new ClusterStatePublishRequest(state4.diff(state3))).getStatus());
+        assertEquals(2, sdkClusterService.getClusterStateCache().getCachedVersion());
+        sdkClusterService.close();
+    }
+
+    @Test
+    public void testListenersRefreshClusterState() throws Exception {
+        extensionsRunner.getExtension().getExtensionSettings().setClusterStateRefreshInterval(TimeValue.timeValueMillis(10));
+        SDKTransportService mockSdkTransportService = mock(SDKTransportService.class);
+        when(extensionsRunner.getSdkTransportService()).thenReturn(mockSdkTransportService);
+        AtomicLong version = new AtomicLong();
+        doAnswer(invocation -> {
+            ActionListener<ClusterState> listener = invocation.getArgument(0);
+            listener.onResponse(ClusterState.builder(ClusterName.DEFAULT).version(version.incrementAndGet()).build());
+            return null;
+        }).when(mockSdkTransportService).sendClusterStateRequest(any());
+        SDKClusterService clusterService = new SDKClusterService(extensionsRunner);
+        try {
+            // Nothing is fetched before the extension is initialized
+            List<ClusterChangedEvent> events = new CopyOnWriteArrayList<>();
+            clusterService.addListener(events::add);
+            verify(extensionsRunner, timeout(1000).atLeast(2)).isInitialized();
+            assertEquals(0, version.get());
+
+            // Listeners are notified of the states fetched in the background
+            extensionsRunner.setInitialized();
+            assertBusy(() -> assertTrue(events.size() >= 2));
+            assertEquals(events.get(0).state().version(), events.get(1).previousState().version());
+        } finally {
+            clusterService.close();
+        }
+
+        // No more states are fetched after close
+        clearInvocations(extensionsRunner);
+        verify(extensionsRunner, after(100).never()).isInitialized();
+        expectThrows(IllegalStateException.class, () -> clusterService.addListener(event -> {}));
+    }
+
+    private static ClusterStatePublishRequest roundTrip(ClusterStatePublishRequest request) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            request.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                return new ClusterStatePublishRequest(in, null);
+            }
+        }
+    }
 }
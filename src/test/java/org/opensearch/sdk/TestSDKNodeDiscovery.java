@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+import org.opensearch.Version;
+import org.opensearch.client.Node;
+import org.opensearch.client.RestClient;
+import org.opensearch.client.transport.rest_client.RestClientTransport;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestSDKNodeDiscovery extends OpenSearchTestCase {
+
+    private static Node node(String host, String... roles) {
+        HttpHost httpHost = new HttpHost(host, 9200);
+        return new Node(httpHost, Set.of(httpHost), host, Version.CURRENT.toString(), new Node.Roles(Set.of(roles)), Map.of());
+    }
+
+    @Test
+    public void testLeastLoadedNodeSelector() {
+        Node busy = node("10.0.0.1", "data");
+        Node idle = node("10.0.0.2", "data");
+        Node alsoIdle = node("10.0.0.3", "data", "ingest");
+        Node clusterManager = node("10.0.0.4", "cluster_manager");
+
+        @SuppressWarnings("unchecked")
+        ConnPoolControl<HttpRoute> pool = mock(ConnPoolControl.class);
+        HttpRoute busyRoute = new HttpRoute(busy.getHost());
+        HttpRoute idleRoute = new HttpRoute(idle.getHost());
+        when(pool.getRoutes()).thenReturn(Set.of(busyRoute, idleRoute));
+        when(pool.getStats(busyRoute)).thenReturn(new PoolStats(3, 1, 0, 10));
+        when(pool.getStats(idleRoute)).thenReturn(new PoolStats(0, 0, 2, 10));
+        LeastLoadedNodeSelector selector = new LeastLoadedNodeSelector(() -> pool);
+
+        // Nodes with the lowest load are kept, dedicated cluster managers are skipped
+        List<Node> nodes = new ArrayList<>(List.of(busy, idle, alsoIdle, clusterManager));
+        selector.select(nodes);
+        assertEquals(List.of(idle, alsoIdle), nodes);
+
+        // Dedicated cluster managers are used when no other node is alive
+        nodes = new ArrayList<>(List.of(clusterManager));
+        selector.select(nodes);
+        assertEquals(List.of(clusterManager), nodes);
+
+        // All nodes are equally loaded before the pool is created
+        nodes = new ArrayList<>(List.of(busy, idle));
+        new LeastLoadedNodeSelector(() -> null).select(nodes);
+        assertEquals(List.of(busy, idle), nodes);
+    }
+
+    @Test
+    public void testReadNodes() throws Exception {
+        String response = "{\"_nodes\":{\"total\":4},\"cluster_name\":\"test\",\"nodes\":{"
+            + "\"a\":{\"name\":\"data\",\"version\":\"3.0.0\",\"roles\":[\"data\",\"ingest\"],\"attributes\":{\"zone\":\"a\"},"
+            + "\"http\":{\"bound_address\":[\"10.0.0.1:9200\",\"[::1]:9200\"],\"publish_address\":\"10.0.0.1:9200\"}},"
+            + "\"b\":{\"name\":\"cluster_manager\",\"version\":\"3.0.0\",\"roles\":[\"cluster_manager\"],"
+            + "\"http\":{\"bound_address\":[\"10.0.0.2:9201\"],\"publish_address\":\"node-b.example.com/10.0.0.2:9201\"}},"
+            + "\"c\":{\"name\":\"no_http\",\"version\":\"3.0.0\",\"roles\":[\"data\"]},"
+            // A second node publishing the same address is reached at that address
+            + "\"d\":{\"name\":\"same_address\",\"version\":\"3.0.0\",\"roles\":[\"data\"],"
+            + "\"http\":{\"publish_address\":\"10.0.0.1:9200\"}}}}";
+
+        List<Node> nodes = SDKNodeDiscovery.readNodes(
+            new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)),
+            "https"
+        );
+        assertEquals(2, nodes.size());
+        assertEquals(new HttpHost("https", "10.0.0.1", 9200), nodes.get(0).getHost());
+        assertEquals(2, nodes.get(0).getBoundHosts().size());
+        assertEquals("data", nodes.get(0).getName());
+        assertEquals("3.0.0", nodes.get(0).getVersion());
+        assertTrue(nodes.get(0).getRoles().isData());
+        assertTrue(nodes.get(0).getRoles().isIngest());
+        assertEquals(List.of("a"), nodes.get(0).getAttributes().get("zone"));
+        assertEquals(new HttpHost("https", "node-b.example.com", 9201), nodes.get(1).getHost());
+        assertTrue(nodes.get(1).getRoles().isClusterManagerEligible());
+        assertFalse(nodes.get(1).getRoles().isData());
+
+        assertEquals(List.of(), SDKNodeDiscovery.readNodes(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)), "http"));
+    }
+
+    @Test
+    public void testIntervalMustBePositive() {
+        expectThrows(IllegalArgumentException.class, () -> new SDKNodeDiscovery(null, null, null, TimeValue.ZERO));
+        expectThrows(IllegalArgumentException.class, () -> new SDKNodeDiscovery(null, null, null, TimeValue.MINUS_ONE));
+    }
+
+    @Test
+    public void testUpdateOpenSearchNodes() throws Exception {
+        SDKClient sdkClient = new SDKClient(new ExtensionSettings("", "", "", "localhost", "9200"));
+        RestClient restClient = ((RestClientTransport) sdkClient.initializeJavaClient()._transport()).restClient();
+        List<Node> nodes = List.of(node("localhost", "data"), node("10.0.0.2", "data"));
+
+        sdkClient.updateOpenSearchNodes(nodes);
+        assertEquals(2, restClient.getNodes().size());
+        expectThrows(IllegalArgumentException.class, () -> sdkClient.updateOpenSearchNodes(List.of()));
+
+        // A new shared client starts with the discovered nodes
+        sdkClient.doCloseJavaClients();
+        restClient = ((RestClientTransport) sdkClient.initializeJavaClient()._transport()).restClient();
+        assertEquals(2, restClient.getNodes().size());
+
+        // The configured node replaces the discovered nodes
+        sdkClient.updateOpenSearchNodeSettings("localhost", "9201");
+        assertEquals(1, restClient.getNodes().size());
+        assertEquals(new HttpHost("localhost", 9201), restClient.getNodes().get(0).getHost());
+        sdkClient.doCloseJavaClients();
+    }
+}
@@ -12,29 +12,58 @@ package org.opensearch.sdk;
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.extensions.ExtensionsManager;
+import org.opensearch.extensions.action.ExtensionActionRequest;
 import org.opensearch.extensions.action.RegisterTransportActionsRequest;
+import org.opensearch.extensions.action.RemoteExtensionActionResponse;
+import org.opensearch.extensions.action.TransportActionRequestFromExtension;
+import org.opensearch.sdk.action.RemoteActionCompression;
 import org.opensearch.sdk.action.RemoteExtensionAction;
+import org.opensearch.sdk.action.MultiRemoteExtensionActionRequest;
+import org.opensearch.sdk.action.MultiRemoteExtensionActionResponse;
+import org.opensearch.sdk.action.RemoteExtensionActionFrame;
+import org.opensearch.sdk.action.RemoteExtensionActionPeer;
+import org.opensearch.sdk.action.RemoteExtensionActionRequest;
 import org.opensearch.sdk.action.SDKActionModule;
 import org.opensearch.sdk.action.TestSDKActionModule;
 import org.opensearch.sdk.handlers.AcknowledgedResponseHandler;
+import org.opensearch.sdk.handlers.ExtensionActionResponseHandler;
+import org.opensearch.sdk.stats.CompressionStats;
 import org.opensearch.telemetry.tracing.noop.NoopTracer;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.ActionNotFoundTransportException;
 import org.opensearch.transport.Transport;
+import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.mockito.ArgumentCaptor;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -104,4 +133,427 @@ public class TestSDKTransportService extends OpenSearchTestCase {
         // Internal action should be filtered out
         assertFalse(registerTransportActionsRequestCaptor.getValue().getTransportActions().contains(RemoteExtensionAction.class.getName()));
     }
+
+    /**
+     * Emulates OpenSearch routing requests to an extension using an SDK which predates frames. It reads the request class name up to
+     * the unit separator of every request.
+     */
+    private void respondAsLegacyReceiver(Set<String> actions, String requestClass) {
+        doAnswer(invocation -> {
+            TransportActionRequestFromExtension request = invocation.getArgument(2);
+            ExtensionActionResponseHandler handler = invocation.getArgument(4);
+            if (!actions.contains(request.getAction())) {
+                handler.handleException(new ActionNotFoundTransportException(request.getAction()));
+                return null;
+            }
+            byte[] requestBytes = request.getRequestBytes().toByteArray();
+            int nullPos = -1;
+            for (int i = 0; i < requestBytes.length && nullPos < 0; i++) {
+                if (requestBytes[i] == RemoteExtensionActionRequest.UNIT_SEPARATOR) {
+                    nullPos = i;
+                }
+            }
+            String requestClassName = new String(Arrays.copyOfRange(requestBytes, 0, nullPos + 1), StandardCharsets.UTF_8).stripTrailing();
+            RemoteExtensionActionResponse response;
+            if (requestClass.equals(requestClassName)) {
+                // Echo the request bytes
+                response = new RemoteExtensionActionResponse(true, Arrays.copyOfRange(requestBytes, nullPos + 1, requestBytes.length));
+            } else {
+                response = new RemoteExtensionActionResponse(false, new byte[0]);
+                response.setResponseBytesAsString("No request class [" + requestClassName + "] is available: " + requestClassName);
+            }
+            handler.handleResponse(response);
+            return null;
+        }).when(transportService)
+            .sendRequest(
+                any(),
+                eq(ExtensionsManager.TRANSPORT_ACTION_REQUEST_FROM_EXTENSION),
+                any(),
+                any(TransportRequestOptions.class),
+                any()
+            );
+    }
+
+    private static RemoteExtensionActionResponse peerResponse(RemoteExtensionActionPeer peer) throws IOException {
+        return new RemoteExtensionActionResponse(true, SDKBigArrays.NON_RECYCLING.toBytes(peer));
+    }
+
+    /**
+     * Creates the answer of a receiver whose actions all read test.Request with the same request id.
+     */
+    private static RemoteExtensionActionPeer peer(int capabilities, int requestId, String... actions) {
+        Map<String, String> requestClassNames = new HashMap<>();
+        Map<String, Integer> requestIds = new HashMap<>();
+        for (String action : actions) {
+            requestClassNames.put(action, "test.Request");
+            requestIds.put(action, requestId);
+        }
+        return new RemoteExtensionActionPeer(capabilities, "receiver", requestClassNames, requestIds);
+    }
+
+    @Test
+    public void testSendRemoteExtensionActionRequestAsync() throws Exception {
+        ArgumentCaptor<ExtensionActionResponseHandler> responseHandlerCaptor = ArgumentCaptor.forClass(
+            ExtensionActionResponseHandler.class
+        );
+        ArgumentCaptor<TransportActionRequestFromExtension> requestCaptor = ArgumentCaptor.forClass(
+            TransportActionRequestFromExtension.class
+        );
+        CompletableFuture<RemoteExtensionActionResponse> responseFuture = new CompletableFuture<>();
+        RemoteExtensionActionRequest request = new RemoteExtensionActionRequest("test.Action", "test.Request", new byte[] { 1, 2, 3 });
+        // Don't actually send the request, the response is simulated below
+        doNothing().when(transportService).sendRequest(any(), anyString(), any(), any(TransportRequestOptions.class), any());
+
+        sdkTransportService.sendRemoteExtensionActionRequestAsync(
+            request,
+            ActionListener.wrap(responseFuture::complete, responseFuture::completeExceptionally)
+        );
+        verify(transportService, times(1)).sendRequest(
+            any(),
+            eq(ExtensionsManager.TRANSPORT_ACTION_REQUEST_FROM_EXTENSION),
+            requestCaptor.capture(),
+            any(TransportRequestOptions.class),
+            responseHandlerCaptor.capture()
+        );
+        // The first request to the extension starts with the capability exchange
+        assertEquals("test.Action", requestCaptor.getValue().getAction());
+        assertTrue(requestCaptor.getValue().getRequestBytes().isEmpty());
+        responseHandlerCaptor.getValue().handleResponse(peerResponse(peer(0, 5, "test.Action", "test.OtherAction")));
+
+        // The request is framed with the advertised request id
+        verify(transportService, times(2)).sendRequest(
+            any(),
+            eq(ExtensionsManager.TRANSPORT_ACTION_REQUEST_FROM_EXTENSION),
+            requestCaptor.capture(),
+            any(TransportRequestOptions.class),
+            responseHandlerCaptor.capture()
+        );
+        assertEquals("test.Action", requestCaptor.getValue().getAction());
+        RemoteExtensionActionFrame frame = RemoteExtensionActionFrame.decode(requestCaptor.getValue().getRequestBytes());
+        assertEquals(5, frame.getRequestId());
+        assertNull(frame.getRequestClassName());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, frame.getRequestBytes().toByteArray());
+        // Nothing waits on the response
+        assertFalse(responseFuture.isDone());
+
+        RemoteExtensionActionResponse expected = new RemoteExtensionActionResponse(true, new byte[] { 4, 5 });
+        responseHandlerCaptor.getValue().handleResponse(expected);
+        assertEquals(expected, responseFuture.get(1, TimeUnit.SECONDS));
+
+        // Later requests, including those to other actions of the extension, are framed without another exchange
+        sdkTransportService.sendRemoteExtensionActionRequestAsync(request, ActionListener.wrap(r -> {}, e -> {}));
+        sdkTransportService.sendRemoteExtensionActionRequestAsync(
+            new RemoteExtensionActionRequest("test.OtherAction", "test.Request", new byte[] { 6 }),
+            ActionListener.wrap(r -> {}, e -> {})
+        );
+        verify(transportService, times(4)).sendRequest(
+            any(),
+            eq(ExtensionsManager.TRANSPORT_ACTION_REQUEST_FROM_EXTENSION),
+            requestCaptor.capture(),
+            any(TransportRequestOptions.class),
+            responseHandlerCaptor.capture()
+        );
+        List<TransportActionRequestFromExtension> sent = requestCaptor.getAllValues();
+        assertEquals(5, RemoteExtensionActionFrame.decode(sent.get(sent.size() - 2).getRequestBytes()).getRequestId());
+        assertEquals("test.OtherAction", sent.get(sent.size() - 1).getAction());
+        assertEquals(5, RemoteExtensionActionFrame.decode(sent.get(sent.size() - 1).getRequestBytes()).getRequestId());
+    }
+
+    @Test
+    public void testSendRemoteExtensionActionRequestToLegacyReceiver() throws Exception {
+        // The receiver only registers the plain action name
+        respondAsLegacyReceiver(Set.of("test.Action"), "test.Request");
+        RemoteExtensionActionRequest request = new RemoteExtensionActionRequest("test.Action", "test.Request", new byte[] { 1, 2, 3 });
+
+        // The receiver fails the capability exchange, so the request is sent in the legacy format
+        CompletableFuture<RemoteExtensionActionResponse> responseFuture = new CompletableFuture<>();
+        sdkTransportService.sendRemoteExtensionActionRequestAsync(
+            request,
+            ActionListener.wrap(responseFuture::complete, responseFuture::completeExceptionally)
+        );
+        RemoteExtensionActionResponse response = responseFuture.get(1, TimeUnit.SECONDS);
+        assertTrue(response.isSuccess());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, response.getResponseBytes());
+
+        // The blocking request does not repeat the exchange
+        response = sdkTransportService.sendRemoteExtensionActionRequest(request);
+        assertTrue(response.isSuccess());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, response.getResponseBytes());
+        verify(transportService, times(3)).sendRequest(
+            any(),
+            eq(ExtensionsManager.TRANSPORT_ACTION_REQUEST_FROM_EXTENSION),
+            any(),
+            any(TransportRequestOptions.class),
+            any()
+        );
+    }
+
+    @Test
+    public void testFailedCapabilityExchangeIsRetried() throws Exception {
+        ArgumentCaptor<ExtensionActionResponseHandler> responseHandlerCaptor = ArgumentCaptor.forClass(
+            ExtensionActionResponseHandler.class
+        );
+        doNothing().when(transportService).sendRequest(any(), anyString(), any(), any(TransportRequestOptions.class), any());
+        RemoteExtensionActionRequest request = new RemoteExtensionActionRequest("test.Action", "test.Request", new byte[] { 1, 2, 3 });
+        CompletableFuture<RemoteExtensionActionResponse> responseFuture = new CompletableFuture<>();
+        sdkTransportService.sendRemoteExtensionActionRequestAsync(
+            request,
+            ActionListener.wrap(responseFuture::complete, responseFuture::completeExceptionally)
+        );
+        verify(transportService, times(1)).sendRequest(
+            any(),
+            anyString(),
+            any(),
+            any(TransportRequestOptions.class),
+            responseHandlerCaptor.capture()
+        );
+        // The exchange fails in transport, which fails the request without deciding the format of the receiver
+        responseHandlerCaptor.getValue().handleException(new ActionNotFoundTransportException("test.Action"));
+        expectThrows(ExecutionException.class, () -> responseFuture.get(1, TimeUnit.SECONDS));
+
+        // The next request starts with the exchange again
+        respondAsLegacyReceiver(Set.of("test.Action"), "test.Request");
+        RemoteExtensionActionResponse response = sdkTransportService.sendRemoteExtensionActionRequest(request);
+        assertTrue(response.isSuccess());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, response.getResponseBytes());
+        verify(transportService, times(3)).sendRequest(
+            any(),
+            eq(ExtensionsManager.TRANSPORT_ACTION_REQUEST_FROM_EXTENSION),
+            any(),
+            any(TransportRequestOptions.class),
+            any()
+        );
+    }
+
+    @Test
+    public void testSendRemoteExtensionActionRequestAsyncFallsBackToClassName() throws Exception {
+        ArgumentCaptor<TransportActionRequestFromExtension> requestCaptor = ArgumentCaptor.forClass(
+            TransportActionRequestFromExtension.class
+        );
+        ArgumentCaptor<ExtensionActionResponseHandler> responseHandlerCaptor = ArgumentCaptor.forClass(
+            ExtensionActionResponseHandler.class
+        );
+        CompletableFuture<RemoteExtensionActionResponse> responseFuture = new CompletableFuture<>();
+        RemoteExtensionActionRequest request = new RemoteExtensionActionRequest("test.Action", "test.Request", new byte[] { 1, 2, 3 });
+        doNothing().when(transportService).sendRequest(any(), anyString(), any(), any(TransportRequestOptions.class), any());
+
+        sdkTransportService.sendRemoteExtensionActionRequestAsync(
+            request,
+            ActionListener.wrap(responseFuture::complete, responseFuture::completeExceptionally)
+        );
+        verify(transportService, times(1)).sendRequest(
+            any(),
+            eq(ExtensionsManager.TRANSPORT_ACTION_REQUEST_FROM_EXTENSION),
+            requestCaptor.capture(),
+            any(TransportRequestOptions.class),
+            responseHandlerCaptor.capture()
+        );
+        responseHandlerCaptor.getValue().handleResponse(peerResponse(peer(0, 5, "test.Action")));
+        verify(transportService, times(2)).sendRequest(
+            any(),
+            eq(ExtensionsManager.TRANSPORT_ACTION_REQUEST_FROM_EXTENSION),
+            requestCaptor.capture(),
+            any(TransportRequestOptions.class),
+            responseHandlerCaptor.capture()
+        );
+
+        // The receiver does not recognize the request id
+        RemoteExtensionActionResponse unknown = new RemoteExtensionActionResponse(
+            false,
+            RemoteExtensionActionFrame.encodeUnknownRequestId("Unknown request id [5] for action [test.Action]")
+        );
+        responseHandlerCaptor.getValue().handleResponse(unknown);
+        assertFalse(responseFuture.isDone());
+
+        // The request is sent again with the class name
+        verify(transportService, times(3)).sendRequest(
+            any(),
+            eq(ExtensionsManager.TRANSPORT_ACTION_REQUEST_FROM_EXTENSION),
+            requestCaptor.capture(),
+            any(TransportRequestOptions.class),
+            responseHandlerCaptor.capture()
+        );
+        RemoteExtensionActionFrame frame = RemoteExtensionActionFrame.decode(requestCaptor.getValue().getRequestBytes());
+        assertEquals("test.Request", frame.getRequestClassName());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, frame.getRequestBytes().toByteArray());
+
+        RemoteExtensionActionResponse expected = new RemoteExtensionActionResponse(true, new byte[] { 4, 5 });
+        responseHandlerCaptor.getValue().handleResponse(expected);
+        assertEquals(expected, responseFuture.get(1, TimeUnit.SECONDS));
+
+        // The next request learns the request ids again
+        sdkTransportService.sendRemoteExtensionActionRequestAsync(request, ActionListener.wrap(r -> {}, e -> {}));
+        verify(transportService, times(4)).sendRequest(
+            any(),
+            eq(ExtensionsManager.TRANSPORT_ACTION_REQUEST_FROM_EXTENSION),
+            requestCaptor.capture(),
+            any(TransportRequestOptions.class),
+            responseHandlerCaptor.capture()
+        );
+        assertTrue(requestCaptor.getValue().getRequestBytes().isEmpty());
+    }
+
+    @Test
+    public void testCompressionOnlyForCapableReceivers() throws Exception {
+        ArgumentCaptor<TransportActionRequestFromExtension> requestCaptor = ArgumentCaptor.forClass(
+            TransportActionRequestFromExtension.class
+        );
+        sdkTransportService.setRemoteActionCompression(new RemoteActionCompression(0, Map.of(), new CompressionStats()));
+        for (int capabilities : new int[] { 0, RemoteExtensionActionPeer.CAPABILITY_COMPRESSION }) {
+            // A distinct action for each receiver, so each starts with the capability exchange
+            String action = "test.Action" + capabilities;
+            RemoteExtensionActionRequest request = new RemoteExtensionActionRequest(action, "test.Request", new byte[4096]);
+            // A receiver which reads frames with the given capabilities, and responds to every request
+            doAnswer(invocation -> {
+                TransportActionRequestFromExtension sent = invocation.getArgument(2);
+                ExtensionActionResponseHandler handler = invocation.getArgument(4);
+                if (sent.getRequestBytes().isEmpty()) {
+                    handler.handleResponse(peerResponse(peer(capabilities, 1, action)));
+                } else {
+                    handler.handleResponse(new RemoteExtensionActionResponse(true, new byte[0]));
+                }
+                return null;
+            }).when(transportService).sendRequest(any(), anyString(), any(), any(TransportRequestOptions.class), any());
+
+            assertTrue(sdkTransportService.sendRemoteExtensionActionRequest(request).isSuccess());
+            verify(transportService, atLeastOnce()).sendRequest(
+                any(),
+                eq(ExtensionsManager.TRANSPORT_ACTION_REQUEST_FROM_EXTENSION),
+                requestCaptor.capture(),
+                any(TransportRequestOptions.class),
+                any()
+            );
+            assertEquals(action, requestCaptor.getValue().getAction());
+            int frameSize = requestCaptor.getValue().getRequestBytes().size();
+            if (capabilities == 0) {
+                assertTrue(frameSize > 4096);
+            } else {
+                assertTrue(frameSize < 4096);
+            }
+        }
+    }
+
+    @Test
+    public void testSendMultiRemoteExtensionActionRequestAsync() throws Exception {
+        ArgumentCaptor<TransportActionRequestFromExtension> requestCaptor = ArgumentCaptor.forClass(
+            TransportActionRequestFromExtension.class
+        );
+        // A receiver which reads batches answers the capability exchange, and echoes the request bytes of each request in a batch
+        doAnswer(invocation -> {
+            TransportActionRequestFromExtension request = invocation.getArgument(2);
+            ExtensionActionResponseHandler handler = invocation.getArgument(4);
+            if (request.getRequestBytes().isEmpty()) {
+                handler.handleResponse(
+                    peerResponse(peer(RemoteExtensionActionPeer.CAPABILITY_BATCH, 1, "test.Action", "test.OtherAction"))
+                );
+                return null;
+            }
+            List<RemoteExtensionActionResponse> responses = new ArrayList<>();
+            for (ExtensionActionRequest item : RemoteExtensionActionFrame.decode(request.getRequestBytes()).getBatchRequests()) {
+                byte[] itemBytes = RemoteExtensionActionFrame.decode(item.getRequestBytes()).getRequestBytes().toByteArray();
+                responses.add(new RemoteExtensionActionResponse(true, itemBytes));
+            }
+            byte[] responseBytes = SDKBigArrays.NON_RECYCLING.toBytes(new MultiRemoteExtensionActionResponse(responses));
+            handler.handleResponse(new RemoteExtensionActionResponse(true, responseBytes));
+            return null;
+        }).when(transportService).sendRequest(any(), anyString(), any(), any(TransportRequestOptions.class), any());
+
+        CompletableFuture<MultiRemoteExtensionActionResponse> responseFuture = new CompletableFuture<>();
+        MultiRemoteExtensionActionRequest request = new MultiRemoteExtensionActionRequest().add(
+            new RemoteExtensionActionRequest("test.Action", "test.Request", new byte[] { 1 })
+        ).add(new RemoteExtensionActionRequest("test.OtherAction", "test.Request", new byte[] { 2 }));
+        sdkTransportService.sendMultiRemoteExtensionActionRequestAsync(
+            request,
+            ActionListener.wrap(responseFuture::complete, responseFuture::completeExceptionally)
+        );
+        MultiRemoteExtensionActionResponse response = responseFuture.get(1, TimeUnit.SECONDS);
+        assertEquals(2, response.getResponses().size());
+        assertArrayEquals(new byte[] { 1 }, response.getResponses().get(0).getResponseBytes());
+        assertArrayEquals(new byte[] { 2 }, response.getResponses().get(1).getResponseBytes());
+
+        // A single exchange learns both actions, then a single batch is sent to the extension, routed by the first request's action
+        verify(transportService, times(2)).sendRequest(
+            any(),
+            eq(ExtensionsManager.TRANSPORT_ACTION_REQUEST_FROM_EXTENSION),
+            requestCaptor.capture(),
+            any(TransportRequestOptions.class),
+            any()
+        );
+        assertEquals("test.Action", requestCaptor.getValue().getAction());
+        assertTrue(RemoteExtensionActionFrame.decode(requestCaptor.getValue().getRequestBytes()).isBatch());
+    }
+
+    @Test
+    public void testSendMultiRemoteExtensionActionRequestFailsOnlyFailedItems() throws Exception {
+        // The batch to one extension fails in transport, while the request to a legacy extension succeeds
+        doAnswer(invocation -> {
+            TransportActionRequestFromExtension request = invocation.getArgument(2);
+            ExtensionActionResponseHandler handler = invocation.getArgument(4);
+            boolean legacy = "test.LegacyAction".equals(request.getAction());
+            if (request.getRequestBytes().isEmpty()) {
+                handler.handleResponse(
+                    legacy
+                        ? new RemoteExtensionActionResponse(false, new byte[0])
+                        : peerResponse(peer(RemoteExtensionActionPeer.CAPABILITY_BATCH, 1, "test.Action", "test.OtherAction"))
+                );
+            } else if (legacy) {
+                handler.handleResponse(new RemoteExtensionActionResponse(true, new byte[] { 3 }));
+            } else {
+                handler.handleException(new ActionNotFoundTransportException(request.getAction()));
+            }
+            return null;
+        }).when(transportService).sendRequest(any(), anyString(), any(), any(TransportRequestOptions.class), any());
+
+        CompletableFuture<MultiRemoteExtensionActionResponse> responseFuture = new CompletableFuture<>();
+        MultiRemoteExtensionActionRequest request = new MultiRemoteExtensionActionRequest().add(
+            new RemoteExtensionActionRequest("test.Action", "test.Request", new byte[] { 1 })
+        )
+            .add(new RemoteExtensionActionRequest("test.LegacyAction", "test.Request", new byte[] { 3 }))
+            .add(new RemoteExtensionActionRequest("test.OtherAction", "test.Request", new byte[] { 2 }));
+        sdkTransportService.sendMultiRemoteExtensionActionRequestAsync(
+            request,
+            ActionListener.wrap(responseFuture::complete, responseFuture::completeExceptionally)
+        );
+        List<RemoteExtensionActionResponse> responses = responseFuture.get(1, TimeUnit.SECONDS).getResponses();
+        assertEquals(3, responses.size());
+        assertFalse(responses.get(0).isSuccess());
+        assertTrue(new String(responses.get(0).getResponseBytes(), StandardCharsets.UTF_8).startsWith("Action failed"));
+        assertTrue(responses.get(1).isSuccess());
+        assertArrayEquals(new byte[] { 3 }, responses.get(1).getResponseBytes());
+        assertFalse(responses.get(2).isSuccess());
+    }
+
+    @Test
+    public void testSendMultiRemoteExtensionActionRequestToLegacyReceiver() throws Exception {
+        ArgumentCaptor<TransportActionRequestFromExtension> requestCaptor = ArgumentCaptor.forClass(
+            TransportActionRequestFromExtension.class
+        );
+        respondAsLegacyReceiver(Set.of("test.Action", "test.OtherAction"), "test.Request");
+        CompletableFuture<MultiRemoteExtensionActionResponse> responseFuture = new CompletableFuture<>();
+        MultiRemoteExtensionActionRequest request = new MultiRemoteExtensionActionRequest().add(
+            new RemoteExtensionActionRequest("test.Action", "test.Request", new byte[] { 1 })
+        ).add(new RemoteExtensionActionRequest("test.OtherAction", "test.Request", new byte[] { 2 }));
+        sdkTransportService.sendMultiRemoteExtensionActionRequestAsync(
+            request,
+            ActionListener.wrap(responseFuture::complete, responseFuture::completeExceptionally)
+        );
+        MultiRemoteExtensionActionResponse response = responseFuture.get(1, TimeUnit.SECONDS);
+        assertEquals(2, response.getResponses().size());
+        assertTrue(response.getResponses().get(0).isSuccess());
+        assertArrayEquals(new byte[] { 1 }, response.getResponses().get(0).getResponseBytes());
+        assertTrue(response.getResponses().get(1).isSuccess());
+        assertArrayEquals(new byte[] { 2 }, response.getResponses().get(1).getResponseBytes());
+
+        // Both exchanges fail, so each request is sent individually in the legacy format
+        verify(transportService, times(4)).sendRequest(
+            any(),
+            eq(ExtensionsManager.TRANSPORT_ACTION_REQUEST_FROM_EXTENSION),
+            requestCaptor.capture(),
+            any(TransportRequestOptions.class),
+            any()
+        );
+        for (TransportActionRequestFromExtension sent : requestCaptor.getAllValues()) {
+            assertFalse(!sent.getRequestBytes().isEmpty() && sent.getRequestBytes().byteAt(0) == RemoteExtensionActionFrame.MARKER);
+        }
+    }
 }
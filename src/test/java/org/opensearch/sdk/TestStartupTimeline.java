@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk;
+
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TestStartupTimeline extends OpenSearchTestCase {
+
+    @Test
+    public void testPhases() {
+        AtomicLong nanoTime = new AtomicLong();
+        StartupTimeline timeline = new StartupTimeline(nanoTime::get);
+
+        timeline.start("first");
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(5));
+        timeline.start("second");
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+        timeline.end("first");
+
+        Map<String, StartupTimeline.Phase> phases = timeline.getPhases();
+        assertEquals(List.of("first", "second"), List.copyOf(phases.keySet()));
+        assertEquals(0, phases.get("first").getStartMillis());
+        assertEquals(15, phases.get("first").getEndMillis());
+        assertEquals(15, phases.get("first").getDurationMillis());
+        assertEquals(5, phases.get("second").getStartMillis());
+        assertEquals(-1, phases.get("second").getDurationMillis());
+        assertEquals("StartupTimeline{first=0ms-15ms, second=5ms-?}", timeline.toString());
+
+        assertEquals(List.of(), timeline.getFailedPhases());
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(5));
+        timeline.fail("second", new IllegalStateException("not acknowledged"));
+        assertEquals(List.of("second"), timeline.getFailedPhases());
+        assertEquals(15, timeline.getPhases().get("second").getDurationMillis());
+        assertEquals("java.lang.IllegalStateException: not acknowledged", timeline.getPhases().get("second").getFailure());
+        assertNull(timeline.getPhases().get("first").getFailure());
+
+        timeline.reset();
+        assertTrue(timeline.getPhases().isEmpty());
+        timeline.start("third");
+        assertEquals(0, timeline.getPhases().get("third").getStartMillis());
+    }
+}
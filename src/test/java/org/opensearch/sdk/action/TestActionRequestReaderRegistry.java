@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.action;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.sdk.sample.helloworld.HelloWorldExtension;
+import org.opensearch.sdk.sample.helloworld.transport.SampleAction;
+import org.opensearch.sdk.sample.helloworld.transport.SampleRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+public class TestActionRequestReaderRegistry extends OpenSearchTestCase {
+
+    private ActionRequestReaderRegistry registry;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        registry = new ActionRequestReaderRegistry(new SDKActionModule(new HelloWorldExtension()).getActions());
+    }
+
+    @Test
+    public void testRegisteredReaders() {
+        assertTrue(registry.containsReader(SampleRequest.class.getName()));
+        assertTrue(registry.containsReader(RemoteExtensionActionRequest.class.getName()));
+        assertFalse(registry.containsReader(GetRequest.class.getName()));
+    }
+
+    @Test
+    public void testReadRequest() throws Exception {
+        BytesStreamOutput out = new BytesStreamOutput();
+        new SampleRequest("world").writeTo(out);
+
+        Writeable.Reader<? extends ActionRequest> reader = registry.getReader(SampleRequest.class.getName());
+        ActionRequest request = reader.read(out.bytes().streamInput());
+        assertTrue(request instanceof SampleRequest);
+        assertEquals("world", ((SampleRequest) request).getName());
+    }
+
+    @Test
+    public void testRequestIds() {
+        String action = SampleAction.class.getName();
+        assertEquals(SampleRequest.class.getName(), registry.getRequestClassName(action));
+        int requestId = registry.getRequestId(action);
+        assertNotEquals(RemoteExtensionActionFrame.NO_REQUEST_ID, requestId);
+        assertNotNull(registry.getReader(action, requestId));
+        assertNull(registry.getReader(action, requestId + 1));
+        assertNull(registry.getReader(action, RemoteExtensionActionFrame.NO_REQUEST_ID));
+
+        // Unknown actions have no request id
+        assertNull(registry.getRequestClassName("org.example.NoSuchAction"));
+        assertEquals(RemoteExtensionActionFrame.NO_REQUEST_ID, registry.getRequestId("org.example.NoSuchAction"));
+        assertNull(new ActionRequestReaderRegistry().getReader(action, requestId));
+    }
+
+    @Test
+    public void testLazyReader() throws Exception {
+        ActionRequestReaderRegistry emptyRegistry = new ActionRequestReaderRegistry();
+        assertFalse(emptyRegistry.containsReader(SampleRequest.class.getName()));
+        Writeable.Reader<? extends ActionRequest> reader = emptyRegistry.getReader(SampleRequest.class.getName());
+        assertTrue(emptyRegistry.containsReader(SampleRequest.class.getName()));
+        assertSame(reader, emptyRegistry.getReader(SampleRequest.class.getName()));
+    }
+
+    @Test
+    public void testInvalidReaders() {
+        expectThrows(ClassNotFoundException.class, () -> registry.getReader("org.opensearch.sdk.NoSuchRequest"));
+        expectThrows(ClassCastException.class, () -> registry.getReader(String.class.getName()));
+        expectThrows(NoSuchMethodException.class, () -> registry.getReader(TestActionRequest.class.getName()));
+    }
+
+    @Test
+    public void testReaderPropagatesIOException() throws Exception {
+        Writeable.Reader<? extends ActionRequest> reader = registry.getReader(SampleRequest.class.getName());
+        expectThrows(IOException.class, () -> reader.read(new BytesStreamOutput().bytes().streamInput()));
+    }
+
+    /**
+     * A request without a StreamInput constructor
+     */
+    public static class TestActionRequest extends ActionRequest {
+        public TestActionRequest() {}
+
+        @Override
+        public ActionRequestValidationException validate() {
+            return null;
+        }
+    }
+}
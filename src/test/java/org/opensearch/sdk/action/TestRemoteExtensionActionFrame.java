@@ -0,0 +1,213 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.action;
+
+import com.google.protobuf.ByteString;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.extensions.action.ExtensionActionRequest;
+import org.opensearch.sdk.stats.CompressionStats;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class TestRemoteExtensionActionFrame extends OpenSearchTestCase {
+
+    private static final String REQUEST_CLASS = "org.example.TestRequest";
+    private final RemoteExtensionActionRequest request = new RemoteExtensionActionRequest(
+        "org.example.TestAction",
+        REQUEST_CLASS,
+        new byte[] { 1, 2, 3 }
+    );
+
+    @Test
+    public void testRequestIdFrame() throws Exception {
+        ByteString bytes = RemoteExtensionActionFrame.encode(request, 7);
+        assertEquals(RemoteExtensionActionFrame.MARKER, bytes.byteAt(0));
+        assertEquals(RemoteExtensionActionFrame.VERSION, bytes.byteAt(1));
+        // Smaller than the class name alone
+        assertTrue(bytes.size() < REQUEST_CLASS.length());
+
+        RemoteExtensionActionFrame frame = RemoteExtensionActionFrame.decode(bytes);
+        assertEquals(7, frame.getRequestId());
+        assertNull(frame.getRequestClassName());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, frame.getRequestBytes().toByteArray());
+    }
+
+    @Test
+    public void testRequestClassNameFrame() throws Exception {
+        RemoteExtensionActionFrame frame = RemoteExtensionActionFrame.decode(
+            RemoteExtensionActionFrame.encode(request, RemoteExtensionActionFrame.NO_REQUEST_ID)
+        );
+        assertEquals(RemoteExtensionActionFrame.NO_REQUEST_ID, frame.getRequestId());
+        assertEquals(REQUEST_CLASS, frame.getRequestClassName());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, frame.getRequestBytes().toByteArray());
+    }
+
+    @Test
+    public void testLegacyFrame() throws Exception {
+        ByteString bytes = ByteString.copyFromUtf8(REQUEST_CLASS)
+            .concat(ByteString.copyFrom(new byte[] { RemoteExtensionActionRequest.UNIT_SEPARATOR, 1, 2, 3 }));
+        assertEquals(bytes, RemoteExtensionActionFrame.encodeLegacy(request));
+        RemoteExtensionActionFrame frame = RemoteExtensionActionFrame.decode(bytes);
+        assertEquals(REQUEST_CLASS, frame.getRequestClassName());
+        assertEquals(RemoteExtensionActionFrame.NO_REQUEST_ID, frame.getRequestId());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, frame.getRequestBytes().toByteArray());
+    }
+
+    @Test
+    public void testUnknownRequestId() {
+        byte[] responseBytes = RemoteExtensionActionFrame.encodeUnknownRequestId("Unknown request id [3]");
+        assertTrue(RemoteExtensionActionFrame.isUnknownRequestId(responseBytes));
+        // Failure messages of receivers are never mistaken for the status
+        assertFalse(RemoteExtensionActionFrame.isUnknownRequestId("Unknown request id [3]".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(RemoteExtensionActionFrame.isUnknownRequestId(new byte[0]));
+    }
+
+    @Test
+    public void testPeer() throws Exception {
+        RemoteExtensionActionPeer peer = new RemoteExtensionActionPeer(
+            RemoteExtensionActionPeer.CAPABILITY_BATCH,
+            "receiver",
+            Map.of("org.example.TestAction", REQUEST_CLASS, "org.example.OtherAction", "org.example.OtherRequest"),
+            Map.of("org.example.TestAction", 3, "org.example.OtherAction", 4)
+        );
+        BytesStreamOutput out = new BytesStreamOutput();
+        peer.writeTo(out);
+        peer = new RemoteExtensionActionPeer(out.bytes().streamInput());
+        assertEquals(RemoteExtensionActionFrame.VERSION, peer.getVersion());
+        assertEquals("receiver", peer.getUniqueId());
+        assertTrue(peer.hasCapability(RemoteExtensionActionPeer.CAPABILITY_BATCH));
+        assertFalse(peer.hasCapability(RemoteExtensionActionPeer.CAPABILITY_COMPRESSION));
+        assertEquals(Set.of("org.example.TestAction", "org.example.OtherAction"), peer.getActions());
+        assertEquals(3, peer.getRequestId("org.example.TestAction", REQUEST_CLASS));
+        assertEquals(4, peer.getRequestId("org.example.OtherAction", "org.example.OtherRequest"));
+        // The advertised id only applies to the request class of the action
+        assertEquals(RemoteExtensionActionFrame.NO_REQUEST_ID, peer.getRequestId("org.example.TestAction", "org.example.OtherRequest"));
+        assertEquals(RemoteExtensionActionFrame.NO_REQUEST_ID, peer.getRequestId("org.example.NoSuchAction", REQUEST_CLASS));
+    }
+
+    @Test
+    public void testMalformedFrames() {
+        expectThrows(IOException.class, () -> RemoteExtensionActionFrame.decode(ByteString.copyFrom(new byte[] { (byte) 0xFE, 1 })));
+        // Header length larger than the frame
+        expectThrows(
+            IOException.class,
+            () -> RemoteExtensionActionFrame.decode(ByteString.copyFrom(new byte[] { (byte) 0xFE, 1, 100, 0 }))
+        );
+    }
+
+    @Test
+    public void testBatchFrame() throws Exception {
+        MultiRemoteExtensionActionRequest batch = new MultiRemoteExtensionActionRequest().add(request)
+            .add(new RemoteExtensionActionRequest("org.example.OtherAction", REQUEST_CLASS, new byte[] { 4 }));
+        RemoteExtensionActionFrame frame = RemoteExtensionActionFrame.decode(RemoteExtensionActionFrame.encode(batch));
+        assertTrue(frame.isBatch());
+
+        List<ExtensionActionRequest> requests = frame.getBatchRequests();
+        assertEquals(2, requests.size());
+        assertEquals("org.example.TestAction", requests.get(0).getAction());
+        assertEquals("org.example.OtherAction", requests.get(1).getAction());
+        RemoteExtensionActionFrame itemFrame = RemoteExtensionActionFrame.decode(requests.get(1).getRequestBytes());
+        assertFalse(itemFrame.isBatch());
+        assertEquals(REQUEST_CLASS, itemFrame.getRequestClassName());
+        assertArrayEquals(new byte[] { 4 }, itemFrame.getRequestBytes().toByteArray());
+
+        expectThrows(IllegalStateException.class, itemFrame::getBatchRequests);
+
+        // A request frame which exceeds the batch
+        ByteString bytes = RemoteExtensionActionFrame.encode(batch);
+        RemoteExtensionActionFrame truncated = RemoteExtensionActionFrame.decode(bytes.substring(0, bytes.size() - 1));
+        expectThrows(IOException.class, truncated::getBatchRequests);
+    }
+
+    @Test
+    public void testCompressedFrame() throws Exception {
+        byte[] payload = new byte[4096];
+        Arrays.fill(payload, (byte) 7);
+        RemoteExtensionActionRequest largeRequest = new RemoteExtensionActionRequest("org.example.TestAction", REQUEST_CLASS, payload);
+        CompressionStats stats = new CompressionStats();
+        RemoteActionCompression compression = new RemoteActionCompression(1024, Map.of("org.example.SmallAction", true), stats);
+
+        ByteString bytes = RemoteExtensionActionFrame.encode(largeRequest, RemoteExtensionActionFrame.NO_REQUEST_ID, compression);
+        assertTrue(bytes.size() < payload.length);
+        assertEquals(1, stats.getCompressed());
+        assertEquals(payload.length, stats.getOriginalBytes());
+        assertTrue(stats.getRatio() < 0.1);
+
+        RemoteExtensionActionFrame frame = RemoteExtensionActionFrame.decode(bytes, compression);
+        assertEquals(REQUEST_CLASS, frame.getRequestClassName());
+        assertArrayEquals(payload, frame.getRequestBytes().toByteArray());
+        assertEquals(1, stats.getDecompressed());
+
+        // Small payloads are sent uncompressed unless their action is configured otherwise
+        assertTrue(compression.shouldCompress("org.example.TestAction", 1025));
+        assertFalse(compression.shouldCompress("org.example.TestAction", 1024));
+        assertTrue(compression.shouldCompress("org.example.SmallAction", 1));
+        RemoteActionCompression neverCompressed = new RemoteActionCompression(1024, Map.of("org.example.TestAction", false), stats);
+        assertFalse(neverCompressed.shouldCompress("org.example.TestAction", 4096));
+        assertFalse(RemoteActionCompression.DISABLED.shouldCompress("org.example.TestAction", Integer.MAX_VALUE));
+
+        // Incompressible payloads are sent as they are
+        RemoteExtensionActionRequest smallRequest = new RemoteExtensionActionRequest(
+            "org.example.SmallAction",
+            REQUEST_CLASS,
+            new byte[] { 1 }
+        );
+        assertEquals(
+            RemoteExtensionActionFrame.encode(smallRequest, RemoteExtensionActionFrame.NO_REQUEST_ID),
+            RemoteExtensionActionFrame.encode(smallRequest, RemoteExtensionActionFrame.NO_REQUEST_ID, compression)
+        );
+    }
+
+    @Test
+    public void testDecompressedSizeLimit() throws Exception {
+        byte[] payload = new byte[1 << 20];
+        RemoteExtensionActionRequest largeRequest = new RemoteExtensionActionRequest("org.example.TestAction", REQUEST_CLASS, payload);
+        CompressionStats stats = new CompressionStats();
+        ByteString bytes = RemoteExtensionActionFrame.encode(
+            largeRequest,
+            RemoteExtensionActionFrame.NO_REQUEST_ID,
+            new RemoteActionCompression(0, Map.of(), stats)
+        );
+        // A highly compressible payload is a small frame
+        assertTrue(bytes.size() < 4096);
+
+        RemoteActionCompression limited = new RemoteActionCompression(-1, Map.of(), stats, payload.length - 1);
+        IOException e = expectThrows(IOException.class, () -> RemoteExtensionActionFrame.decode(bytes, limited));
+        assertTrue(e.getMessage().contains("exceeds the maximum size"));
+        assertEquals(0, stats.getDecompressed());
+
+        RemoteActionCompression sufficient = new RemoteActionCompression(-1, Map.of(), stats, payload.length);
+        assertEquals(payload.length, RemoteExtensionActionFrame.decode(bytes, sufficient).getRequestBytes().size());
+    }
+
+    @Test
+    public void testCompressedBatchFrame() throws Exception {
+        byte[] payload = new byte[4096];
+        MultiRemoteExtensionActionRequest batch = new MultiRemoteExtensionActionRequest().add(
+            new RemoteExtensionActionRequest("org.example.TestAction", REQUEST_CLASS, payload)
+        );
+        RemoteActionCompression compression = new RemoteActionCompression(1024, Map.of(), new CompressionStats());
+        ByteString bytes = RemoteExtensionActionFrame.encode(batch, compression);
+        assertTrue(bytes.size() < payload.length);
+
+        RemoteExtensionActionFrame frame = RemoteExtensionActionFrame.decode(bytes);
+        assertTrue(frame.isBatch());
+        List<ExtensionActionRequest> requests = frame.getBatchRequests();
+        assertEquals(1, requests.size());
+        assertArrayEquals(payload, RemoteExtensionActionFrame.decode(requests.get(0).getRequestBytes()).getRequestBytes().toByteArray());
+    }
+}
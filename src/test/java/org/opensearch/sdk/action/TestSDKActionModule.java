@@ -55,8 +55,9 @@ public class TestSDKActionModule extends OpenSearchTestCase {
 
     @Test
     public void testGetActions() {
-        assertEquals(2, sdkActionModule.getActions().size());
+        assertEquals(3, sdkActionModule.getActions().size());
         assertTrue(sdkActionModule.getActions().containsKey(RemoteExtensionAction.NAME));
+        assertTrue(sdkActionModule.getActions().containsKey(MultiRemoteExtensionAction.NAME));
         assertTrue(sdkActionModule.getActions().containsKey(TEST_ACTION_NAME));
     }
 }
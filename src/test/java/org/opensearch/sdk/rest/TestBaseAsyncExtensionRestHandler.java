@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.extensions.rest.ExtensionRestResponse;
+import org.opensearch.rest.NamedRoute;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestRequest.Method;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.rest.RestRequest.Method.GET;
+
+public class TestBaseAsyncExtensionRestHandler extends OpenSearchTestCase {
+
+    private final CompletableFuture<String> pendingContent = new CompletableFuture<>();
+
+    private final BaseAsyncExtensionRestHandler handler = new BaseAsyncExtensionRestHandler() {
+        @Override
+        protected List<AsyncRouteHandler> asyncRouteHandlers() {
+            return List.of(
+                new AsyncRouteHandler(
+                    GET,
+                    "/foo/{name}",
+                    "foo",
+                    request -> pendingContent.thenApply(s -> createJsonResponse(request, RestStatus.OK, "success", s))
+                ),
+                new AsyncRouteHandler(Method.PUT, "/foo", "put_foo", request -> { throw new IllegalArgumentException("no foo"); })
+            );
+        }
+
+        @Override
+        public List<DeprecatedRouteHandler> deprecatedRouteHandlers() {
+            return List.of(
+                new DeprecatedRouteHandler(
+                    GET,
+                    "/deprecated/foo",
+                    "It's deprecated",
+                    request -> createJsonResponse(request, RestStatus.OK, "success", "deprecated")
+                )
+            );
+        }
+    };
+
+    private static RestRequest createRequest(Method method, String path) {
+        return TestSDKRestRequest.createTestRestRequest(
+            method,
+            path,
+            path,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null,
+            new BytesArray("".getBytes(StandardCharsets.UTF_8)),
+            "",
+            null
+        );
+    }
+
+    @Test
+    public void testRoutes() {
+        List<NamedRoute> routes = handler.routes();
+        assertEquals(2, routes.size());
+        assertEquals("foo", routes.get(0).name());
+        assertEquals(GET, routes.get(0).getMethod());
+        assertEquals("/foo/{name}", routes.get(0).getPath());
+    }
+
+    @Test
+    public void testAsyncResponse() throws Exception {
+        CompletableFuture<ExtensionRestResponse> futureResponse = handler.handleRequestAsync(createRequest(GET, "/foo/bar"));
+        // The response is not complete until the handler completes it
+        assertFalse(futureResponse.isDone());
+        pendingContent.complete("async foo");
+        ExtensionRestResponse response = futureResponse.get(1, TimeUnit.SECONDS);
+        assertEquals(RestStatus.OK, response.status());
+        assertEquals("{\"success\":\"async foo\"}", response.content().utf8ToString());
+    }
+
+    @Test
+    public void testSyncAdapter() {
+        pendingContent.complete("sync foo");
+        ExtensionRestResponse response = handler.handleRequest(createRequest(GET, "/foo/bar"));
+        assertEquals(RestStatus.OK, response.status());
+        assertEquals("{\"success\":\"sync foo\"}", response.content().utf8ToString());
+    }
+
+    @Test
+    public void testExceptionalResponse() throws Exception {
+        ExtensionRestResponse response = handler.handleRequestAsync(createRequest(Method.PUT, "/foo")).get(1, TimeUnit.SECONDS);
+        assertEquals(RestStatus.INTERNAL_SERVER_ERROR, response.status());
+        assertTrue(response.content().utf8ToString().contains("no foo"));
+
+        pendingContent.completeExceptionally(new IllegalStateException("failed foo"));
+        response = handler.handleRequestAsync(createRequest(GET, "/foo/bar")).get(1, TimeUnit.SECONDS);
+        assertEquals(RestStatus.INTERNAL_SERVER_ERROR, response.status());
+        assertTrue(response.content().utf8ToString().contains("failed foo"));
+    }
+
+    @Test
+    public void testSynchronousRoutes() throws Exception {
+        ExtensionRestResponse response = handler.handleRequestAsync(createRequest(GET, "/deprecated/foo")).get(1, TimeUnit.SECONDS);
+        assertEquals(RestStatus.OK, response.status());
+        assertEquals("{\"success\":\"deprecated\"}", response.content().utf8ToString());
+
+        response = handler.handleRequestAsync(createRequest(Method.DELETE, "/foo")).get(1, TimeUnit.SECONDS);
+        assertEquals(RestStatus.NOT_FOUND, response.status());
+    }
+}
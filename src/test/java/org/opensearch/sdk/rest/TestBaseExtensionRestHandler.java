@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.opensearch.rest.RestRequest.Method.GET;
@@ -321,4 +322,61 @@ public class TestBaseExtensionRestHandler extends OpenSearchTestCase {
         assertEquals(RestStatus.OK, response.status());
         assertEquals("{}", response.content().utf8ToString());
     }
+
+    @Test
+    public void testCompiledRoutes() {
+        AtomicInteger routesCalls = new AtomicInteger();
+        BaseExtensionRestHandler compiledHandler = new BaseExtensionRestHandler() {
+            @Override
+            public List<NamedRoute> routes() {
+                routesCalls.incrementAndGet();
+                return List.of(
+                    new NamedRoute.Builder().method(GET)
+                        .path("/bar/{id}")
+                        .handler(request -> createJsonResponse(request, RestStatus.OK, "id", request.param("id")))
+                        .uniqueName("bar_id")
+                        .legacyActionNames(Collections.emptySet())
+                        .build(),
+                    new NamedRoute.Builder().method(GET)
+                        .path("/bar/_count")
+                        .handler(request -> createJsonResponse(request, RestStatus.OK, "count", "42"))
+                        .uniqueName("bar_count")
+                        .legacyActionNames(Collections.emptySet())
+                        .build()
+                );
+            }
+        };
+
+        // Path parameters are added to the request parameters
+        RestRequest paramRequest = createRequest(GET, "/bar/baz%20qux");
+        ExtensionRestResponse response = compiledHandler.handleRequest(paramRequest);
+        assertEquals(RestStatus.OK, response.status());
+        assertEquals("{\"id\":\"baz qux\"}", response.content().utf8ToString());
+        assertEquals("baz qux", paramRequest.param("id"));
+
+        // Explicit path segments take precedence over parameters
+        response = compiledHandler.handleRequest(createRequest(GET, "/bar/_count"));
+        assertEquals("{\"count\":\"42\"}", response.content().utf8ToString());
+
+        // Paths with a different depth or method do not match
+        assertEquals(RestStatus.NOT_FOUND, compiledHandler.handleRequest(createRequest(GET, "/bar/baz/qux")).status());
+        assertEquals(RestStatus.NOT_FOUND, compiledHandler.handleRequest(createRequest(Method.PUT, "/bar/baz")).status());
+
+        // Routes are compiled once
+        assertEquals(1, routesCalls.get());
+    }
+
+    private static RestRequest createRequest(Method method, String path) {
+        return TestSDKRestRequest.createTestRestRequest(
+            method,
+            path,
+            path,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null,
+            new BytesArray(new byte[0]),
+            "",
+            null
+        );
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.extensions.rest.ExtensionRestRequest;
+import org.opensearch.extensions.rest.RestExecuteOnExtensionResponse;
+import org.opensearch.sdk.SDKNamedXContentRegistry;
+import org.opensearch.sdk.StartupTimeline;
+import org.opensearch.sdk.handlers.ExtensionsRestRequestHandler;
+import org.opensearch.sdk.stats.ExtensionStats;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.opensearch.rest.RestRequest.Method.GET;
+
+public class TestRestExtensionStatsAction extends OpenSearchTestCase {
+
+    @Test
+    public void testStatsRoute() {
+        ExtensionStats extensionStats = new ExtensionStats();
+        StartupTimeline startupTimeline = new StartupTimeline();
+        startupTimeline.start("init");
+        startupTimeline.end("init");
+
+        RestExtensionStatsAction statsAction = new RestExtensionStatsAction(extensionStats, startupTimeline, "hello-world");
+        statsAction.setRouteNamePrefix(null);
+        assertEquals("hello_world:" + RestExtensionStatsAction.ROUTE_NAME, statsAction.routes().get(0).name());
+        statsAction.setRouteNamePrefix("hw");
+        assertEquals("hw:" + RestExtensionStatsAction.ROUTE_NAME, statsAction.routes().get(0).name());
+
+        ExtensionRestPathRegistry registry = new ExtensionRestPathRegistry();
+        registry.registerHandler(statsAction);
+        assertEquals("hw:" + RestExtensionStatsAction.ROUTE_NAME, registry.getRouteName(GET, RestExtensionStatsAction.PATH));
+        ExtensionsRestRequestHandler handler = new ExtensionsRestRequestHandler(registry, SDKNamedXContentRegistry.EMPTY, extensionStats);
+
+        ExtensionRestRequest request = new ExtensionRestRequest(
+            GET,
+            RestExtensionStatsAction.PATH,
+            RestExtensionStatsAction.PATH,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null,
+            new BytesArray(new byte[0]),
+            "",
+            null
+        );
+        handler.handleRestExecuteOnExtensionRequest(request);
+        RestExecuteOnExtensionResponse response = handler.handleRestExecuteOnExtensionRequest(request);
+        assertEquals(RestStatus.OK, response.getStatus());
+        String content = new String(response.getContent(), StandardCharsets.UTF_8);
+        // The first request completed before the second was served
+        assertTrue(content.contains("\"hw:extension_stats\":{\"count\":1,\"failures\":0,\"in_flight\":1,"));
+        assertTrue(content.contains("\"startup_millis\":{\"init\":{"));
+        assertEquals(2, extensionStats.route("hw:" + RestExtensionStatsAction.ROUTE_NAME).getCount());
+    }
+}
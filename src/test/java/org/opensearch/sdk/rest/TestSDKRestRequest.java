@@ -9,20 +9,36 @@
 
 package org.opensearch.sdk.rest;
 
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.extensions.rest.ExtensionRestRequest;
+import org.opensearch.extensions.rest.ExtensionRestResponse;
+import org.opensearch.extensions.rest.RestExecuteOnExtensionResponse;
 import org.opensearch.http.HttpRequest;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestRequest.Method;
+import org.opensearch.sdk.SDKNamedXContentRegistry;
+import org.opensearch.sdk.handlers.ExtensionsRestRequestHandler;
+import org.opensearch.sdk.stats.ExtensionStats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.Map.entry;
 
@@ -63,6 +79,145 @@ public class TestSDKRestRequest extends OpenSearchTestCase {
         assertEquals("bar", source.get("foo"));
     }
 
+    @Test
+    public void testConsumeContentInMemory() throws IOException {
+        ExtensionRestRequest request = createExtensionRestRequest(new BytesArray("0123456789"));
+        SDKHttpRequest httpRequest = new SDKHttpRequest(request, -1);
+        assertFalse(httpRequest.isContentSpilled());
+        assertEquals(10, httpRequest.contentLength());
+
+        List<String> chunks = new ArrayList<>();
+        createSdkRestRequest(request, httpRequest).consumeContent(4, chunk -> chunks.add(chunk.utf8ToString()));
+        assertEquals(List.of("0123", "4567", "89"), chunks);
+        expectThrows(IllegalArgumentException.class, () -> createSdkRestRequest(request, httpRequest).consumeContent(0, chunk -> {}));
+    }
+
+    @Test
+    public void testConsumeSpilledContent() throws IOException {
+        ExtensionRestRequest request = createExtensionRestRequest(new BytesArray("0123456789"));
+        SDKHttpRequest httpRequest = new SDKHttpRequest(request, 5);
+        assertTrue(httpRequest.isContentSpilled());
+        assertEquals(10, httpRequest.contentLength());
+
+        List<String> chunks = new ArrayList<>();
+        SDKRestRequest sdkRestRequest = createSdkRestRequest(request, httpRequest);
+        sdkRestRequest.consumeContent(4, chunk -> chunks.add(chunk.utf8ToString()));
+        assertEquals(List.of("0123", "4567", "89"), chunks);
+        try (InputStream in = httpRequest.contentStream()) {
+            assertEquals("0123456789", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals("0123456789", sdkRestRequest.content().utf8ToString());
+        // The file is read once, later calls return the same body
+        assertSame(httpRequest.content(), httpRequest.content());
+
+        httpRequest.release();
+        expectThrows(IOException.class, () -> sdkRestRequest.consumeContent(4, chunk -> {}));
+        expectThrows(UncheckedIOException.class, httpRequest::content);
+
+        // Bodies at the threshold stay in memory
+        assertFalse(new SDKHttpRequest(request, 10).isContentSpilled());
+    }
+
+    @Test
+    public void testConsumeContentAsyncWaitsForEachChunk() throws IOException {
+        ExtensionRestRequest request = createExtensionRestRequest(new BytesArray("0123456789"));
+        SDKHttpRequest httpRequest = new SDKHttpRequest(request, 0);
+        List<String> chunks = new ArrayList<>();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+        CompletableFuture<Void> done = createSdkRestRequest(request, httpRequest).consumeContentAsync(4, chunk -> {
+            chunks.add(chunk.utf8ToString());
+            CompletableFuture<Void> processed = new CompletableFuture<>();
+            pending.add(processed);
+            return processed;
+        });
+        // The next chunk is only read once the previous one has been processed
+        for (int i = 0; i < 3; i++) {
+            assertFalse(done.isDone());
+            assertEquals(i + 1, chunks.size());
+            pending.get(i).complete(null);
+        }
+        assertTrue(done.isDone());
+        assertEquals(List.of("0123", "4567", "89"), chunks);
+
+        // Chunks processed immediately are read in a loop
+        chunks.clear();
+        createSdkRestRequest(request, httpRequest).consumeContentAsync(1, chunk -> {
+            chunks.add(chunk.utf8ToString());
+            return CompletableFuture.completedFuture(null);
+        }).join();
+        assertEquals(10, chunks.size());
+
+        // A failed chunk stops reading
+        chunks.clear();
+        CompletableFuture<Void> failed = createSdkRestRequest(request, httpRequest).consumeContentAsync(4, chunk -> {
+            chunks.add(chunk.utf8ToString());
+            return CompletableFuture.failedFuture(new IOException("rejected"));
+        });
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(List.of("0123"), chunks);
+        httpRequest.release();
+    }
+
+    @Test
+    public void testSpilledBodyIsNotRetained() throws Exception {
+        AtomicReference<RestRequest> received = new AtomicReference<>();
+        CompletableFuture<ExtensionRestResponse> pending = new CompletableFuture<>();
+        ExtensionRestPathRegistry registry = new ExtensionRestPathRegistry();
+        registry.registerHandler(Method.POST, "/ingest", "ingest", Set.of(), new ExtensionRestHandler() {
+            @Override
+            public ExtensionRestResponse handleRequest(RestRequest restRequest) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletableFuture<ExtensionRestResponse> handleRequestAsync(RestRequest restRequest) {
+                received.set(restRequest);
+                return pending;
+            }
+        });
+        ExtensionsRestRequestHandler handler = new ExtensionsRestRequestHandler(
+            registry,
+            SDKNamedXContentRegistry.EMPTY,
+            new ExtensionStats(),
+            1024
+        );
+        PlainActionFuture<RestExecuteOnExtensionResponse> listener = PlainActionFuture.newFuture();
+
+        WeakReference<BytesReference> body = handleLargeRequest(handler, listener);
+        // The handler's response is pending, yet nothing holds the original body
+        assertBusy(() -> {
+            System.gc();
+            assertNull(body.get());
+        });
+        assertFalse(listener.isDone());
+        assertTrue(received.get().hasContent());
+        assertEquals(1 << 20, received.get().content().length());
+
+        pending.complete(new ExtensionRestResponse(received.get(), RestStatus.OK, "done"));
+        assertEquals(RestStatus.OK, listener.get().getStatus());
+        SDKHttpRequest httpRequest = (SDKHttpRequest) received.get().getHttpRequest();
+        assertTrue(httpRequest.isContentSpilled());
+        expectThrows(IOException.class, httpRequest::contentStream);
+    }
+
+    private static WeakReference<BytesReference> handleLargeRequest(
+        ExtensionsRestRequestHandler handler,
+        ActionListener<RestExecuteOnExtensionResponse> listener
+    ) {
+        BytesReference content = new BytesArray(new byte[1 << 20]);
+        handler.handleRestExecuteOnExtensionRequest(createExtensionRestRequest(content), listener);
+        return new WeakReference<>(content);
+    }
+
+    private static ExtensionRestRequest createExtensionRestRequest(BytesReference content) {
+        return new ExtensionRestRequest(Method.POST, "/ingest", "/ingest", Map.of(), Map.of(), null, content, "", null);
+    }
+
+    private static SDKRestRequest createSdkRestRequest(ExtensionRestRequest request, SDKHttpRequest httpRequest) {
+        return new SDKRestRequest(null, request.params(), request.path(), request.headers(), httpRequest, null);
+    }
+
     public static RestRequest createTestRestRequest(
         final Method method,
         final String uri,
@@ -0,0 +1,186 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.rest;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.extensions.rest.ExtensionRestRequest;
+import org.opensearch.extensions.rest.RestExecuteOnExtensionResponse;
+import org.opensearch.rest.NamedRoute;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.sdk.SDKBigArrays;
+import org.opensearch.sdk.SDKNamedXContentRegistry;
+import org.opensearch.sdk.handlers.ExtensionsRestRequestHandler;
+import org.opensearch.sdk.stats.ExtensionStats;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.opensearch.rest.RestRequest.Method.GET;
+
+public class TestStreamingExtensionRestResponse extends OpenSearchTestCase {
+
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+    private static ChunkedResponseBody lines(int count, List<Integer> chunkSizes) {
+        AtomicInteger next = new AtomicInteger();
+        return (out, chunkSize) -> {
+            chunkSizes.add(chunkSize);
+            int line = next.getAndIncrement();
+            out.write(("{\"line\":" + line + "}\n").getBytes(StandardCharsets.UTF_8));
+            return line + 1 < count;
+        };
+    }
+
+    @Test
+    public void testChunksArePulledInOrder() throws IOException {
+        List<Integer> chunkSizes = new ArrayList<>();
+        RestRequest request = TestSDKRestRequest.createTestRestRequest(
+            GET,
+            "/export",
+            "/export",
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null,
+            new BytesArray(new byte[0]),
+            "",
+            null
+        );
+        StreamingExtensionRestResponse response = new StreamingExtensionRestResponse(
+            request,
+            RestStatus.OK,
+            NDJSON_CONTENT_TYPE,
+            lines(3, chunkSizes),
+            128
+        );
+        assertEquals(NDJSON_CONTENT_TYPE, response.contentType());
+        assertEquals("{\"line\":0}\n{\"line\":1}\n{\"line\":2}\n", new String(response.toBytes(), StandardCharsets.UTF_8));
+        assertEquals(List.of(128, 128, 128), chunkSizes);
+        // The content is produced once and kept
+        assertEquals("{\"line\":0}\n{\"line\":1}\n{\"line\":2}\n", response.content().utf8ToString());
+        assertSame(response.toBytes(), BytesReference.toBytes(response.content()));
+        assertEquals(3, chunkSizes.size());
+
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new StreamingExtensionRestResponse(request, RestStatus.OK, NDJSON_CONTENT_TYPE, lines(1, chunkSizes), 0)
+        );
+    }
+
+    @Test
+    public void testPooledContentIsNotKept() throws IOException {
+        List<Integer> chunkSizes = new ArrayList<>();
+        RestRequest request = TestSDKRestRequest.createTestRestRequest(
+            GET,
+            "/export",
+            "/export",
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null,
+            new BytesArray(new byte[0]),
+            "",
+            null
+        );
+        StreamingExtensionRestResponse response = new StreamingExtensionRestResponse(
+            request,
+            RestStatus.OK,
+            NDJSON_CONTENT_TYPE,
+            lines(3, chunkSizes),
+            128
+        );
+        SDKBigArrays sdkBigArrays = new SDKBigArrays(new PageCacheRecycler(Settings.EMPTY));
+        byte[] content = response.toBytes(sdkBigArrays);
+        assertEquals("{\"line\":0}\n{\"line\":1}\n{\"line\":2}\n", new String(content, StandardCharsets.UTF_8));
+        assertEquals(3, chunkSizes.size());
+        // The only copy of the content was handed to the caller, and the body cannot be read again
+        expectThrows(IllegalStateException.class, () -> response.toBytes(sdkBigArrays));
+        expectThrows(IllegalStateException.class, response::content);
+    }
+
+    @Test
+    public void testStreamingResponseIsSent() {
+        List<Integer> chunkSizes = new ArrayList<>();
+        ExtensionsRestRequestHandler handler = createHandler(
+            request -> new StreamingExtensionRestResponse(request, RestStatus.OK, NDJSON_CONTENT_TYPE, lines(1000, chunkSizes)),
+            new ExtensionStats()
+        );
+
+        RestExecuteOnExtensionResponse response = handler.handleRestExecuteOnExtensionRequest(createRequest());
+        assertEquals(RestStatus.OK, response.getStatus());
+        assertEquals(NDJSON_CONTENT_TYPE, response.getContentType());
+        String content = new String(response.getContent(), StandardCharsets.UTF_8);
+        assertTrue(content.startsWith("{\"line\":0}\n"));
+        assertTrue(content.endsWith("{\"line\":999}\n"));
+        assertEquals(1000, chunkSizes.size());
+        assertEquals(StreamingExtensionRestResponse.DEFAULT_CHUNK_SIZE, chunkSizes.get(0).intValue());
+    }
+
+    @Test
+    public void testStreamingResponseFailure() {
+        ExtensionStats extensionStats = new ExtensionStats();
+        ExtensionsRestRequestHandler handler = createHandler(
+            request -> new StreamingExtensionRestResponse(request, RestStatus.OK, NDJSON_CONTENT_TYPE, (out, chunkSize) -> {
+                throw new IOException("export failed");
+            }),
+            extensionStats
+        );
+
+        UncheckedIOException e = expectThrows(
+            UncheckedIOException.class,
+            () -> handler.handleRestExecuteOnExtensionRequest(createRequest())
+        );
+        assertEquals("export failed", e.getCause().getMessage());
+        assertEquals(1, extensionStats.route("export").getFailures());
+    }
+
+    private static ExtensionsRestRequestHandler createHandler(Function<RestRequest, RestResponse> export, ExtensionStats extensionStats) {
+        ExtensionRestPathRegistry registry = new ExtensionRestPathRegistry();
+        registry.registerHandler(new BaseExtensionRestHandler() {
+            @Override
+            public List<NamedRoute> routes() {
+                return List.of(
+                    new NamedRoute.Builder().method(GET)
+                        .path("/export")
+                        .handler(export)
+                        .uniqueName("export")
+                        .legacyActionNames(Collections.emptySet())
+                        .build()
+                );
+            }
+        });
+        return new ExtensionsRestRequestHandler(registry, SDKNamedXContentRegistry.EMPTY, extensionStats);
+    }
+
+    private static ExtensionRestRequest createRequest() {
+        return new ExtensionRestRequest(
+            GET,
+            "/export",
+            "/export",
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null,
+            new BytesArray(new byte[0]),
+            "",
+            null
+        );
+    }
+}
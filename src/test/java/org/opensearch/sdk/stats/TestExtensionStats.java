@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.stats;
+
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.jupiter.api.Test;
+
+public class TestExtensionStats extends OpenSearchTestCase {
+
+    @Test
+    public void testRequestStats() throws Exception {
+        ExtensionStats extensionStats = new ExtensionStats();
+        RequestStats stats = extensionStats.route("greet");
+        assertSame(stats, extensionStats.route("greet"));
+
+        long first = stats.start();
+        long second = stats.start();
+        assertEquals(2, stats.getInFlight());
+        stats.end(first, false);
+        stats.end(second, true);
+        assertEquals(0, stats.getInFlight());
+        assertEquals(2, stats.getCount());
+        assertEquals(1, stats.getFailures());
+        assertEquals(2, stats.getLatency().getCount());
+
+        extensionStats.action("org.example.SampleAction");
+        assertEquals(1, extensionStats.getRoutes().size());
+        assertEquals(1, extensionStats.getActions().size());
+
+        String json = BytesReference.bytes(extensionStats.toXContent(JsonXContent.contentBuilder(), ToXContent.EMPTY_PARAMS))
+            .utf8ToString();
+        assertTrue(json.startsWith("{\"routes\":{\"greet\":{\"count\":2,\"failures\":1,\"in_flight\":0,\"latency_micros\":{"));
+        assertTrue(json.contains("\"actions\":{\"org.example.SampleAction\":{\"count\":0,"));
+    }
+}
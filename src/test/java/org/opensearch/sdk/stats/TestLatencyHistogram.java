@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.sdk.stats;
+
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.jupiter.api.Test;
+
+public class TestLatencyHistogram extends OpenSearchTestCase {
+
+    @Test
+    public void testBuckets() {
+        for (long value : new long[] { 0, 1, 7, 8, 15, 16, 17, 1000, 123456789L, 1L << 40 }) {
+            long lowerBound = LatencyHistogram.bucketLowerBound(LatencyHistogram.bucketIndex(value));
+            assertTrue(lowerBound <= value);
+            // Relative error is bounded by the sub bucket width
+            assertTrue(value - lowerBound <= value / LatencyHistogram.SUB_BUCKETS);
+        }
+        // Buckets are ordered
+        assertTrue(LatencyHistogram.bucketIndex(15) < LatencyHistogram.bucketIndex(16));
+        assertEquals(LatencyHistogram.bucketIndex(Long.MAX_VALUE), LatencyHistogram.bucketIndex(1L << 50));
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getMean(), 0);
+
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 10);
+        }
+        histogram.record(-5);
+        assertEquals(101, histogram.getCount());
+        assertEquals(1000, histogram.getMax());
+        assertEquals(50500.0 / 101, histogram.getMean(), 0.001);
+        assertEquals(0, histogram.getPercentile(0));
+
+        long p50 = histogram.getPercentile(50);
+        assertTrue(p50 <= 500 && p50 >= 500 - 500 / LatencyHistogram.SUB_BUCKETS);
+        long p99 = histogram.getPercentile(99);
+        assertTrue(p99 <= 990 && p99 >= 990 - 990 / LatencyHistogram.SUB_BUCKETS);
+        assertEquals(1000, histogram.getPercentile(100), 1000 / LatencyHistogram.SUB_BUCKETS);
+    }
+}